@@ -62,6 +62,35 @@ public interface Client extends Closeable {
    */
   CompletableFuture<StreamedQueryResult> streamQuery(String sql, Map<String, Object> properties);
 
+  /**
+   * Executes a query (push or pull) with parameters and returns the results one row at a time.
+   *
+   * <p>A parameter is a {@code ${name}} placeholder where the query expects a literal, for
+   * example {@code SELECT * FROM T WHERE ID = ${id};}. The value of a parameter is bound as a
+   * literal of the value's type, so string values must not be quoted. Supported types are
+   * {@code String}, {@code Boolean}, {@code Integer}, {@code Long} and {@code Double}, and a
+   * {@code null} value binds {@code NULL}. Session variables are substituted into the query
+   * before its parameters are bound, and a parameter takes precedence over a variable of the same
+   * name.
+   *
+   * <p>The server caches pull queries with parameters, so that issuing the same query again with
+   * other values is cheaper than issuing a new query.
+   *
+   * <p>If a non-200 response is received from the server, the {@code CompletableFuture} will be
+   * failed.
+   *
+   * @param sql statement of query to execute, with parameter placeholders
+   * @param properties query properties
+   * @param parameters the values of the query's parameters, by name
+   * @return a future that completes once the server response is received, and contains the query
+   *         result if successful
+   */
+  CompletableFuture<StreamedQueryResult> streamQuery(
+      String sql,
+      Map<String, Object> properties,
+      Map<String, Object> parameters
+  );
+
   /**
    * Executes a query (push or pull) and returns all result rows in a single batch, once the query
    * has completed.
@@ -89,6 +118,23 @@ public interface Client extends Closeable {
    */
   BatchedQueryResult executeQuery(String sql, Map<String, Object> properties);
 
+  /**
+   * Executes a query (push or pull) with parameters and returns all result rows in a single
+   * batch, once the query has completed.
+   *
+   * <p>Parameters are bound as described in {@link Client#streamQuery(String, Map, Map)}.
+   *
+   * @param sql statement of query to execute, with parameter placeholders
+   * @param properties query properties
+   * @param parameters the values of the query's parameters, by name
+   * @return query result
+   */
+  BatchedQueryResult executeQuery(
+      String sql,
+      Map<String, Object> properties,
+      Map<String, Object> parameters
+  );
+
   /**
    * Inserts a row into a ksqlDB stream.
    *
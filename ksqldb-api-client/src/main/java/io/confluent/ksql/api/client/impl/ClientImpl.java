@@ -127,6 +127,15 @@ public class ClientImpl implements Client {
   public CompletableFuture<StreamedQueryResult> streamQuery(
       final String sql,
       final Map<String, Object> properties
+  ) {
+    return streamQuery(sql, properties, Collections.emptyMap());
+  }
+
+  @Override
+  public CompletableFuture<StreamedQueryResult> streamQuery(
+      final String sql,
+      final Map<String, Object> properties,
+      final Map<String, Object> parameters
   ) {
     if (ConsistencyOffsetVector.isConsistencyVectorEnabled(properties)) {
       requestProperties.put(
@@ -134,7 +143,7 @@ public class ClientImpl implements Client {
           serializedConsistencyVector.get());
     }
     final CompletableFuture<StreamedQueryResult> cf = new CompletableFuture<>();
-    makeQueryRequest(sql, properties, cf,
+    makeQueryRequest(sql, properties, parameters, cf,
         (ctx, rp, fut, req) -> new StreamQueryResponseHandler(
             ctx, rp, fut, serializedConsistencyVector));
     return cf;
@@ -149,6 +158,15 @@ public class ClientImpl implements Client {
   public BatchedQueryResult executeQuery(
       final String sql,
       final Map<String, Object> properties
+  ) {
+    return executeQuery(sql, properties, Collections.emptyMap());
+  }
+
+  @Override
+  public BatchedQueryResult executeQuery(
+      final String sql,
+      final Map<String, Object> properties,
+      final Map<String, Object> parameters
   ) {
     if (ConsistencyOffsetVector.isConsistencyVectorEnabled(properties)) {
       requestProperties.put(
@@ -159,6 +177,7 @@ public class ClientImpl implements Client {
     makeQueryRequest(
         sql,
         properties,
+        parameters,
         result,
         (context, recordParser, cf, request) -> new ExecuteQueryResponseHandler(
             context, recordParser, cf, clientOptions.getExecuteQueryMaxResultRows(),
@@ -464,6 +483,7 @@ public class ClientImpl implements Client {
   private <T extends CompletableFuture<?>> void makeQueryRequest(
       final String sql,
       final Map<String, Object> properties,
+      final Map<String, Object> parameters,
       final T cf,
       final StreamedResponseHandlerSupplier<T> responseHandlerSupplier
   ) {
@@ -472,6 +492,9 @@ public class ClientImpl implements Client {
         .put("properties", properties)
         .put("sessionVariables", sessionVariables)
         .put("requestProperties", requestProperties);
+    if (!parameters.isEmpty()) {
+      requestBody.put("parameters", parameters);
+    }
 
     makePostRequest(
         QUERY_STREAM_ENDPOINT,
@@ -482,6 +482,50 @@ public class ClientTest extends BaseApiTest {
     verifyPullQueryServerState();
   }
 
+  @Test
+  public void shouldExecutePullQueryWithParameters() throws Exception {
+    // Given
+    final String sql = "select * from foo where id = ${id};";
+
+    // When
+    final BatchedQueryResult batchedQueryResult = javaClient.executeQuery(
+        sql, Collections.emptyMap(), ImmutableMap.of("id", 10, "name", "it's"));
+
+    // Then
+    verifyRows(batchedQueryResult.get());
+
+    assertThat(testEndpoints.getLastSql(), is(sql));
+    assertThat(testEndpoints.getLastParameters(),
+        is(new JsonObject().put("id", 10).put("name", "it's")));
+  }
+
+  @Test
+  public void shouldStreamQueryWithParameters() throws Exception {
+    // Given
+    final String sql = "select * from foo where id = ${id};";
+
+    // When
+    final StreamedQueryResult streamedQueryResult = javaClient.streamQuery(
+        sql, Collections.emptyMap(), ImmutableMap.of("id", 10)).get();
+
+    // Then
+    shouldReceiveRows(streamedQueryResult, true);
+
+    assertThat(testEndpoints.getLastSql(), is(sql));
+    assertThat(testEndpoints.getLastParameters(), is(new JsonObject().put("id", 10)));
+  }
+
+  @Test
+  public void shouldNotSendParametersWithQueryWithoutParameters() throws Exception {
+    // When
+    final BatchedQueryResult batchedQueryResult = javaClient.executeQuery(DEFAULT_PULL_QUERY);
+
+    // Then
+    verifyRows(batchedQueryResult.get());
+
+    assertThat(testEndpoints.getLastParameters().getMap(), is(Collections.emptyMap()));
+  }
+
   @Test
   public void shouldExecutePushWithLimitQuery() throws Exception {
     // When
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.confluent.avro.random.generator.Generator;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.ksql.GenericKey;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.datagen.RowGenerator;
+import io.confluent.ksql.logging.processing.ProcessingLogContext;
+import io.confluent.ksql.name.ColumnName;
+import io.confluent.ksql.schema.ksql.Column;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.schema.ksql.PersistenceSchema;
+import io.confluent.ksql.schema.utils.FormatOptions;
+import io.confluent.ksql.serde.FormatInfo;
+import io.confluent.ksql.serde.GenericKeySerDe;
+import io.confluent.ksql.serde.GenericRowSerDe;
+import io.confluent.ksql.serde.SerdeFeatures;
+import io.confluent.ksql.util.KsqlConfig;
+import io.confluent.ksql.util.Pair;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * Schemas, data and serdes shared by the query benchmarks.
+ *
+ * <p>The data is generated from the schema files found in {@code src/main/resources/schemas},
+ * with the first field of each schema used as the key.
+ */
+final class BenchmarkSchemas {
+
+  static final String IMPRESSIONS_SCHEMA = "impressions";
+  static final String METRICS_SCHEMA = "metrics";
+
+  static final String SEPARATOR = "/";
+
+  static final String JSON_FORMAT = "JSON";
+  static final String AVRO_FORMAT = "AVRO";
+  static final String PROTOBUF_FORMAT = "PROTOBUF";
+
+  private static final Path SCHEMA_DIR = Paths.get("schemas");
+  private static final String SCHEMA_FILE_SUFFIX = ".avro";
+
+  private static final FormatOptions FORMAT_OPTIONS = FormatOptions.none();
+
+  /**
+   * Per-schema columns and expressions used by the query benchmarks. Column names are
+   * case-sensitive, as they are taken from the Avro schema files, so are quoted.
+   */
+  private static final Map<String, QueryColumns> QUERY_COLUMNS = ImmutableMap.of(
+      IMPRESSIONS_SCHEMA, new QueryColumns(
+          ColumnName.of("userid"),
+          "`impresssiontime` % 2 = 0",
+          ImmutableList.of("UCASE(`userid`)", "`adid`", "`impresssiontime` * 1000")
+      ),
+      METRICS_SCHEMA, new QueryColumns(
+          ColumnName.of("source"),
+          "`value` % 2 = 0",
+          ImmutableList.of("`metric`->`clusterid`", "`source`", "`value` + 1")
+      )
+  );
+
+  private BenchmarkSchemas() {
+  }
+
+  /**
+   * A benchmark parameter in the form {@code <schema-name>/<format-name>}.
+   */
+  static final class Params {
+
+    final String schemaName;
+    final String formatName;
+
+    static Params parse(final String text) {
+      final String[] parts = text.split(SEPARATOR);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Param should be in form "
+            + "'<schema-name>" + SEPARATOR + "<format-name>', got: " + text);
+      }
+
+      return new Params(parts[0], parts[1]);
+    }
+
+    private Params(final String schemaName, final String formatName) {
+      this.schemaName = Objects.requireNonNull(schemaName, "schemaName");
+      this.formatName = Objects.requireNonNull(formatName, "formatName").toUpperCase();
+    }
+  }
+
+  static final class QueryColumns {
+
+    final ColumnName groupBy;
+    final String filter;
+    final List<String> projection;
+
+    private QueryColumns(
+        final ColumnName groupBy,
+        final String filter,
+        final List<String> projection
+    ) {
+      this.groupBy = Objects.requireNonNull(groupBy, "groupBy");
+      this.filter = Objects.requireNonNull(filter, "filter");
+      this.projection = ImmutableList.copyOf(projection);
+    }
+  }
+
+  static QueryColumns queryColumns(final String schemaName) {
+    final QueryColumns columns = QUERY_COLUMNS.get(schemaName);
+    if (columns == null) {
+      throw new IllegalArgumentException("No query columns for schema: " + schemaName);
+    }
+    return columns;
+  }
+
+  static RowGenerator rowGenerator(final String schemaName) throws IOException {
+    final Generator generator = generator(schemaName);
+
+    // choose arbitrary key
+    final String keyField = generator.schema().getFields().get(0).name();
+
+    return new RowGenerator(generator, keyField, Optional.empty());
+  }
+
+  static List<Pair<GenericKey, GenericRow>> generateRows(
+      final RowGenerator generator,
+      final int count
+  ) {
+    final List<Pair<GenericKey, GenericRow>> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(generator.generateRow());
+    }
+    return rows;
+  }
+
+  /**
+   * @param schema the schema of the source.
+   * @param table whether the source is a table, i.e. whether its key columns are primary keys.
+   * @return the table elements of a {@code CREATE} statement for a source with the schema.
+   */
+  static String tableElements(final LogicalSchema schema, final boolean table) {
+    final String keySuffix = table ? " PRIMARY KEY" : " KEY";
+    return schema.columns().stream()
+        .map(column -> tableElement(column)
+            + (column.namespace() == Column.Namespace.KEY ? keySuffix : ""))
+        .collect(Collectors.joining(", "));
+  }
+
+  static Serde<GenericKey> keySerde(
+      final LogicalSchema schema,
+      final FormatInfo format,
+      final SerdeFeatures features,
+      final SchemaRegistryClient srClient
+  ) {
+    return new GenericKeySerDe().create(
+        format,
+        PersistenceSchema.from(schema.key(), features),
+        new KsqlConfig(Collections.emptyMap()),
+        () -> srClient,
+        "benchmark",
+        ProcessingLogContext.create(),
+        Optional.empty()
+    );
+  }
+
+  static Serde<GenericRow> valueSerde(
+      final LogicalSchema schema,
+      final FormatInfo format,
+      final SerdeFeatures features,
+      final SchemaRegistryClient srClient
+  ) {
+    return GenericRowSerDe.from(
+        format,
+        PersistenceSchema.from(schema.value(), features),
+        new KsqlConfig(Collections.emptyMap()),
+        () -> srClient,
+        "benchmark",
+        ProcessingLogContext.create()
+    );
+  }
+
+  static String quote(final ColumnName name) {
+    return name.toString(FORMAT_OPTIONS);
+  }
+
+  private static String tableElement(final Column column) {
+    return quote(column.name()) + " " + column.type().toString(FORMAT_OPTIONS);
+  }
+
+  @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE")
+  private static Generator generator(final String schemaName) throws IOException {
+    final Path schemaPath = SCHEMA_DIR.resolve(schemaName + SCHEMA_FILE_SUFFIX);
+
+    try (InputStream schemaResource = BenchmarkSchemas.class.getClassLoader()
+        .getResourceAsStream(schemaPath.toString())) {
+
+      if (schemaResource == null) {
+        throw new FileNotFoundException("Schema file not found: " + schemaName);
+      }
+
+      return new Generator(schemaResource, new Random());
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.services.KafkaTopicClient;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+/**
+ * An in-memory topic client, so that the engine can plan and build queries without a Kafka
+ * cluster.
+ *
+ * <p>Every topic has a single partition, matching the single task of a
+ * {@code TopologyTestDriver}.
+ */
+final class BenchmarkTopicClient implements KafkaTopicClient {
+
+  private static final Node NODE = new Node(0, "localhost", 9092);
+
+  private final Set<String> topics = new HashSet<>();
+
+  BenchmarkTopicClient(final String... topics) {
+    Collections.addAll(this.topics, topics);
+  }
+
+  @Override
+  public void createTopic(
+      final String topic,
+      final int numPartitions,
+      final short replicationFactor,
+      final Map<String, ?> configs,
+      final CreateTopicsOptions createOptions
+  ) {
+    topics.add(topic);
+  }
+
+  @Override
+  public boolean isTopicExists(final String topic) {
+    return topics.contains(topic);
+  }
+
+  @Override
+  public Set<String> listTopicNames() {
+    return Collections.unmodifiableSet(topics);
+  }
+
+  @Override
+  public Map<String, TopicDescription> describeTopics(final Collection<String> topicNames) {
+    final Map<String, TopicDescription> descriptions = new HashMap<>();
+    for (final String topic : topicNames) {
+      if (!topics.contains(topic)) {
+        throw new UnknownTopicOrPartitionException("unknown topic: " + topic);
+      }
+
+      descriptions.put(topic, new TopicDescription(
+          topic,
+          false,
+          ImmutableList.of(new TopicPartitionInfo(
+              0, NODE, ImmutableList.of(NODE), ImmutableList.of(NODE)))
+      ));
+    }
+    return descriptions;
+  }
+
+  @Override
+  public Map<String, String> getTopicConfig(final String topicName) {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public boolean addTopicConfig(final String topicName, final Map<String, ?> overrides) {
+    return false;
+  }
+
+  @Override
+  public TopicCleanupPolicy getTopicCleanupPolicy(final String topicName) {
+    return TopicCleanupPolicy.DELETE;
+  }
+
+  @Override
+  public void deleteTopics(final Collection<String> topicsToDelete) {
+    topics.removeAll(topicsToDelete);
+  }
+
+  @Override
+  public void deleteInternalTopics(final String applicationId) {
+  }
+
+  @Override
+  public Map<TopicPartition, Long> listTopicsOffsets(
+      final Collection<String> topicNames,
+      final OffsetSpec offsetSpec
+  ) {
+    return Collections.emptyMap();
+  }
+}
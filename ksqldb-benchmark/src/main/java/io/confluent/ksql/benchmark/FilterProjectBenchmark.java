@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.AVRO_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.IMPRESSIONS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.JSON_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.METRICS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.PROTOBUF_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.SEPARATOR;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.ksql.GenericKey;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.benchmark.BenchmarkSchemas.Params;
+import io.confluent.ksql.benchmark.BenchmarkSchemas.QueryColumns;
+import io.confluent.ksql.datagen.RowGenerator;
+import io.confluent.ksql.execution.codegen.CodeGenRunner;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.interpreter.InterpretedExpressionFactory;
+import io.confluent.ksql.execution.plan.SelectExpression;
+import io.confluent.ksql.execution.streams.transform.KsTransformer;
+import io.confluent.ksql.execution.transform.ExpressionEvaluator;
+import io.confluent.ksql.execution.transform.select.SelectValueMapper;
+import io.confluent.ksql.execution.transform.select.SelectValueMapperFactory;
+import io.confluent.ksql.execution.transform.sqlpredicate.SqlPredicate;
+import io.confluent.ksql.function.FunctionRegistry;
+import io.confluent.ksql.function.InternalFunctionRegistry;
+import io.confluent.ksql.function.UdfLoaderUtil;
+import io.confluent.ksql.logging.processing.NoopProcessingLogContext;
+import io.confluent.ksql.logging.processing.ProcessingLogger;
+import io.confluent.ksql.name.ColumnName;
+import io.confluent.ksql.parser.ExpressionParser;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.serde.FormatFactory;
+import io.confluent.ksql.serde.FormatInfo;
+import io.confluent.ksql.serde.SerdeFeature;
+import io.confluent.ksql.serde.SerdeFeatures;
+import io.confluent.ksql.util.KsqlConfig;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Named;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of the filter and projection stages of a streaming query,
+ *  driven through a {@code TopologyTestDriver}, with expressions evaluated either by generated
+ *  code or by the interpreter.
+ *  See `ksql-benchmark/README.md` for more info.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1)
+@Fork(3)
+public class FilterProjectBenchmark {
+
+  private static final String SOURCE_TOPIC = "source";
+  private static final int BATCH_SIZE = 1000;
+
+  public enum EvaluatorType {
+    CODEGEN,
+    INTERPRETER
+  }
+
+  @State(Scope.Thread)
+  public static class FilterProjectState {
+
+    @Param({
+        IMPRESSIONS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        IMPRESSIONS_SCHEMA + SEPARATOR + AVRO_FORMAT,
+        IMPRESSIONS_SCHEMA + SEPARATOR + PROTOBUF_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + AVRO_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + PROTOBUF_FORMAT
+    })
+    public String params;
+
+    @Param
+    public EvaluatorType evaluator;
+
+    TopologyHarness harness;
+    TestInputTopic<byte[], byte[]> input;
+    List<KeyValue<byte[], byte[]>> records;
+    GenericRow lastOutput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      final Params params = Params.parse(this.params);
+      final QueryColumns columns = BenchmarkSchemas.queryColumns(params.schemaName);
+
+      final RowGenerator generator = BenchmarkSchemas.rowGenerator(params.schemaName);
+      final LogicalSchema schema = generator.schema();
+
+      final SchemaRegistryClient srClient = new MockSchemaRegistryClient();
+      final Serde<GenericKey> keySerde = BenchmarkSchemas.keySerde(
+          schema,
+          FormatInfo.of(FormatFactory.KAFKA.name()),
+          SerdeFeatures.of(SerdeFeature.UNWRAP_SINGLES),
+          srClient
+      );
+      final Serde<GenericRow> valueSerde = BenchmarkSchemas.valueSerde(
+          schema,
+          FormatInfo.of(params.formatName),
+          SerdeFeatures.of(),
+          srClient
+      );
+
+      final KsqlConfig ksqlConfig = new KsqlConfig(Collections.emptyMap());
+      final FunctionRegistry functionRegistry = UdfLoaderUtil
+          .load(new InternalFunctionRegistry(), KsqlConfig.DEFAULT_EXT_DIR);
+
+      final Expression filter = ExpressionParser.parseExpression(columns.filter);
+      final SqlPredicate predicate = new SqlPredicate(
+          filter,
+          evaluator(filter, schema, ksqlConfig, functionRegistry)
+      );
+
+      final List<SelectExpression> selects = new ArrayList<>();
+      final List<ExpressionEvaluator> evaluators = new ArrayList<>();
+      for (int i = 0; i < columns.projection.size(); i++) {
+        final Expression expression = ExpressionParser.parseExpression(columns.projection.get(i));
+        selects.add(SelectExpression.of(ColumnName.of("COL" + i), expression));
+        evaluators.add(evaluator(expression, schema, ksqlConfig, functionRegistry));
+      }
+      final SelectValueMapper<GenericKey> mapper = SelectValueMapperFactory
+          .create(selects, evaluators);
+
+      final ProcessingLogger logger = NoopProcessingLogContext.INSTANCE
+          .getLoggerFactory()
+          .getLogger("benchmark");
+
+      final StreamsBuilder builder = new StreamsBuilder();
+      builder
+          .stream(SOURCE_TOPIC, Consumed.with(keySerde, valueSerde))
+          .transformValues(
+              () -> new KsTransformer<>(predicate.<GenericKey>getTransformer(logger)),
+              Named.as("filter")
+          )
+          .filter((key, value) -> value.isPresent())
+          .mapValues(Optional::get)
+          .transformValues(
+              () -> new KsTransformer<>(mapper.getTransformer(logger)),
+              Named.as("project")
+          )
+          .foreach((key, value) -> lastOutput = value);
+
+      harness = TopologyHarness.create(builder.build(), Collections.emptyMap());
+      input = harness.inputTopic(SOURCE_TOPIC);
+      records = TopologyHarness.serialize(
+          SOURCE_TOPIC,
+          BenchmarkSchemas.generateRows(generator, BATCH_SIZE),
+          keySerde,
+          valueSerde
+      );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      harness.close();
+    }
+
+    private ExpressionEvaluator evaluator(
+        final Expression expression,
+        final LogicalSchema schema,
+        final KsqlConfig ksqlConfig,
+        final FunctionRegistry functionRegistry
+    ) {
+      switch (evaluator) {
+        case CODEGEN:
+          return CodeGenRunner
+              .compileExpression(expression, "Benchmark", schema, ksqlConfig, functionRegistry);
+        case INTERPRETER:
+          return InterpretedExpressionFactory
+              .create(expression, schema, functionRegistry, ksqlConfig);
+        default:
+          throw new IllegalArgumentException("Unknown evaluator type: " + evaluator);
+      }
+    }
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public GenericRow filterProject(final FilterProjectState state) {
+    state.harness.pipe(state.input, state.records);
+    return state.lastOutput;
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(FilterProjectBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.AVRO_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.IMPRESSIONS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.JSON_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.METRICS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.SEPARATOR;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.ksql.GenericKey;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.benchmark.BenchmarkSchemas.Params;
+import io.confluent.ksql.datagen.RowGenerator;
+import io.confluent.ksql.execution.ddl.commands.KsqlTopic;
+import io.confluent.ksql.execution.streams.materialization.Locator.KsqlKey;
+import io.confluent.ksql.execution.streams.materialization.Locator.KsqlPartitionLocation;
+import io.confluent.ksql.execution.streams.materialization.Materialization;
+import io.confluent.ksql.execution.streams.materialization.ks.KsLocator.PartitionLocation;
+import io.confluent.ksql.execution.streams.materialization.ks.KsMaterializationFactory;
+import io.confluent.ksql.metastore.model.KsqlTable;
+import io.confluent.ksql.name.SourceName;
+import io.confluent.ksql.physical.common.operators.AbstractPhysicalOperator;
+import io.confluent.ksql.physical.pull.operators.KeyedTableLookupOperator;
+import io.confluent.ksql.physical.pull.operators.TableScanOperator;
+import io.confluent.ksql.planner.plan.DataSourceNode;
+import io.confluent.ksql.planner.plan.KeyConstraint;
+import io.confluent.ksql.planner.plan.KeyConstraint.ConstraintOperator;
+import io.confluent.ksql.planner.plan.PlanNodeId;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.serde.FormatFactory;
+import io.confluent.ksql.serde.FormatInfo;
+import io.confluent.ksql.serde.KeyFormat;
+import io.confluent.ksql.serde.SerdeFeature;
+import io.confluent.ksql.serde.SerdeFeatures;
+import io.confluent.ksql.serde.ValueFormat;
+import io.confluent.ksql.util.KsqlConfig;
+import io.confluent.ksql.util.Pair;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.Stores;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of the pull query table operators, reading from a RocksDB store
+ *  populated through a {@code TopologyTestDriver}.
+ *  See `ksql-benchmark/README.md` for more info.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1)
+@Fork(3)
+public class PullQueryBenchmark {
+
+  private static final String TABLE_TOPIC = "table_topic";
+  private static final String STORE_NAME = "benchmark-store";
+  private static final int TABLE_SIZE = 10_000;
+  private static final int LOOKUP_POOL_SIZE = 128;
+
+  @State(Scope.Thread)
+  public static class TableState {
+
+    @Param({
+        IMPRESSIONS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        IMPRESSIONS_SCHEMA + SEPARATOR + AVRO_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + AVRO_FORMAT
+    })
+    public String params;
+
+    TopologyHarness harness;
+    Materialization materialization;
+    DataSourceNode logicalNode;
+    List<GenericKey> keys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      final Params params = Params.parse(this.params);
+
+      final RowGenerator generator = BenchmarkSchemas.rowGenerator(params.schemaName);
+      final LogicalSchema schema = generator.schema();
+      final List<Pair<GenericKey, GenericRow>> rows = BenchmarkSchemas
+          .generateRows(generator, TABLE_SIZE);
+
+      final KeyFormat keyFormat = KeyFormat.nonWindowed(
+          FormatInfo.of(FormatFactory.KAFKA.name()),
+          SerdeFeatures.of(SerdeFeature.UNWRAP_SINGLES)
+      );
+      final ValueFormat valueFormat = ValueFormat.of(
+          FormatInfo.of(params.formatName),
+          SerdeFeatures.of()
+      );
+
+      final SchemaRegistryClient srClient = new MockSchemaRegistryClient();
+      final Serde<GenericKey> keySerde = BenchmarkSchemas.keySerde(
+          schema, keyFormat.getFormatInfo(), keyFormat.getFeatures(), srClient);
+      final Serde<GenericRow> valueSerde = BenchmarkSchemas.valueSerde(
+          schema, valueFormat.getFormatInfo(), valueFormat.getFeatures(), srClient);
+
+      final StreamsBuilder builder = new StreamsBuilder();
+      builder.table(
+          TABLE_TOPIC,
+          Consumed.with(keySerde, valueSerde),
+          Materialized.as(Stores.persistentTimestampedKeyValueStore(STORE_NAME))
+      );
+
+      final Topology topology = builder.build();
+      harness = TopologyHarness.create(topology, Collections.emptyMap());
+      harness.pipe(
+          harness.inputTopic(TABLE_TOPIC),
+          TopologyHarness.serialize(TABLE_TOPIC, rows, keySerde, valueSerde)
+      );
+      harness.drain();
+
+      // The operators are given their partition locations directly, so the locator, which is
+      // all the application server is used for, is never called:
+      materialization = new KsMaterializationFactory().create(
+          STORE_NAME,
+          harness.kafkaStreams(),
+          topology,
+          schema,
+          keySerde.serializer(),
+          Optional.empty(),
+          ImmutableMap.of(StreamsConfig.APPLICATION_SERVER_CONFIG, "http://localhost:8088"),
+          new KsqlConfig(Collections.emptyMap()),
+          "benchmark"
+      ).orElseThrow(IllegalStateException::new);
+
+      final KsqlTable<GenericKey> table = new KsqlTable<>(
+          "benchmark",
+          SourceName.of("T"),
+          schema,
+          Optional.empty(),
+          false,
+          new KsqlTopic(TABLE_TOPIC, keyFormat, valueFormat),
+          false
+      );
+
+      logicalNode = new DataSourceNode(
+          new PlanNodeId("0"),
+          table,
+          table.getName(),
+          false,
+          new KsqlConfig(Collections.emptyMap())
+      );
+
+      keys = rows.stream()
+          .map(Pair::getLeft)
+          .distinct()
+          .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      harness.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class LookupState {
+
+    @Param({"1", "10", "100"})
+    public int keysPerLookup;
+
+    List<List<KsqlPartitionLocation>> lookups;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp(final TableState table) {
+      final Random random = new Random();
+
+      lookups = new ArrayList<>(LOOKUP_POOL_SIZE);
+      for (int i = 0; i < LOOKUP_POOL_SIZE; i++) {
+        final Set<KsqlKey> keys = random.ints(0, table.keys.size())
+            .distinct()
+            .limit(keysPerLookup)
+            .<KsqlKey>mapToObj(idx -> new KeyConstraint(
+                ConstraintOperator.EQUAL,
+                table.keys.get(idx),
+                Optional.empty()))
+            .collect(ImmutableSet.toImmutableSet());
+
+        lookups.add(ImmutableList.of(new PartitionLocation(Optional.of(keys), 0,
+            ImmutableList.of())));
+      }
+    }
+
+    List<KsqlPartitionLocation> nextLookup() {
+      final List<KsqlPartitionLocation> lookup = lookups.get(next);
+      next = (next + 1) % lookups.size();
+      return lookup;
+    }
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public long keyLookup(final TableState table, final LookupState lookup) {
+    final KeyedTableLookupOperator operator = new KeyedTableLookupOperator(
+        table.materialization,
+        table.logicalNode
+    );
+    operator.setPartitionLocations(lookup.nextLookup());
+    return drain(operator);
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public long tableScan(final TableState table) {
+    final TableScanOperator operator = new TableScanOperator(
+        table.materialization,
+        table.logicalNode,
+        new CompletableFuture<>()
+    );
+    operator.setPartitionLocations(ImmutableList.of(
+        new PartitionLocation(Optional.empty(), 0, ImmutableList.of())));
+    return drain(operator);
+  }
+
+  private static long drain(final AbstractPhysicalOperator operator) {
+    long rows = 0;
+    operator.open();
+    while (operator.next() != null) {
+      rows++;
+    }
+    operator.close();
+    return rows;
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(PullQueryBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.AVRO_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.IMPRESSIONS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.JSON_FORMAT;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.METRICS_SCHEMA;
+import static io.confluent.ksql.benchmark.BenchmarkSchemas.SEPARATOR;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.ksql.GenericKey;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.ServiceInfo;
+import io.confluent.ksql.benchmark.BenchmarkSchemas.Params;
+import io.confluent.ksql.config.SessionConfig;
+import io.confluent.ksql.datagen.RowGenerator;
+import io.confluent.ksql.engine.KsqlEngine;
+import io.confluent.ksql.execution.ddl.commands.KsqlTopic;
+import io.confluent.ksql.format.DefaultFormatInjector;
+import io.confluent.ksql.function.InternalFunctionRegistry;
+import io.confluent.ksql.function.UdfLoaderUtil;
+import io.confluent.ksql.logging.processing.ProcessingLogContext;
+import io.confluent.ksql.metastore.model.DataSource;
+import io.confluent.ksql.name.ColumnName;
+import io.confluent.ksql.name.SourceName;
+import io.confluent.ksql.parser.KsqlParser.ParsedStatement;
+import io.confluent.ksql.query.id.SequentialQueryIdGenerator;
+import io.confluent.ksql.schema.ksql.Column;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.services.DefaultConnectClient;
+import io.confluent.ksql.services.DefaultServiceContext;
+import io.confluent.ksql.services.DisabledKsqlClient;
+import io.confluent.ksql.services.KafkaConsumerGroupClientImpl;
+import io.confluent.ksql.services.ServiceContext;
+import io.confluent.ksql.statement.ConfiguredStatement;
+import io.confluent.ksql.util.KsqlConfig;
+import io.confluent.ksql.util.Pair;
+import io.confluent.ksql.util.PersistentQueryMetadata;
+import io.confluent.ksql.util.QueryMetadata;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.processor.internals.DefaultKafkaClientSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of stateful persistent queries. Each query is planned and built by
+ *  the engine, exactly as it would be on a server, and its topology driven through a
+ *  {@code TopologyTestDriver}.
+ *  See `ksql-benchmark/README.md` for more info.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(1)
+@Fork(3)
+public class QueryPipelineBenchmark {
+
+  private static final String STREAM_TOPIC = "stream_topic";
+  private static final String OTHER_TOPIC = "other_topic";
+  private static final ColumnName TABLE_KEY = ColumnName.of("Key");
+  private static final int BATCH_SIZE = 1000;
+
+  public enum QueryType {
+    AGGREGATE,
+    WINDOWED_AGGREGATE,
+    STREAM_TABLE_JOIN,
+    STREAM_STREAM_JOIN
+  }
+
+  @State(Scope.Thread)
+  public static class PipelineState {
+
+    @Param({
+        IMPRESSIONS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        IMPRESSIONS_SCHEMA + SEPARATOR + AVRO_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + AVRO_FORMAT
+    })
+    public String params;
+
+    @Param
+    public QueryType query;
+
+    ServiceContext serviceContext;
+    KsqlEngine engine;
+    TopologyHarness harness;
+    List<TestInputTopic<byte[], byte[]>> inputs;
+    List<KeyValue<byte[], byte[]>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      final Params params = Params.parse(this.params);
+      final ColumnName groupBy = BenchmarkSchemas.queryColumns(params.schemaName).groupBy;
+
+      final RowGenerator generator = BenchmarkSchemas.rowGenerator(params.schemaName);
+      final LogicalSchema schema = generator.schema();
+      final List<Pair<GenericKey, GenericRow>> rows = BenchmarkSchemas
+          .generateRows(generator, BATCH_SIZE);
+
+      final SchemaRegistryClient srClient = new MockSchemaRegistryClient();
+      final KsqlConfig ksqlConfig = new KsqlConfig(Collections.emptyMap());
+
+      // Kafka clients are only created if used, which planning and building queries does not:
+      final DefaultKafkaClientSupplier kafkaClientSupplier = new DefaultKafkaClientSupplier();
+      final Supplier<Admin> adminSupplier = () -> kafkaClientSupplier.getAdmin(
+          Collections.singletonMap(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092"));
+
+      serviceContext = new DefaultServiceContext(
+          kafkaClientSupplier,
+          adminSupplier,
+          new BenchmarkTopicClient(STREAM_TOPIC, OTHER_TOPIC),
+          () -> srClient,
+          () -> new DefaultConnectClient("http://localhost:8083", Optional.empty()),
+          DisabledKsqlClient::instance,
+          new KafkaConsumerGroupClientImpl(adminSupplier)
+      );
+      engine = new KsqlEngine(
+          serviceContext,
+          ProcessingLogContext.create(),
+          UdfLoaderUtil.load(new InternalFunctionRegistry(), KsqlConfig.DEFAULT_EXT_DIR),
+          ServiceInfo.create(ksqlConfig),
+          new SequentialQueryIdGenerator(),
+          ksqlConfig,
+          Collections.emptyList()
+      );
+
+      final List<QueryMetadata> queries =
+          execute(statements(schema, groupBy, params.formatName), ksqlConfig);
+
+      final PersistentQueryMetadata pipeline =
+          (PersistentQueryMetadata) queries.get(queries.size() - 1);
+
+      harness = TopologyHarness.create(pipeline.getTopology(), pipeline.getStreamsProperties());
+      records = serialize("S", rows, srClient);
+      inputs = new ArrayList<>();
+      inputs.add(harness.inputTopic(STREAM_TOPIC));
+
+      switch (query) {
+        case STREAM_TABLE_JOIN:
+          // Populate the table up front, with a row for each value of the join column:
+          final int joinIndex = schema.findValueColumn(groupBy)
+              .orElseThrow(IllegalStateException::new)
+              .index();
+
+          final List<Pair<GenericKey, GenericRow>> tableRows = rows.stream()
+              .map(row -> Pair.of(
+                  GenericKey.genericKey(row.getRight().get(joinIndex)),
+                  row.getRight()))
+              .collect(Collectors.toList());
+
+          harness.pipe(harness.inputTopic(OTHER_TOPIC), serialize("T", tableRows, srClient));
+          break;
+        case STREAM_STREAM_JOIN:
+          inputs.add(harness.inputTopic(OTHER_TOPIC));
+          break;
+        default:
+          break;
+      }
+
+      harness.drain();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      harness.close();
+      engine.close();
+      serviceContext.close();
+    }
+
+    private List<QueryMetadata> execute(final String sql, final KsqlConfig ksqlConfig) {
+      final List<QueryMetadata> queries = new ArrayList<>();
+      for (final ParsedStatement statement : engine.parse(sql)) {
+        final ConfiguredStatement<?> configured = new DefaultFormatInjector().inject(
+            ConfiguredStatement.of(
+                engine.prepare(statement),
+                SessionConfig.of(ksqlConfig, Collections.emptyMap())
+            ));
+
+        engine.execute(serviceContext, configured).getQuery().ifPresent(queries::add);
+      }
+      return queries;
+    }
+
+    private String statements(
+        final LogicalSchema schema,
+        final ColumnName groupBy,
+        final String format
+    ) {
+      final String column = BenchmarkSchemas.quote(groupBy);
+      final String stream = "CREATE STREAM S (" + BenchmarkSchemas.tableElements(schema, false)
+          + ") WITH (KAFKA_TOPIC='" + STREAM_TOPIC + "', KEY_FORMAT='KAFKA', VALUE_FORMAT='"
+          + format + "');";
+
+      switch (query) {
+        case AGGREGATE:
+          return stream
+              + "CREATE TABLE BENCHMARK_OUTPUT AS SELECT " + column + ", COUNT(*) AS CNT, "
+              + "MAX(ROWTIME) AS LATEST FROM S GROUP BY " + column + ";";
+        case WINDOWED_AGGREGATE:
+          return stream
+              + "CREATE TABLE BENCHMARK_OUTPUT AS SELECT " + column + ", COUNT(*) AS CNT, "
+              + "MAX(ROWTIME) AS LATEST FROM S "
+              + "WINDOW TUMBLING (SIZE 1 MINUTE, RETENTION 2 MINUTES, GRACE PERIOD 0 SECONDS) "
+              + "GROUP BY " + column + ";";
+        case STREAM_TABLE_JOIN:
+          final LogicalSchema tableSchema = LogicalSchema.builder()
+              .keyColumn(TABLE_KEY, schema.findValueColumn(groupBy)
+                  .map(Column::type)
+                  .orElseThrow(IllegalStateException::new))
+              .valueColumns(schema.value())
+              .build();
+
+          return stream
+              + "CREATE TABLE T (" + BenchmarkSchemas.tableElements(tableSchema, true)
+              + ") WITH (KAFKA_TOPIC='" + OTHER_TOPIC + "', KEY_FORMAT='KAFKA', VALUE_FORMAT='"
+              + format + "');"
+              + "CREATE STREAM BENCHMARK_OUTPUT AS SELECT * FROM S JOIN T "
+              + "ON S." + column + " = T." + BenchmarkSchemas.quote(TABLE_KEY) + ";";
+        case STREAM_STREAM_JOIN:
+          return stream
+              + "CREATE STREAM R (" + BenchmarkSchemas.tableElements(schema, false)
+              + ") WITH (KAFKA_TOPIC='" + OTHER_TOPIC + "', KEY_FORMAT='KAFKA', VALUE_FORMAT='"
+              + format + "');"
+              + "CREATE STREAM BENCHMARK_OUTPUT AS SELECT * FROM S JOIN R "
+              + "WITHIN 1 SECOND GRACE PERIOD 0 SECONDS "
+              + "ON S." + column + " = R." + column + ";";
+        default:
+          throw new IllegalArgumentException("Unknown query type: " + query);
+      }
+    }
+
+    private List<KeyValue<byte[], byte[]>> serialize(
+        final String sourceName,
+        final List<Pair<GenericKey, GenericRow>> rows,
+        final SchemaRegistryClient srClient
+    ) {
+      final DataSource source = engine.getMetaStore().getSource(SourceName.of(sourceName));
+      final KsqlTopic topic = source.getKsqlTopic();
+
+      return TopologyHarness.serialize(
+          topic.getKafkaTopicName(),
+          rows,
+          BenchmarkSchemas.keySerde(
+              source.getSchema(),
+              topic.getKeyFormat().getFormatInfo(),
+              topic.getKeyFormat().getFeatures(),
+              srClient
+          ),
+          BenchmarkSchemas.valueSerde(
+              source.getSchema(),
+              topic.getValueFormat().getFormatInfo(),
+              topic.getValueFormat().getFeatures(),
+              srClient
+          )
+      );
+    }
+  }
+
+  /**
+   * Pipes a batch of records into each of the query's streams. For the stream-stream join the
+   * time per operation is therefore that of a record on each side of the join.
+   */
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int pipeline(final PipelineState state) {
+    for (final TestInputTopic<byte[], byte[]> input : state.inputs) {
+      state.harness.pipe(input, state.records);
+    }
+    return state.harness.drain();
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(QueryPipelineBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
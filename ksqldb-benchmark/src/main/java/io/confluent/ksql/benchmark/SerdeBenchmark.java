@@ -16,8 +16,6 @@
 package io.confluent.ksql.benchmark;
 
 import com.google.common.collect.ImmutableMap;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.confluent.avro.random.generator.Generator;
 import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.ksql.GenericKey;
@@ -35,15 +33,10 @@ import io.confluent.ksql.serde.SerdeFeatures;
 import io.confluent.ksql.serde.avro.AvroFormat;
 import io.confluent.ksql.util.KsqlConfig;
 import io.confluent.ksql.util.Pair;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
@@ -79,8 +72,6 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @Fork(3)
 public class SerdeBenchmark {
 
-  private static final Path SCHEMA_DIR = Paths.get("schemas");
-  private static final String SCHEMA_FILE_SUFFIX = ".avro";
   private static final String TOPIC_NAME = "serde_benchmark";
 
   private static final String IMPRESSIONS_SCHEMA = "impressions";
@@ -90,6 +81,7 @@ public class SerdeBenchmark {
   private static final String SEPARATOR = "/";
 
   private static final String JSON_FORMAT = "JSON";
+  private static final String JSON_SR_FORMAT = "JSON_SR";
   private static final String AVRO_FORMAT = "Avro";
   private static final String PROTOBUF_FORMAT = "Protobuf";
   private static final String DELIMITED_FORMAT = "Delimited";
@@ -121,6 +113,7 @@ public class SerdeBenchmark {
 
     Serializer<Object> serializer;
     Deserializer<Object> deserializer;
+    Deserializer<Object> projectedDeserializer;
     Object data;
     byte[] bytes;
 
@@ -135,12 +128,14 @@ public class SerdeBenchmark {
         // IMPRESSIONS + KAFKA excluded as KAFKA does not support multiple columns
         IMPRESSIONS_SCHEMA + SEPARATOR + PROTOBUF_FORMAT,
         IMPRESSIONS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        IMPRESSIONS_SCHEMA + SEPARATOR + JSON_SR_FORMAT,
         IMPRESSIONS_SCHEMA + SEPARATOR + AVRO_FORMAT,
 
         // METRICS + DELIMITED_FORMAT excluded as DELIMITED does not support complex types
         // METRICS + KAFKA excluded as KAFKA does not support multiple columns
         METRICS_SCHEMA + SEPARATOR + PROTOBUF_FORMAT,
         METRICS_SCHEMA + SEPARATOR + JSON_FORMAT,
+        METRICS_SCHEMA + SEPARATOR + JSON_SR_FORMAT,
         METRICS_SCHEMA + SEPARATOR + AVRO_FORMAT
     })
     public String params;
@@ -150,7 +145,7 @@ public class SerdeBenchmark {
     public void setUp() throws IOException {
       final Params params = Params.parse(this.params);
 
-      final RowGenerator generator = getRowGenerator(params.schemaName);
+      final RowGenerator generator = BenchmarkSchemas.rowGenerator(params.schemaName);
 
       final LogicalSchema schema = generator.schema();
       final Pair<GenericKey, GenericRow> row = generator.generateRow();
@@ -170,33 +165,21 @@ public class SerdeBenchmark {
         serializer = (Serializer) serde.serializer();
         deserializer = (Deserializer) serde.deserializer();
         data = row.getRight();
-      }
-
-      bytes = serializer.serialize(TOPIC_NAME, data);
-    }
-
-    private static RowGenerator getRowGenerator(final String schemaName) throws IOException {
-      final Generator generator = getGenerator(schemaName);
 
-      // choose arbitrary key
-      final String keyField = generator.schema().getFields().get(0).name();
+        if (params.formatName.startsWith(JSON_FORMAT)) {
+          // Deserialize only the first value column, as a source that declares a subset of the
+          // fields in its data would. Only the JSON formats are lenient enough to allow this:
+          final LogicalSchema projected = LogicalSchema.builder()
+              .keyColumns(schema.key())
+              .valueColumn(schema.value().get(0))
+              .build();
 
-      return new RowGenerator(generator, keyField, Optional.empty());
-    }
-
-    @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE")
-    private static Generator getGenerator(final String schemaName) throws IOException {
-      final Path schemaPath = SCHEMA_DIR.resolve(schemaName + SCHEMA_FILE_SUFFIX);
-
-      try (InputStream schemaResource = SerdeBenchmark.class.getClassLoader()
-          .getResourceAsStream(schemaPath.toString())) {
-
-        if (schemaResource == null) {
-          throw new FileNotFoundException("Schema file not found: " + schemaName);
+          projectedDeserializer = (Deserializer) getGenericRowSerde(projected, params.formatName)
+              .deserializer();
         }
-
-        return new Generator(schemaResource, new Random());
       }
+
+      bytes = serializer.serialize(TOPIC_NAME, data);
     }
 
     private static FormatInfo getFormatInfo(final String formatName) {
@@ -271,6 +254,16 @@ public class SerdeBenchmark {
     return serdeState.deserializer.deserialize(TOPIC_NAME, serdeState.bytes);
   }
 
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public Object deserializeProjection(final SerdeState serdeState) {
+    if (serdeState.projectedDeserializer == null) {
+      return null;
+    }
+
+    return serdeState.projectedDeserializer.deserialize(TOPIC_NAME, serdeState.bytes);
+  }
+
   public static void main(final String[] args) throws Exception {
 
     final Options opt = args.length != 0
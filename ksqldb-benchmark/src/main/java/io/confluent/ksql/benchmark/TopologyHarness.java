@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.benchmark;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import io.confluent.ksql.GenericKey;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.util.Pair;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.processor.StateStore;
+
+/**
+ * Drives a topology through a {@link TopologyTestDriver} with pre-serialized records.
+ *
+ * <p>Records are serialized up front, so that the benchmarks measure the cost of deserializing
+ * and processing them, but not of producing them. Records written to any topic, including
+ * changelog and repartition topics, are captured by the driver until read, so benchmarks should
+ * {@link #drain()} the driver regularly to stop it accumulating them.
+ */
+final class TopologyHarness implements Closeable {
+
+  private final TopologyTestDriver driver;
+  private final Path stateDir;
+  private final Map<String, TestOutputTopic<byte[], byte[]>> outputs = new HashMap<>();
+  private KafkaStreams kafkaStreams;
+  private long timestamp;
+
+  static TopologyHarness create(
+      final Topology topology,
+      final Map<String, ?> streamsProperties
+  ) throws IOException {
+    final Path stateDir = Files.createTempDirectory("ksql-benchmark");
+
+    final Properties props = new Properties();
+    props.put(StreamsConfig.APPLICATION_ID_CONFIG, "benchmark");
+    props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+    props.putAll(streamsProperties);
+    props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+
+    return new TopologyHarness(new TopologyTestDriver(topology, props, Instant.EPOCH), stateDir);
+  }
+
+  static List<KeyValue<byte[], byte[]>> serialize(
+      final String topic,
+      final List<Pair<GenericKey, GenericRow>> rows,
+      final Serde<GenericKey> keySerde,
+      final Serde<GenericRow> valueSerde
+  ) {
+    final List<KeyValue<byte[], byte[]>> records = new ArrayList<>(rows.size());
+    for (final Pair<GenericKey, GenericRow> row : rows) {
+      records.add(KeyValue.pair(
+          keySerde.serializer().serialize(topic, row.getLeft()),
+          valueSerde.serializer().serialize(topic, row.getRight())
+      ));
+    }
+    return records;
+  }
+
+  private TopologyHarness(final TopologyTestDriver driver, final Path stateDir) {
+    this.driver = Objects.requireNonNull(driver, "driver");
+    this.stateDir = Objects.requireNonNull(stateDir, "stateDir");
+  }
+
+  TopologyTestDriver driver() {
+    return driver;
+  }
+
+  /**
+   * Get a {@link KafkaStreams} instance whose state stores are those of the driver, for code that
+   * reads the stores of a running query, such as a {@code KsMaterialization}.
+   *
+   * <p>The instance is never started: only {@link KafkaStreams#store} and
+   * {@link KafkaStreams#state} are supported. It is closed with the harness.
+   */
+  KafkaStreams kafkaStreams() {
+    if (kafkaStreams == null) {
+      kafkaStreams = new DriverKafkaStreams(driver, stateDir);
+    }
+    return kafkaStreams;
+  }
+
+  TestInputTopic<byte[], byte[]> inputTopic(final String topic) {
+    return driver.createInputTopic(topic, new ByteArraySerializer(), new ByteArraySerializer());
+  }
+
+  /**
+   * Pipe the records into the topic, with timestamps one millisecond apart that carry on from
+   * those of the previous call.
+   */
+  void pipe(
+      final TestInputTopic<byte[], byte[]> topic,
+      final List<KeyValue<byte[], byte[]>> records
+  ) {
+    for (final KeyValue<byte[], byte[]> record : records) {
+      topic.pipeInput(record.key, record.value, timestamp++);
+    }
+  }
+
+  /**
+   * Discard the records written to all topics since the last call.
+   *
+   * @return the number of records discarded.
+   */
+  int drain() {
+    int count = 0;
+    for (final String topic : driver.producedTopicNames()) {
+      final TestOutputTopic<byte[], byte[]> output = outputs.computeIfAbsent(topic, t ->
+          driver.createOutputTopic(t, new ByteArrayDeserializer(), new ByteArrayDeserializer()));
+
+      count += output.readRecordsToList().size();
+    }
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (kafkaStreams != null) {
+        kafkaStreams.close();
+      }
+      driver.close();
+    } finally {
+      if (Files.exists(stateDir)) {
+        MoreFiles.deleteRecursively(stateDir, RecursiveDeleteOption.ALLOW_INSECURE);
+      }
+    }
+  }
+
+  private static final class DriverKafkaStreams extends KafkaStreams {
+
+    private final TopologyTestDriver driver;
+
+    DriverKafkaStreams(final TopologyTestDriver driver, final Path stateDir) {
+      super(placeholderTopology(), placeholderProperties(stateDir));
+      this.driver = Objects.requireNonNull(driver, "driver");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T store(final StoreQueryParameters<T> parameters) {
+      final StateStore store = driver.getAllStateStores().get(parameters.storeName());
+      if (store == null || !parameters.queryableStoreType().accepts(store)) {
+        throw new InvalidStateStoreException("Unknown store: " + parameters.storeName());
+      }
+      return (T) store;
+    }
+
+    @Override
+    public State state() {
+      return State.RUNNING;
+    }
+
+    private static Topology placeholderTopology() {
+      // Kafka Streams rejects an empty topology. The instance is never started, so the source
+      // topic is never read:
+      return new Topology().addSource("placeholder", "placeholder");
+    }
+
+    private static Properties placeholderProperties(final Path stateDir) {
+      final Properties props = new Properties();
+      props.put(StreamsConfig.APPLICATION_ID_CONFIG, "benchmark-stores");
+      props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+      props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+      return props;
+    }
+  }
+}
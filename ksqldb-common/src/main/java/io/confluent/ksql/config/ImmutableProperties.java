@@ -34,6 +34,7 @@ public final class ImmutableProperties {
       .add(KsqlConfig.KSQL_HIDDEN_TOPICS_CONFIG)
       .add(KsqlConfig.KSQL_READONLY_TOPICS_CONFIG)
       .add(KsqlConfig.KSQL_SOURCE_TABLE_MATERIALIZATION_ENABLED)
+      .add(KsqlConfig.KSQL_CODEGEN_CACHE_MAX_ENTRIES)
       .addAll(KsqlConfig.SSL_CONFIG_NAMES)
       .build();
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.logging.processing;
+
+import static java.util.Objects.requireNonNull;
+
+import io.confluent.ksql.logging.processing.ProcessingLogMetrics.DropReason;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes processing log messages on a background thread, so that the threads processing records
+ * do not wait for the messages to be written.
+ *
+ * <p>Only writing, i.e. appending, a message is deferred: the message itself is still built on the
+ * calling thread, before it is queued.
+ *
+ * <p>Messages wait in a bounded queue. If the queue is full, e.g. because a burst of bad records
+ * produces messages faster than they can be written, new messages are dropped.
+ */
+final class AsyncProcessingLogWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncProcessingLogWriter.class);
+
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final Duration MAX_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final BlockingQueue<Runnable> queue;
+  private final ProcessingLogMetrics metrics;
+  private final Thread thread;
+  private volatile boolean closed = false;
+
+  AsyncProcessingLogWriter(final int queueSize, final ProcessingLogMetrics metrics) {
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.metrics = requireNonNull(metrics, "metrics");
+
+    this.thread = new Thread(this::run, "ksql-processing-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * @param write writes the message.
+   */
+  void write(final Runnable write) {
+    if (closed) {
+      writeMessage(write);
+      return;
+    }
+
+    if (!queue.offer(write)) {
+      metrics.recordDropped(DropReason.QUEUE_FULL);
+      return;
+    }
+
+    // If the writer closed before it could see the message, write it here instead:
+    if (closed && queue.remove(write)) {
+      writeMessage(write);
+    }
+  }
+
+  /**
+   * Stops the background thread, once it has written the queued messages. Messages written after
+   * this are written on the calling thread.
+   */
+  void close() {
+    closed = true;
+    try {
+      thread.join(MAX_CLOSE_TIMEOUT.toMillis());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  int queueSize() {
+    return queue.size();
+  }
+
+  private void run() {
+    while (!closed) {
+      final Runnable write;
+      try {
+        write = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+
+      if (write != null) {
+        writeMessage(write);
+      }
+    }
+
+    Runnable write;
+    while ((write = queue.poll()) != null) {
+      writeMessage(write);
+    }
+  }
+
+  private static void writeMessage(final Runnable write) {
+    try {
+      write.run();
+    } catch (final Exception e) {
+      LOG.warn("Failed to write processing log message", e);
+    }
+  }
+}
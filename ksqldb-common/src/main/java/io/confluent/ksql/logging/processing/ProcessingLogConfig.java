@@ -21,6 +21,7 @@ import java.util.Set;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
+import org.apache.kafka.common.config.ConfigDef.Range;
 import org.apache.kafka.common.config.ConfigDef.Type;
 
 public class ProcessingLogConfig extends AbstractConfig {
@@ -81,6 +82,32 @@ public class ProcessingLogConfig extends AbstractConfig {
   private static final String INCLUDE_ROWS_DOC =
       "Toggles whether or not the processing log should include rows in log messages";
 
+  public static final String ASYNC_ENABLE = propertyName("async.enable");
+  private static final String ASYNC_ENABLE_DOC =
+      "Toggles whether processing log messages are written by a background thread, rather than "
+          + "by the thread that processed the record. The message is still built by the thread "
+          + "that processed the record: only writing it is deferred. Messages are queued for the "
+          + "background thread, and dropped if the queue is full.";
+
+  public static final String ASYNC_QUEUE_SIZE = propertyName("async.queue.size");
+  private static final int ASYNC_QUEUE_SIZE_DEFAULT = 10_000;
+  private static final String ASYNC_QUEUE_SIZE_DOC = String.format(
+      "The maximum number of processing log messages waiting to be written, if \"%s\" is set.",
+      ASYNC_ENABLE);
+
+  public static final String RATE_LIMIT = propertyName("rate.limit.per.second");
+  private static final double RATE_LIMIT_DEFAULT = 0;
+  private static final String RATE_LIMIT_DOC =
+      "The maximum number of messages per second each processing logger writes for each type "
+          + "of error, e.g. deserialization errors of a query's source. Further messages are "
+          + "dropped. Zero, the default, means no limit.";
+
+  public static final String SAMPLE_RATIO = propertyName("sample.ratio");
+  private static final double SAMPLE_RATIO_DEFAULT = 1.0;
+  private static final String SAMPLE_RATIO_DOC =
+      "The fraction of processing log messages to write, picked at random. The rest are "
+          + "dropped. The default, 1.0, writes all messages.";
+
   private static final ConfigDef CONFIG_DEF = new ConfigDef()
       .define(
           STREAM_AUTO_CREATE,
@@ -123,7 +150,34 @@ public class ProcessingLogConfig extends AbstractConfig {
           Type.BOOLEAN,
           false,
           Importance.HIGH,
-          INCLUDE_ROWS_DOC
+          INCLUDE_ROWS_DOC)
+      .define(
+          ASYNC_ENABLE,
+          Type.BOOLEAN,
+          false,
+          Importance.LOW,
+          ASYNC_ENABLE_DOC)
+      .define(
+          ASYNC_QUEUE_SIZE,
+          Type.INT,
+          ASYNC_QUEUE_SIZE_DEFAULT,
+          Range.atLeast(1),
+          Importance.LOW,
+          ASYNC_QUEUE_SIZE_DOC)
+      .define(
+          RATE_LIMIT,
+          Type.DOUBLE,
+          RATE_LIMIT_DEFAULT,
+          Range.atLeast(0),
+          Importance.LOW,
+          RATE_LIMIT_DOC)
+      .define(
+          SAMPLE_RATIO,
+          Type.DOUBLE,
+          SAMPLE_RATIO_DEFAULT,
+          Range.between(0, 1),
+          Importance.LOW,
+          SAMPLE_RATIO_DOC
       );
 
   public static Set<String> configNames() {
@@ -28,6 +28,13 @@ public interface ProcessingLogContext {
    */
   ProcessingLoggerFactory getLoggerFactory();
 
+  /**
+   * Stops any background thread writing processing log messages, once it has written the
+   * messages already queued. Messages logged afterwards are written on the calling thread.
+   */
+  default void close() {
+  }
+
   /**
    * Creates a processing log context that uses the supplied config.
    * @param config the processing log config
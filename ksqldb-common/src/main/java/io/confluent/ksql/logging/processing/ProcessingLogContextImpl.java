@@ -16,16 +16,44 @@
 package io.confluent.ksql.logging.processing;
 
 import io.confluent.common.logging.StructuredLoggerFactory;
+import io.confluent.ksql.metrics.MetricCollectors;
+import java.util.Optional;
 
 public final class ProcessingLogContextImpl implements ProcessingLogContext {
   private final ProcessingLogConfig config;
   private final ProcessingLoggerFactory loggerFactory;
+  private final Optional<AsyncProcessingLogWriter> asyncWriter;
 
   ProcessingLogContextImpl(final ProcessingLogConfig config) {
     this.config = config;
+
+    final ProcessingLogMetrics metrics = new ProcessingLogMetrics();
+
+    this.asyncWriter =
+        config.getBoolean(ProcessingLogConfig.ASYNC_ENABLE)
+            ? Optional.of(new AsyncProcessingLogWriter(
+                config.getInt(ProcessingLogConfig.ASYNC_QUEUE_SIZE),
+                metrics))
+            : Optional.empty();
+
+    final double sampleRatio = config.getDouble(ProcessingLogConfig.SAMPLE_RATIO);
+    final double rateLimit = config.getDouble(ProcessingLogConfig.RATE_LIMIT);
+    final Optional<ProcessingLogThrottle> throttle = sampleRatio < 1.0 || rateLimit > 0
+        ? Optional.of(new ProcessingLogThrottle(sampleRatio, rateLimit, metrics))
+        : Optional.empty();
+
+    if (asyncWriter.isPresent() || throttle.isPresent()) {
+      metrics.register(
+          MetricCollectors.getMetrics(),
+          () -> asyncWriter.map(AsyncProcessingLogWriter::queueSize).orElse(0)
+      );
+    }
+
     this.loggerFactory = new ProcessingLoggerFactoryImpl(
         config,
-        new StructuredLoggerFactory(ProcessingLogConstants.PREFIX)
+        new StructuredLoggerFactory(ProcessingLogConstants.PREFIX),
+        (c, logger) -> new ProcessingLoggerImpl(c, logger, asyncWriter),
+        throttle
     );
   }
 
@@ -37,4 +65,9 @@ public final class ProcessingLogContextImpl implements ProcessingLogContext {
   public ProcessingLoggerFactory getLoggerFactory() {
     return loggerFactory;
   }
+
+  @Override
+  public void close() {
+    asyncWriter.ifPresent(AsyncProcessingLogWriter::close);
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.logging.processing;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.Metrics;
+
+/**
+ * Counts the processing log messages that are dropped, rather than written, and exposes the
+ * counts as metrics.
+ */
+final class ProcessingLogMetrics {
+
+  static final String METRIC_GROUP = "ksql-processing-log";
+  static final String DROPPED_MESSAGES = "processing-log-messages-dropped-total";
+  static final String QUEUE_SIZE = "processing-log-queue-size";
+
+  enum DropReason {
+    SAMPLED("sampled"),
+    RATE_LIMITED("rate-limited"),
+    QUEUE_FULL("queue-full");
+
+    private final String tag;
+
+    DropReason(final String tag) {
+      this.tag = tag;
+    }
+  }
+
+  private final Map<DropReason, LongAdder> dropped = new EnumMap<>(DropReason.class);
+
+  ProcessingLogMetrics() {
+    for (final DropReason reason : DropReason.values()) {
+      dropped.put(reason, new LongAdder());
+    }
+  }
+
+  void recordDropped(final DropReason reason) {
+    dropped.get(reason).increment();
+  }
+
+  long dropped(final DropReason reason) {
+    return dropped.get(reason).sum();
+  }
+
+  /**
+   * Registers the metrics, replacing those of any previous context.
+   *
+   * @param metrics the metrics to register with.
+   * @param queueSize supplies the number of messages waiting to be written.
+   */
+  void register(final Metrics metrics, final LongSupplier queueSize) {
+    requireNonNull(queueSize, "queueSize");
+
+    for (final DropReason reason : DropReason.values()) {
+      final LongAdder count = dropped.get(reason);
+      replace(
+          metrics,
+          metrics.metricName(
+              DROPPED_MESSAGES,
+              METRIC_GROUP,
+              "The number of processing log messages dropped, by the reason they were dropped",
+              ImmutableMap.of("reason", reason.tag)
+          ),
+          (Gauge<Long>) (config, now) -> count.sum()
+      );
+    }
+
+    replace(
+        metrics,
+        metrics.metricName(
+            QUEUE_SIZE,
+            METRIC_GROUP,
+            "The number of processing log messages waiting to be written"
+        ),
+        (Gauge<Long>) (config, now) -> queueSize.getAsLong()
+    );
+  }
+
+  private static void replace(
+      final Metrics metrics,
+      final MetricName name,
+      final Gauge<Long> gauge
+  ) {
+    metrics.removeMetric(name);
+    metrics.addMetric(name, gauge);
+  }
+}
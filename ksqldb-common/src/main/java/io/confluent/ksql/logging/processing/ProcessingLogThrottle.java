@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.logging.processing;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.RateLimiter;
+import io.confluent.ksql.logging.processing.ProcessingLogMetrics.DropReason;
+import io.confluent.ksql.util.Pair;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Samples and rate limits processing log messages, so that a burst of bad records does not turn
+ * into a burst of log messages.
+ *
+ * <p>Messages are rate limited by the name of the logger, which identifies the query and the
+ * step within it, and by the type of the error.
+ */
+final class ProcessingLogThrottle {
+
+  // Loggers of queries that are no longer running are eventually forgotten:
+  private static final long IDLE_LIMITER_EXPIRY_MINUTES = 10;
+
+  private final double sampleRatio;
+  private final DoubleSupplier random;
+  private final ProcessingLogMetrics metrics;
+  private final Optional<LoadingCache<Pair<String, Class<?>>, RateLimiter>> rateLimiters;
+
+  ProcessingLogThrottle(
+      final double sampleRatio,
+      final double rateLimit,
+      final ProcessingLogMetrics metrics
+  ) {
+    this(
+        sampleRatio,
+        rateLimit,
+        metrics,
+        () -> ThreadLocalRandom.current().nextDouble(),
+        RateLimiter::create
+    );
+  }
+
+  ProcessingLogThrottle(
+      final double sampleRatio,
+      final double rateLimit,
+      final ProcessingLogMetrics metrics,
+      final DoubleSupplier random,
+      final Function<Double, RateLimiter> rateLimiterFactory
+  ) {
+    this.sampleRatio = sampleRatio;
+    this.metrics = requireNonNull(metrics, "metrics");
+    this.random = requireNonNull(random, "random");
+    if (rateLimit <= 0) {
+      this.rateLimiters = Optional.empty();
+    } else {
+      final LoadingCache<Pair<String, Class<?>>, RateLimiter> limiters = CacheBuilder.newBuilder()
+          .expireAfterAccess(IDLE_LIMITER_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .build(CacheLoader.from(key -> rateLimiterFactory.apply(rateLimit)));
+      this.rateLimiters = Optional.of(limiters);
+    }
+  }
+
+  /**
+   * @param loggerName the name of the logger the message is being logged to.
+   * @param logger the logger the message should be logged to.
+   * @return a logger that only passes on the messages that are not dropped.
+   */
+  ProcessingLogger throttle(final String loggerName, final ProcessingLogger logger) {
+    requireNonNull(loggerName, "loggerName");
+    requireNonNull(logger, "logger");
+
+    return msg -> {
+      if (shouldLog(loggerName, msg)) {
+        logger.error(msg);
+      }
+    };
+  }
+
+  private boolean shouldLog(final String loggerName, final ProcessingLogger.ErrorMessage msg) {
+    if (sampleRatio < 1.0 && random.getAsDouble() >= sampleRatio) {
+      metrics.recordDropped(DropReason.SAMPLED);
+      return false;
+    }
+
+    if (rateLimiters.isPresent()
+        && !rateLimiters.get().getUnchecked(Pair.of(loggerName, msg.getClass())).tryAcquire()) {
+      metrics.recordDropped(DropReason.RATE_LIMITED);
+      return false;
+    }
+
+    return true;
+  }
+}
@@ -18,12 +18,14 @@ package io.confluent.ksql.logging.processing;
 import io.confluent.common.logging.StructuredLogger;
 import io.confluent.common.logging.StructuredLoggerFactory;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.BiFunction;
 
 public class ProcessingLoggerFactoryImpl implements ProcessingLoggerFactory {
   private final ProcessingLogConfig config;
   private final StructuredLoggerFactory innerFactory;
   private final BiFunction<ProcessingLogConfig, StructuredLogger, ProcessingLogger> loggerFactory;
+  private final Optional<ProcessingLogThrottle> throttle;
 
   ProcessingLoggerFactoryImpl(
       final ProcessingLogConfig config,
@@ -35,15 +37,28 @@ public class ProcessingLoggerFactoryImpl implements ProcessingLoggerFactory {
       final ProcessingLogConfig config,
       final StructuredLoggerFactory innerFactory,
       final BiFunction<ProcessingLogConfig, StructuredLogger, ProcessingLogger> loggerFactory
+  ) {
+    this(config, innerFactory, loggerFactory, Optional.empty());
+  }
+
+  ProcessingLoggerFactoryImpl(
+      final ProcessingLogConfig config,
+      final StructuredLoggerFactory innerFactory,
+      final BiFunction<ProcessingLogConfig, StructuredLogger, ProcessingLogger> loggerFactory,
+      final Optional<ProcessingLogThrottle> throttle
   ) {
     this.config = config;
     this.innerFactory = innerFactory;
     this.loggerFactory = loggerFactory;
+    this.throttle = throttle;
   }
 
   @Override
   public ProcessingLogger getLogger(final String name) {
-    return loggerFactory.apply(config, innerFactory.getLogger(name));
+    final ProcessingLogger logger = loggerFactory.apply(config, innerFactory.getLogger(name));
+    return throttle
+        .map(t -> t.throttle(name, logger))
+        .orElse(logger);
   }
 
   @Override
@@ -18,21 +18,39 @@ package io.confluent.ksql.logging.processing;
 import static java.util.Objects.requireNonNull;
 
 import io.confluent.common.logging.StructuredLogger;
+import java.util.Optional;
 import org.apache.kafka.connect.data.SchemaAndValue;
 
 public class ProcessingLoggerImpl implements ProcessingLogger {
 
   private final StructuredLogger inner;
   private final ProcessingLogConfig config;
+  private final Optional<AsyncProcessingLogWriter> asyncWriter;
 
   public ProcessingLoggerImpl(final ProcessingLogConfig config, final StructuredLogger inner) {
+    this(config, inner, Optional.empty());
+  }
+
+  ProcessingLoggerImpl(
+      final ProcessingLogConfig config,
+      final StructuredLogger inner,
+      final Optional<AsyncProcessingLogWriter> asyncWriter
+  ) {
     this.config = requireNonNull(config, "config");
     this.inner = requireNonNull(inner, "inner");
+    this.asyncWriter = requireNonNull(asyncWriter, "asyncWriter");
   }
 
   @Override
   public void error(final ErrorMessage msg) {
-    inner.error(() -> throwIfNotRightSchema(msg.get(config)));
+    if (!asyncWriter.isPresent()) {
+      inner.error(() -> throwIfNotRightSchema(msg.get(config)));
+      return;
+    }
+
+    // The message is built now, as it may refer to state that changes after this call returns:
+    final SchemaAndValue built = throwIfNotRightSchema(msg.get(config));
+    asyncWriter.get().write(() -> inner.error(() -> built));
   }
 
   private static SchemaAndValue throwIfNotRightSchema(final SchemaAndValue schemaAndValue) {
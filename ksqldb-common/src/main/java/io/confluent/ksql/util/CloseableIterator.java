@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.util;
+
+import java.util.Iterator;
+
+/**
+ * An iterator over a resource, e.g. a state store iterator, that must be closed if it is not
+ * iterated to the end.
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+
+  /**
+   * Releases the resource. Safe to call more than once.
+   */
+  @Override
+  void close();
+}
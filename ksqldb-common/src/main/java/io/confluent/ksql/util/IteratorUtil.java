@@ -18,6 +18,7 @@ package io.confluent.ksql.util;
 import com.google.common.collect.ImmutableList;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 public final class IteratorUtil {
 
@@ -29,12 +30,76 @@ public final class IteratorUtil {
     return new IteratorWithCallbacks<>(iterator, runnable);
   }
 
+  /**
+   * @param iterator the iterator to wrap.
+   * @param closer releases the resource the iterator reads from.
+   * @return an iterator that runs {@code closer} once, when either the iterator is exhausted or
+   *         it is closed.
+   */
+  public static <T> CloseableIterator<T> onClose(
+      final Iterator<T> iterator,
+      final Runnable closer
+  ) {
+    return new ClosingIterator<>(iterator, closer);
+  }
+
+  /**
+   * @param iterator the iterator, which may or may not be closeable.
+   * @return the iterator, if it is closeable, otherwise an iterator that does nothing on close.
+   */
+  public static <T> CloseableIterator<T> closeable(final Iterator<T> iterator) {
+    if (iterator instanceof CloseableIterator) {
+      return (CloseableIterator<T>) iterator;
+    }
+    return onClose(iterator, () -> { });
+  }
+
   @SuppressWarnings("varargs")
   @SafeVarargs
   public static <T> Iterator<T> of(final T... elements) {
     return ImmutableList.copyOf(elements).iterator();
   }
 
+  private static final class ClosingIterator<T> implements CloseableIterator<T> {
+
+    private final Iterator<T> backingIterator;
+    private final Runnable closer;
+    private boolean closed = false;
+
+    ClosingIterator(final Iterator<T> backingIterator, final Runnable closer) {
+      this.backingIterator = Objects.requireNonNull(backingIterator, "backingIterator");
+      this.closer = Objects.requireNonNull(closer, "closer");
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (closed) {
+        return false;
+      }
+      final boolean hasNext = backingIterator.hasNext();
+      if (!hasNext) {
+        close();
+      }
+      return hasNext;
+    }
+
+    @Override
+    public T next() {
+      if (closed) {
+        throw new NoSuchElementException();
+      }
+      return backingIterator.next();
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        closer.run();
+      }
+    }
+  }
+
   private static class IteratorWithCallbacks<T> implements Iterator<T> {
 
     private final Iterator<T> backingIterator;
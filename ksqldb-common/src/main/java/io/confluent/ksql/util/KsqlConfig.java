@@ -184,6 +184,19 @@ public class KsqlConfig extends AbstractConfig {
   public static final String KSQL_COLLECT_UDF_METRICS = "ksql.udf.collect.metrics";
   public static final String KSQL_UDF_SECURITY_MANAGER_ENABLED = "ksql.udf.enable.security.manager";
 
+  public static final String KSQL_CODEGEN_CACHE_ENABLED = "ksql.codegen.cache.enabled";
+  public static final String KSQL_CODEGEN_CACHE_ENABLED_DOC = "Whether or not the classes "
+      + "compiled for expressions should be shared between queries. When enabled, expressions "
+      + "that generate the same code against the same column types are only compiled once per "
+      + "server. Default is true.";
+
+  public static final String KSQL_CODEGEN_CACHE_MAX_ENTRIES = "ksql.codegen.cache.max.entries";
+  public static final String KSQL_CODEGEN_CACHE_MAX_ENTRIES_DOC = "The maximum number of "
+      + "compiled expressions the server keeps when " + KSQL_CODEGEN_CACHE_ENABLED + " is "
+      + "enabled. Each entry holds one generated class. The least recently used entries are "
+      + "evicted first.";
+  public static final int KSQL_CODEGEN_CACHE_MAX_ENTRIES_DEFAULT = 10_000;
+
   public static final String KSQL_INSERT_INTO_VALUES_ENABLED = "ksql.insert.into.values.enabled";
 
   public static final String DEFAULT_EXT_DIR = "ext";
@@ -285,6 +298,43 @@ public class KsqlConfig extends AbstractConfig {
       "Config to enable pull queries that scan over the data";
   public static final boolean KSQL_QUERY_PULL_TABLE_SCAN_ENABLED_DEFAULT = true;
 
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM
+      = "ksql.query.pull.table.scan.parallelism";
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM_DOC =
+      "The maximum number of partitions a single pull query table scan reads concurrently. "
+          + "A value of 1 scans the partitions one after another.";
+  public static final int KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM_DEFAULT = 1;
+
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_ORDERED
+      = "ksql.query.pull.table.scan.ordered";
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_ORDERED_DOC =
+      "Whether a pull query table scan that reads partitions concurrently returns the rows "
+          + "of each partition in turn. If false, rows are returned in the order they are read.";
+  public static final boolean KSQL_QUERY_PULL_TABLE_SCAN_ORDERED_DEFAULT = true;
+
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_CONFIG
+      = "ksql.query.pull.table.scan.thread.pool.size";
+  public static final Integer KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_DEFAULT = 50;
+  public static final String KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_DOC =
+      "Size of thread pool used for scanning partitions concurrently in pull query table scans";
+
+  public static final String KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE
+      = "ksql.query.pull.prepared.statement.cache.size";
+  public static final String KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE_DOC =
+      "The maximum number of pull queries with parameters whose parsed and analyzed form is "
+          + "kept, so that executing them again with other parameter values skips parsing and "
+          + "analysis. The query's logical and physical plans are still built on every "
+          + "execution. A value of 0 disables the cache.";
+  public static final int KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE_DEFAULT = 1000;
+
+  public static final String KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED
+      = "ksql.query.pull.forward.binary.rows.enabled";
+  public static final String KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED_DOC =
+      "Whether a pull query forwarded to another server asks for its rows in the compact binary "
+          + "format, rather than as JSON. Servers that do not support the binary format return "
+          + "JSON, whatever this setting.";
+  public static final boolean KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED_DEFAULT = true;
+
   public static final String KSQL_QUERY_STREAM_PULL_QUERY_ENABLED 
       = "ksql.query.pull.stream.enabled";
   public static final String KSQL_QUERY_STREAM_PULL_QUERY_ENABLED_DOC =
@@ -483,6 +533,34 @@ public class KsqlConfig extends AbstractConfig {
           + "Default is false. If false, persistent queries will use separate "
           + " runtimes, if true, new queries may share streams instances.";
 
+  public static final String KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED =
+      "ksql.query.stream.fuse.filter.select.enabled";
+  public static final boolean KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED_DEFAULT = false;
+  public static final String KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED_DOC =
+      "Whether the filter and projection of a query over a stream, e.g. the WHERE and SELECT "
+          + "clauses of a CREATE STREAM AS SELECT, are evaluated in a single Kafka Streams "
+          + "processor rather than one each. Applies to queries as they are built, so existing "
+          + "queries pick up a change when they are restarted.";
+
+  public static final String KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED =
+      "ksql.aggregate.state.binary.format.enabled";
+  public static final boolean KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED_DEFAULT = false;
+  public static final String KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED_DOC =
+      "Whether new aggregate queries store their aggregate state, i.e. the state store and its "
+          + "changelog topic, in a compact binary format rather than in the value format of the "
+          + "query's source. The format is part of the query plan, so queries that are already "
+          + "running keep the format they were created with.";
+
+  public static final String KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED =
+      "ksql.query.join.prune.columns.enabled";
+  public static final boolean KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED_DEFAULT = false;
+  public static final String KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED_DOC =
+      "Whether new join queries drop the columns of each source that the query does not "
+          + "reference before repartitioning and joining it, so that repartition topics, join "
+          + "state stores and their changelog topics only hold the columns that are used. The "
+          + "columns are part of the query plan, so queries that are already running are not "
+          + "affected.";
+
 
   public static final String KSQL_SUPPRESS_BUFFER_SIZE_BYTES = "ksql.suppress.buffer.size.bytes";
   public static final Long KSQL_SUPPRESS_BUFFER_SIZE_BYTES_DEFAULT = -1L;
@@ -756,6 +834,19 @@ public class KsqlConfig extends AbstractConfig {
             "Whether or not metrics should be collected for custom udfs. Default is false. Note: "
                 + "this will add some overhead to udf invocation. It is recommended that this "
                 + " be set to false in production."
+        ).define(
+            KSQL_CODEGEN_CACHE_ENABLED,
+            ConfigDef.Type.BOOLEAN,
+            true,
+            ConfigDef.Importance.LOW,
+            KSQL_CODEGEN_CACHE_ENABLED_DOC
+        ).define(
+            KSQL_CODEGEN_CACHE_MAX_ENTRIES,
+            ConfigDef.Type.INT,
+            KSQL_CODEGEN_CACHE_MAX_ENTRIES_DEFAULT,
+            ConfigValidators.zeroOrPositive(),
+            ConfigDef.Importance.LOW,
+            KSQL_CODEGEN_CACHE_MAX_ENTRIES_DOC
         ).define(
             KSQL_EXT_DIR,
             ConfigDef.Type.STRING,
@@ -992,6 +1083,43 @@ public class KsqlConfig extends AbstractConfig {
             Importance.LOW,
             KSQL_QUERY_PULL_TABLE_SCAN_ENABLED_DOC
         )
+        .define(
+            KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM,
+            Type.INT,
+            KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM_DEFAULT,
+            ConfigValidators.oneOrMore(),
+            Importance.LOW,
+            KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM_DOC
+        )
+        .define(
+            KSQL_QUERY_PULL_TABLE_SCAN_ORDERED,
+            Type.BOOLEAN,
+            KSQL_QUERY_PULL_TABLE_SCAN_ORDERED_DEFAULT,
+            Importance.LOW,
+            KSQL_QUERY_PULL_TABLE_SCAN_ORDERED_DOC
+        )
+        .define(
+            KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_CONFIG,
+            Type.INT,
+            KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_DEFAULT,
+            Importance.LOW,
+            KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_DOC
+        )
+        .define(
+            KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE,
+            Type.INT,
+            KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE_DEFAULT,
+            ConfigValidators.zeroOrPositive(),
+            Importance.LOW,
+            KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE_DOC
+        )
+        .define(
+            KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED,
+            Type.BOOLEAN,
+            KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED_DEFAULT,
+            Importance.LOW,
+            KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED_DOC
+        )
         .define(
             KSQL_QUERY_STREAM_PULL_QUERY_ENABLED,
             Type.BOOLEAN,
@@ -1172,6 +1300,27 @@ public class KsqlConfig extends AbstractConfig {
             Importance.MEDIUM,
             KSQL_SHARED_RUNTIME_ENABLED_DOC
         )
+        .define(
+            KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED,
+            Type.BOOLEAN,
+            KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED_DEFAULT,
+            Importance.LOW,
+            KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED_DOC
+        )
+        .define(
+            KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED,
+            Type.BOOLEAN,
+            KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED_DEFAULT,
+            Importance.LOW,
+            KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED_DOC
+        )
+        .define(
+            KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED,
+            Type.BOOLEAN,
+            KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED_DEFAULT,
+            Importance.LOW,
+            KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED_DOC
+        )
         .define(
             KSQL_SOURCE_TABLE_MATERIALIZATION_ENABLED,
             Type.BOOLEAN,
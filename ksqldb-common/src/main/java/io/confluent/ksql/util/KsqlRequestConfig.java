@@ -69,6 +69,13 @@ public class KsqlRequestConfig extends AbstractConfig {
   private static final String KSQL_REQUEST_QUERY_PULL_CONSISTENCY_OFFSET_VECTOR__DOC =
       "Indicates the offsets of the last read.";
 
+  public static final String KSQL_REQUEST_QUERY_PULL_BINARY_ROWS =
+      "request.ksql.query.pull.binary.rows";
+  public static final boolean KSQL_REQUEST_QUERY_PULL_BINARY_ROWS_DEFAULT = false;
+  private static final String KSQL_REQUEST_QUERY_PULL_BINARY_ROWS_DOC =
+      "Indicates whether a forwarded pull query should return its rows in the binary row batch "
+          + "format, rather than as JSON.";
+
 
   private static ConfigDef buildConfigDef() {
     final ConfigDef configDef = new ConfigDef()
@@ -114,6 +121,12 @@ public class KsqlRequestConfig extends AbstractConfig {
             KSQL_REQUEST_QUERY_PULL_CONSISTENCY_OFFSET_VECTOR_DEFAULT,
             ConfigDef.Importance.LOW,
             KSQL_REQUEST_QUERY_PULL_CONSISTENCY_OFFSET_VECTOR__DOC
+        ).define(
+            KSQL_REQUEST_QUERY_PULL_BINARY_ROWS,
+            Type.BOOLEAN,
+            KSQL_REQUEST_QUERY_PULL_BINARY_ROWS_DEFAULT,
+            ConfigDef.Importance.LOW,
+            KSQL_REQUEST_QUERY_PULL_BINARY_ROWS_DOC
         );
     return configDef;
   }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.util.timestamp;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Parses timestamps in fixed width, all numeric, formats, such as {@code yyyy-MM-dd HH:mm:ss.SSS}
+ * or {@code yyyy-MM-dd'T'HH:mm:ss}, by scanning the characters of the text directly, rather than
+ * through a {@link java.time.format.DateTimeFormatter}.
+ *
+ * <p>The supported patterns contain the fields {@code yyyy}, {@code MM} and {@code dd}, and
+ * optionally {@code HH}, {@code mm}, {@code ss} and one to nine {@code S}, where each time field
+ * requires the ones before it, with any literals between them. Only time zones with a fixed
+ * offset, e.g. {@code UTC}, are handled.
+ *
+ * <p>The parser only handles text it can parse to the same result as {@link
+ * StringToTimestampParser} does with a formatter: any other text, e.g. text that does not match
+ * the pattern or holds an invalid date, is left to the formatter, which also reports the error.
+ */
+final class FixedWidthTimestampParser {
+
+  /**
+   * Returned by {@link #parse} if the text must be parsed by the formatter instead.
+   */
+  static final long NOT_PARSED = Long.MIN_VALUE;
+
+  private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+  private static final int[] NANOS_PER_DIGIT = {
+      100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
+  private final char[] literals;
+  private final boolean[] isLiteral;
+  private final int yearPos;
+  private final int monthPos;
+  private final int dayPos;
+  private final int hourPos;
+  private final int minutePos;
+  private final int secondPos;
+  private final int fractionPos;
+  private final int fractionDigits;
+
+  /**
+   * @param pattern the pattern, in the format of {@link java.time.format.DateTimeFormatter}.
+   * @return the parser for the pattern, or empty if the pattern is not supported.
+   */
+  static Optional<FixedWidthTimestampParser> forPattern(final String pattern) {
+    final StringBuilder literals = new StringBuilder();
+    final int[] positions = new int[Field.values().length];
+    Arrays.fill(positions, -1);
+    int fractionDigits = 0;
+
+    int i = 0;
+    while (i < pattern.length()) {
+      final char c = pattern.charAt(i);
+
+      if (c == '\'') {
+        final int end = pattern.indexOf('\'', i + 1);
+        if (end <= i + 1 || (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'')) {
+          // Unterminated quote, or an escaped quote:
+          return Optional.empty();
+        }
+        if (pattern.substring(i + 1, end).indexOf('\0') >= 0) {
+          return Optional.empty();
+        }
+        literals.append(pattern, i + 1, end);
+        i = end + 1;
+        continue;
+      }
+
+      if (!Character.isLetter(c)) {
+        if ("[]{}#\0".indexOf(c) >= 0) {
+          // Optional sections and reserved characters:
+          return Optional.empty();
+        }
+        literals.append(c);
+        i++;
+        continue;
+      }
+
+      int end = i + 1;
+      while (end < pattern.length() && pattern.charAt(end) == c) {
+        end++;
+      }
+      final int count = end - i;
+
+      final Optional<Field> field = Field.of(c, count);
+      if (!field.isPresent() || positions[field.get().ordinal()] != -1) {
+        return Optional.empty();
+      }
+
+      if (field.get() == Field.FRACTION) {
+        if (literals.length() == 0 || literals.charAt(literals.length() - 1) == '\0') {
+          // Some JDKs can not parse a fraction directly after another number:
+          return Optional.empty();
+        }
+        fractionDigits = count;
+      }
+      positions[field.get().ordinal()] = literals.length();
+
+      // Placeholder for the digits, which are not literals:
+      for (int digit = 0; digit < count; digit++) {
+        literals.append('\0');
+      }
+      i = end;
+    }
+
+    if (!isSupported(positions)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new FixedWidthTimestampParser(literals, positions, fractionDigits));
+  }
+
+  private static boolean isSupported(final int[] positions) {
+    // The date must be complete, and each time field requires the one before:
+    boolean previousPresent = true;
+    for (final Field field : Field.values()) {
+      final boolean present = positions[field.ordinal()] != -1;
+      if (field.isDate() ? !present : present && !previousPresent) {
+        return false;
+      }
+      previousPresent = present;
+    }
+    return true;
+  }
+
+  private FixedWidthTimestampParser(
+      final CharSequence literals,
+      final int[] positions,
+      final int fractionDigits
+  ) {
+    this.literals = literals.toString().toCharArray();
+    this.isLiteral = new boolean[this.literals.length];
+    for (int i = 0; i < this.literals.length; i++) {
+      isLiteral[i] = this.literals[i] != '\0';
+    }
+    this.yearPos = positions[Field.YEAR.ordinal()];
+    this.monthPos = positions[Field.MONTH.ordinal()];
+    this.dayPos = positions[Field.DAY.ordinal()];
+    this.hourPos = positions[Field.HOUR.ordinal()];
+    this.minutePos = positions[Field.MINUTE.ordinal()];
+    this.secondPos = positions[Field.SECOND.ordinal()];
+    this.fractionPos = positions[Field.FRACTION.ordinal()];
+    this.fractionDigits = fractionDigits;
+  }
+
+  /**
+   * @param text    the textual representation of the timestamp
+   * @param zoneId  the zoneId to use
+   *
+   * @return the millis since epoch that {@code text} represents, or {@link #NOT_PARSED}.
+   */
+  long parse(final String text, final ZoneId zoneId) {
+    if (text == null || text.length() != literals.length) {
+      return NOT_PARSED;
+    }
+
+    final ZoneRules rules = zoneId.getRules();
+    if (!rules.isFixedOffset()) {
+      return NOT_PARSED;
+    }
+
+    for (int i = 0; i < literals.length; i++) {
+      if (isLiteral[i] && text.charAt(i) != literals[i]) {
+        return NOT_PARSED;
+      }
+    }
+
+    final int year = digits(text, yearPos, 4);
+    final int month = digits(text, monthPos, 2);
+    final int day = digits(text, dayPos, 2);
+    final int hour = hourPos == -1 ? 0 : digits(text, hourPos, 2);
+    final int minute = minutePos == -1 ? 0 : digits(text, minutePos, 2);
+    final int second = secondPos == -1 ? 0 : digits(text, secondPos, 2);
+    final int fraction = fractionPos == -1 ? 0 : digits(text, fractionPos, fractionDigits);
+
+    // Digits returns -1 on a non-digit, which fails these checks too:
+    if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+        || fraction < 0) {
+      return NOT_PARSED;
+    }
+
+    final long nanos = fractionPos == -1
+        ? 0
+        : (long) fraction * NANOS_PER_DIGIT[fractionDigits - 1];
+
+    final long localSeconds = epochDay(year, month, day) * 86_400
+        + hour * 3_600
+        + minute * 60
+        + second;
+
+    final int offsetSeconds = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+    return (localSeconds - offsetSeconds) * 1_000 + nanos / 1_000_000;
+  }
+
+  private static int digits(final String text, final int pos, final int count) {
+    int value = 0;
+    for (int i = pos; i < pos + count; i++) {
+      final int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static boolean isLeapYear(final long year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int lengthOfMonth(final int year, final int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  // Same as LocalDate.toEpochDay, for positive years:
+  private static long epochDay(final long year, final long month, final long day) {
+    long total = 365 * year;
+    total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  private enum Field {
+    YEAR('y', 4),
+    MONTH('M', 2),
+    DAY('d', 2),
+    HOUR('H', 2),
+    MINUTE('m', 2),
+    SECOND('s', 2),
+    FRACTION('S', 9);
+
+    private final char letter;
+    private final int maxCount;
+
+    Field(final char letter, final int maxCount) {
+      this.letter = letter;
+      this.maxCount = maxCount;
+    }
+
+    boolean isDate() {
+      return this == YEAR || this == MONTH || this == DAY;
+    }
+
+    static Optional<Field> of(final char letter, final int count) {
+      for (final Field field : values()) {
+        if (field.letter == letter) {
+          // Only a fraction may have fewer digits than its maximum:
+          final boolean valid = field == FRACTION
+              ? count <= field.maxCount
+              : count == field.maxCount;
+          return valid ? Optional.of(field) : Optional.empty();
+        }
+      }
+      return Optional.empty();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQueries;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Function;
 import org.apache.commons.lang3.ObjectUtils;
 
@@ -37,12 +38,14 @@ public class StringToTimestampParser {
   private static final long LEAP_DAY_OF_THE_YEAR = 366;
 
   private final DateTimeFormatter formatter;
+  private final Optional<FixedWidthTimestampParser> fixedWidthParser;
 
   public StringToTimestampParser(final String pattern) {
     formatter = new DateTimeFormatterBuilder()
         .parseCaseInsensitive()
         .appendPattern(pattern)
         .toFormatter(Locale.ROOT);
+    fixedWidthParser = FixedWidthTimestampParser.forPattern(pattern);
   }
 
   /**
@@ -52,6 +55,10 @@ public class StringToTimestampParser {
    * @return the millis since epoch that {@code text} represents
    */
   public Timestamp parseToTimestamp(final String text, final ZoneId zoneId) {
+    final long millis = parseFixedWidth(text, zoneId);
+    if (millis != FixedWidthTimestampParser.NOT_PARSED) {
+      return new Timestamp(millis);
+    }
     return Timestamp.from(parseZoned(text, zoneId).toInstant());
   }
 
@@ -71,9 +78,20 @@ public class StringToTimestampParser {
    * @return the millis since epoch that {@code text} represents
    */
   public long parse(final String text, final ZoneId zoneId) {
+    final long millis = parseFixedWidth(text, zoneId);
+    if (millis != FixedWidthTimestampParser.NOT_PARSED) {
+      return millis;
+    }
     return parseZoned(text, zoneId).toInstant().toEpochMilli();
   }
 
+  private long parseFixedWidth(final String text, final ZoneId zoneId) {
+    // Common formats are parsed without the formatter, which is comparatively slow:
+    return fixedWidthParser.isPresent()
+        ? fixedWidthParser.get().parse(text, zoneId)
+        : FixedWidthTimestampParser.NOT_PARSED;
+  }
+
   @VisibleForTesting
   ZonedDateTime parseZoned(final String text, final ZoneId zoneId) {
     final TemporalAccessor parsed = formatter.parse(text);
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.logging.processing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import io.confluent.ksql.logging.processing.ProcessingLogMetrics.DropReason;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncProcessingLogWriterTest {
+
+  private final List<String> written = new CopyOnWriteArrayList<>();
+  private final CountDownLatch writing = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ProcessingLogMetrics metrics;
+  private AsyncProcessingLogWriter writer;
+
+  @Before
+  public void setUp() {
+    metrics = new ProcessingLogMetrics();
+    writer = new AsyncProcessingLogWriter(1, metrics);
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    writer.close();
+  }
+
+  @Test
+  public void shouldCountMessagesDroppedWhenQueueIsFull() throws Exception {
+    // Given:
+    givenWriterIsBusy();
+    writer.write(() -> written.add("queued"));
+
+    // When:
+    writer.write(() -> written.add("dropped"));
+
+    // Then:
+    assertThat(metrics.dropped(DropReason.QUEUE_FULL), is(1L));
+    release.countDown();
+    writer.close();
+    assertThat(written, contains("busy", "queued"));
+  }
+
+  @Test
+  public void shouldWriteQueuedMessagesOnClose() throws Exception {
+    // Given:
+    givenWriterIsBusy();
+    writer.write(() -> written.add("queued"));
+    release.countDown();
+
+    // When:
+    writer.close();
+
+    // Then:
+    assertThat(written, contains("busy", "queued"));
+    assertThat(metrics.dropped(DropReason.QUEUE_FULL), is(0L));
+  }
+
+  @Test
+  public void shouldWriteOnCallingThreadAfterClose() {
+    // Given:
+    writer.close();
+
+    // When:
+    writer.write(() -> written.add(Thread.currentThread().getName()));
+
+    // Then:
+    assertThat(written, contains(Thread.currentThread().getName()));
+  }
+
+  private void givenWriterIsBusy() throws InterruptedException {
+    writer.write(() -> {
+      written.add("busy");
+      writing.countDown();
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertThat(writing.await(30, TimeUnit.SECONDS), is(true));
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.logging.processing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.confluent.ksql.logging.processing.ProcessingLogMetrics.DropReason;
+import io.confluent.ksql.logging.processing.ProcessingLogger.ErrorMessage;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProcessingLogThrottleTest {
+
+  @Mock
+  private ProcessingLogger logger;
+  @Mock
+  private ErrorMessage errorMsg;
+  @Mock
+  private DoubleSupplier random;
+  @Mock
+  private Function<Double, RateLimiter> rateLimiterFactory;
+  @Mock
+  private RateLimiter rateLimiter;
+
+  private ProcessingLogMetrics metrics;
+
+  @Before
+  public void setup() {
+    metrics = new ProcessingLogMetrics();
+  }
+
+  @Test
+  public void shouldLogAllMessagesByDefault() {
+    // Given:
+    final ProcessingLogger throttled = throttle(1.0, 0);
+
+    // When:
+    throttled.error(errorMsg);
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(logger, times(2)).error(errorMsg);
+    assertThat(metrics.dropped(DropReason.SAMPLED), is(0L));
+    assertThat(metrics.dropped(DropReason.RATE_LIMITED), is(0L));
+  }
+
+  @Test
+  public void shouldLogSampledMessage() {
+    // Given:
+    when(random.getAsDouble()).thenReturn(0.09);
+    final ProcessingLogger throttled = throttle(0.1, 0);
+
+    // When:
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(logger).error(errorMsg);
+    assertThat(metrics.dropped(DropReason.SAMPLED), is(0L));
+  }
+
+  @Test
+  public void shouldDropMessageNotSampled() {
+    // Given:
+    when(random.getAsDouble()).thenReturn(0.1);
+    final ProcessingLogger throttled = throttle(0.1, 0);
+
+    // When:
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(logger, never()).error(errorMsg);
+    assertThat(metrics.dropped(DropReason.SAMPLED), is(1L));
+  }
+
+  @Test
+  public void shouldLogMessageWithinRateLimit() {
+    // Given:
+    givenRateLimiter(true);
+    final ProcessingLogger throttled = throttle(1.0, 5);
+
+    // When:
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(logger).error(errorMsg);
+    verify(rateLimiterFactory).apply(5.0);
+    assertThat(metrics.dropped(DropReason.RATE_LIMITED), is(0L));
+  }
+
+  @Test
+  public void shouldDropMessageOverRateLimit() {
+    // Given:
+    givenRateLimiter(false);
+    final ProcessingLogger throttled = throttle(1.0, 5);
+
+    // When:
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(logger, never()).error(errorMsg);
+    assertThat(metrics.dropped(DropReason.RATE_LIMITED), is(1L));
+  }
+
+  @Test
+  public void shouldShareRateLimiterBetweenLoggersWithSameName() {
+    // Given:
+    givenRateLimiter(true);
+    final ProcessingLogThrottle throttle = newThrottle(1.0, 5);
+
+    // When:
+    throttle.throttle("query.step", logger).error(errorMsg);
+    throttle.throttle("query.step", logger).error(errorMsg);
+
+    // Then:
+    verify(rateLimiterFactory).apply(5.0);
+    verify(rateLimiter, times(2)).tryAcquire();
+  }
+
+  @Test
+  public void shouldRateLimitLoggersWithDifferentNamesSeparately() {
+    // Given:
+    givenRateLimiter(true);
+    final ProcessingLogThrottle throttle = newThrottle(1.0, 5);
+
+    // When:
+    throttle.throttle("query.step1", logger).error(errorMsg);
+    throttle.throttle("query.step2", logger).error(errorMsg);
+
+    // Then:
+    verify(rateLimiterFactory, times(2)).apply(5.0);
+  }
+
+  @Test
+  public void shouldNotRateLimitMessagesDroppedBySampling() {
+    // Given:
+    when(random.getAsDouble()).thenReturn(0.5);
+    final ProcessingLogger throttled = throttle(0.1, 5);
+
+    // When:
+    throttled.error(errorMsg);
+
+    // Then:
+    verify(rateLimiterFactory, never()).apply(5.0);
+    assertThat(metrics.dropped(DropReason.SAMPLED), is(1L));
+    assertThat(metrics.dropped(DropReason.RATE_LIMITED), is(0L));
+  }
+
+  private void givenRateLimiter(final boolean acquired) {
+    when(rateLimiterFactory.apply(5.0)).thenReturn(rateLimiter);
+    when(rateLimiter.tryAcquire()).thenReturn(acquired);
+  }
+
+  private ProcessingLogger throttle(final double sampleRatio, final double rateLimit) {
+    return newThrottle(sampleRatio, rateLimit).throttle("query.step", logger);
+  }
+
+  private ProcessingLogThrottle newThrottle(final double sampleRatio, final double rateLimit) {
+    return new ProcessingLogThrottle(sampleRatio, rateLimit, metrics, random, rateLimiterFactory);
+  }
+}
@@ -19,11 +19,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.confluent.common.logging.StructuredLogger;
 import io.confluent.ksql.logging.processing.ProcessingLogger.ErrorMessage;
+import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
@@ -45,6 +47,8 @@ public class ProcessingLoggerImplTest {
   private SchemaAndValue msg;
   @Mock
   private ErrorMessage errorMsg;
+  @Mock
+  private AsyncProcessingLogWriter asyncWriter;
   @SuppressWarnings("unchecked")
   private final ArgumentCaptor<Supplier<SchemaAndValue>> msgCaptor
       = ArgumentCaptor.forClass(Supplier.class);
@@ -95,6 +99,54 @@ public class ProcessingLoggerImplTest {
     );
   }
 
+  @Test
+  public void shouldBuildMessageBeforeWritingAsynchronously() {
+    // Given:
+    processingLogger = new ProcessingLoggerImpl(
+        processingLogConfig, innerLogger, Optional.of(asyncWriter));
+
+    // When:
+    processingLogger.error(errorMsg);
+
+    // Then:
+    verify(errorMsg).get(processingLogConfig);
+    verify(innerLogger, never()).error(any());
+  }
+
+  @Test
+  public void shouldLogErrorWhenAsyncWriteRuns() {
+    // Given:
+    processingLogger = new ProcessingLoggerImpl(
+        processingLogConfig, innerLogger, Optional.of(asyncWriter));
+    processingLogger.error(errorMsg);
+
+    final ArgumentCaptor<Runnable> writeCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(asyncWriter).write(writeCaptor.capture());
+
+    // When:
+    writeCaptor.getValue().run();
+
+    // Then:
+    assertThat(verifyErrorMessage(), is(msg));
+  }
+
+  @Test
+  public void shouldThrowOnBadSchemaBeforeWritingAsynchronously() {
+    // Given:
+    when(msg.schema()).thenReturn(Schema.OPTIONAL_STRING_SCHEMA);
+    processingLogger = new ProcessingLoggerImpl(
+        processingLogConfig, innerLogger, Optional.of(asyncWriter));
+
+    // When:
+    assertThrows(
+        RuntimeException.class,
+        () -> processingLogger.error(errorMsg)
+    );
+
+    // Then:
+    verify(asyncWriter, never()).write(any());
+  }
+
   private SchemaAndValue verifyErrorMessage() {
     verify(innerLogger).error(msgCaptor.capture());
     return msgCaptor.getValue().get();
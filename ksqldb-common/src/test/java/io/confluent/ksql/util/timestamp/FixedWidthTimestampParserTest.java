@@ -0,0 +1,161 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.util.timestamp;
+
+import static io.confluent.ksql.util.timestamp.FixedWidthTimestampParser.NOT_PARSED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.Test;
+
+public class FixedWidthTimestampParserTest {
+
+  private static final ZoneId UTC = ZoneId.of("UTC");
+  private static final ZoneId GMT_3 = ZoneId.of("GMT+3");
+
+  @Test
+  public void shouldSupportCommonFormats() {
+    assertThat(parser("yyyy-MM-dd").isPresent(), is(true));
+    assertThat(parser("yyyy-MM-dd HH:mm:ss.SSS").isPresent(), is(true));
+    assertThat(parser("yyyy-MM-dd'T'HH:mm:ss").isPresent(), is(true));
+    assertThat(parser("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'").isPresent(), is(true));
+    assertThat(parser("dd/MM/yyyy HH:mm").isPresent(), is(true));
+    assertThat(parser("yyyyMMddHHmmss").isPresent(), is(true));
+  }
+
+  @Test
+  public void shouldNotSupportOtherFormats() {
+    assertThat(parser("yyyy-MM-dd HH:mm:ssX").isPresent(), is(false));
+    assertThat(parser("yyyy-MMM-dd").isPresent(), is(false));
+    assertThat(parser("yy-MM-dd").isPresent(), is(false));
+    assertThat(parser("yyyy-MM").isPresent(), is(false));
+    assertThat(parser("yyyy-MM-dd mm:ss").isPresent(), is(false));
+    assertThat(parser("yyyy-MM-dd[ HH:mm:ss]").isPresent(), is(false));
+    assertThat(parser("yyyy-MM-dd 'at' HH 'o''clock'").isPresent(), is(false));
+    assertThat(parser("yyyyMMddHHmmssSSS").isPresent(), is(false));
+  }
+
+  @Test
+  public void shouldParseDateTime() {
+    // When:
+    final long millis = parse("yyyy-MM-dd'T'HH:mm:ss.SSS", "2012-12-31T23:59:58.660", UTC);
+
+    // Then:
+    assertThat(millis, is(millis(LocalDateTime.of(2012, 12, 31, 23, 59, 58, 660_000_000), UTC)));
+  }
+
+  @Test
+  public void shouldParseDateOnly() {
+    // When:
+    final long millis = parse("dd/MM/yyyy", "05/11/1605", UTC);
+
+    // Then:
+    assertThat(millis, is(millis(LocalDateTime.of(1605, 11, 5, 0, 0), UTC)));
+  }
+
+  @Test
+  public void shouldParseLeapDay() {
+    // When:
+    final long millis = parse("yyyy-MM-dd HH", "2020-02-29 10", UTC);
+
+    // Then:
+    assertThat(millis, is(millis(LocalDateTime.of(2020, 2, 29, 10, 0), UTC)));
+  }
+
+  @Test
+  public void shouldTruncateFractionToMillis() {
+    // When:
+    final long millis = parse("yyyy-MM-dd HH:mm:ss.SSSSSS", "2021-06-01 12:30:15.123999", UTC);
+
+    // Then:
+    assertThat(millis, is(millis(LocalDateTime.of(2021, 6, 1, 12, 30, 15, 123_000_000), UTC)));
+  }
+
+  @Test
+  public void shouldApplyFixedOffsetZone() {
+    // When:
+    final long millis = parse("yyyy-MM-dd HH:mm", "2021-06-01 12:30", GMT_3);
+
+    // Then:
+    assertThat(millis, is(millis(LocalDateTime.of(2021, 6, 1, 12, 30), GMT_3)));
+  }
+
+  @Test
+  public void shouldNotParseInZoneWithTransitions() {
+    assertThat(
+        parse("yyyy-MM-dd HH:mm", "2021-06-01 12:30", ZoneId.of("America/Los_Angeles")),
+        is(NOT_PARSED)
+    );
+  }
+
+  @Test
+  public void shouldNotParseTextThatDoesNotMatch() {
+    final String pattern = "yyyy-MM-dd'T'HH:mm:ss";
+    assertThat(parse(pattern, "2021-06-01T12:30", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-06-01 12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-06-01t12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-O6-01T12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, null, UTC), is(NOT_PARSED));
+  }
+
+  @Test
+  public void shouldNotParseInvalidValues() {
+    final String pattern = "yyyy-MM-dd HH:mm:ss";
+    assertThat(parse(pattern, "0000-06-01 12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-13-01 12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-04-31 12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-02-29 12:30:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-06-01 24:00:00", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-06-01 12:60:15", UTC), is(NOT_PARSED));
+    assertThat(parse(pattern, "2021-06-01 12:30:60", UTC), is(NOT_PARSED));
+  }
+
+  @Test
+  public void shouldParseSameAsFormatter() {
+    // Given:
+    final String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+    final StringToTimestampParser formatterParser = new StringToTimestampParser(pattern);
+    final String[] timestamps = {
+        "1970-01-01 00:00:00.000", "1969-12-31 23:59:59.999", "0001-01-01 00:00:00.001",
+        "9999-12-31 23:59:59.999", "2000-02-29 12:00:00.500", "1900-03-01 06:07:08.009"
+    };
+
+    for (final String timestamp : timestamps) {
+      // When:
+      final long millis = parse(pattern, timestamp, GMT_3);
+
+      // Then:
+      assertThat(timestamp, millis, is(formatterParser.parseZoned(timestamp, GMT_3)
+          .toInstant()
+          .toEpochMilli()));
+    }
+  }
+
+  private static Optional<FixedWidthTimestampParser> parser(final String pattern) {
+    return FixedWidthTimestampParser.forPattern(pattern);
+  }
+
+  private static long parse(final String pattern, final String text, final ZoneId zoneId) {
+    return parser(pattern).get().parse(text, zoneId);
+  }
+
+  private static long millis(final LocalDateTime dateTime, final ZoneId zoneId) {
+    return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import io.confluent.ksql.analyzer.ImmutableAnalysis;
+import io.confluent.ksql.parser.KsqlParser.PreparedStatement;
+import io.confluent.ksql.parser.tree.Query;
+import java.util.Optional;
+
+/**
+ * A query prepared with values bound to its parameters.
+ */
+public final class BoundQuery {
+
+  private final PreparedStatement<Query> statement;
+  private final Optional<ImmutableAnalysis> analysis;
+
+  BoundQuery(
+      final PreparedStatement<Query> statement,
+      final Optional<ImmutableAnalysis> analysis
+  ) {
+    this.statement = requireNonNull(statement, "statement");
+    this.analysis = requireNonNull(analysis, "analysis");
+  }
+
+  /**
+   * @return the prepared query. Its text is the statement text with the bound values in place of
+   *         the parameter placeholders.
+   */
+  public PreparedStatement<Query> getStatement() {
+    return statement;
+  }
+
+  /**
+   * @return the analysis of the query, as returned by
+   *         {@link KsqlEngine#analyzeQueryWithNoOutputTopic}, if it is a pull query.
+   */
+  public Optional<ImmutableAnalysis> getAnalysis() {
+    return analysis;
+  }
+}
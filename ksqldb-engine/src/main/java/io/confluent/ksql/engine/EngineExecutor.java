@@ -113,6 +113,7 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
@@ -260,7 +261,8 @@ final class EngineExecutor {
           logicalPlan,
           analysis,
           queryPlannerOptions,
-          shouldCancelRequests
+          shouldCancelRequests,
+          routing.getTableScanExecutor()
       );
       final PullPhysicalPlan physicalPlan = plan;
 
@@ -776,7 +778,8 @@ final class EngineExecutor {
       final LogicalPlanNode logicalPlan,
       final ImmutableAnalysis analysis,
       final QueryPlannerOptions queryPlannerOptions,
-      final CompletableFuture<Void> shouldCancelRequests
+      final CompletableFuture<Void> shouldCancelRequests,
+      final ExecutorService tableScanExecutor
   ) {
 
     final PullPhysicalPlanBuilder builder = new PullPhysicalPlanBuilder(
@@ -784,7 +787,8 @@ final class EngineExecutor {
         PullQueryExecutionUtil.findMaterializingQuery(engineContext, analysis),
         analysis,
         queryPlannerOptions,
-        shouldCancelRequests
+        shouldCancelRequests,
+        tableScanExecutor
     );
     return builder.buildPullPhysicalPlan(logicalPlan);
   }
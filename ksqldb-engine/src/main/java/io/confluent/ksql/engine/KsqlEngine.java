@@ -28,6 +28,7 @@ import io.confluent.ksql.analyzer.Analysis;
 import io.confluent.ksql.analyzer.ImmutableAnalysis;
 import io.confluent.ksql.analyzer.QueryAnalyzer;
 import io.confluent.ksql.analyzer.RewrittenAnalysis;
+import io.confluent.ksql.engine.PreparedPullQueryCache.PreparedPullQuery;
 import io.confluent.ksql.execution.streams.RoutingOptions;
 import io.confluent.ksql.function.FunctionRegistry;
 import io.confluent.ksql.internal.KsqlEngineMetrics;
@@ -42,6 +43,9 @@ import io.confluent.ksql.metrics.StreamsErrorCollector;
 import io.confluent.ksql.name.SourceName;
 import io.confluent.ksql.parser.KsqlParser.ParsedStatement;
 import io.confluent.ksql.parser.KsqlParser.PreparedStatement;
+import io.confluent.ksql.parser.ParameterBinder;
+import io.confluent.ksql.parser.ParameterBinder.BoundStatement;
+import io.confluent.ksql.parser.VariableSubstitutor;
 import io.confluent.ksql.parser.tree.ExecutableDdlStatement;
 import io.confluent.ksql.parser.tree.Query;
 import io.confluent.ksql.parser.tree.QueryContainer;
@@ -108,6 +112,7 @@ public class KsqlEngine implements KsqlExecutionContext, Closeable {
   private final QueryCleanupService cleanupService;
   private final OrphanedTransientQueryCleaner orphanedTransientQueryCleaner;
   private final KsqlConfig ksqlConfig;
+  private final PreparedPullQueryCache preparedPullQueries;
 
   public KsqlEngine(
       final ServiceContext serviceContext,
@@ -178,6 +183,8 @@ public class KsqlEngine implements KsqlExecutionContext, Closeable {
         TimeUnit.MILLISECONDS
     );
     this.ksqlConfig = Objects.requireNonNull(ksqlConfig, "ksqlConfig");
+    this.preparedPullQueries = new PreparedPullQueryCache(
+        ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_PREPARED_STATEMENT_CACHE_SIZE));
 
     cleanupService.startAsync();
   }
@@ -262,6 +269,71 @@ public class KsqlEngine implements KsqlExecutionContext, Closeable {
     return primaryContext.prepare(stmt, variablesMap);
   }
 
+  /**
+   * Prepares a query, binding the supplied values to its parameters.
+   *
+   * <p>A parameter is a {@code ${name}} placeholder where the grammar expects a literal, see
+   * {@link ParameterBinder}. Session variables are substituted into the query before its
+   * parameters are bound, and a parameter takes precedence over a variable of the same name.
+   *
+   * <p>Pull queries are cached, together with their analysis, by statement text and config
+   * overrides. Preparing the same statement with other values then skips parsing and analysis.
+   *
+   * @param sql the text of the query, with parameter placeholders.
+   * @param parameters the values of the parameters, by name.
+   * @param sessionVariables the values of the session variables, by name.
+   * @param configOverrides the config overrides of the query.
+   * @return the query bound to the values.
+   */
+  public BoundQuery prepareWithParameters(
+      final String sql,
+      final Map<String, ?> parameters,
+      final Map<String, String> sessionVariables,
+      final Map<String, Object> configOverrides
+  ) {
+    final String substituted = sessionVariables.isEmpty()
+        ? sql
+        : VariableSubstitutor.substitute(parseSingle(sql), sessionVariables, parameters.keySet());
+
+    final Optional<PreparedPullQuery> cached =
+        preparedPullQueries.get(substituted, configOverrides, getMetaStore());
+    if (cached.isPresent()) {
+      return cached.get().bind(parameters);
+    }
+
+    final ParameterBinder binder = ParameterBinder.of(parseSingle(substituted));
+    final BoundStatement bound = binder.bind(parameters);
+    final String text = bound.getStatementText();
+    final Statement statement = prepare(parseSingle(text), Collections.emptyMap())
+        .getStatement();
+    if (!(statement instanceof Query)) {
+      throw new KsqlStatementException("Only queries can have parameters.", text);
+    }
+
+    final Query query = (Query) statement;
+    if (!query.isPullQuery()) {
+      return new BoundQuery(PreparedStatement.of(text, query), Optional.empty());
+    }
+
+    final ImmutableAnalysis analysis =
+        analyzeQueryWithNoOutputTopic(query, text, configOverrides);
+    PreparedPullQuery.of(binder, bound, query, analysis)
+        .ifPresent(prepared -> preparedPullQueries.put(substituted, configOverrides, prepared));
+
+    return new BoundQuery(PreparedStatement.of(text, query), Optional.of(analysis));
+  }
+
+  private ParsedStatement parseSingle(final String sql) {
+    final List<ParsedStatement> statements = parse(sql);
+    if (statements.size() != 1) {
+      throw new KsqlStatementException(
+          String.format(
+              "Expected exactly one KSQL statement; found %d instead", statements.size()),
+          sql);
+    }
+    return statements.get(0);
+  }
+
   @Override
   public KsqlPlan plan(
       final ServiceContext serviceContext,
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.analyzer.Analysis.AliasedDataSource;
+import io.confluent.ksql.analyzer.ImmutableAnalysis;
+import io.confluent.ksql.engine.rewrite.ParameterRebinder;
+import io.confluent.ksql.execution.expression.tree.Literal;
+import io.confluent.ksql.metastore.MetaStore;
+import io.confluent.ksql.parser.KsqlParser.PreparedStatement;
+import io.confluent.ksql.parser.NodeLocation;
+import io.confluent.ksql.parser.ParameterBinder;
+import io.confluent.ksql.parser.ParameterBinder.BoundStatement;
+import io.confluent.ksql.parser.tree.Query;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cache of pull queries with parameters, prepared and analyzed with the values of their first
+ * execution, so that later executions only need to rebind the values.
+ *
+ * <p>Plans are not cached: the logical and physical plans of a query are built on every
+ * execution, as its lookup constraints depend on the bound values.
+ *
+ * <p>Entries are keyed by the statement text, with the parameter placeholders and with any
+ * session variables substituted, and the config overrides the statement was prepared with.
+ * An entry is dropped when any source it reads has been dropped or replaced in the metastore
+ * since it was analyzed.
+ */
+final class PreparedPullQueryCache {
+
+  private final Cache<CacheKey, PreparedPullQuery> cache;
+
+  PreparedPullQueryCache(final long maxEntries) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxEntries)
+        .build();
+  }
+
+  Optional<PreparedPullQuery> get(
+      final String sql,
+      final Map<String, Object> configOverrides,
+      final MetaStore metaStore
+  ) {
+    final CacheKey key = new CacheKey(sql, configOverrides);
+    final PreparedPullQuery query = cache.getIfPresent(key);
+    if (query == null) {
+      return Optional.empty();
+    }
+
+    if (!query.isCurrent(metaStore)) {
+      cache.invalidate(key);
+      return Optional.empty();
+    }
+
+    return Optional.of(query);
+  }
+
+  void put(
+      final String sql,
+      final Map<String, Object> configOverrides,
+      final PreparedPullQuery query
+  ) {
+    cache.put(new CacheKey(sql, configOverrides), query);
+  }
+
+  long size() {
+    return cache.size();
+  }
+
+  static final class PreparedPullQuery {
+
+    private final ParameterBinder binder;
+    private final Query query;
+    private final ImmutableAnalysis analysis;
+    private final ImmutableList<NodeLocation> locations;
+
+    /**
+     * @param binder the binder of the statement.
+     * @param bound the statement as bound to the values it was prepared with.
+     * @param query the query prepared from the bound statement.
+     * @param analysis the analysis of the query.
+     * @return the prepared query, or empty if the literals of the bound values can not all be
+     *         rebound, e.g. because a parameter is not in the select expressions or
+     *         {@code WHERE} clause.
+     */
+    static Optional<PreparedPullQuery> of(
+        final ParameterBinder binder,
+        final BoundStatement bound,
+        final Query query,
+        final ImmutableAnalysis analysis
+    ) {
+      final List<NodeLocation> locations = bound.getLiterals().stream()
+          .map(Literal::getLocation)
+          .map(Optional::get)
+          .collect(ImmutableList.toImmutableList());
+
+      final Set<NodeLocation> rebindable = ParameterRebinder.rebindableLocations(analysis);
+      if (!rebindable.containsAll(locations)) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new PreparedPullQuery(binder, query, analysis, locations));
+    }
+
+    private PreparedPullQuery(
+        final ParameterBinder binder,
+        final Query query,
+        final ImmutableAnalysis analysis,
+        final ImmutableList<NodeLocation> locations
+    ) {
+      this.binder = requireNonNull(binder, "binder");
+      this.query = requireNonNull(query, "query");
+      this.analysis = requireNonNull(analysis, "analysis");
+      this.locations = requireNonNull(locations, "locations");
+    }
+
+    BoundQuery bind(final Map<String, ?> parameters) {
+      final BoundStatement bound = binder.bind(parameters);
+      final ParameterRebinder rebinder = new ParameterRebinder(locations, bound.getLiterals());
+
+      return new BoundQuery(
+          PreparedStatement.of(bound.getStatementText(), rebinder.rebind(query)),
+          Optional.of(rebinder.rebind(analysis))
+      );
+    }
+
+    private boolean isCurrent(final MetaStore metaStore) {
+      for (final AliasedDataSource source : analysis.getAllDataSources()) {
+        if (metaStore.getSource(source.getDataSource().getName()) != source.getDataSource()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class CacheKey {
+
+    private final String sql;
+    private final Map<String, Object> configOverrides;
+
+    CacheKey(final String sql, final Map<String, Object> configOverrides) {
+      this.sql = requireNonNull(sql, "sql");
+      this.configOverrides = new HashMap<>(configOverrides);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final CacheKey that = (CacheKey) o;
+      return sql.equals(that.sql)
+          && configOverrides.equals(that.configOverrides);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sql, configOverrides);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.engine.rewrite;
+
+import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.analyzer.ImmutableAnalysis;
+import io.confluent.ksql.analyzer.RewrittenAnalysis;
+import io.confluent.ksql.engine.rewrite.ExpressionTreeRewriter.Context;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.expression.tree.Literal;
+import io.confluent.ksql.parser.NodeLocation;
+import io.confluent.ksql.parser.tree.Query;
+import io.confluent.ksql.parser.tree.SingleColumn;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Rebinds the parameters of a query that was prepared and analyzed with other parameter values.
+ *
+ * <p>The literals of the values the query was prepared with are identified by their location in
+ * the statement text they were parsed from, and replaced by the literals of the new values.
+ */
+public final class ParameterRebinder {
+
+  private final Map<NodeLocation, Literal> literals;
+
+  /**
+   * @param locations the locations of the literals of the values the query was prepared with.
+   * @param literals the literals of the new values, in the same order as {@code locations}.
+   */
+  public ParameterRebinder(
+      final List<NodeLocation> locations,
+      final List<? extends Literal> literals
+  ) {
+    if (locations.size() != literals.size()) {
+      throw new IllegalArgumentException("Expected " + locations.size() + " literals, got "
+          + literals.size());
+    }
+
+    final ImmutableMap.Builder<NodeLocation, Literal> builder = ImmutableMap.builder();
+    for (int i = 0; i < locations.size(); i++) {
+      builder.put(locations.get(i), literals.get(i));
+    }
+    this.literals = builder.build();
+  }
+
+  public Query rebind(final Query query) {
+    return (Query) new StatementRewriter<Void>(
+        (expression, context) -> ExpressionTreeRewriter.rewriteWith(this::process, expression),
+        (node, context) -> Optional.empty()
+    ).rewrite(query, null);
+  }
+
+  public ImmutableAnalysis rebind(final ImmutableAnalysis analysis) {
+    return new RewrittenAnalysis(analysis, this::process);
+  }
+
+  /**
+   * Get the locations of the literals a rebinder can rebind in an analysis, i.e. those in its
+   * select expressions and its {@code WHERE} clause.
+   *
+   * @param analysis the analysis.
+   * @return the locations of the literals.
+   */
+  public static Set<NodeLocation> rebindableLocations(final ImmutableAnalysis analysis) {
+    final Set<NodeLocation> locations = new HashSet<>();
+    final BiFunction<Expression, Context<Void>, Optional<Expression>> collector =
+        (expression, context) -> {
+          if (expression instanceof Literal) {
+            expression.getLocation().ifPresent(locations::add);
+          }
+          return Optional.empty();
+        };
+
+    analysis.getSelectItems().stream()
+        .filter(SingleColumn.class::isInstance)
+        .map(SingleColumn.class::cast)
+        .forEach(column -> ExpressionTreeRewriter.rewriteWith(collector, column.getExpression()));
+    analysis.getWhereExpression()
+        .ifPresent(where -> ExpressionTreeRewriter.rewriteWith(collector, where));
+
+    return locations;
+  }
+
+  private Optional<Expression> process(final Expression expression, final Context<Void> context) {
+    if (!(expression instanceof Literal)) {
+      return Optional.empty();
+    }
+    return expression.getLocation().map(literals::get);
+  }
+}
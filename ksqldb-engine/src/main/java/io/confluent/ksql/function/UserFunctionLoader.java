@@ -17,6 +17,7 @@ package io.confluent.ksql.function;
 
 import static java.util.Optional.empty;
 
+import io.confluent.ksql.execution.codegen.CompiledExpressionCache;
 import io.confluent.ksql.function.udaf.UdafDescription;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udtf.UdtfDescription;
@@ -79,6 +80,9 @@ public class UserFunctionLoader {
   }
 
   public void load() {
+    // drop any expressions compiled against previously loaded functions
+    CompiledExpressionCache.getInstance().invalidateAll();
+
     // load functions packaged as part of ksql first
     loadFunctions(parentClassLoader, empty());
     if (loadCustomerUdfs) {
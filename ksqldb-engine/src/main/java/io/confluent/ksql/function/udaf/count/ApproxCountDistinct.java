@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import io.confluent.ksql.function.udaf.Udaf;
+import io.confluent.ksql.function.udaf.UdafDescription;
+import io.confluent.ksql.function.udaf.UdafFactory;
+import io.confluent.ksql.util.KsqlConstants;
+import java.nio.ByteBuffer;
+
+@UdafDescription(
+    name = "APPROX_COUNT_DISTINCT",
+    description = ApproxCountDistinct.DESCRIPTION,
+    author = KsqlConstants.CONFLUENT_AUTHOR
+)
+public final class ApproxCountDistinct {
+
+  static final String DESCRIPTION = "This function returns the approximate number of distinct "
+      + "items found in a group, using a HyperLogLog sketch. The optional precision, between "
+      + HllSketch.MIN_PRECISION + " and " + HllSketch.MAX_PRECISION + ", trades memory for "
+      + "accuracy: the sketch uses up to 2^precision bytes and has a standard error of about "
+      + "1.04 / sqrt(2^precision). The default precision is " + HllSketch.DEFAULT_PRECISION
+      + ".";
+
+  private ApproxCountDistinct() {
+  }
+
+  @UdafFactory(description = "Approximate count distinct")
+  public static <T> Udaf<T, ByteBuffer, Long> approxCountDistinct() {
+    return approxCountDistinct(HllSketch.DEFAULT_PRECISION);
+  }
+
+  @UdafFactory(description = "Approximate count distinct with the supplied precision")
+  public static <T> Udaf<T, ByteBuffer, Long> approxCountDistinct(final int precision) {
+    HllSketch.validatePrecision(precision);
+
+    return new Udaf<T, ByteBuffer, Long>() {
+
+      @Override
+      public ByteBuffer initialize() {
+        return HllSketch.empty(precision);
+      }
+
+      @Override
+      public ByteBuffer aggregate(final T current, final ByteBuffer aggregate) {
+        if (current == null) {
+          return aggregate;
+        }
+        return HllSketch.add(aggregate, current);
+      }
+
+      @Override
+      public ByteBuffer merge(final ByteBuffer aggOne, final ByteBuffer aggTwo) {
+        return HllSketch.merge(aggOne, aggTwo);
+      }
+
+      @Override
+      public Long map(final ByteBuffer agg) {
+        return HllSketch.cardinality(agg);
+      }
+    };
+  }
+}
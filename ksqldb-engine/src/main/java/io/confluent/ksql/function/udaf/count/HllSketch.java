@@ -0,0 +1,338 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.confluent.ksql.function.KsqlFunctionException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A HyperLogLog sketch serialized as {@code BYTES}.
+ *
+ * <p>A sketch starts out sparse, holding only the registers that have been set, and switches to
+ * a dense array of one byte per register once the sparse form would stop being the smaller of
+ * the two. Both forms are updated in place wherever the size of the buffer does not change, so
+ * adding a value that is already accounted for never allocates.
+ *
+ * <p>Layout: one byte of encoding ({@link #SPARSE} or {@link #DENSE}), one byte of precision,
+ * then either sorted {@code int} entries of {@code (register << 6) | rank} for the sparse
+ * encoding, or {@code 2^precision} register bytes for the dense encoding.
+ *
+ * <p>Buffers are always exactly sized and backed by an array starting at offset zero, as
+ * the serializers write out the whole backing array of a {@code BYTES} value.
+ */
+public final class HllSketch {
+
+  public static final int MIN_PRECISION = 4;
+  public static final int MAX_PRECISION = 18;
+  public static final int DEFAULT_PRECISION = 14;
+
+  static final byte SPARSE = 1;
+  static final byte DENSE = 2;
+
+  private static final int HEADER_SIZE = 2;
+  private static final int ENTRY_SIZE = Integer.BYTES;
+  private static final int RANK_BITS = 6;
+  private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private HllSketch() {
+  }
+
+  /**
+   * @param precision the number of bits used to pick a register.
+   * @return a new, empty sketch.
+   */
+  public static ByteBuffer empty(final int precision) {
+    validatePrecision(precision);
+    final ByteBuffer sketch = ByteBuffer.allocate(HEADER_SIZE);
+    sketch.put(0, SPARSE);
+    sketch.put(1, (byte) precision);
+    return sketch;
+  }
+
+  /**
+   * Add a value to the sketch.
+   *
+   * @param sketch the sketch to add to, which may be updated in place.
+   * @param value the non-null value to add.
+   * @return the updated sketch, which is {@code sketch} itself unless it needed to grow.
+   */
+  public static ByteBuffer add(final ByteBuffer sketch, final Object value) {
+    final long hash = hash(value);
+    final int precision = precision(sketch);
+    final int register = (int) (hash >>> (Long.SIZE - precision));
+    final int rank = Math.min(
+        Long.numberOfLeadingZeros(hash << precision) + 1,
+        Long.SIZE - precision + 1
+    );
+    return update(writable(sketch), register, rank);
+  }
+
+  /**
+   * Merge two sketches of the same precision.
+   *
+   * @param sketch the sketch to merge into, which may be updated in place.
+   * @param other the sketch to merge from, which is never modified.
+   * @return the merged sketch.
+   */
+  public static ByteBuffer merge(final ByteBuffer sketch, final ByteBuffer other) {
+    final int precision = precision(sketch);
+    if (precision(other) != precision) {
+      throw new KsqlFunctionException("Cannot merge HyperLogLog sketches of different "
+          + "precisions: " + precision + " and " + precision(other));
+    }
+
+    if (encoding(other) == DENSE) {
+      final ByteBuffer dense = toDense(writable(sketch));
+      final int registers = 1 << precision;
+      for (int i = 0; i < registers; i++) {
+        final byte rank = other.get(other.position() + HEADER_SIZE + i);
+        if (rank > dense.get(HEADER_SIZE + i)) {
+          dense.put(HEADER_SIZE + i, rank);
+        }
+      }
+      return dense;
+    }
+
+    ByteBuffer merged = writable(sketch);
+    final int entries = sparseEntries(other);
+    for (int i = 0; i < entries; i++) {
+      final int entry = other.getInt(other.position() + HEADER_SIZE + i * ENTRY_SIZE);
+      merged = update(merged, entry >>> RANK_BITS, entry & RANK_MASK);
+    }
+    return merged;
+  }
+
+  /**
+   * @param sketch the sketch.
+   * @return the estimated number of distinct values added to the sketch.
+   */
+  public static long cardinality(final ByteBuffer sketch) {
+    final int precision = precision(sketch);
+    final int registers = 1 << precision;
+    final int base = sketch.position() + HEADER_SIZE;
+
+    double sum = 0;
+    int zeros = 0;
+    if (encoding(sketch) == DENSE) {
+      for (int i = 0; i < registers; i++) {
+        final int rank = sketch.get(base + i);
+        if (rank == 0) {
+          zeros++;
+        }
+        sum += 1.0 / (1L << rank);
+      }
+    } else {
+      final int entries = sparseEntries(sketch);
+      for (int i = 0; i < entries; i++) {
+        sum += 1.0 / (1L << (sketch.getInt(base + i * ENTRY_SIZE) & RANK_MASK));
+      }
+      zeros = registers - entries;
+      sum += zeros;
+    }
+
+    final double estimate = alpha(registers) * registers * registers / sum;
+    if (estimate <= 2.5 * registers && zeros > 0) {
+      // small range correction, i.e. linear counting:
+      return Math.round(registers * Math.log((double) registers / zeros));
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Check the supplied bytes hold a well-formed sketch.
+   *
+   * @param sketch the bytes to check.
+   * @throws KsqlFunctionException if they do not.
+   */
+  public static void validate(final ByteBuffer sketch) {
+    if (sketch.remaining() < HEADER_SIZE) {
+      throw new KsqlFunctionException("Invalid HyperLogLog sketch: too short");
+    }
+
+    final int precision = precision(sketch);
+    validatePrecision(precision);
+
+    final int body = sketch.remaining() - HEADER_SIZE;
+    final byte encoding = encoding(sketch);
+    if (encoding == DENSE) {
+      if (body != 1 << precision) {
+        throw new KsqlFunctionException("Invalid HyperLogLog sketch: expected "
+            + (1 << precision) + " registers, got " + body);
+      }
+    } else if (encoding == SPARSE) {
+      if (body % ENTRY_SIZE != 0) {
+        throw new KsqlFunctionException("Invalid HyperLogLog sketch: truncated entry");
+      }
+      final int entries = sparseEntries(sketch);
+      for (int i = 0; i < entries; i++) {
+        final int entry = sketch.getInt(sketch.position() + HEADER_SIZE + i * ENTRY_SIZE);
+        if (entry < 0 || entry >>> RANK_BITS >= 1 << precision) {
+          throw new KsqlFunctionException("Invalid HyperLogLog sketch: register out of range");
+        }
+      }
+    } else {
+      throw new KsqlFunctionException("Invalid HyperLogLog sketch: unknown encoding "
+          + encoding);
+    }
+  }
+
+  static void validatePrecision(final int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new KsqlFunctionException("HyperLogLog precision must be between "
+          + MIN_PRECISION + " and " + MAX_PRECISION + ", got " + precision);
+    }
+  }
+
+  static int precision(final ByteBuffer sketch) {
+    return sketch.get(sketch.position() + 1);
+  }
+
+  static byte encoding(final ByteBuffer sketch) {
+    return sketch.get(sketch.position());
+  }
+
+  private static int sparseEntries(final ByteBuffer sketch) {
+    return (sketch.remaining() - HEADER_SIZE) / ENTRY_SIZE;
+  }
+
+  private static int maxSparseEntries(final int precision) {
+    // Past this point a sparse sketch is a quarter of the size of a dense one, and the
+    // cost of growing it by copying starts to outweigh the space it saves:
+    return Math.max(1, (1 << precision) / 16);
+  }
+
+  private static ByteBuffer update(final ByteBuffer sketch, final int register, final int rank) {
+    if (encoding(sketch) == DENSE) {
+      if (rank > sketch.get(HEADER_SIZE + register)) {
+        sketch.put(HEADER_SIZE + register, (byte) rank);
+      }
+      return sketch;
+    }
+
+    final int entries = sparseEntries(sketch);
+    final int pos = findSparse(sketch, entries, register);
+    if (pos >= 0) {
+      final int offset = HEADER_SIZE + pos * ENTRY_SIZE;
+      if (rank > (sketch.getInt(offset) & RANK_MASK)) {
+        sketch.putInt(offset, (register << RANK_BITS) | rank);
+      }
+      return sketch;
+    }
+
+    final int precision = precision(sketch);
+    if (entries >= maxSparseEntries(precision)) {
+      return update(toDense(sketch), register, rank);
+    }
+
+    final int insertAt = -(pos + 1);
+    final byte[] src = sketch.array();
+    final byte[] dest = new byte[src.length + ENTRY_SIZE];
+    final int split = HEADER_SIZE + insertAt * ENTRY_SIZE;
+    System.arraycopy(src, 0, dest, 0, split);
+    System.arraycopy(src, split, dest, split + ENTRY_SIZE, src.length - split);
+
+    final ByteBuffer grown = ByteBuffer.wrap(dest);
+    grown.putInt(split, (register << RANK_BITS) | rank);
+    return grown;
+  }
+
+  private static int findSparse(final ByteBuffer sketch, final int entries, final int register) {
+    int low = 0;
+    int high = entries - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int midRegister = sketch.getInt(HEADER_SIZE + mid * ENTRY_SIZE) >>> RANK_BITS;
+      if (midRegister < register) {
+        low = mid + 1;
+      } else if (midRegister > register) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private static ByteBuffer toDense(final ByteBuffer sketch) {
+    if (encoding(sketch) == DENSE) {
+      return sketch;
+    }
+
+    final int precision = precision(sketch);
+    final ByteBuffer dense = ByteBuffer.allocate(HEADER_SIZE + (1 << precision));
+    dense.put(0, DENSE);
+    dense.put(1, (byte) precision);
+
+    final int entries = sparseEntries(sketch);
+    for (int i = 0; i < entries; i++) {
+      final int entry = sketch.getInt(HEADER_SIZE + i * ENTRY_SIZE);
+      dense.put(HEADER_SIZE + (entry >>> RANK_BITS), (byte) (entry & RANK_MASK));
+    }
+    return dense;
+  }
+
+  /**
+   * Sketches are updated in place using absolute indexes from zero, which requires a writable
+   * buffer that exactly wraps its backing array. Anything else, e.g. a read-only or sliced
+   * buffer, is copied first.
+   */
+  private static ByteBuffer writable(final ByteBuffer sketch) {
+    if (sketch.hasArray()
+        && sketch.arrayOffset() == 0
+        && sketch.position() == 0
+        && sketch.limit() == sketch.array().length) {
+      return sketch;
+    }
+
+    final byte[] copy = new byte[sketch.remaining()];
+    sketch.duplicate().get(copy);
+    return ByteBuffer.wrap(copy);
+  }
+
+  private static double alpha(final int registers) {
+    switch (registers) {
+      case 16:
+        return 0.673;
+      case 32:
+        return 0.697;
+      case 64:
+        return 0.709;
+      default:
+        return 0.7213 / (1 + 1.079 / registers);
+    }
+  }
+
+  private static long hash(final Object value) {
+    if (value instanceof String) {
+      return HASH.hashString((String) value, StandardCharsets.UTF_8).asLong();
+    }
+    if (value instanceof Integer || value instanceof Long) {
+      return HASH.hashLong(((Number) value).longValue()).asLong();
+    }
+    if (value instanceof ByteBuffer) {
+      final ByteBuffer bytes = ((ByteBuffer) value).duplicate();
+      final byte[] copy = new byte[bytes.remaining()];
+      bytes.get(copy);
+      return HASH.hashBytes(copy).asLong();
+    }
+    return HASH.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import io.confluent.ksql.function.udaf.Udaf;
+import io.confluent.ksql.function.udaf.UdafDescription;
+import io.confluent.ksql.function.udaf.UdafFactory;
+import io.confluent.ksql.util.KsqlConstants;
+import java.nio.ByteBuffer;
+
+@UdafDescription(
+    name = "HLL_SKETCH",
+    description = "This function returns a HyperLogLog sketch of the distinct items found in a "
+        + "group, as BYTES. Sketches of the same precision can be combined with MERGE_HLL and "
+        + "estimated with HLL_CARDINALITY.",
+    author = KsqlConstants.CONFLUENT_AUTHOR
+)
+public final class HllSketchUdaf {
+
+  private HllSketchUdaf() {
+  }
+
+  @UdafFactory(description = "Build a HyperLogLog sketch")
+  public static <T> Udaf<T, ByteBuffer, ByteBuffer> sketch() {
+    return sketch(HllSketch.DEFAULT_PRECISION);
+  }
+
+  @UdafFactory(description = "Build a HyperLogLog sketch with the supplied precision")
+  public static <T> Udaf<T, ByteBuffer, ByteBuffer> sketch(final int precision) {
+    HllSketch.validatePrecision(precision);
+
+    return new Udaf<T, ByteBuffer, ByteBuffer>() {
+
+      @Override
+      public ByteBuffer initialize() {
+        return HllSketch.empty(precision);
+      }
+
+      @Override
+      public ByteBuffer aggregate(final T current, final ByteBuffer aggregate) {
+        if (current == null) {
+          return aggregate;
+        }
+        return HllSketch.add(aggregate, current);
+      }
+
+      @Override
+      public ByteBuffer merge(final ByteBuffer aggOne, final ByteBuffer aggTwo) {
+        return HllSketch.merge(aggOne, aggTwo);
+      }
+
+      @Override
+      public ByteBuffer map(final ByteBuffer agg) {
+        return agg;
+      }
+    };
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import io.confluent.ksql.function.udaf.Udaf;
+import io.confluent.ksql.function.udaf.UdafDescription;
+import io.confluent.ksql.function.udaf.UdafFactory;
+import io.confluent.ksql.util.KsqlConstants;
+import java.nio.ByteBuffer;
+
+@UdafDescription(
+    name = "MERGE_HLL",
+    description = "This function merges the HyperLogLog sketches found in a group, as built by "
+        + "HLL_SKETCH, into a single sketch. All sketches must have the same precision.",
+    author = KsqlConstants.CONFLUENT_AUTHOR
+)
+public final class MergeHll {
+
+  // The aggregate before any sketch has been seen, as its precision is not yet known:
+  private static final int NO_SKETCH = 0;
+
+  private MergeHll() {
+  }
+
+  @UdafFactory(description = "Merge HyperLogLog sketches")
+  public static Udaf<ByteBuffer, ByteBuffer, ByteBuffer> merge() {
+    return new Udaf<ByteBuffer, ByteBuffer, ByteBuffer>() {
+
+      @Override
+      public ByteBuffer initialize() {
+        return ByteBuffer.allocate(NO_SKETCH);
+      }
+
+      @Override
+      public ByteBuffer aggregate(final ByteBuffer current, final ByteBuffer aggregate) {
+        if (current == null) {
+          return aggregate;
+        }
+        HllSketch.validate(current);
+        return combine(aggregate, current);
+      }
+
+      @Override
+      public ByteBuffer merge(final ByteBuffer aggOne, final ByteBuffer aggTwo) {
+        return combine(aggOne, aggTwo);
+      }
+
+      @Override
+      public ByteBuffer map(final ByteBuffer agg) {
+        return agg.remaining() == NO_SKETCH ? null : agg;
+      }
+    };
+  }
+
+  private static ByteBuffer combine(final ByteBuffer aggregate, final ByteBuffer sketch) {
+    if (sketch.remaining() == NO_SKETCH) {
+      return aggregate;
+    }
+    if (aggregate.remaining() == NO_SKETCH) {
+      return HllSketch.merge(HllSketch.empty(HllSketch.precision(sketch)), sketch);
+    }
+    return HllSketch.merge(aggregate, sketch);
+  }
+}
@@ -21,7 +21,6 @@ import io.confluent.ksql.function.ParameterInfo;
 import io.confluent.ksql.function.types.ParamType;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -77,13 +76,11 @@ public class TopkKudaf<T extends Comparable<? super T>>
       }
     }
 
-    if (currentSize == topKSize) {
-      aggregateValue.set(currentSize - 1, currentValue);
-    } else {
-      aggregateValue.add(currentValue);
-    }
+    // The aggregate is kept in descending order, so rather than sorting it the new value can be
+    // inserted after any values that are greater than or equal to it:
+    final int index = TopkLists.insertionIndex(aggregateValue, currentValue);
+    TopkLists.insert(aggregateValue, index, currentValue, topKSize);
 
-    aggregateValue.sort(Comparator.reverseOrder());
     return aggregateValue;
   }
 
@@ -118,5 +115,4 @@ public class TopkKudaf<T extends Comparable<? super T>>
   public Function<List<T>, List<T>> getResultMapper() {
     return Function.identity();
   }
-
 }
\ No newline at end of file
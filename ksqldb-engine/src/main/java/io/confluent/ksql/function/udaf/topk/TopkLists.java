@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.topk;
+
+import java.util.List;
+
+/**
+ * Helpers for the bounded, descending lists that TopK aggregates are kept in.
+ */
+public final class TopkLists {
+
+  private TopkLists() {
+  }
+
+  /**
+   * Binary searches for the point to insert a value at, so only the comparisons are O(log k).
+   *
+   * @param sorted the list to search, in descending order.
+   * @param value the value to insert.
+   * @return the index of the first value in {@code sorted} that is less than {@code value}, or
+   *         its size if there is none.
+   */
+  public static <T extends Comparable<? super T>> int insertionIndex(
+      final List<T> sorted,
+      final T value
+  ) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sorted.get(mid).compareTo(value) >= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Inserts a value, dropping the last value if the list is already at its maximum size. The
+   * values after {@code index} are shifted, which is O(k).
+   *
+   * @param sorted the list to insert into, in descending order.
+   * @param index the index to insert at, see {@link #insertionIndex}.
+   * @param value the value to insert.
+   * @param maxSize the maximum size of the list.
+   */
+  public static <T> void insert(
+      final List<T> sorted,
+      final int index,
+      final T value,
+      final int maxSize
+  ) {
+    final int size = sorted.size();
+    if (size == maxSize) {
+      for (int i = size - 1; i > index; i--) {
+        sorted.set(i, sorted.get(i - 1));
+      }
+      sorted.set(index, value);
+    } else {
+      sorted.add(index, value);
+    }
+  }
+}
@@ -19,11 +19,11 @@ import io.confluent.ksql.GenericKey;
 import io.confluent.ksql.function.BaseAggregateFunction;
 import io.confluent.ksql.function.ParameterInfo;
 import io.confluent.ksql.function.types.ParamType;
+import io.confluent.ksql.function.udaf.topk.TopkLists;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -71,17 +71,17 @@ public class TopkDistinctKudaf<T extends Comparable<? super T>>
       return aggregateValue;
     }
 
-    if (aggregateValue.contains(currentValue)) {
-      return aggregateValue;
+    // The aggregate is kept in descending order, so any value equal to the new one must come
+    // just before the point the new value would be inserted at:
+    final int index = TopkLists.insertionIndex(aggregateValue, currentValue);
+    for (int i = index - 1; i >= 0 && aggregateValue.get(i).compareTo(currentValue) == 0; i--) {
+      if (aggregateValue.get(i).equals(currentValue)) {
+        return aggregateValue;
+      }
     }
 
-    if (currentSize == tkVal) {
-      aggregateValue.set(currentSize - 1, currentValue);
-    } else {
-      aggregateValue.add(currentValue);
-    }
+    TopkLists.insert(aggregateValue, index, currentValue, tkVal);
 
-    aggregateValue.sort(Comparator.reverseOrder());
     return aggregateValue;
   }
 
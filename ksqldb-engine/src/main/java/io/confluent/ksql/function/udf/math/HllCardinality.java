@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udf.math;
+
+import io.confluent.ksql.function.FunctionCategory;
+import io.confluent.ksql.function.udaf.count.HllSketch;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import io.confluent.ksql.util.KsqlConstants;
+import java.nio.ByteBuffer;
+
+@SuppressWarnings("WeakerAccess") // Invoked via reflection
+@UdfDescription(
+    name = "hll_cardinality",
+    category = FunctionCategory.MATHEMATICAL,
+    author = KsqlConstants.CONFLUENT_AUTHOR,
+    description = "The estimated number of distinct items in a HyperLogLog sketch."
+)
+public class HllCardinality {
+
+  @Udf(description = "Returns the estimated number of distinct items in a sketch built by "
+      + "HLL_SKETCH or MERGE_HLL")
+  public Long hllCardinality(
+      @UdfParameter(
+          value = "sketch",
+          description = "The HyperLogLog sketch."
+      ) final ByteBuffer sketch
+  ) {
+    if (sketch == null) {
+      return null;
+    }
+    HllSketch.validate(sketch);
+    return HllSketch.cardinality(sketch);
+  }
+}
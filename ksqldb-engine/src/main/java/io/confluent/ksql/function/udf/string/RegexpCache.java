@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udf.string;
+
+import java.util.regex.Pattern;
+
+/**
+ * Holds the last regular expression a UDF instance compiled.
+ *
+ * <p>Each use of a UDF in a query gets its own instance, and the regular expression passed to it
+ * is nearly always a literal, so in practice the pattern is compiled once per query rather than
+ * once per row.
+ */
+final class RegexpCache {
+
+  private volatile CompiledRegexp last;
+
+  /**
+   * @param regexp the regular expression.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid.
+   */
+  Pattern get(final String regexp) {
+    final CompiledRegexp compiled = last;
+    if (compiled != null && compiled.regexp.equals(regexp)) {
+      return compiled.pattern;
+    }
+
+    final Pattern pattern = Pattern.compile(regexp);
+    last = new CompiledRegexp(regexp, pattern);
+    return pattern;
+  }
+
+  private static final class CompiledRegexp {
+
+    private final String regexp;
+    private final Pattern pattern;
+
+    CompiledRegexp(final String regexp, final Pattern pattern) {
+      this.regexp = regexp;
+      this.pattern = pattern;
+    }
+  }
+}
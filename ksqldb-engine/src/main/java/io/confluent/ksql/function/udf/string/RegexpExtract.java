@@ -30,6 +30,9 @@ import java.util.regex.Pattern;
     description = "extract the first subtring matched by a regex pattern"
 )
 public class RegexpExtract {
+
+  private final RegexpCache patterns = new RegexpCache();
+
   @Udf(description = "Returns first substring of the input that matches the given regex pattern")
   public String regexpExtract(
       @UdfParameter(description = "The regex pattern") final String pattern,
@@ -50,7 +53,7 @@ public class RegexpExtract {
       return null;
     }
 
-    final Pattern p = Pattern.compile(pattern);
+    final Pattern p = patterns.get(pattern);
     final Matcher m = p.matcher(input);
 
     if (group > m.groupCount()) {
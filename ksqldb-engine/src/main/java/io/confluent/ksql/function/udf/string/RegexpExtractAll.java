@@ -34,6 +34,8 @@ import java.util.regex.PatternSyntaxException;
     description = "Extracts the all subtrings matched by a regex pattern")
 public class RegexpExtractAll {
 
+  private final RegexpCache patterns = new RegexpCache();
+
   @Udf(description = "Returns all substrings of the input that matches the given regex pattern")
   public List<String> regexpExtractAll(
       @UdfParameter(description = "The regex pattern") final String pattern,
@@ -69,7 +71,7 @@ public class RegexpExtractAll {
 
   private Pattern getPattern(final String regexp) {
     try {
-      return Pattern.compile(regexp);
+      return patterns.get(regexp);
     } catch (PatternSyntaxException e) {
       throw new KsqlFunctionException("Invalid regular expression pattern: " + regexp, e);
     }
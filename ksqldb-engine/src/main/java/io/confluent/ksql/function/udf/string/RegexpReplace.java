@@ -29,6 +29,8 @@ import java.util.regex.PatternSyntaxException;
     description = "Replaces all matches of a regexp in a string with a new substring.")
 public class RegexpReplace {
 
+  private final RegexpCache patterns = new RegexpCache();
+
   @Udf(description = "Returns a new string with all matches of regexp in str replaced with newStr")
   public String regexpReplace(
       @UdfParameter(
@@ -44,7 +46,7 @@ public class RegexpReplace {
     }
 
     try {
-      return str.replaceAll(regexp, newStr);
+      return patterns.get(regexp).matcher(str).replaceAll(newStr);
     } catch (PatternSyntaxException e) {
       throw new KsqlFunctionException("Invalid regular expression pattern: " + regexp, e);
     }
@@ -38,6 +38,8 @@ import java.util.regex.PatternSyntaxException;
         + "split.")
 public class RegexpSplitToArray {
 
+  private final RegexpCache patterns = new RegexpCache();
+
   @Udf(description = "Splits a string into an array of substrings based on a regexp.")
   public List<String> regexpSplit(
       @UdfParameter(
@@ -62,7 +64,7 @@ public class RegexpSplitToArray {
 
   private Pattern getPattern(final String regexp) {
     try {
-      return Pattern.compile(regexp);
+      return patterns.get(regexp);
     } catch (PatternSyntaxException e) {
       throw new KsqlFunctionException("Invalid regular expression pattern: " + regexp, e);
     }
@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableMap;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.confluent.ksql.engine.KsqlEngine;
 import io.confluent.ksql.engine.QueryEventListener;
+import io.confluent.ksql.execution.codegen.CompiledExpressionCache;
 import io.confluent.ksql.metrics.MetricCollectors;
 import io.confluent.ksql.util.KsqlConstants;
 import io.confluent.ksql.util.ReservedInternalTopics;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.metrics.Gauge;
@@ -113,6 +115,7 @@ public class KsqlEngineMetrics implements Closeable {
     configureLivenessIndicator();
     configureNumActiveQueries();
     configureNumPersistentQueries();
+    configureCompiledExpressionCache();
     this.messagesIn = configureMessagesIn();
     this.totalMessagesIn = configureTotalMessagesIn();
     this.totalBytesIn = configureTotalBytesIn();
@@ -256,6 +259,50 @@ public class KsqlEngineMetrics implements Closeable {
     createSensor(KsqlMetric.of(metricName, description, statSupplier));
   }
 
+  private void configureCompiledExpressionCache() {
+    final CompiledExpressionCache cache = CompiledExpressionCache.getInstance();
+    configureCacheMetric(
+        "compiled-expression-cache-size",
+        "The current number of compiled expressions cached on this server",
+        cache::size
+    );
+    configureCacheMetric(
+        "compiled-expression-cache-hits",
+        "The total number of expression compilations served from the cache",
+        () -> cache.stats().hitCount()
+    );
+    configureCacheMetric(
+        "compiled-expression-cache-misses",
+        "The total number of expressions compiled because they were not cached",
+        () -> cache.stats().missCount()
+    );
+    configureCacheMetric(
+        "compiled-expression-cache-evictions",
+        "The total number of compiled expressions evicted from the cache",
+        () -> cache.stats().evictionCount()
+    );
+  }
+
+  private void configureCacheMetric(
+      final String metricName,
+      final String description,
+      final LongSupplier valueSupplier
+  ) {
+    final Supplier<MeasurableStat> statSupplier =
+        () -> new MeasurableStat() {
+          @Override
+          public double measure(final MetricConfig metricConfig, final long l) {
+            return valueSupplier.getAsLong();
+          }
+
+          @Override
+          public void record(final MetricConfig metricConfig, final double v, final long l) {
+            // We don't want to record anything, since the cache tracks its own stats
+          }
+        };
+    createSensor(KsqlMetric.of(metricName, description, statSupplier));
+  }
+
   private Sensor configureIdleQueriesSensor() {
     final String metricName = "num-idle-queries";
     final String description = "Number of inactive queries";
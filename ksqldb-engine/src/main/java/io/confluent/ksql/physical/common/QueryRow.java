@@ -36,5 +36,16 @@ public interface QueryRow {
 
   GenericRow value();
 
+  /**
+   * Returns the value with the {@code ROWTIME}, key and, for windowed rows, window bound columns
+   * appended, as expected by intermediate schemas that include these additional columns.
+   *
+   * <p>Rows may be shared between several queries, so implementations must not modify
+   * {@link #value()} and callers must not modify the returned row.
+   *
+   * @return the intermediate value.
+   */
+  GenericRow intermediateValue();
+
   Optional<PushOffsetRange> getOffsetRange();
 }
@@ -21,6 +21,7 @@ import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.Window;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
 import io.confluent.ksql.util.PushOffsetRange;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -31,6 +32,7 @@ public final class QueryRowImpl implements QueryRow {
   private final GenericKey key;
   private final Optional<Window> window;
   private final GenericRow value;
+  private volatile GenericRow intermediateValue;
 
   public static QueryRowImpl of(
       final LogicalSchema logicalSchema,
@@ -82,6 +84,18 @@ public final class QueryRowImpl implements QueryRow {
     return value;
   }
 
+  @SuppressFBWarnings(value = "EI_EXPOSE_REP")
+  @Override
+  public GenericRow intermediateValue() {
+    // Racing threads may each build the intermediate value, but will build equal rows:
+    GenericRow intermediate = intermediateValue;
+    if (intermediate == null) {
+      intermediate = buildIntermediateValue();
+      intermediateValue = intermediate;
+    }
+    return intermediate;
+  }
+
   @Override
   public Optional<PushOffsetRange> getOffsetRange() {
     return Optional.empty();
@@ -108,4 +122,26 @@ public final class QueryRowImpl implements QueryRow {
   public int hashCode() {
     return Objects.hash(logicalSchema, key, window, value, rowTime);
   }
+
+  private GenericRow buildIntermediateValue() {
+    final List<?> keyFields = key.values();
+
+    final GenericRow intermediate = new GenericRow(
+        value.size()
+            + 1 // ROWTIME
+            + keyFields.size()
+            + window.map(w -> 2).orElse(0)
+    );
+
+    intermediate.appendAll(value.values());
+    intermediate.append(rowTime);
+    intermediate.appendAll(keyFields);
+
+    window.ifPresent(w -> {
+      intermediate.append(w.start().toEpochMilli());
+      intermediate.append(w.end().toEpochMilli());
+    });
+
+    return intermediate;
+  }
 }
@@ -15,10 +15,8 @@
 
 package io.confluent.ksql.physical.common.operators;
 
-import io.confluent.ksql.GenericKey;
 import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.physical.common.QueryRow;
-import java.util.List;
 
 final class PhysicalOperatorUtil {
 
@@ -26,32 +24,16 @@ final class PhysicalOperatorUtil {
 
   }
 
+  /**
+   * Returns the row's value as expected by the operator's intermediate schema.
+   *
+   * <p>The row itself is never modified, as it may be shared with other queries.
+   */
   static GenericRow getIntermediateRow(final QueryRow row, final boolean additionalColumnsNeeded) {
-
     if (!additionalColumnsNeeded) {
       return row.value();
     }
 
-    final GenericKey key = row.key();
-    final GenericRow value = row.value();
-
-    final List<?> keyFields = key.values();
-
-    value.ensureAdditionalCapacity(
-        1 // ROWTIME
-            + keyFields.size()
-            + row.window().map(w -> 2).orElse(0)
-    );
-
-    value.append(row.rowTime());
-    value.appendAll(keyFields);
-
-    row.window().ifPresent(window -> {
-      value.append(window.start().toEpochMilli());
-      value.append(window.end().toEpochMilli());
-    });
-
-    return value;
+    return row.intermediateValue();
   }
-
 }
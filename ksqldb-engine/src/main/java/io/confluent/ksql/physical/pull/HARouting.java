@@ -67,6 +67,7 @@ public final class HARouting implements AutoCloseable {
 
   private final ExecutorService coordinatorExecutorService;
   private final ExecutorService routerExecutorService;
+  private final ExecutorService tableScanExecutorService;
   private final RoutingFilterFactory routingFilterFactory;
   private final Optional<PullQueryExecutorMetrics> pullQueryMetrics;
   private final RouteQuery routeQuery;
@@ -96,6 +97,9 @@ public final class HARouting implements AutoCloseable {
     this.routerExecutorService = Executors.newFixedThreadPool(
         ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_ROUTER_THREAD_POOL_SIZE_CONFIG),
         new ThreadFactoryBuilder().setNameFormat("pull-query-router-%d").build());
+    this.tableScanExecutorService = Executors.newFixedThreadPool(
+        ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_CONFIG),
+        new ThreadFactoryBuilder().setNameFormat("pull-query-table-scan-%d").build());
     this.pullQueryMetrics = Objects.requireNonNull(pullQueryMetrics, "pullQueryMetrics");
     this.routeQuery = Objects.requireNonNull(routeQuery);
   }
@@ -104,6 +108,14 @@ public final class HARouting implements AutoCloseable {
   public void close() {
     coordinatorExecutorService.shutdown();
     routerExecutorService.shutdown();
+    tableScanExecutorService.shutdown();
+  }
+
+  /**
+   * @return the executor that table scans use to read partitions concurrently.
+   */
+  public ExecutorService getTableScanExecutor() {
+    return tableScanExecutorService;
   }
 
   public CompletableFuture<Void> handlePullQuery(
@@ -185,7 +197,30 @@ public final class HARouting implements AutoCloseable {
     final int totalPartitions = locations.size();
     int processedPartitions = 0;
 
+    // A scan that reads partitions concurrently is given all of its local partitions at once,
+    // rather than having them executed one after another on the same physical plan:
+    final List<KsqlPartitionLocation> localLocations =
+        pullPhysicalPlan.scansPartitionsConcurrently()
+        ? locations.stream()
+            .filter(location -> getNodeForRound(location).isLocal())
+            .collect(Collectors.toList())
+        : ImmutableList.of();
+    final boolean groupLocal = localLocations.size() > 1;
+    if (groupLocal) {
+      final KsqlNode node = getNodeForRound(localLocations.get(0));
+      pullQueryMetrics.ifPresent(queryExecutorMetrics ->
+          queryExecutorMetrics.recordPartitionFetchRequest(localLocations.size()));
+      completionService.submit(
+          () -> executeLocally(
+          node, localLocations, statement, routingOptions, pullQueryMetrics, pullPhysicalPlan,
+          pullQueryQueue, consistencyOffsetVector)
+      );
+    }
+
     for (final KsqlPartitionLocation partition : locations) {
+      if (groupLocal && localLocations.contains(partition)) {
+        continue;
+      }
       final KsqlNode node = getNodeForRound(partition);
       pullQueryMetrics.ifPresent(queryExecutorMetrics ->
           queryExecutorMetrics.recordPartitionFetchRequest(1));
@@ -202,19 +237,21 @@ public final class HARouting implements AutoCloseable {
       try {
         final PartitionFetchResult fetchResult = future.get();
         if (fetchResult.isError()) {
-          final KsqlPartitionLocation nextRoundPartition = nextNode(fetchResult.getLocation());
-          final KsqlNode node = getNodeForRound(nextRoundPartition);
-          pullQueryMetrics.ifPresent(queryExecutorMetrics ->
-              queryExecutorMetrics.recordResubmissionRequest(1));
-          completionService.submit(
-              () -> routeQuery.routeQuery(
-              node, nextRoundPartition, statement, serviceContext, routingOptions,
-              pullQueryMetrics, pullPhysicalPlan, outputSchema, queryId, pullQueryQueue,
-              shouldCancelRequests, consistencyOffsetVector)
-          );
+          for (final KsqlPartitionLocation location : fetchResult.getLocations()) {
+            final KsqlPartitionLocation nextRoundPartition = nextNode(location);
+            final KsqlNode node = getNodeForRound(nextRoundPartition);
+            pullQueryMetrics.ifPresent(queryExecutorMetrics ->
+                queryExecutorMetrics.recordResubmissionRequest(1));
+            completionService.submit(
+                () -> routeQuery.routeQuery(
+                node, nextRoundPartition, statement, serviceContext, routingOptions,
+                pullQueryMetrics, pullPhysicalPlan, outputSchema, queryId, pullQueryQueue,
+                shouldCancelRequests, consistencyOffsetVector)
+            );
+          }
         } else {
           Preconditions.checkState(fetchResult.getResult() == RoutingResult.SUCCESS);
-          processedPartitions++;
+          processedPartitions += fetchResult.getLocations().size();
           if (consistencyOffsetVector.isPresent() && fetchResult.offsetVector.isPresent()) {
             consistencyOffsetVector.get().merge(fetchResult.getOffsetVector().get());
           }
@@ -275,32 +312,12 @@ public final class HARouting implements AutoCloseable {
       final CompletableFuture<Void> shouldCancelRequests,
       final Optional<ConsistencyOffsetVector> consistencyOffsetVector
   ) {
-    final BiFunction<List<?>, LogicalSchema, PullQueryRow> rowFactory = (rawRow, schema) ->
-        new PullQueryRow(rawRow, schema, Optional.ofNullable(
-            routingOptions.getIsDebugRequest() ? node : null), Optional.empty());
     if (node.isLocal()) {
-      try {
-        LOG.debug("Query {} executed locally at host {} at timestamp {}.",
-            statement.getStatementText(), node.location(), System.currentTimeMillis());
-        pullQueryMetrics
-          .ifPresent(queryExecutorMetrics -> queryExecutorMetrics.recordLocalRequests(1));
-        synchronized (pullPhysicalPlan) {
-          pullPhysicalPlan.execute(ImmutableList.of(location), pullQueryQueue, rowFactory,
-                                   consistencyOffsetVector);
-          return new PartitionFetchResult(RoutingResult.SUCCESS, location, Optional.empty());
-        }
-      } catch (StandbyFallbackException e) {
-        LOG.warn("Error executing query locally at node {}. Falling back to standby state which "
-            + "may return stale results", node, e.getCause());
-        return new PartitionFetchResult(RoutingResult.STANDBY_FALLBACK, location, Optional.empty());
-      } catch (Exception e) {
-        throw new KsqlException(
-          String.format("Error executing query locally at node %s: %s", node.location(),
-            e.getMessage()),
-          e
-        );
-      }
+      return executeLocally(node, ImmutableList.of(location), statement, routingOptions,
+          pullQueryMetrics, pullPhysicalPlan, pullQueryQueue, consistencyOffsetVector);
     } else {
+      final BiFunction<List<?>, LogicalSchema, PullQueryRow> rowFactory =
+          rowFactory(node, routingOptions);
       try {
         LOG.debug("Query {} routed to host {} at timestamp {}.",
             statement.getStatementText(), node.location(), System.currentTimeMillis());
@@ -322,6 +339,48 @@ public final class HARouting implements AutoCloseable {
     }
   }
 
+  private static PartitionFetchResult executeLocally(
+      final KsqlNode node,
+      final List<KsqlPartitionLocation> locations,
+      final ConfiguredStatement<Query> statement,
+      final RoutingOptions routingOptions,
+      final Optional<PullQueryExecutorMetrics> pullQueryMetrics,
+      final PullPhysicalPlan pullPhysicalPlan,
+      final PullQueryQueue pullQueryQueue,
+      final Optional<ConsistencyOffsetVector> consistencyOffsetVector
+  ) {
+    try {
+      LOG.debug("Query {} executed locally at host {} at timestamp {}.",
+          statement.getStatementText(), node.location(), System.currentTimeMillis());
+      pullQueryMetrics
+        .ifPresent(queryExecutorMetrics -> queryExecutorMetrics.recordLocalRequests(1));
+      synchronized (pullPhysicalPlan) {
+        pullPhysicalPlan.execute(locations, pullQueryQueue, rowFactory(node, routingOptions),
+                                 consistencyOffsetVector);
+        return new PartitionFetchResult(RoutingResult.SUCCESS, locations, Optional.empty());
+      }
+    } catch (StandbyFallbackException e) {
+      LOG.warn("Error executing query locally at node {}. Falling back to standby state which "
+          + "may return stale results", node, e.getCause());
+      return new PartitionFetchResult(RoutingResult.STANDBY_FALLBACK, locations, Optional.empty());
+    } catch (Exception e) {
+      throw new KsqlException(
+        String.format("Error executing query locally at node %s: %s", node.location(),
+          e.getMessage()),
+        e
+      );
+    }
+  }
+
+  private static BiFunction<List<?>, LogicalSchema, PullQueryRow> rowFactory(
+      final KsqlNode node,
+      final RoutingOptions routingOptions
+  ) {
+    return (rawRow, schema) ->
+        new PullQueryRow(rawRow, schema, Optional.ofNullable(
+            routingOptions.getIsDebugRequest() ? node : null), Optional.empty());
+  }
+
   private static void forwardTo(
       final KsqlNode owner,
       final List<KsqlPartitionLocation> locations,
@@ -340,10 +399,17 @@ public final class HARouting implements AutoCloseable {
         .map(location -> Integer.toString(location.getPartition()))
         .collect(Collectors.joining(","));
     // Add skip forward flag to properties
-    final Map<String, Object> requestProperties = ImmutableMap.of(
-        KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_SKIP_FORWARDING, true,
-        KsqlRequestConfig.KSQL_REQUEST_INTERNAL_REQUEST, true,
-        KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_PARTITIONS, partitions);
+    final ImmutableMap.Builder<String, Object> requestProperties = ImmutableMap.builder();
+    requestProperties.put(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_SKIP_FORWARDING, true);
+    requestProperties.put(KsqlRequestConfig.KSQL_REQUEST_INTERNAL_REQUEST, true);
+    requestProperties.put(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_PARTITIONS, partitions);
+    // Ask for the rows in the binary format. Servers that don't support it ignore the flag and
+    // return JSON, which the client detects from the content type of the response.
+    if (statement.getSessionConfig().getConfig(false)
+        .getBoolean(KsqlConfig.KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED)) {
+      requestProperties.put(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_BINARY_ROWS, true);
+    }
+
     final RestResponse<Integer> response;
 
     try {
@@ -353,7 +419,7 @@ public final class HARouting implements AutoCloseable {
               owner.location(),
               statement.getStatementText(),
               statement.getSessionConfig().getOverrides(),
-              requestProperties,
+              requestProperties.build(),
               streamedRowsHandler(owner, pullQueryQueue, rowFactory, outputSchema),
               shouldCancelRequests,
               consistencyOffsetVector.map(ConsistencyOffsetVector::serialize)
@@ -477,14 +543,21 @@ public final class HARouting implements AutoCloseable {
   private static class PartitionFetchResult {
 
     private final RoutingResult routingResult;
-    private final KsqlPartitionLocation location;
+    private final ImmutableList<KsqlPartitionLocation> locations;
     private final Optional<OffsetVector> offsetVector;
 
     PartitionFetchResult(final RoutingResult routingResult, final KsqlPartitionLocation location,
                          final Optional<OffsetVector> offsetVector
+    ) {
+      this(routingResult, ImmutableList.of(location), offsetVector);
+    }
+
+    PartitionFetchResult(final RoutingResult routingResult,
+                         final List<KsqlPartitionLocation> locations,
+                         final Optional<OffsetVector> offsetVector
     ) {
       this.routingResult = routingResult;
-      this.location = location;
+      this.locations = ImmutableList.copyOf(locations);
       this.offsetVector = offsetVector;
     }
 
@@ -496,8 +569,8 @@ public final class HARouting implements AutoCloseable {
       return routingResult;
     }
 
-    public KsqlPartitionLocation getLocation() {
-      return location;
+    public List<KsqlPartitionLocation> getLocations() {
+      return locations;
     }
 
     public Optional<OffsetVector> getOffsetVector() {
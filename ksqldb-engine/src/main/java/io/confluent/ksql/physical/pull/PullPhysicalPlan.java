@@ -90,20 +90,24 @@ public class PullPhysicalPlan {
     dataSourceOperator.setPartitionLocations(locations);
 
     open();
-    QueryRow row;
-    while ((row = (QueryRow)next()) != null) {
-      if (pullQueryQueue.isClosed()) {
-        // If the queue has been closed, we stop adding rows and cleanup. This should be triggered
-        // because the client has closed their connection with the server before the results have
-        // completed.
-        LOGGER.info("Queue closed before results completed. Stopping execution.");
-        break;
-      }
-      if (!pullQueryQueue.acceptRow(rowFactory.apply(row.value().values(), schema))) {
-        LOGGER.info("Failed to queue row");
+    try {
+      QueryRow row;
+      while ((row = (QueryRow)next()) != null) {
+        if (pullQueryQueue.isClosed()) {
+          // If the queue has been closed, we stop adding rows and cleanup. This should be
+          // triggered because the client has closed their connection with the server before the
+          // results have completed.
+          LOGGER.info("Queue closed before results completed. Stopping execution.");
+          break;
+        }
+        if (!pullQueryQueue.acceptRow(rowFactory.apply(row.value().values(), schema))) {
+          LOGGER.info("Failed to queue row");
+        }
       }
+    } finally {
+      // Stops any partition scans still running, e.g. after a LIMIT has been reached
+      close();
     }
-    close();
   }
 
   private void open() {
@@ -153,6 +157,14 @@ public class PullPhysicalPlan {
     return querySourceType;
   }
 
+  /**
+   * @return {@code true} if the plan reads multiple partitions concurrently, and so should be
+   *         executed with all of its local partitions at once.
+   */
+  public boolean scansPartitionsConcurrently() {
+    return dataSourceOperator.scansPartitionsConcurrently();
+  }
+
   public long getRowsReadFromDataSource() {
     return dataSourceOperator.getReturnedRowCount();
   }
@@ -54,6 +54,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Traverses the logical plan top-down and creates a physical plan for pull queries.
@@ -72,6 +73,7 @@ public class PullPhysicalPlanBuilder {
   private final QueryId queryId;
   private final Materialization mat;
   private final QueryPlannerOptions queryPlannerOptions;
+  private final ExecutorService tableScanExecutor;
 
   private List<LookupConstraint> lookupConstraints;
   private PullPhysicalPlanType pullPhysicalPlanType;
@@ -83,7 +85,8 @@ public class PullPhysicalPlanBuilder {
       final PersistentQueryMetadata persistentQueryMetadata,
       final ImmutableAnalysis analysis,
       final QueryPlannerOptions queryPlannerOptions,
-      final CompletableFuture<Void> shouldCancelOperations
+      final CompletableFuture<Void> shouldCancelOperations,
+      final ExecutorService tableScanExecutor
   ) {
     this.processingLogContext = Objects.requireNonNull(
         processingLogContext, "processingLogContext");
@@ -97,6 +100,7 @@ public class PullPhysicalPlanBuilder {
         .getMaterialization(queryId, contextStacker)
         .orElseThrow(() -> notMaterializedException(getSourceName(analysis)));
     this.queryPlannerOptions = queryPlannerOptions;
+    this.tableScanExecutor = tableScanExecutor;
   }
 
   /**
@@ -232,9 +236,13 @@ public class PullPhysicalPlanBuilder {
         ? QuerySourceType.WINDOWED : QuerySourceType.NON_WINDOWED;
     if (pullPhysicalPlanType == PullPhysicalPlanType.TABLE_SCAN) {
       if (!logicalNode.isWindowed()) {
-        return new TableScanOperator(mat, logicalNode, shouldCancelOperations);
+        return new TableScanOperator(mat, logicalNode, shouldCancelOperations,
+            tableScanExecutor, queryPlannerOptions.getTableScanParallelism(),
+            queryPlannerOptions.getTableScanOrdered());
       } else {
-        return new WindowedTableScanOperator(mat, logicalNode, shouldCancelOperations);
+        return new WindowedTableScanOperator(mat, logicalNode, shouldCancelOperations,
+            tableScanExecutor, queryPlannerOptions.getTableScanParallelism(),
+            queryPlannerOptions.getTableScanOrdered());
       }
     }
 
@@ -30,4 +30,12 @@ public interface DataSourceOperator {
   void setPartitionLocations(List<KsqlPartitionLocation> partitionLocations);
 
   long getReturnedRowCount();
+
+  /**
+   * @return {@code true} if the operator reads multiple partitions concurrently, and so should be
+   *         given all the partitions it is to read at once.
+   */
+  default boolean scansPartitionsConcurrently() {
+    return false;
+  }
 }
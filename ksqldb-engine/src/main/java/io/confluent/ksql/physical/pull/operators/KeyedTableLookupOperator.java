@@ -29,9 +29,12 @@ import io.confluent.ksql.planner.plan.DataSourceNode;
 import io.confluent.ksql.planner.plan.KeyConstraint;
 import io.confluent.ksql.planner.plan.KeyConstraint.ConstraintOperator;
 import io.confluent.ksql.planner.plan.PlanNode;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,16 +66,11 @@ public class KeyedTableLookupOperator
   @Override
   public void open() {
     partitionLocationIterator = partitionLocations.iterator();
+    keyIterator = Collections.emptyIterator();
+    resultIterator = Collections.emptyIterator();
     if (partitionLocationIterator.hasNext()) {
       nextLocation = partitionLocationIterator.next();
-      if (!nextLocation.getKeys().isPresent()) {
-        throw new IllegalStateException("Table lookup queries should be done with keys");
-      }
-      keyIterator = nextLocation.getKeys().get().stream().iterator();
-      if (keyIterator.hasNext()) {
-        nextKey = keyIterator.next();
-        resultIterator = getMatIterator(nextKey);
-      }
+      lookupLocation();
     }
   }
 
@@ -80,20 +78,16 @@ public class KeyedTableLookupOperator
   public Object next() {
     while (!resultIterator.hasNext()) {
       // Exhausted resultIterator
-      if (!keyIterator.hasNext()) {
-        if (partitionLocationIterator.hasNext()) {
-          nextLocation = partitionLocationIterator.next();
-        } else {
-          // Exhausted all iterators
-          return null;
-        }
-        if (!nextLocation.getKeys().isPresent()) {
-          throw new IllegalStateException("Table lookup queries should be done with keys");
-        }
-        keyIterator = nextLocation.getKeys().get().stream().iterator();
+      if (keyIterator.hasNext()) {
+        nextKey = keyIterator.next();
+        resultIterator = getMatIterator(nextKey);
+      } else if (partitionLocationIterator.hasNext()) {
+        nextLocation = partitionLocationIterator.next();
+        lookupLocation();
+      } else {
+        // Exhausted all iterators
+        return null;
       }
-      nextKey = keyIterator.next();
-      resultIterator = getMatIterator(nextKey);
     }
 
     returnedRows++;
@@ -107,6 +101,34 @@ public class KeyedTableLookupOperator
     );
   }
 
+  /**
+   * Starts the lookup of the keys of {@code nextLocation}. When the location holds several keys
+   * that are all equality constraints, they are fetched as a single batch from the partition's
+   * store. Otherwise, the keys are looked up one at a time as {@link #next()} is called.
+   */
+  private void lookupLocation() {
+    if (!nextLocation.getKeys().isPresent()) {
+      throw new IllegalStateException("Table lookup queries should be done with keys");
+    }
+    final Set<KsqlKey> keys = nextLocation.getKeys().get();
+    if (keys.size() > 1 && keys.stream().allMatch(KeyedTableLookupOperator::isEqualityKey)) {
+      final List<GenericKey> batch = keys.stream()
+          .map(KsqlKey::getKey)
+          .collect(Collectors.toList());
+      keyIterator = Collections.emptyIterator();
+      resultIterator = mat.nonWindowed()
+          .getAll(batch, nextLocation.getPartition())
+          .iterator();
+    } else {
+      keyIterator = keys.iterator();
+    }
+  }
+
+  private static boolean isEqualityKey(final KsqlKey ksqlKey) {
+    return ksqlKey instanceof KeyConstraint
+        && ((KeyConstraint) ksqlKey).getOperator() == ConstraintOperator.EQUAL;
+  }
+
   private Iterator<Row> getMatIterator(final KsqlKey ksqlKey) {
     if (!(nextKey instanceof KeyConstraint)) {
       throw new IllegalStateException(String.format("Keyed lookup queries should be done with "
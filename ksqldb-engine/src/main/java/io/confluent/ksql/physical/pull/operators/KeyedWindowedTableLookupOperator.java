@@ -16,7 +16,9 @@
 package io.confluent.ksql.physical.pull.operators;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.confluent.ksql.GenericKey;
 import io.confluent.ksql.execution.streams.materialization.Locator.KsqlKey;
 import io.confluent.ksql.execution.streams.materialization.Locator.KsqlPartitionLocation;
 import io.confluent.ksql.execution.streams.materialization.Materialization;
@@ -28,9 +30,13 @@ import io.confluent.ksql.planner.plan.DataSourceNode;
 import io.confluent.ksql.planner.plan.KeyConstraint;
 import io.confluent.ksql.planner.plan.PlanNode;
 import io.confluent.ksql.planner.plan.QueryFilterNode.WindowBounds;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,12 +70,18 @@ public class KeyedWindowedTableLookupOperator
   @Override
   public void open() {
     partitionLocationIterator = partitionLocations.iterator();
+    keyIterator = Collections.emptyIterator();
+    resultIterator = Collections.emptyIterator();
     if (partitionLocationIterator.hasNext()) {
       nextLocation = partitionLocationIterator.next();
-      if (!nextLocation.getKeys().isPresent()) {
-        throw new IllegalStateException("Table windowed queries should be done with keys");
-      }
-      keyIterator = nextLocation.getKeys().get().stream().iterator();
+      lookupLocation();
+    }
+  }
+
+  @Override
+  public Object next() {
+    while (!resultIterator.hasNext()) {
+      // Exhausted resultIterator
       if (keyIterator.hasNext()) {
         nextKey = keyIterator.next();
         final WindowBounds windowBounds = getWindowBounds(nextKey);
@@ -79,35 +91,14 @@ public class KeyedWindowedTableLookupOperator
             windowBounds.getMergedStart(),
             windowBounds.getMergedEnd())
             .iterator();
+      } else if (partitionLocationIterator.hasNext()) {
+        nextLocation = partitionLocationIterator.next();
+        lookupLocation();
+      } else {
+        // Exhausted all iterators
+        return null;
       }
     }
-  }
-
-  @Override
-  public Object next() {
-    while (!resultIterator.hasNext()) {
-      // Exhausted resultIterator
-      if (!keyIterator.hasNext()) {
-        if (partitionLocationIterator.hasNext()) {
-          nextLocation = partitionLocationIterator.next();
-        } else {
-          // Exhausted all iterators
-          return null;
-        }
-        if (!nextLocation.getKeys().isPresent()) {
-          throw new IllegalStateException("Table lookup queries should be done with keys");
-        }
-        keyIterator = nextLocation.getKeys().get().iterator();
-      }
-      nextKey = keyIterator.next();
-      final WindowBounds windowBounds = getWindowBounds(nextKey);
-      resultIterator = mat.windowed().get(
-          nextKey.getKey(),
-          nextLocation.getPartition(),
-          windowBounds.getMergedStart(),
-          windowBounds.getMergedEnd())
-          .iterator();
-    }
     returnedRows++;
     final WindowedRow row = resultIterator.next();
     return QueryRowImpl.of(
@@ -119,6 +110,42 @@ public class KeyedWindowedTableLookupOperator
     );
   }
 
+  /**
+   * Starts the lookup of the keys of {@code nextLocation}. When the location holds several keys
+   * that share the same window bounds, they are fetched as a single batch from the partition's
+   * store. Otherwise, the keys are looked up one at a time as {@link #next()} is called.
+   */
+  private void lookupLocation() {
+    if (!nextLocation.getKeys().isPresent()) {
+      throw new IllegalStateException("Table windowed queries should be done with keys");
+    }
+    final Set<KsqlKey> keys = nextLocation.getKeys().get();
+    keyIterator = keys.iterator();
+    if (keys.size() < 2) {
+      return;
+    }
+
+    Range<Instant> windowStart = null;
+    Range<Instant> windowEnd = null;
+    final List<GenericKey> batch = new ArrayList<>(keys.size());
+    for (final KsqlKey key : keys) {
+      final WindowBounds windowBounds = getWindowBounds(key);
+      if (windowStart == null) {
+        windowStart = windowBounds.getMergedStart();
+        windowEnd = windowBounds.getMergedEnd();
+      } else if (!windowStart.equals(windowBounds.getMergedStart())
+          || !windowEnd.equals(windowBounds.getMergedEnd())) {
+        return;
+      }
+      batch.add(key.getKey());
+    }
+
+    keyIterator = Collections.emptyIterator();
+    resultIterator = mat.windowed()
+        .getAll(batch, nextLocation.getPartition(), windowStart, windowEnd)
+        .iterator();
+  }
+
   private static WindowBounds getWindowBounds(final KsqlKey ksqlKey) {
     if (!(ksqlKey instanceof KeyConstraint)) {
       throw new IllegalStateException(String.format("Table windowed queries should be done with "
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.physical.pull.operators;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.execution.streams.materialization.Locator.KsqlPartitionLocation;
+import io.confluent.ksql.util.CloseableIterator;
+import io.confluent.ksql.util.KsqlException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Scans several partitions concurrently on a bounded executor and merges their rows.
+ *
+ * <p>At most {@code parallelism} partitions are scanned at any one time. Each scan buffers up to
+ * {@link #BUFFER_SIZE} rows ahead of the consumer. Rows are returned either in partition order,
+ * i.e. all rows of the first partition before any of the second, or in whatever order the
+ * concurrent scans produce them.
+ *
+ * <p>Scans are driven by the consumer's demand: a scan that finds its buffer full does not block
+ * its executor thread waiting for space. Instead it pauses, keeping its position in the
+ * partition, and returns the thread to the executor. The consumer resumes the scan, on the
+ * executor, once it has drained the buffer down to {@link #RESUME_SIZE} rows. A slow client
+ * therefore holds open store iterators, but no scan threads.
+ *
+ * <p>The scanner is driven by a single consumer thread calling {@link #next()}. Closing the
+ * scanner, or cancelling the query, stops all in-flight partition scans and closes their store
+ * iterators. A paused scan's iterator is closed by the thread closing the scanner, while a running
+ * scan closes its own iterator once it sees the scanner is closed, so an iterator is never closed
+ * while another thread is reading from it.
+ */
+final class PartitionScanner<T> implements AutoCloseable {
+
+  static final int BUFFER_SIZE = 1000;
+  static final int RESUME_SIZE = BUFFER_SIZE / 2;
+
+  private static final long POLL_INTERVAL_MS = 50;
+  private static final Object END = new Object();
+
+  private final ImmutableList<KsqlPartitionLocation> locations;
+  private final Function<KsqlPartitionLocation, CloseableIterator<T>> scanPartition;
+  private final BooleanSupplier isCancelled;
+  private final boolean ordered;
+  private final List<BlockingQueue<Object>> buffers;
+  private final AtomicInteger nextPartition = new AtomicInteger();
+  private final List<Scan> scans = new ArrayList<>();
+
+  private volatile boolean closed = false;
+  private ExecutorService executor;
+  private int completedPartitions = 0;
+
+  PartitionScanner(
+      final List<KsqlPartitionLocation> locations,
+      final Function<KsqlPartitionLocation, CloseableIterator<T>> scanPartition,
+      final BooleanSupplier isCancelled,
+      final boolean ordered
+  ) {
+    this.locations = ImmutableList.copyOf(Objects.requireNonNull(locations, "locations"));
+    this.scanPartition = Objects.requireNonNull(scanPartition, "scanPartition");
+    this.isCancelled = Objects.requireNonNull(isCancelled, "isCancelled");
+    this.ordered = ordered;
+
+    final ImmutableList.Builder<BlockingQueue<Object>> builder = ImmutableList.builder();
+    if (ordered) {
+      for (int i = 0; i < locations.size(); i++) {
+        builder.add(new ArrayBlockingQueue<>(BUFFER_SIZE));
+      }
+    } else {
+      final BlockingQueue<Object> shared = new ArrayBlockingQueue<>(BUFFER_SIZE);
+      for (int i = 0; i < locations.size(); i++) {
+        builder.add(shared);
+      }
+    }
+    this.buffers = builder.build();
+  }
+
+  /**
+   * Start scanning.
+   *
+   * @param executor the executor to run the partition scans on.
+   * @param parallelism the maximum number of partitions to scan concurrently.
+   */
+  void start(final ExecutorService executor, final int parallelism) {
+    this.executor = Objects.requireNonNull(executor, "executor");
+    final int workers = Math.min(parallelism, locations.size());
+    for (int i = 0; i < workers; i++) {
+      scans.add(new Scan());
+    }
+    scans.forEach(this::submit);
+  }
+
+  /**
+   * @return the next row, or {@code null} once all partitions are exhausted or the scan has been
+   *         cancelled.
+   */
+  @SuppressWarnings("unchecked")
+  T next() {
+    while (completedPartitions < locations.size()) {
+      if (closed || isCancelled.getAsBoolean()) {
+        close();
+        return null;
+      }
+
+      final BlockingQueue<Object> buffer = buffers.get(ordered ? completedPartitions : 0);
+      final Object item = poll(buffer);
+      if (item == null) {
+        continue;
+      }
+
+      resumeScansOf(buffer);
+
+      if (item == END) {
+        completedPartitions++;
+        continue;
+      }
+
+      if (item instanceof ScanFailure) {
+        close();
+        final Throwable cause = ((ScanFailure) item).cause;
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new KsqlException("Failed to scan partition", cause);
+      }
+
+      return (T) item;
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    // Scans that are running, or waiting to run, close their own iterators:
+    for (final Scan scan : scans) {
+      if (scan.paused.compareAndSet(true, false)) {
+        scan.closeRows();
+      }
+    }
+  }
+
+  private void submit(final Scan scan) {
+    if (closed) {
+      scan.closeRows();
+      return;
+    }
+    executor.submit(scan::run);
+  }
+
+  private void resumeScansOf(final BlockingQueue<Object> buffer) {
+    if (buffer.size() > RESUME_SIZE) {
+      return;
+    }
+
+    for (final Scan scan : scans) {
+      if (scan.buffer == buffer && scan.paused.compareAndSet(true, false)) {
+        submit(scan);
+      }
+    }
+  }
+
+  private static Object poll(final BlockingQueue<Object> buffer) {
+    try {
+      return buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KsqlException("Interrupted while scanning partitions", e);
+    }
+  }
+
+  /**
+   * Scans partitions, one after another, until there are none left to scan.
+   *
+   * <p>Only one thread runs a scan at a time: the scan is submitted to the executor when it
+   * starts, and again only by whoever un-pauses it.
+   */
+  private final class Scan {
+
+    private final AtomicBoolean paused = new AtomicBoolean(false);
+
+    private volatile BlockingQueue<Object> buffer;
+    private CloseableIterator<T> rows;
+    private Object pending;
+
+    void run() {
+      try {
+        scan();
+      } catch (final Exception e) {
+        // The failure takes the place of the rest of the partition's rows:
+        closeRows();
+        pending = new ScanFailure(e);
+        scan();
+      }
+    }
+
+    void closeRows() {
+      if (rows != null) {
+        rows.close();
+        rows = null;
+      }
+    }
+
+    private void scan() {
+      while (true) {
+        if (closed) {
+          closeRows();
+          return;
+        }
+
+        if (pending == null && !nextItem()) {
+          return;
+        }
+
+        if (buffer.offer(pending)) {
+          if (pending instanceof ScanFailure) {
+            return;
+          }
+          pending = null;
+          continue;
+        }
+
+        // The buffer is full, so pause, unless the consumer made space, or closed the scanner,
+        // before it could see that this scan is paused:
+        paused.set(true);
+        if (closed) {
+          if (paused.compareAndSet(true, false)) {
+            closeRows();
+          }
+          return;
+        }
+        if (buffer.remainingCapacity() == 0 || !paused.compareAndSet(true, false)) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Moves on to the next row to buffer, or the end of the partition, or the next partition.
+     *
+     * @return {@code false} if there are no more partitions to scan.
+     */
+    private boolean nextItem() {
+      if (rows == null) {
+        final int idx = nextPartition.getAndIncrement();
+        if (idx >= locations.size()) {
+          return false;
+        }
+        buffer = buffers.get(idx);
+        rows = scanPartition.apply(locations.get(idx));
+      }
+
+      if (rows.hasNext()) {
+        pending = rows.next();
+      } else {
+        pending = END;
+        closeRows();
+      }
+      return true;
+    }
+  }
+
+  private static final class ScanFailure {
+
+    private final Throwable cause;
+
+    private ScanFailure(final Throwable cause) {
+      this.cause = cause;
+    }
+  }
+}
@@ -25,10 +25,13 @@ import io.confluent.ksql.physical.common.operators.AbstractPhysicalOperator;
 import io.confluent.ksql.physical.common.operators.UnaryPhysicalOperator;
 import io.confluent.ksql.planner.plan.DataSourceNode;
 import io.confluent.ksql.planner.plan.PlanNode;
+import io.confluent.ksql.util.CloseableIterator;
+import io.confluent.ksql.util.IteratorUtil;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,34 +43,66 @@ public class TableScanOperator extends AbstractPhysicalOperator
   private final Materialization mat;
   private final DataSourceNode logicalNode;
   private final CompletableFuture<Void> shouldCancelOperations;
+  private final ExecutorService scanExecutor;
+  private final int scanParallelism;
+  private final boolean orderedScan;
 
   private ImmutableList<KsqlPartitionLocation> partitionLocations;
-  private Iterator<Row> resultIterator;
+  private CloseableIterator<Row> resultIterator;
   private Iterator<KsqlPartitionLocation> partitionLocationIterator;
   private KsqlPartitionLocation nextLocation;
+  private PartitionScanner<Row> parallelScanner;
   private long returnedRows = 0;
 
   public TableScanOperator(
       final Materialization mat,
       final DataSourceNode logicalNode,
       final CompletableFuture<Void> shouldCancelOperations
+  ) {
+    this(mat, logicalNode, shouldCancelOperations, null, 1, true);
+  }
+
+  /**
+   * @param scanExecutor the executor used to scan partitions concurrently.
+   * @param scanParallelism the maximum number of partitions to scan concurrently. A value of one
+   *                        scans partitions one after another on the calling thread.
+   * @param orderedScan whether the rows of a concurrent scan are returned in partition order.
+   */
+  public TableScanOperator(
+      final Materialization mat,
+      final DataSourceNode logicalNode,
+      final CompletableFuture<Void> shouldCancelOperations,
+      final ExecutorService scanExecutor,
+      final int scanParallelism,
+      final boolean orderedScan
   ) {
     this.mat = Objects.requireNonNull(mat, "mat");
     this.logicalNode = Objects.requireNonNull(logicalNode, "logicalNode");
     this.shouldCancelOperations =  Objects.requireNonNull(shouldCancelOperations,
         "shouldCancelOperations");
+    this.scanExecutor = scanExecutor;
+    this.scanParallelism = scanParallelism;
+    this.orderedScan = orderedScan;
   }
 
   @Override
   public void open() {
+    parallelScanner = null;
+    if (scansPartitionsConcurrently() && partitionLocations.size() > 1) {
+      partitionLocations.forEach(TableScanOperator::validateLocation);
+      parallelScanner = new PartitionScanner<>(
+          partitionLocations, this::scan, shouldCancelOperations::isDone, orderedScan);
+      parallelScanner.start(scanExecutor, scanParallelism);
+      return;
+    }
+
     partitionLocationIterator = partitionLocations.iterator();
     if (partitionLocationIterator.hasNext()) {
       nextLocation = partitionLocationIterator.next();
       if (nextLocation.getKeys().isPresent()) {
         throw new IllegalStateException("Table scans should not be done with keys");
       }
-      resultIterator = mat.nonWindowed()
-          .get(nextLocation.getPartition());
+      resultIterator = scan(nextLocation);
     }
   }
 
@@ -77,8 +112,24 @@ public class TableScanOperator extends AbstractPhysicalOperator
       return null;
     }
 
+    if (parallelScanner != null) {
+      final Row row = parallelScanner.next();
+      if (row == null) {
+        return null;
+      }
+      returnedRows++;
+      return QueryRowImpl.of(
+          row.schema(),
+          row.key(),
+          row.window(),
+          row.value(),
+          row.rowTime()
+      );
+    }
+
     while (!resultIterator.hasNext()) {
       // Exhausted resultIterator
+      resultIterator.close();
       if (partitionLocationIterator.hasNext()) {
         nextLocation = partitionLocationIterator.next();
       } else {
@@ -88,8 +139,7 @@ public class TableScanOperator extends AbstractPhysicalOperator
       if (nextLocation.getKeys().isPresent()) {
         throw new IllegalStateException("Table scans should not be done with keys");
       }
-      resultIterator = mat.nonWindowed()
-          .get(nextLocation.getPartition());
+      resultIterator = scan(nextLocation);
     }
 
     returnedRows++;
@@ -105,7 +155,24 @@ public class TableScanOperator extends AbstractPhysicalOperator
 
   @Override
   public void close() {
+    if (parallelScanner != null) {
+      parallelScanner.close();
+    }
+    if (resultIterator != null) {
+      resultIterator.close();
+      resultIterator = null;
+    }
+  }
+
+  private CloseableIterator<Row> scan(final KsqlPartitionLocation location) {
+    return IteratorUtil.closeable(
+        mat.nonWindowed().get(location.getPartition()));
+  }
 
+  private static void validateLocation(final KsqlPartitionLocation location) {
+    if (location.getKeys().isPresent()) {
+      throw new IllegalStateException("Table scans should not be done with keys");
+    }
   }
 
   @Override
@@ -152,4 +219,9 @@ public class TableScanOperator extends AbstractPhysicalOperator
   public long getReturnedRowCount() {
     return returnedRows;
   }
+
+  @Override
+  public boolean scansPartitionsConcurrently() {
+    return scanExecutor != null && scanParallelism > 1;
+  }
 }
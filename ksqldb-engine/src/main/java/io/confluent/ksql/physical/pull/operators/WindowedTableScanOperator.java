@@ -26,10 +26,13 @@ import io.confluent.ksql.physical.common.operators.AbstractPhysicalOperator;
 import io.confluent.ksql.physical.common.operators.UnaryPhysicalOperator;
 import io.confluent.ksql.planner.plan.DataSourceNode;
 import io.confluent.ksql.planner.plan.PlanNode;
+import io.confluent.ksql.util.CloseableIterator;
+import io.confluent.ksql.util.IteratorUtil;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,34 +44,66 @@ public class WindowedTableScanOperator extends AbstractPhysicalOperator
   private final Materialization mat;
   private final DataSourceNode logicalNode;
   private final CompletableFuture<Void> shouldCancelOperations;
+  private final ExecutorService scanExecutor;
+  private final int scanParallelism;
+  private final boolean orderedScan;
 
   private ImmutableList<KsqlPartitionLocation> partitionLocations;
-  private Iterator<WindowedRow> resultIterator;
+  private CloseableIterator<WindowedRow> resultIterator;
   private Iterator<KsqlPartitionLocation> partitionLocationIterator;
   private KsqlPartitionLocation nextLocation;
+  private PartitionScanner<WindowedRow> parallelScanner;
   private long returnedRows = 0;
 
   public WindowedTableScanOperator(
       final Materialization mat,
       final DataSourceNode logicalNode,
       final CompletableFuture<Void> shouldCancelOperations
+  ) {
+    this(mat, logicalNode, shouldCancelOperations, null, 1, true);
+  }
+
+  /**
+   * @param scanExecutor the executor used to scan partitions concurrently.
+   * @param scanParallelism the maximum number of partitions to scan concurrently. A value of one
+   *                        scans partitions one after another on the calling thread.
+   * @param orderedScan whether the rows of a concurrent scan are returned in partition order.
+   */
+  public WindowedTableScanOperator(
+      final Materialization mat,
+      final DataSourceNode logicalNode,
+      final CompletableFuture<Void> shouldCancelOperations,
+      final ExecutorService scanExecutor,
+      final int scanParallelism,
+      final boolean orderedScan
   ) {
     this.mat = Objects.requireNonNull(mat, "mat");
     this.logicalNode = Objects.requireNonNull(logicalNode, "logicalNode");
     this.shouldCancelOperations =  Objects.requireNonNull(shouldCancelOperations,
         "shouldCancelOperations");
+    this.scanExecutor = scanExecutor;
+    this.scanParallelism = scanParallelism;
+    this.orderedScan = orderedScan;
   }
 
   @Override
   public void open() {
+    parallelScanner = null;
+    if (scansPartitionsConcurrently() && partitionLocations.size() > 1) {
+      partitionLocations.forEach(WindowedTableScanOperator::validateLocation);
+      parallelScanner = new PartitionScanner<>(
+          partitionLocations, this::scan, shouldCancelOperations::isDone, orderedScan);
+      parallelScanner.start(scanExecutor, scanParallelism);
+      return;
+    }
+
     partitionLocationIterator = partitionLocations.iterator();
     if (partitionLocationIterator.hasNext()) {
       nextLocation = partitionLocationIterator.next();
       if (nextLocation.getKeys().isPresent()) {
         throw new IllegalStateException("Table scans should not be done with keys");
       }
-      resultIterator = mat.windowed()
-          .get(nextLocation.getPartition(), Range.all(), Range.all());
+      resultIterator = scan(nextLocation);
     }
   }
 
@@ -78,8 +113,24 @@ public class WindowedTableScanOperator extends AbstractPhysicalOperator
       return null;
     }
 
+    if (parallelScanner != null) {
+      final WindowedRow row = parallelScanner.next();
+      if (row == null) {
+        return null;
+      }
+      returnedRows++;
+      return QueryRowImpl.of(
+          row.schema(),
+          row.key(),
+          row.window(),
+          row.value(),
+          row.rowTime()
+      );
+    }
+
     while (!resultIterator.hasNext()) {
       // Exhausted resultIterator
+      resultIterator.close();
       if (partitionLocationIterator.hasNext()) {
         nextLocation = partitionLocationIterator.next();
       } else {
@@ -89,8 +140,7 @@ public class WindowedTableScanOperator extends AbstractPhysicalOperator
       if (nextLocation.getKeys().isPresent()) {
         throw new IllegalStateException("Table scans should not be done with keys");
       }
-      resultIterator = mat.windowed()
-          .get(nextLocation.getPartition(), Range.all(), Range.all());
+      resultIterator = scan(nextLocation);
     }
 
     returnedRows++;
@@ -106,7 +156,24 @@ public class WindowedTableScanOperator extends AbstractPhysicalOperator
 
   @Override
   public void close() {
+    if (parallelScanner != null) {
+      parallelScanner.close();
+    }
+    if (resultIterator != null) {
+      resultIterator.close();
+      resultIterator = null;
+    }
+  }
+
+  private CloseableIterator<WindowedRow> scan(final KsqlPartitionLocation location) {
+    return IteratorUtil.closeable(
+        mat.windowed().get(location.getPartition(), Range.all(), Range.all()));
+  }
 
+  private static void validateLocation(final KsqlPartitionLocation location) {
+    if (location.getKeys().isPresent()) {
+      throw new IllegalStateException("Table scans should not be done with keys");
+    }
   }
 
   @Override
@@ -153,4 +220,9 @@ public class WindowedTableScanOperator extends AbstractPhysicalOperator
   public long getReturnedRowCount() {
     return returnedRows;
   }
+
+  @Override
+  public boolean scansPartitionsConcurrently() {
+    return scanExecutor != null && scanParallelism > 1;
+  }
 }
@@ -73,6 +73,11 @@ public class OffsetRangeRow implements QueryRow {
     return GenericRow.genericRow();
   }
 
+  @Override
+  public GenericRow intermediateValue() {
+    return value();
+  }
+
   @Override
   public Optional<PushOffsetRange> getOffsetRange() {
     return Optional.of(offsetRange);
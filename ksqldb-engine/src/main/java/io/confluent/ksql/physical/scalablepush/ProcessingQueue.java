@@ -17,56 +17,83 @@ package io.confluent.ksql.physical.scalablepush;
 
 import io.confluent.ksql.physical.common.QueryRow;
 import io.confluent.ksql.query.QueryId;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Collection;
 
 /**
  * A queue for storing pre-processed rows for a given scalable push query request. This queue
  * starts dropping rows if they're past the capacity, and keeps track so it can be reported to the
  * request.
  *
- * <p>The class is threadsafe since it's assumed that different threads are producing and consuming
- * the data.
+ * <p>The queue is a bounded, lock-free ring buffer for a single producer and a single consumer:
+ * {@link #offer} must only ever be called from one thread, the consumer thread polling the
+ * registry's topic, and {@link #poll} and {@link #drainTo} from one other thread, the request's
+ * Vertx context. All other methods may be called from any thread.
  */
 public class ProcessingQueue {
 
   static final int BLOCKING_QUEUE_CAPACITY = 1000;
 
-  private final Deque<QueryRow> rowQueue;
+  private final QueryRow[] buffer;
+  private final int mask;
   private final QueryId queryId;
   private final int queueSizeLimit;
-  private boolean closed = false;
-  private boolean droppedRows = false;
-  private boolean hasError = false;
-  private Runnable newRowCallback = () -> { };
+
+  // Index of the next slot to read. Only written by the consumer.
+  private volatile long head = 0;
+  // Index of the next slot to write. Only written by the producer.
+  private volatile long tail = 0;
+
+  private volatile boolean closed = false;
+  private volatile boolean droppedRows = false;
+  private volatile boolean hasError = false;
+  private volatile Runnable newRowCallback = () -> { };
 
   public ProcessingQueue(final QueryId queryId) {
     this(queryId, BLOCKING_QUEUE_CAPACITY);
   }
 
   public ProcessingQueue(final QueryId queryId, final int queueSizeLimit) {
+    if (queueSizeLimit <= 0) {
+      throw new IllegalArgumentException("queueSizeLimit must be positive: " + queueSizeLimit);
+    }
     this.queryId = queryId;
     this.queueSizeLimit = queueSizeLimit;
-    this.rowQueue = new ArrayDeque<>();
+    final int capacity = Integer.highestOneBit(queueSizeLimit - 1) << 1;
+    this.buffer = new QueryRow[Math.max(capacity, 1)];
+    this.mask = buffer.length - 1;
   }
 
   /**
    * Adds a {@link QueryRow} to the queue. This is expected to be called from the processor streams
    * thread when a new row arrives.
+   *
+   * <p>The new row callback is only invoked when the row is added to an empty queue, as the
+   * consumer is otherwise already draining the queue and will see the new row.
+   *
    * @param queryRow The row to add
    * @return if the row has been successfully added to the queue or if it's been dropped due to
    *     being at the size limit.
    */
-  public synchronized boolean offer(final QueryRow queryRow) {
+  public boolean offer(final QueryRow queryRow) {
     if (closed) {
       return false;
-    } else if (rowQueue.size() < queueSizeLimit && !droppedRows) {
-      rowQueue.offer(queryRow);
+    }
+
+    final long currentTail = tail;
+    if (droppedRows || currentTail - head >= queueSizeLimit) {
+      droppedRows = true;
+      return false;
+    }
+
+    buffer[(int) (currentTail & mask)] = queryRow;
+    tail = currentTail + 1;
+
+    // Reading head after publishing tail ensures that either the consumer sees the new row, or
+    // this thread sees that the consumer had emptied the queue and so needs waking:
+    if (head == currentTail) {
       newRowCallback.run();
-      return true;
     }
-    droppedRows = true;
-    return false;
+    return true;
   }
 
   /**
@@ -74,44 +101,77 @@ public class ProcessingQueue {
    * which is called from the Vertx context.
    * @return The next row or null if either the queue is closed or there's no data to return.
    */
-  public synchronized QueryRow poll() {
-    if (!closed) {
-      return rowQueue.poll();
+  public QueryRow poll() {
+    if (closed) {
+      return null;
+    }
+
+    final long currentHead = head;
+    if (currentHead == tail) {
+      return null;
+    }
+
+    final int index = (int) (currentHead & mask);
+    final QueryRow row = buffer[index];
+    buffer[index] = null;
+    head = currentHead + 1;
+    return row;
+  }
+
+  /**
+   * Moves up to {@code maxRows} rows from the queue into {@code sink}. This is expected to be
+   * called from the plan's physical operator which is called from the Vertx context.
+   * @param sink The collection to add the rows to
+   * @param maxRows The maximum number of rows to move
+   * @return The number of rows moved, which is zero if the queue is closed or empty.
+   */
+  public int drainTo(final Collection<? super QueryRow> sink, final int maxRows) {
+    if (closed) {
+      return 0;
+    }
+
+    final long currentHead = head;
+    final int available = (int) Math.min(tail - currentHead, maxRows);
+    for (int i = 0; i < available; i++) {
+      final int index = (int) ((currentHead + i) & mask);
+      sink.add(buffer[index]);
+      buffer[index] = null;
     }
-    return null;
+    head = currentHead + available;
+    return available;
   }
 
   /**
    * Closes the queue which causes rows to stop being returned.
    */
-  public synchronized void close() {
+  public void close() {
     closed = true;
   }
 
-  public synchronized boolean isClosed() {
+  public boolean isClosed() {
     return closed;
   }
 
   /**
-   * Sets a callback which is invoked every time a new row has been enqueued.
+   * Sets a callback which is invoked every time a row is enqueued into an empty queue.
    * @param newRowCallback The callback to invoke
    */
-  public synchronized void setNewRowCallback(final Runnable newRowCallback) {
+  public void setNewRowCallback(final Runnable newRowCallback) {
     this.newRowCallback = newRowCallback;
   }
 
   /**
    * Whether rows have been dropped due to hitting the queue limit.
    */
-  public synchronized boolean hasDroppedRows() {
+  public boolean hasDroppedRows() {
     return droppedRows;
   }
 
-  public synchronized void onError() {
+  public void onError() {
     hasError = true;
   }
 
-  public synchronized boolean getHasError() {
+  public boolean getHasError() {
     return hasError;
   }
 
@@ -119,7 +179,7 @@ public class ProcessingQueue {
     return queryId;
   }
 
-  public synchronized boolean isAtLimit() {
-    return rowQueue.size() >= queueSizeLimit;
+  public boolean isAtLimit() {
+    return tail - head >= queueSizeLimit;
   }
 }
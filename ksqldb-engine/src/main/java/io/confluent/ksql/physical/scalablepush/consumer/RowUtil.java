@@ -21,7 +21,6 @@ import io.confluent.ksql.Window;
 import io.confluent.ksql.physical.common.QueryRow;
 import io.confluent.ksql.physical.common.QueryRowImpl;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
-import java.util.Collections;
 import java.util.Optional;
 import org.apache.kafka.streams.kstream.Windowed;
 
@@ -32,6 +31,9 @@ public final class RowUtil {
   /**
    * Takes a raw key object read from the topic and returns the appropriate row, depending on
    * whether it's windowed or not.
+   *
+   * <p>The key and value are not copied, so the returned row can be shared between queries only
+   * because the physical operators never modify the rows they read.
    * @param key The key object
    * @param value The value
    * @param timestamp The timestamp of the row
@@ -48,18 +50,14 @@ public final class RowUtil {
       final LogicalSchema logicalSchema
   ) {
     if (!windowed) {
-      final GenericKey keyCopy = GenericKey.fromList(
-          key != null ? ((GenericKey) key).values() : Collections.emptyList());
-      final GenericRow valueCopy = GenericRow.fromList(value.values());
-      return QueryRowImpl.of(logicalSchema, keyCopy, Optional.empty(), valueCopy, timestamp);
+      final GenericKey genericKey = key != null ? (GenericKey) key : GenericKey.genericKey();
+      return QueryRowImpl.of(logicalSchema, genericKey, Optional.empty(), value, timestamp);
     } else {
       final Windowed<GenericKey> windowedKey = (Windowed<GenericKey>) key;
-      final GenericKey keyCopy = GenericKey.fromList(windowedKey.key().values());
-      final GenericRow valueCopy = GenericRow.fromList(value.values());
-      return QueryRowImpl.of(logicalSchema, keyCopy, Optional.of(Window.of(
+      return QueryRowImpl.of(logicalSchema, windowedKey.key(), Optional.of(Window.of(
           windowedKey.window().startTime(),
           windowedKey.window().endTime()
-      )), valueCopy, timestamp);
+      )), value, timestamp);
     }
   }
 }
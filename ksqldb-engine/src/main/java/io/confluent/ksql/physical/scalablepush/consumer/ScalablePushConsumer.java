@@ -171,11 +171,10 @@ public abstract class ScalablePushConsumer implements AutoCloseable {
       return false;
     }
     numRowsReceived.incrementAndGet();
+    // A single row is shared by all queries: the physical operators never modify it.
+    final QueryRow row = RowUtil.createRow(key, value, timestamp, windowed, logicalSchema);
     for (ProcessingQueue queue : processingQueues.values()) {
       try {
-        // The physical operators may modify the keys and values, so we make a copy to ensure
-        // that there's no cross-query interference.
-        final QueryRow row = RowUtil.createRow(key, value, timestamp, windowed, logicalSchema);
         queue.offer(row);
         afterOfferedRow(queue);
       } catch (final Throwable t) {
@@ -16,12 +16,15 @@
 package io.confluent.ksql.physical.scalablepush.operators;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.confluent.ksql.physical.common.QueryRow;
 import io.confluent.ksql.physical.common.operators.AbstractPhysicalOperator;
 import io.confluent.ksql.physical.scalablepush.ProcessingQueue;
 import io.confluent.ksql.physical.scalablepush.ScalablePushRegistry;
 import io.confluent.ksql.planner.plan.DataSourceNode;
 import io.confluent.ksql.planner.plan.PlanNode;
 import io.confluent.ksql.query.QueryId;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -30,10 +33,14 @@ import java.util.List;
  */
 public class PeekStreamOperator extends AbstractPhysicalOperator implements PushDataSourceOperator {
 
+  // The maximum number of rows taken from the processing queue at once
+  private static final int MAX_BATCH_SIZE = 100;
+
   private final DataSourceNode logicalNode;
   private final ScalablePushRegistry scalablePushRegistry;
   private final ProcessingQueue processingQueue;
   private final boolean expectingStartOfRegistryData;
+  private final Deque<QueryRow> batch = new ArrayDeque<>(MAX_BATCH_SIZE);
 
   private long rowsRead = 0;
 
@@ -58,12 +65,20 @@ public class PeekStreamOperator extends AbstractPhysicalOperator implements Push
   @Override
   public Object next() {
     rowsRead++;
-    return processingQueue.poll();
+    if (processingQueue.isClosed()) {
+      batch.clear();
+      return null;
+    }
+    if (batch.isEmpty()) {
+      processingQueue.drainTo(batch, MAX_BATCH_SIZE);
+    }
+    return batch.poll();
   }
 
   @Override
   public void close() {
     processingQueue.close();
+    batch.clear();
     scalablePushRegistry.unregister(processingQueue);
   }
 
@@ -15,6 +15,7 @@
 
 package io.confluent.ksql.planner;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import io.confluent.ksql.analyzer.AggregateAnalysisResult;
 import io.confluent.ksql.analyzer.AggregateAnalyzer;
@@ -51,8 +52,10 @@ import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.name.SourceName;
 import io.confluent.ksql.parser.NodeLocation;
 import io.confluent.ksql.parser.OutputRefinement;
+import io.confluent.ksql.parser.tree.AllColumns;
 import io.confluent.ksql.parser.tree.GroupBy;
 import io.confluent.ksql.parser.tree.PartitionBy;
+import io.confluent.ksql.parser.tree.SingleColumn;
 import io.confluent.ksql.parser.tree.WindowExpression;
 import io.confluent.ksql.planner.JoinTree.Join;
 import io.confluent.ksql.planner.JoinTree.Leaf;
@@ -82,6 +85,7 @@ import io.confluent.ksql.schema.ksql.Column;
 import io.confluent.ksql.schema.ksql.ColumnNames;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
 import io.confluent.ksql.schema.ksql.LogicalSchema.Builder;
+import io.confluent.ksql.schema.ksql.SystemColumns;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import io.confluent.ksql.serde.FormatFactory;
 import io.confluent.ksql.serde.FormatInfo;
@@ -400,12 +404,14 @@ public class LogicalPlanner {
   private static ProjectNode buildInternalProjectNode(
       final PlanNode parent,
       final String id,
-      final SourceName sourceAlias
+      final SourceName sourceAlias,
+      final Optional<Set<ColumnName>> keptColumns
   ) {
     return new PreJoinProjectNode(
         new PlanNodeId(id),
         parent,
-        sourceAlias
+        sourceAlias,
+        keptColumns
     );
   }
 
@@ -499,6 +505,22 @@ public class LogicalPlanner {
       final Expression joinExpression,
       final boolean isForeignKeyJoin
   ) {
+    final Optional<Set<ColumnName>> keptColumns = requiredJoinColumns(sourceNode);
+
+    if (keptColumns.isPresent()
+        && !isForeignKeyJoin
+        && joinExpression instanceof QualifiedColumnReferenceExp) {
+      // project before repartitioning, so the repartition topic only holds the kept columns:
+      final ProjectNode projectNode = buildInternalProjectNode(
+          sourceNode,
+          "PrependAlias" + side,
+          sourceNode.getAlias(),
+          keptColumns
+      );
+
+      return buildInternalRepartitionNode(projectNode, side, joinExpression, refRewriter::process);
+    }
+
     final PlanNode preProjectNode;
     if (isForeignKeyJoin) {
       // we do not need to repartition for foreign key joins, as FK joins do not
@@ -526,10 +548,74 @@ public class LogicalPlanner {
     return buildInternalProjectNode(
         preProjectNode,
         "PrependAlias" + side,
-        sourceNode.getAlias()
+        sourceNode.getAlias(),
+        keptColumns
     );
   }
 
+  /**
+   * @return the value columns of the {@code source} of a join that the query needs, or empty if
+   *     it needs all of them, e.g. because it selects {@code *}, or if pruning is disabled.
+   */
+  private Optional<Set<ColumnName>> requiredJoinColumns(final DataSourceNode source) {
+    if (!ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED)) {
+      return Optional.empty();
+    }
+
+    final SourceName alias = source.getAlias();
+    final boolean selectsAll = analysis.getSelectItems().stream()
+        .filter(AllColumns.class::isInstance)
+        .map(AllColumns.class::cast)
+        .anyMatch(all -> !all.getSource().isPresent() || all.getSource().get().equals(alias));
+
+    if (selectsAll) {
+      return Optional.empty();
+    }
+
+    final RequiredColumns referenced = buildRequiredColumns();
+
+    // Note: the 'value' columns include the key and pseudo columns at this point:
+    return Optional.of(source.getSchema().value().stream()
+        .map(Column::name)
+        .filter(name -> SystemColumns.isSystemColumn(name, ksqlConfig)
+            || isReferenced(alias, name, referenced))
+        .collect(ImmutableSet.toImmutableSet()));
+  }
+
+  private RequiredColumns buildRequiredColumns() {
+    final RequiredColumns.Builder builder = RequiredColumns.builder();
+
+    analysis.getSelectItems().stream()
+        .filter(SingleColumn.class::isInstance)
+        .map(si -> ((SingleColumn) si).getExpression())
+        .forEach(builder::add);
+
+    analysis.getWhereExpression().ifPresent(builder::add);
+    analysis.getHavingExpression().ifPresent(builder::add);
+    analysis.getGroupBy().ifPresent(groupBy -> builder.addAll(groupBy.getGroupingExpressions()));
+    analysis.getPartitionBy().ifPresent(partition -> builder.addAll(partition.getExpressions()));
+    analysis.getJoin().forEach(join -> builder
+        .add(join.getLeftJoinExpression())
+        .add(join.getRightJoinExpression()));
+    builder.add(analysis.getDefaultArgument());
+
+    return builder.build();
+  }
+
+  private static boolean isReferenced(
+      final SourceName alias,
+      final ColumnName name,
+      final RequiredColumns referenced
+  ) {
+    final ColumnName aliasedName = ColumnNames.generatedJoinColumnAlias(alias, name);
+
+    // Unqualified references are matched by name alone, which may keep more than is needed:
+    return referenced.get().stream().anyMatch(ref -> ref instanceof QualifiedColumnReferenceExp
+        ? ((QualifiedColumnReferenceExp) ref).getQualifier().equals(alias)
+            && ref.getColumnName().equals(name)
+        : ref.getColumnName().equals(name) || ref.getColumnName().equals(aliasedName));
+  }
+
   private PlanNode prepareSourceForJoin(
       final Join join,
       final PlanNode joinedSource,
@@ -23,6 +23,20 @@ public interface QueryPlannerOptions {
 
   boolean getRangeScansEnabled();
 
+  /**
+   * @return the maximum number of partitions a table scan may read concurrently.
+   */
+  default int getTableScanParallelism() {
+    return 1;
+  }
+
+  /**
+   * @return whether a concurrent table scan returns rows in partition order.
+   */
+  default boolean getTableScanOrdered() {
+    return true;
+  }
+
   /**
    * @return a human readable representation of the {@code QueryPlannerOptions},
    *         used to debug requests
@@ -26,6 +26,7 @@ import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.name.SourceName;
 import io.confluent.ksql.planner.RequiredColumns;
 import io.confluent.ksql.planner.RequiredColumns.Builder;
+import io.confluent.ksql.schema.ksql.Column;
 import io.confluent.ksql.schema.ksql.Column.Namespace;
 import io.confluent.ksql.schema.ksql.ColumnNames;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
@@ -33,6 +34,7 @@ import io.confluent.ksql.serde.KeyFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,6 +42,9 @@ import java.util.stream.Stream;
  * Logical plan node that prepends a source's alias to the start of each column name.
  *
  * <p>This aliasing avoids column name clashes between the sources within a join.
+ *
+ * <p>The node can also drop the value columns the query does not need, so that they are not
+ * repartitioned, joined and stored. Key columns are always kept.
  */
 public class PreJoinProjectNode extends ProjectNode implements JoiningNode {
 
@@ -52,15 +57,32 @@ public class PreJoinProjectNode extends ProjectNode implements JoiningNode {
       final PlanNodeId id,
       final PlanNode source,
       final SourceName alias
+  ) {
+    this(id, source, alias, Optional.empty());
+  }
+
+  /**
+   * @param keptColumns the value columns of the source to keep, or empty to keep them all.
+   */
+  public PreJoinProjectNode(
+      final PlanNodeId id,
+      final PlanNode source,
+      final SourceName alias,
+      final Optional<Set<ColumnName>> keptColumns
   ) {
     super(id, source);
 
+    final Predicate<Column> isKept = keptColumns
+        .map(kept -> isKept(kept, source.getSchema()))
+        .orElse(c -> true);
+
     this.selectExpressions = ImmutableList.copyOf(buildSelectExpressions(
         alias,
-        source.getSchema()
+        source.getSchema(),
+        isKept
     ));
     this.aliases = buildAliasMapping(selectExpressions);
-    this.schema = buildSchema(alias, source.getSchema());
+    this.schema = buildSchema(alias, source.getSchema(), isKept);
     if (source instanceof JoiningNode) {
       this.joiningSource = Optional.of((JoiningNode) source);
     } else {
@@ -106,7 +128,8 @@ public class PreJoinProjectNode extends ProjectNode implements JoiningNode {
       final Optional<SourceName> sourceName
   ) {
     return getSource().resolveSelectStar(sourceName)
-        .map(name -> aliases.getOrDefault(name, name));
+        .map(name -> aliases.getOrDefault(name, name))
+        .filter(name -> schema.findColumn(name).isPresent());
   }
 
   @Override
@@ -144,13 +167,23 @@ public class PreJoinProjectNode extends ProjectNode implements JoiningNode {
     return builder.build();
   }
 
+  private static Predicate<Column> isKept(
+      final Set<ColumnName> keptColumns,
+      final LogicalSchema parentSchema
+  ) {
+    // Value columns that copy a key column are kept along with the key:
+    return c -> keptColumns.contains(c.name()) || parentSchema.isKeyColumn(c.name());
+  }
+
   private static LogicalSchema buildSchema(
       final SourceName alias,
-      final LogicalSchema parentSchema
+      final LogicalSchema parentSchema,
+      final Predicate<Column> isKept
   ) {
     final LogicalSchema.Builder builder = LogicalSchema.builder();
 
-    parentSchema.columns()
+    parentSchema.columns().stream()
+        .filter(c -> c.namespace() == Namespace.KEY || isKept.test(c))
         .forEach(c -> {
           final ColumnName aliasedName = ColumnNames.generatedJoinColumnAlias(alias, c.name());
 
@@ -166,9 +199,11 @@ public class PreJoinProjectNode extends ProjectNode implements JoiningNode {
 
   private static List<SelectExpression> buildSelectExpressions(
       final SourceName alias,
-      final LogicalSchema schema
+      final LogicalSchema schema,
+      final Predicate<Column> isKept
   ) {
     return schema.value().stream()
+        .filter(isKept)
         .map(c -> SelectExpression.of(
             ColumnNames.generatedJoinColumnAlias(alias, c.name()),
             new UnqualifiedColumnReferenceExp(c.name()))
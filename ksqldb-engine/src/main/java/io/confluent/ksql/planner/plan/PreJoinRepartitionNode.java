@@ -55,12 +55,11 @@ public class PreJoinRepartitionNode extends SingleSourcePlanNode implements Join
     this.schema = requireNonNull(schema, "schema");
     this.partitionBy = requireNonNull(partitionBy, "partitionBy");
 
-    if (source instanceof JoiningNode) {
-      if (!(source instanceof JoinNode)) {
-        throw new IllegalStateException(
-            "PreJoinRepartitionNode preceded by non-JoinNode JoiningNode: " + source.getClass());
-      }
+    if (source instanceof JoinNode) {
       this.joiningNode = Optional.of((JoinNode) source);
+    } else if (source instanceof JoiningNode && !isPrunedSource(source)) {
+      throw new IllegalStateException(
+          "PreJoinRepartitionNode preceded by non-JoinNode JoiningNode: " + source.getClass());
     } else {
       this.joiningNode = Optional.empty();
     }
@@ -121,6 +120,15 @@ public class PreJoinRepartitionNode extends SingleSourcePlanNode implements Join
     return Repartitioning.repartitionNeeded(getSource().getSchema(), ImmutableList.of(partitionBy));
   }
 
+  /**
+   * A source whose unused columns are pruned is projected before it is repartitioned, so that
+   * the repartition topic only holds the columns the query needs.
+   */
+  private static boolean isPrunedSource(final PlanNode source) {
+    return source instanceof PreJoinProjectNode
+        && source.getSources().get(0) instanceof DataSourceNode;
+  }
+
   // Only safe to call this if joiningNode is empty.
   private KeyFormat getSourceKeyFormat() {
     return Iterators.getOnlyElement(getSourceNodes().iterator())
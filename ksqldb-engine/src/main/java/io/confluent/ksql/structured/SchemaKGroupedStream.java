@@ -32,6 +32,7 @@ import io.confluent.ksql.serde.FormatInfo;
 import io.confluent.ksql.serde.InternalFormats;
 import io.confluent.ksql.serde.KeyFormat;
 import io.confluent.ksql.serde.SerdeFeaturesFactory;
+import io.confluent.ksql.serde.binary.BinaryFormat;
 import io.confluent.ksql.util.KsqlConfig;
 import java.util.List;
 import java.util.Objects;
@@ -80,7 +81,7 @@ public class SchemaKGroupedStream {
       step = ExecutionStepFactory.streamWindowedAggregate(
           contextStacker,
           sourceStep,
-          InternalFormats.of(keyFormat, valueFormat),
+          InternalFormats.of(keyFormat, stateFormat(valueFormat)),
           nonAggregateColumns,
           aggregations,
           windowExpression.get().getKsqlWindowExpression()
@@ -94,7 +95,7 @@ public class SchemaKGroupedStream {
       step = ExecutionStepFactory.streamAggregate(
           contextStacker,
           sourceStep,
-          InternalFormats.of(keyFormat, valueFormat),
+          InternalFormats.of(keyFormat, stateFormat(valueFormat)),
           nonAggregateColumns,
           aggregations
       );
@@ -109,6 +110,16 @@ public class SchemaKGroupedStream {
     );
   }
 
+  /**
+   * @param valueFormat the value format of the source of the aggregation.
+   * @return the value format to store the state of the aggregation in.
+   */
+  FormatInfo stateFormat(final FormatInfo valueFormat) {
+    return ksqlConfig.getBoolean(KsqlConfig.KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED)
+        ? FormatInfo.of(BinaryFormat.NAME)
+        : valueFormat;
+  }
+
   private KeyFormat getKeyFormat(final WindowExpression windowExpression) {
     return SerdeFeaturesFactory.sanitizeKeyFormat(
         KeyFormat.windowed(
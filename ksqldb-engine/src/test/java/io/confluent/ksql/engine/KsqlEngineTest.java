@@ -56,6 +56,10 @@ import io.confluent.ksql.KsqlExecutionContext;
 import io.confluent.ksql.KsqlExecutionContext.ExecuteResult;
 import io.confluent.ksql.config.SessionConfig;
 import io.confluent.ksql.engine.QueryCleanupService.QueryCleanupTask;
+import io.confluent.ksql.execution.expression.tree.ComparisonExpression;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.expression.tree.IntegerLiteral;
+import io.confluent.ksql.execution.expression.tree.LongLiteral;
 import io.confluent.ksql.function.InternalFunctionRegistry;
 import io.confluent.ksql.internal.KsqlEngineMetrics;
 import io.confluent.ksql.logging.processing.ProcessingLogContext;
@@ -2070,6 +2074,131 @@ public class KsqlEngineTest {
     ));
   }
 
+  @Test
+  public void shouldPreparePullQueryWithParameters() {
+    // When:
+    final BoundQuery bound = ksqlEngine.prepareWithParameters(
+        "SELECT * FROM TEST2 WHERE COL0 = ${id};",
+        ImmutableMap.of("id", 10L),
+        emptyMap(),
+        emptyMap()
+    );
+
+    // Then:
+    assertThat(bound.getStatement().getStatementText(),
+        is("SELECT * FROM TEST2 WHERE COL0 = 10;"));
+    assertThat(whereLiteral(bound.getStatement().getStatement().getWhere().get()),
+        is(new IntegerLiteral(10)));
+    assertThat(bound.getAnalysis().isPresent(), is(true));
+    assertThat(whereLiteral(bound.getAnalysis().get().getWhereExpression().get()),
+        is(new IntegerLiteral(10)));
+  }
+
+  @Test
+  public void shouldRebindCachedPullQueryWithParameters() {
+    // Given:
+    ksqlEngine.prepareWithParameters(
+        "SELECT * FROM TEST2 WHERE COL0 = ${id};",
+        ImmutableMap.of("id", 10L),
+        emptyMap(),
+        emptyMap()
+    );
+
+    // When:
+    final BoundQuery bound = ksqlEngine.prepareWithParameters(
+        "SELECT * FROM TEST2 WHERE COL0 = ${id};",
+        ImmutableMap.of("id", 10_000_000_000L),
+        emptyMap(),
+        emptyMap()
+    );
+
+    // Then:
+    assertThat(bound.getStatement().getStatementText(),
+        is("SELECT * FROM TEST2 WHERE COL0 = 10000000000;"));
+    assertThat(whereLiteral(bound.getStatement().getStatement().getWhere().get()),
+        is(new LongLiteral(10_000_000_000L)));
+    assertThat(whereLiteral(bound.getAnalysis().get().getWhereExpression().get()),
+        is(new LongLiteral(10_000_000_000L)));
+  }
+
+  @Test
+  public void shouldNotUseCachedPullQueryOnceSourceIsDropped() {
+    // Given:
+    ksqlEngine.prepareWithParameters(
+        "SELECT * FROM TEST2 WHERE COL0 = ${id};",
+        ImmutableMap.of("id", 10L),
+        emptyMap(),
+        emptyMap()
+    );
+    metaStore.deleteSource(SourceName.of("TEST2"));
+
+    // When:
+    final KsqlStatementException e = assertThrows(
+        KsqlStatementException.class,
+        () -> ksqlEngine.prepareWithParameters(
+            "SELECT * FROM TEST2 WHERE COL0 = ${id};",
+            ImmutableMap.of("id", 11L),
+            emptyMap(),
+            emptyMap()
+        )
+    );
+
+    // Then:
+    assertThat(e, rawMessage(containsString("TEST2 does not exist")));
+  }
+
+  @Test
+  public void shouldPreparePushQueryWithParametersWithoutAnalysis() {
+    // When:
+    final BoundQuery bound = ksqlEngine.prepareWithParameters(
+        "SELECT * FROM TEST1 WHERE COL1 = ${name} EMIT CHANGES;",
+        ImmutableMap.of("name", "it's"),
+        emptyMap(),
+        emptyMap()
+    );
+
+    // Then:
+    assertThat(bound.getStatement().getStatementText(),
+        is("SELECT * FROM TEST1 WHERE COL1 = 'it''s' EMIT CHANGES;"));
+    assertThat(bound.getAnalysis(), is(Optional.empty()));
+  }
+
+  @Test
+  public void shouldThrowOnParametersInStatementThatIsNotQuery() {
+    // When:
+    final KsqlStatementException e = assertThrows(
+        KsqlStatementException.class,
+        () -> ksqlEngine.prepareWithParameters(
+            "INSERT INTO TEST1 (COL0) VALUES (${id});",
+            ImmutableMap.of("id", 10L),
+            emptyMap(),
+            emptyMap()
+        )
+    );
+
+    // Then:
+    assertThat(e, rawMessage(is("Only queries can have parameters.")));
+  }
+
+  @Test
+  public void shouldSubstituteSessionVariablesIntoQueryWithParameters() {
+    // When:
+    final BoundQuery bound = ksqlEngine.prepareWithParameters(
+        "SELECT * FROM ${source} WHERE COL0 = ${id} AND COL1 = ${name};",
+        ImmutableMap.of("id", 10L),
+        ImmutableMap.of("source", "TEST2", "name", "'bob'", "id", "11"),
+        emptyMap()
+    );
+
+    // Then:
+    assertThat(bound.getStatement().getStatementText(),
+        is("SELECT * FROM TEST2 WHERE COL0 = 10 AND COL1 = 'bob';"));
+  }
+
+  private static Expression whereLiteral(final Expression where) {
+    return ((ComparisonExpression) where).getRight();
+  }
+
   private void givenTopicsExist(final String... topics) {
     givenTopicsExist(1, topics);
   }
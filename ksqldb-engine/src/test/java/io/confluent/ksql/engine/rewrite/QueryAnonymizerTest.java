@@ -266,6 +266,14 @@ public class QueryAnonymizerTest {
     Approvals.verify(output);
   }
 
+  @Test
+  public void shouldAnonymizeMultiRowInsertValuesCorrectly() {
+    final String output = anon.anonymize(
+        "INSERT INTO foo (KEY_COL, COL_A) VALUES ('key', 'A'), ('other', 'B');");
+
+    Approvals.verify(output);
+  }
+
   @Test
   public void shouldAnonymizeDropStatementsCorrectly() {
     Assert.assertEquals("DROP STREAM IF EXISTS stream1 DELETE TOPIC;",
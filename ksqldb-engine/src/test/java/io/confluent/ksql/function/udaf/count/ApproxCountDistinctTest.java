@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+import io.confluent.ksql.function.KsqlFunctionException;
+import io.confluent.ksql.function.udaf.Udaf;
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class ApproxCountDistinctTest {
+
+  @Test
+  public void shouldCountStrings() {
+    // Given:
+    final Udaf<String, ByteBuffer, Long> udaf = ApproxCountDistinct.approxCountDistinct();
+    final String[] values = IntStream
+        .range(0, 100)
+        .mapToObj(i -> String.valueOf(i % 4))
+        .toArray(String[]::new);
+
+    ByteBuffer agg = udaf.initialize();
+
+    // When:
+    for (final String value : values) {
+      agg = udaf.aggregate(value, agg);
+    }
+
+    // Then:
+    assertThat(udaf.map(agg), is(4L));
+  }
+
+  @Test
+  public void shouldCountBytesByContent() {
+    // Given:
+    final Udaf<ByteBuffer, ByteBuffer, Long> udaf = ApproxCountDistinct.approxCountDistinct();
+    ByteBuffer agg = udaf.initialize();
+
+    // When:
+    agg = udaf.aggregate(ByteBuffer.wrap(new byte[]{1, 2}), agg);
+    agg = udaf.aggregate(ByteBuffer.wrap(new byte[]{1, 2}), agg);
+    agg = udaf.aggregate(ByteBuffer.wrap(new byte[]{3}), agg);
+
+    // Then:
+    assertThat(udaf.map(agg), is(2L));
+  }
+
+  @Test
+  public void shouldIgnoreNulls() {
+    // Given:
+    final Udaf<String, ByteBuffer, Long> udaf = ApproxCountDistinct.approxCountDistinct();
+    ByteBuffer agg = udaf.initialize();
+
+    // When:
+    agg = udaf.aggregate(null, agg);
+
+    // Then:
+    assertThat(udaf.map(agg), is(0L));
+  }
+
+  @Test
+  public void shouldMerge() {
+    // Given:
+    final Udaf<Integer, ByteBuffer, Long> udaf = ApproxCountDistinct.approxCountDistinct(12);
+    ByteBuffer agg1 = udaf.initialize();
+    ByteBuffer agg2 = udaf.initialize();
+
+    // When:
+    for (int i = 0; i < 100; i++) {
+      agg1 = udaf.aggregate(i % 4, agg1);
+    }
+    agg2 = udaf.aggregate(5, agg2);
+
+    // Then:
+    assertThat(udaf.map(udaf.merge(agg1, agg2)), is(5L));
+  }
+
+  @Test
+  public void shouldUseSuppliedPrecision() {
+    // When:
+    final ByteBuffer agg = ApproxCountDistinct.<String>approxCountDistinct(6).initialize();
+
+    // Then:
+    assertThat(HllSketch.precision(agg), is(6));
+  }
+
+  @Test
+  public void shouldThrowOnInvalidPrecision() {
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> ApproxCountDistinct.approxCountDistinct(3)
+    );
+  }
+}
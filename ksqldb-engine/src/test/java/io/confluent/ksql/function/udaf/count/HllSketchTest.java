@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+
+import io.confluent.ksql.function.KsqlFunctionException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class HllSketchTest {
+
+  @Test
+  public void shouldStartSparse() {
+    // When:
+    final ByteBuffer sketch = HllSketch.empty(14);
+
+    // Then:
+    assertThat(HllSketch.encoding(sketch), is(HllSketch.SPARSE));
+    assertThat(HllSketch.precision(sketch), is(14));
+    assertThat(sketch.remaining(), is(2));
+    assertThat(HllSketch.cardinality(sketch), is(0L));
+  }
+
+  @Test
+  public void shouldUpdateInPlaceWhenValueAlreadySeen() {
+    // Given:
+    final ByteBuffer sketch = HllSketch.add(HllSketch.empty(14), "a");
+
+    // When:
+    final ByteBuffer result = HllSketch.add(sketch, "a");
+
+    // Then:
+    assertThat(result, is(sameInstance(sketch)));
+    assertThat(HllSketch.cardinality(result), is(1L));
+  }
+
+  @Test
+  public void shouldSwitchToDenseOnceSparseIsFull() {
+    // Given:
+    ByteBuffer sketch = HllSketch.empty(8);
+
+    // When:
+    for (int i = 0; i < 1000; i++) {
+      sketch = HllSketch.add(sketch, i);
+    }
+
+    // Then:
+    assertThat(HllSketch.encoding(sketch), is(HllSketch.DENSE));
+    assertThat(sketch.remaining(), is(2 + 256));
+  }
+
+  @Test
+  public void shouldUpdateDenseSketchInPlace() {
+    // Given:
+    ByteBuffer sketch = HllSketch.empty(4);
+    for (int i = 0; i < 100; i++) {
+      sketch = HllSketch.add(sketch, i);
+    }
+
+    // When:
+    final ByteBuffer result = HllSketch.add(sketch, 100);
+
+    // Then:
+    assertThat(result, is(sameInstance(sketch)));
+  }
+
+  @Test
+  public void shouldEstimateLargeCardinalities() {
+    // Given:
+    ByteBuffer sketch = HllSketch.empty(14);
+
+    // When:
+    for (long i = 0; i < 100_000; i++) {
+      sketch = HllSketch.add(sketch, i);
+    }
+
+    // Then:
+    assertThat((double) HllSketch.cardinality(sketch), is(closeTo(100_000, 3_000)));
+  }
+
+  @Test
+  public void shouldMergeSparseAndDenseSketches() {
+    // Given:
+    ByteBuffer sparse = HllSketch.empty(10);
+    ByteBuffer dense = HllSketch.empty(10);
+    for (int i = 0; i < 10; i++) {
+      sparse = HllSketch.add(sparse, "x" + i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      dense = HllSketch.add(dense, "y" + i);
+    }
+
+    // When:
+    final ByteBuffer merged = HllSketch.merge(sparse, dense);
+
+    // Then:
+    assertThat(HllSketch.encoding(merged), is(HllSketch.DENSE));
+    assertThat((double) HllSketch.cardinality(merged), is(closeTo(1010, 100)));
+  }
+
+  @Test
+  public void shouldNotModifySketchBeingMergedFrom() {
+    // Given:
+    final ByteBuffer one = HllSketch.add(HllSketch.empty(14), "a");
+    final ByteBuffer two = HllSketch.add(HllSketch.empty(14), "b");
+    final ByteBuffer twoCopy = ByteBuffer.wrap(two.array().clone());
+
+    // When:
+    HllSketch.merge(one, two);
+
+    // Then:
+    assertThat(two, is(twoCopy));
+  }
+
+  @Test
+  public void shouldCopyReadOnlySketchesBeforeUpdating() {
+    // Given:
+    final ByteBuffer sketch = HllSketch.add(HllSketch.empty(14), "a").asReadOnlyBuffer();
+
+    // When:
+    final ByteBuffer result = HllSketch.add(sketch, "b");
+
+    // Then:
+    assertThat(HllSketch.cardinality(result), is(2L));
+    assertThat(HllSketch.cardinality(sketch), is(1L));
+  }
+
+  @Test
+  public void shouldThrowOnMergingDifferentPrecisions() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.merge(HllSketch.empty(10), HllSketch.empty(12))
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("different precisions: 10 and 12"));
+  }
+
+  @Test
+  public void shouldThrowOnInvalidPrecision() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.empty(19)
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("precision must be between 4 and 18, got 19"));
+  }
+
+  @Test
+  public void shouldRejectMalformedSketches() {
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.validate(ByteBuffer.wrap(new byte[]{1}))
+    );
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.validate(ByteBuffer.wrap(new byte[]{3, 14}))
+    );
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.validate(ByteBuffer.wrap(new byte[]{2, 4, 0, 0}))
+    );
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> HllSketch.validate(ByteBuffer.wrap(new byte[]{1, 4, 0, 0, 0}))
+    );
+  }
+}
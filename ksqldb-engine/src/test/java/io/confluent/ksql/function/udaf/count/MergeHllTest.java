@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udaf.count;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThrows;
+
+import io.confluent.ksql.function.KsqlFunctionException;
+import io.confluent.ksql.function.udaf.Udaf;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class MergeHllTest {
+
+  private final Udaf<String, ByteBuffer, ByteBuffer> sketchUdaf = HllSketchUdaf.sketch();
+  private final Udaf<ByteBuffer, ByteBuffer, ByteBuffer> udaf = MergeHll.merge();
+
+  @Test
+  public void shouldMergeSketches() {
+    // Given:
+    final ByteBuffer one = sketchOf("a", "b", "c");
+    final ByteBuffer two = sketchOf("c", "d");
+
+    ByteBuffer agg = udaf.initialize();
+
+    // When:
+    agg = udaf.aggregate(one, agg);
+    agg = udaf.aggregate(two, agg);
+
+    // Then:
+    assertThat(HllSketch.cardinality(udaf.map(agg)), is(4L));
+  }
+
+  @Test
+  public void shouldNotModifyInputSketches() {
+    // Given:
+    final ByteBuffer one = sketchOf("a");
+    final ByteBuffer two = sketchOf("b");
+
+    // When:
+    udaf.aggregate(two, udaf.aggregate(one, udaf.initialize()));
+
+    // Then:
+    assertThat(HllSketch.cardinality(one), is(1L));
+    assertThat(HllSketch.cardinality(two), is(1L));
+  }
+
+  @Test
+  public void shouldReturnNullIfNoSketches() {
+    // Given:
+    ByteBuffer agg = udaf.initialize();
+
+    // When:
+    agg = udaf.aggregate(null, agg);
+
+    // Then:
+    assertThat(udaf.map(agg), is(nullValue()));
+  }
+
+  @Test
+  public void shouldMergeAggregates() {
+    // Given:
+    final ByteBuffer agg1 = udaf.aggregate(sketchOf("a", "b"), udaf.initialize());
+    final ByteBuffer agg2 = udaf.aggregate(sketchOf("c"), udaf.initialize());
+
+    // Then:
+    assertThat(HllSketch.cardinality(udaf.map(udaf.merge(agg1, agg2))), is(3L));
+    assertThat(HllSketch.cardinality(udaf.map(udaf.merge(udaf.initialize(), agg2))), is(1L));
+  }
+
+  @Test
+  public void shouldThrowOnInvalidSketch() {
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> udaf.aggregate(ByteBuffer.wrap(new byte[]{42}), udaf.initialize())
+    );
+  }
+
+  private ByteBuffer sketchOf(final String... values) {
+    ByteBuffer agg = sketchUdaf.initialize();
+    for (final String value : values) {
+      agg = sketchUdaf.aggregate(value, agg);
+    }
+    return sketchUdaf.map(agg);
+  }
+}
@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -125,6 +126,30 @@ public class IntTopkKudafTest {
     assertThat(combined.get(2), is(298));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldAggregateTopKWithLargeValuesOfKay() {
+    // Given:
+    final int topKSize = 1000;
+    topkKudaf = new TopKAggregateFunctionFactory()
+        .createAggregateFunction(Collections.singletonList(SqlArgument.of(SqlTypes.INTEGER)),
+            createArgs(topKSize));
+    final List<Integer> values = new Random(42).ints(10_000, 0, 5_000)
+        .boxed().collect(Collectors.toList());
+
+    // When:
+    List<Integer> result = new ArrayList<>();
+    for (final Integer value : values) {
+      result = topkKudaf.aggregate(value, result);
+    }
+
+    // Then:
+    assertThat(result, is(values.stream()
+        .sorted(Comparator.reverseOrder())
+        .limit(topKSize)
+        .collect(Collectors.toList())));
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   public void shouldBeThreadSafe() {
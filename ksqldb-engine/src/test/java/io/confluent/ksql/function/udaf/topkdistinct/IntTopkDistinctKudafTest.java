@@ -25,7 +25,9 @@ import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Test;
@@ -101,6 +103,29 @@ public class IntTopkDistinctKudafTest {
     assertThat(agg2, equalTo(ImmutableList.of(100, 1)));
   }
 
+  @Test
+  public void shouldAggregateTopKWithLargeValuesOfKay() {
+    // Given:
+    final int topKSize = 1000;
+    final TopkDistinctKudaf<Integer> intTopkDistinctKudaf =
+        TopKDistinctTestUtils.getTopKDistinctKudaf(topKSize, SqlTypes.INTEGER);
+    final List<Integer> values = new Random(42).ints(10_000, 0, 5_000)
+        .boxed().collect(Collectors.toList());
+
+    // When:
+    List<Integer> result = new ArrayList<>();
+    for (final Integer value : values) {
+      result = intTopkDistinctKudaf.aggregate(value, result);
+    }
+
+    // Then:
+    assertThat(result, is(values.stream()
+        .distinct()
+        .sorted(Comparator.reverseOrder())
+        .limit(topKSize)
+        .collect(Collectors.toList())));
+  }
+
   @Test
   public void shouldBeThreadSafe() {
     // Given:
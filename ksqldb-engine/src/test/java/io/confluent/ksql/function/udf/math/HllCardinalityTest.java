@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udf.math;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThrows;
+
+import io.confluent.ksql.function.KsqlFunctionException;
+import io.confluent.ksql.function.udaf.count.HllSketch;
+import java.nio.ByteBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HllCardinalityTest {
+
+  private HllCardinality udf;
+
+  @Before
+  public void setUp() {
+    udf = new HllCardinality();
+  }
+
+  @Test
+  public void shouldHandleNull() {
+    assertThat(udf.hllCardinality(null), is(nullValue()));
+  }
+
+  @Test
+  public void shouldEstimateCardinality() {
+    // Given:
+    ByteBuffer sketch = HllSketch.empty(HllSketch.DEFAULT_PRECISION);
+    sketch = HllSketch.add(sketch, "a");
+    sketch = HllSketch.add(sketch, "b");
+
+    // Then:
+    assertThat(udf.hllCardinality(sketch), is(2L));
+  }
+
+  @Test
+  public void shouldThrowOnInvalidSketch() {
+    assertThrows(
+        KsqlFunctionException.class,
+        () -> udf.hllCardinality(ByteBuffer.wrap(new byte[]{1}))
+    );
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.function.udf.string;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Test;
+
+public class RegexpCacheTest {
+
+  private final RegexpCache cache = new RegexpCache();
+
+  @Test
+  public void shouldReuseCompiledPatternForSameRegexp() {
+    // Given:
+    final Pattern first = cache.get("a.c");
+
+    // When:
+    final Pattern second = cache.get(new String("a.c"));
+
+    // Then:
+    assertThat(second, is(sameInstance(first)));
+  }
+
+  @Test
+  public void shouldCompileNewPatternForDifferentRegexp() {
+    // Given:
+    final Pattern first = cache.get("a.c");
+
+    // When:
+    final Pattern second = cache.get("a.d");
+
+    // Then:
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second.pattern(), is("a.d"));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void shouldThrowOnBadRegexp() {
+    cache.get("(()");
+  }
+}
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.confluent.ksql.engine.KsqlEngine;
+import io.confluent.ksql.execution.codegen.CompiledExpressionCache;
 import io.confluent.ksql.metrics.ConsumerCollector;
 import io.confluent.ksql.metrics.MetricCollectors;
 import io.confluent.ksql.metrics.ProducerCollector;
@@ -212,6 +213,15 @@ public class KsqlEngineMetricsTest {
     assertThat(legacyValue, equalTo(3.0));
   }
 
+  @Test
+  public void shouldRecordCompiledExpressionCacheSize() {
+    final double value = getMetricValue("compiled-expression-cache-size");
+    final double legacyValue = getMetricValueLegacy("compiled-expression-cache-size");
+
+    assertThat(value, equalTo((double) CompiledExpressionCache.getInstance().size()));
+    assertThat(legacyValue, equalTo((double) CompiledExpressionCache.getInstance().size()));
+  }
+
   @Test
   public void shouldRecordMessagesConsumed() {
     final int numMessagesConsumed = 500;
@@ -18,6 +18,7 @@ package io.confluent.ksql.physical.common.operators;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -203,6 +204,41 @@ public class ProjectOperatorTest {
         A_KEY, GenericRow.genericRow("a", "b", 12335L, "k", 12335L, "k"), new PullProcessingContext(12335L));
   }
 
+  @Test
+  public void shouldNotModifySharedInputRow() {
+    // Given:
+    when(logicalNode.getAddAdditionalColumnsToIntermediateSchema()).thenReturn(true);
+    when(logicalNode.getSchema()).thenReturn(OUTPUT_SCHEMA);
+    when(logicalNode.getCompiledSelectExpressions()).thenReturn(Collections.emptyList());
+    final ProjectOperator projectOperator = new ProjectOperator(
+        logger,
+        logicalNode,
+        selectValueMapperFactorySupplier);
+    projectOperator.addChild(child);
+    final QueryRowImpl row = QueryRowImpl.of(
+        INTERMEDIATE_SCHEMA_WITH_PSEUDO,
+        A_KEY,
+        Optional.empty(),
+        GenericRow.genericRow("a", "b"),
+        A_ROWTIME
+    );
+    when(child.next()).thenReturn(row, row);
+    when(selectValueMapperFactorySupplier.create(any(), any()))
+        .thenReturn(selectValueMapper);
+    when(selectValueMapper.getTransformer(logger)).thenReturn(transformer);
+    when(transformer.transform(any(), any(), any())).thenReturn(GenericRow.genericRow("k", "a", "b"));
+    projectOperator.open();
+
+    // When:
+    projectOperator.next();
+    projectOperator.next();
+
+    // Then:
+    assertThat(row.value(), is(GenericRow.genericRow("a", "b")));
+    verify(transformer, times(2)).transform(
+        A_KEY, GenericRow.genericRow("a", "b", 12335L, "k"), new PullProcessingContext(12335L));
+  }
+
   @Test
   public void shouldCallTransformWithCorrectArgumentsWindowed() {
     // Given:
@@ -17,6 +17,7 @@ package io.confluent.ksql.physical.pull;
 
 import static io.confluent.ksql.util.KsqlConstants.KSQL_SERVICE_ID_METRICS_TAG;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThrows;
@@ -60,6 +61,7 @@ import io.confluent.ksql.util.KsqlConfig;
 import io.confluent.ksql.util.KsqlHostInfo;
 import io.confluent.ksql.util.KsqlRequestConfig;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -171,6 +173,8 @@ public class HARoutingTest {
         .thenReturn(1);
     when(ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_ROUTER_THREAD_POOL_SIZE_CONFIG))
         .thenReturn(1);
+    when(ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_THREAD_POOL_SIZE_CONFIG))
+        .thenReturn(1);
 
     when(serviceContext.getKsqlClient()).thenReturn(ksqlClient);
 
@@ -364,6 +368,93 @@ public class HARoutingTest {
     assertThat(resubmission_count, is(1.0));
   }
 
+  @Test
+  public void shouldExecuteLocalPartitionsTogetherWhenScanningConcurrently()
+      throws InterruptedException, ExecutionException {
+    // Given:
+    locate(location1, location2, location3);
+    when(pullPhysicalPlan.scansPartitionsConcurrently()).thenReturn(true);
+    doAnswer(i -> {
+      final PullQueryQueue queue = i.getArgument(1);
+      queue.acceptRow(PQ_ROW1);
+      queue.acceptRow(PQ_ROW3);
+      return null;
+    }).when(pullPhysicalPlan)
+        .execute(eq(ImmutableList.of(location1, location3)), any(), any(), any());
+    when(ksqlClient.makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(i -> {
+          Map<String, ?> requestProperties = i.getArgument(3);
+          Consumer<List<StreamedRow>> rowConsumer = i.getArgument(4);
+          assertThat(requestProperties.get(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_PARTITIONS)
+              .toString(), is("2"));
+          rowConsumer.accept(
+              ImmutableList.of(StreamedRow.header(queryId, logicalSchema),
+                  StreamedRow.pullRow(GenericRow.fromList(ROW2), Optional.empty())));
+          return RestResponse.successful(200, 2);
+        });
+
+    // When:
+    CompletableFuture<Void> future = haRouting.handlePullQuery(
+        serviceContext, pullPhysicalPlan, statement, routingOptions, logicalSchema, queryId,
+        pullQueryQueue, disconnect, Optional.empty());
+    future.get();
+
+    // Then:
+    verify(pullPhysicalPlan)
+        .execute(eq(ImmutableList.of(location1, location3)), any(), any(), any());
+    verify(pullPhysicalPlan, never()).execute(eq(ImmutableList.of(location1)), any(), any(), any());
+    verify(pullPhysicalPlan, never()).execute(eq(ImmutableList.of(location3)), any(), any(), any());
+    verify(ksqlClient).makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any());
+    assertThat(pullQueryQueue.isClosed(), is(true));
+    assertThat(drainRows(), containsInAnyOrder(ROW1, ROW2, ROW3));
+
+    final double fetch_count = getMetricValue("-partition-fetch-count");
+    final double resubmission_count = getMetricValue("-partition-fetch-resubmission-count");
+    assertThat(fetch_count, is(2.0));
+    assertThat(resubmission_count, is(0.0));
+  }
+
+  @Test
+  public void shouldResubmitEachLocalPartitionWhenConcurrentLocalScanFails()
+      throws InterruptedException, ExecutionException {
+    // Given:
+    locate(location1, location2, location3);
+    when(pullPhysicalPlan.scansPartitionsConcurrently()).thenReturn(true);
+    doThrow(new StandbyFallbackException("Error")).when(pullPhysicalPlan)
+        .execute(eq(ImmutableList.of(location1, location3)), any(), any(), any());
+    when(ksqlClient.makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(i -> {
+          Map<String, ?> requestProperties = i.getArgument(3);
+          Consumer<List<StreamedRow>> rowConsumer = i.getArgument(4);
+          final String partitions = requestProperties
+              .get(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_PARTITIONS).toString();
+          final List<?> row = partitions.equals("1") ? ROW1
+              : partitions.equals("2") ? ROW2
+              : ROW3;
+          rowConsumer.accept(
+              ImmutableList.of(StreamedRow.header(queryId, logicalSchema),
+                  StreamedRow.pullRow(GenericRow.fromList(row), Optional.empty())));
+          return RestResponse.successful(200, 2);
+        });
+
+    // When:
+    CompletableFuture<Void> future = haRouting.handlePullQuery(
+        serviceContext, pullPhysicalPlan, statement, routingOptions, logicalSchema, queryId,
+        pullQueryQueue, disconnect, Optional.empty());
+    future.get();
+
+    // Then:
+    verify(pullPhysicalPlan)
+        .execute(eq(ImmutableList.of(location1, location3)), any(), any(), any());
+    verify(ksqlClient, times(3)).makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any());
+    assertThat(drainRows(), containsInAnyOrder(ROW1, ROW2, ROW3));
+
+    final double fetch_count = getMetricValue("-partition-fetch-count");
+    final double resubmission_count = getMetricValue("-partition-fetch-resubmission-count");
+    assertThat(fetch_count, is(4.0));
+    assertThat(resubmission_count, is(2.0));
+  }
+
   @Test
   public void shouldCallRouteQuery_twoRound_networkError()
       throws InterruptedException, ExecutionException {
@@ -744,6 +835,77 @@ public class HARoutingTest {
     assertThat(resubmission_count, is(0.0));
   }
 
+  @Test
+  public void shouldRequestBinaryRowsWhenEnabled()
+      throws InterruptedException, ExecutionException {
+    // Given:
+    locate(location2);
+    when(ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED))
+        .thenReturn(true);
+    when(ksqlClient.makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(i -> {
+          Map<String, ?> requestProperties = i.getArgument(3);
+          Consumer<List<StreamedRow>> rowConsumer = i.getArgument(4);
+          assertThat(requestProperties.get(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_BINARY_ROWS),
+              is(true));
+          rowConsumer.accept(
+              ImmutableList.of(StreamedRow.header(queryId, logicalSchema),
+                  StreamedRow.pullRow(GenericRow.fromList(ROW2), Optional.empty())));
+          return RestResponse.successful(200, 2);
+        }
+    );
+
+    // When:
+    CompletableFuture<Void> future = haRouting.handlePullQuery(
+        serviceContext, pullPhysicalPlan, statement, routingOptions, logicalSchema, queryId,
+        pullQueryQueue, disconnect, Optional.empty());
+    future.get();
+
+    // Then:
+    assertThat(pullQueryQueue.size(), is(1));
+    assertThat(pullQueryQueue.pollRow(1, TimeUnit.SECONDS).getRow(), is(ROW2));
+  }
+
+  @Test
+  public void shouldNotRequestBinaryRowsWhenDisabled()
+      throws InterruptedException, ExecutionException {
+    // Given:
+    locate(location2);
+    when(ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_PULL_FORWARD_BINARY_ROWS_ENABLED))
+        .thenReturn(false);
+    when(ksqlClient.makeQueryRequest(eq(node2.location()), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(i -> {
+          Map<String, ?> requestProperties = i.getArgument(3);
+          Consumer<List<StreamedRow>> rowConsumer = i.getArgument(4);
+          assertThat(requestProperties
+                  .containsKey(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_BINARY_ROWS),
+              is(false));
+          rowConsumer.accept(
+              ImmutableList.of(StreamedRow.header(queryId, logicalSchema),
+                  StreamedRow.pullRow(GenericRow.fromList(ROW2), Optional.empty())));
+          return RestResponse.successful(200, 2);
+        }
+    );
+
+    // When:
+    CompletableFuture<Void> future = haRouting.handlePullQuery(
+        serviceContext, pullPhysicalPlan, statement, routingOptions, logicalSchema, queryId,
+        pullQueryQueue, disconnect, Optional.empty());
+    future.get();
+
+    // Then:
+    assertThat(pullQueryQueue.size(), is(1));
+    assertThat(pullQueryQueue.pollRow(1, TimeUnit.SECONDS).getRow(), is(ROW2));
+  }
+
+  private List<List<?>> drainRows() {
+    final List<PullQueryRow> rows = new ArrayList<>();
+    pullQueryQueue.drainRowsTo(rows);
+    final List<List<?>> values = new ArrayList<>();
+    rows.forEach(row -> values.add(row.getRow()));
+    return values;
+  }
+
   private void locate(final KsqlPartitionLocation... locations) {
     List<KsqlPartitionLocation> locationsList = ImmutableList.copyOf(locations);
     when(pullPhysicalPlan.getMaterialization().locator().locate(
@@ -18,6 +18,10 @@ package io.confluent.ksql.physical.pull.operators;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -140,9 +144,10 @@ public class KeyedTableLookupOperatorTest {
 
     final KeyedTableLookupOperator lookupOperator = new KeyedTableLookupOperator(materialization, logicalNode);
     when(materialization.nonWindowed()).thenReturn(nonWindowedTable);
-    when(materialization.nonWindowed().get(GKEY1, 1)).thenReturn(Optional.of(ROW1));
-    when(materialization.nonWindowed().get(GKEY3, 3)).thenReturn(Optional.of(ROW3));
-    when(materialization.nonWindowed().get(GKEY4, 3)).thenReturn(Optional.of(ROW4));
+    when(materialization.nonWindowed().getAll(ImmutableList.of(GKEY1, GKEY2), 1))
+        .thenReturn(ImmutableList.of(ROW1));
+    when(materialization.nonWindowed().getAll(ImmutableList.of(GKEY3, GKEY4), 3))
+        .thenReturn(ImmutableList.of(ROW3, ROW4));
     lookupOperator.setPartitionLocations(multipleKeysPartitionLocations);
     lookupOperator.open();
 
@@ -152,6 +157,7 @@ public class KeyedTableLookupOperatorTest {
     assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY4));
     assertThat(lookupOperator.next(), is(nullValue()));
     assertThat(lookupOperator.getReturnedRowCount(), is(3L));
+    verify(nonWindowedTable, never()).get(any(GenericKey.class), anyInt());
   }
 
   @Test
@@ -18,6 +18,10 @@ package io.confluent.ksql.physical.pull.operators;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -167,14 +171,12 @@ public class KeyedWindowedTableLookupOperatorTest {
     when(windowBounds1.getMergedStart()).thenReturn(WINDOW_START_BOUNDS);
     when(windowBounds1.getMergedEnd()).thenReturn(WINDOW_END_BOUNDS);
     when(materialization.windowed()).thenReturn(windowedTable);
-    when(materialization.windowed().get(GKEY1, 1, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
+    when(materialization.windowed().getAll(
+        ImmutableList.of(GKEY1, GKEY2), 1, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
         .thenReturn(ImmutableList.of(WINDOWED_ROW1, WINDOWED_ROW2));
-    when(materialization.windowed().get(GKEY2, 1, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
-        .thenReturn(Collections.emptyList());
-    when(materialization.windowed().get(GKEY3, 3, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
-        .thenReturn(ImmutableList.of(WINDOWED_ROW3));
-    when(materialization.windowed().get(GKEY4, 3, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
-        .thenReturn(ImmutableList.of(WINDOWED_ROW2, WINDOWED_ROW4));
+    when(materialization.windowed().getAll(
+        ImmutableList.of(GKEY3, GKEY4), 3, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
+        .thenReturn(ImmutableList.of(WINDOWED_ROW3, WINDOWED_ROW2, WINDOWED_ROW4));
     lookupOperator.setPartitionLocations(multipleKeysPartitionLocations);
     lookupOperator.open();
 
@@ -236,4 +238,31 @@ public class KeyedWindowedTableLookupOperatorTest {
     assertThat(lookupOperator.next(), is(nullValue()));
     assertThat(lookupOperator.getReturnedRowCount(), is(5L));
   }
+
+  @Test
+  public void shouldNotBatchKeysWithDifferentWindowBounds() {
+    //Given:
+    final List<KsqlPartitionLocation> multipleKeysPartitionLocations = new ArrayList<>();
+    multipleKeysPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.of(ImmutableSet.of(KEY1, KEY2)), 1, ImmutableList.of(node1)));
+
+    final KeyedWindowedTableLookupOperator lookupOperator = new KeyedWindowedTableLookupOperator(
+        materialization, logicalNode);
+    when(KEY2.getWindowBounds()).thenReturn(Optional.of(windowBounds2));
+    when(windowBounds2.getMergedStart()).thenReturn(Range.all());
+    when(windowBounds2.getMergedEnd()).thenReturn(WINDOW_END_BOUNDS);
+    when(materialization.windowed()).thenReturn(windowedTable);
+    when(materialization.windowed().get(GKEY1, 1, WINDOW_START_BOUNDS, WINDOW_END_BOUNDS))
+        .thenReturn(ImmutableList.of(WINDOWED_ROW1));
+    when(materialization.windowed().get(GKEY2, 1, Range.all(), WINDOW_END_BOUNDS))
+        .thenReturn(ImmutableList.of(WINDOWED_ROW2));
+    lookupOperator.setPartitionLocations(multipleKeysPartitionLocations);
+    lookupOperator.open();
+
+    //Then:
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY1));
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY2));
+    assertThat(lookupOperator.next(), is(nullValue()));
+    verify(windowedTable, never()).getAll(any(), anyInt(), any(), any());
+  }
 }
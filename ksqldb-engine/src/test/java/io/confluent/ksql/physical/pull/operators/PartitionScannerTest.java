@@ -0,0 +1,181 @@
+package io.confluent.ksql.physical.pull.operators;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.execution.streams.materialization.Locator.KsqlPartitionLocation;
+import io.confluent.ksql.execution.streams.materialization.ks.KsLocator;
+import io.confluent.ksql.util.CloseableIterator;
+import io.confluent.ksql.util.IteratorUtil;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Test;
+
+public class PartitionScannerTest {
+
+  private static final int ROWS = 3 * PartitionScanner.BUFFER_SIZE;
+
+  private final ExecutorService scanExecutor = Executors.newSingleThreadExecutor();
+  private final AtomicInteger rowsRead = new AtomicInteger();
+  private final AtomicInteger rowsClosed = new AtomicInteger();
+
+  @After
+  public void tearDown() {
+    scanExecutor.shutdownNow();
+  }
+
+  @Test
+  public void shouldReleaseScanThreadWhileBufferIsFull() throws Exception {
+    // Given:
+    final PartitionScanner<Integer> scanner = scanner(locations(1), ROWS);
+
+    // When:
+    scanner.start(scanExecutor, 1);
+
+    // Then: the scan has paused, rather than blocking the only thread, after filling its buffer:
+    scanExecutor.submit(() -> { }).get(30, TimeUnit.SECONDS);
+    assertThat(rowsRead.get(), is(PartitionScanner.BUFFER_SIZE + 1));
+  }
+
+  @Test
+  public void shouldResumePausedScansAsRowsAreConsumed() {
+    // Given:
+    final PartitionScanner<Integer> scanner = scanner(locations(2), ROWS);
+
+    // When:
+    scanner.start(scanExecutor, 2);
+
+    // Then:
+    for (int partition = 0; partition < 2; partition++) {
+      for (int i = 0; i < ROWS; i++) {
+        assertThat(scanner.next(), is(i));
+      }
+    }
+    assertThat(scanner.next(), is(nullValue()));
+  }
+
+  @Test
+  public void shouldReturnAllRowsOfUnorderedScan() {
+    // Given:
+    final PartitionScanner<Integer> scanner = new PartitionScanner<>(
+        locations(3), location -> rows(ROWS), () -> false, false);
+
+    // When:
+    scanner.start(scanExecutor, 2);
+
+    // Then:
+    int count = 0;
+    while (scanner.next() != null) {
+      count++;
+    }
+    assertThat(count, is(3 * ROWS));
+  }
+
+  @Test
+  public void shouldThrowScanFailureAfterRowsBeforeIt() {
+    // Given:
+    final PartitionScanner<Integer> scanner = new PartitionScanner<>(
+        locations(1),
+        location -> IteratorUtil.onClose(IntStream.range(0, ROWS)
+            .mapToObj(i -> {
+              if (i == PartitionScanner.BUFFER_SIZE + 10) {
+                throw new IllegalStateException("boom");
+              }
+              return i;
+            })
+            .iterator(), rowsClosed::incrementAndGet),
+        () -> false,
+        true
+    );
+    scanner.start(scanExecutor, 1);
+
+    // When:
+    for (int i = 0; i < PartitionScanner.BUFFER_SIZE + 10; i++) {
+      assertThat(scanner.next(), is(i));
+    }
+    final Exception e = assertThrows(IllegalStateException.class, scanner::next);
+
+    // Then:
+    assertThat(e.getMessage(), is("boom"));
+    assertThat(rowsClosed.get(), is(1));
+  }
+
+  @Test
+  public void shouldStopScanningOnClose() throws Exception {
+    // Given:
+    final PartitionScanner<Integer> scanner = scanner(locations(1), ROWS);
+    scanner.start(scanExecutor, 1);
+    scanner.next();
+
+    // When:
+    scanner.close();
+
+    // Then:
+    assertThat(scanner.next(), is(nullValue()));
+    scanExecutor.submit(() -> { }).get(30, TimeUnit.SECONDS);
+    assertThat(rowsRead.get() <= PartitionScanner.BUFFER_SIZE + 2, is(true));
+    assertThat(rowsClosed.get(), is(1));
+  }
+
+  @Test
+  public void shouldCloseIteratorsOfPausedScansOnClose() throws Exception {
+    // Given:
+    final PartitionScanner<Integer> scanner = scanner(locations(3), ROWS);
+    scanner.start(scanExecutor, 2);
+    // Both scans pause once their buffers are full, freeing the only scan thread:
+    scanExecutor.submit(() -> { }).get(30, TimeUnit.SECONDS);
+    assertThat(rowsRead.get(), is(2 * (PartitionScanner.BUFFER_SIZE + 1)));
+
+    // When:
+    scanner.close();
+
+    // Then:
+    assertThat(rowsClosed.get(), is(2));
+  }
+
+  @Test
+  public void shouldCloseIteratorsOfCompletedPartitions() {
+    // Given:
+    final PartitionScanner<Integer> scanner = scanner(locations(2), 10);
+    scanner.start(scanExecutor, 2);
+
+    // When:
+    while (scanner.next() != null) {
+      // consume all rows
+    }
+
+    // Then:
+    assertThat(rowsClosed.get(), is(2));
+  }
+
+  private PartitionScanner<Integer> scanner(
+      final List<KsqlPartitionLocation> locations,
+      final int rowsPerPartition
+  ) {
+    return new PartitionScanner<>(locations, location -> rows(rowsPerPartition), () -> false, true);
+  }
+
+  private CloseableIterator<Integer> rows(final int count) {
+    return IteratorUtil.onClose(IntStream.range(0, count)
+        .peek(i -> rowsRead.incrementAndGet())
+        .boxed()
+        .iterator(), rowsClosed::incrementAndGet);
+  }
+
+  private static List<KsqlPartitionLocation> locations(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(partition -> new KsLocator.PartitionLocation(
+            Optional.empty(), partition, ImmutableList.of()))
+        .collect(Collectors.toList());
+  }
+}
@@ -3,6 +3,7 @@ package io.confluent.ksql.physical.pull.operators;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -21,6 +22,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -60,6 +65,8 @@ public class TableScanOperatorTest {
   @Mock
   private GenericKey GKEY32;
 
+  private final ExecutorService scanExecutor = Executors.newFixedThreadPool(2);
+
   @Before
   public void setUp() {
     when(ROW1_1.key()).thenReturn(GKEY11);
@@ -68,6 +75,11 @@ public class TableScanOperatorTest {
     when(ROW3_2.key()).thenReturn(GKEY32);
   }
 
+  @After
+  public void tearDown() {
+    scanExecutor.shutdownNow();
+  }
+
   @Test
   public void shouldLookupRowsForTableScan() {
     //Given:
@@ -133,4 +145,91 @@ public class TableScanOperatorTest {
     assertThat(lookupOperator.next(), is(nullValue()));
     assertThat(lookupOperator.getReturnedRowCount(), is(2L));
   }
+
+  @Test
+  public void shouldCloseIteratorOfUnfinishedPartitionOnClose() {
+    //Given:
+    final List<KsqlPartitionLocation> singleKeyPartitionLocations = new ArrayList<>();
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 1, ImmutableList.of(node1)));
+
+    final TableScanOperator lookupOperator
+        = new TableScanOperator(materialization, logicalNode, shouldCancelOperations);
+    when(materialization.nonWindowed()).thenReturn(nonWindowedTable);
+
+    final AtomicInteger closed = new AtomicInteger();
+    when(nonWindowedTable.get(1)).thenReturn(
+        IteratorUtil.onClose(IteratorUtil.of(ROW1_1, ROW1_2), closed::incrementAndGet));
+
+    lookupOperator.setPartitionLocations(singleKeyPartitionLocations);
+    lookupOperator.open();
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY11));
+
+    //When:
+    lookupOperator.close();
+
+    //Then:
+    assertThat(closed.get(), is(1));
+  }
+
+  @Test
+  public void shouldScanPartitionsConcurrentlyInPartitionOrder() {
+    //Given:
+    final List<KsqlPartitionLocation> singleKeyPartitionLocations = new ArrayList<>();
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 1, ImmutableList.of(node1)));
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 2, ImmutableList.of(node2)));
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 3, ImmutableList.of(node3)));
+
+    final TableScanOperator lookupOperator = new TableScanOperator(
+        materialization, logicalNode, shouldCancelOperations, scanExecutor, 2, true);
+    when(materialization.nonWindowed()).thenReturn(nonWindowedTable);
+
+    when(nonWindowedTable.get(1)).thenReturn(IteratorUtil.of(ROW1_1, ROW1_2));
+    when(nonWindowedTable.get(2)).thenReturn(IteratorUtil.of());
+    when(nonWindowedTable.get(3)).thenReturn(IteratorUtil.of(ROW3_1, ROW3_2));
+
+    lookupOperator.setPartitionLocations(singleKeyPartitionLocations);
+    lookupOperator.open();
+
+    //Then:
+    assertThat(lookupOperator.scansPartitionsConcurrently(), is(true));
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY11));
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY12));
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY31));
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY32));
+    assertThat(lookupOperator.next(), is(nullValue()));
+    assertThat(lookupOperator.getReturnedRowCount(), is(4L));
+    lookupOperator.close();
+  }
+
+  @Test
+  public void shouldCancelConcurrentScan() {
+    //Given:
+    final List<KsqlPartitionLocation> singleKeyPartitionLocations = new ArrayList<>();
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 1, ImmutableList.of(node1)));
+    singleKeyPartitionLocations.add(new KsLocator.PartitionLocation(
+        Optional.empty(), 3, ImmutableList.of(node3)));
+
+    final TableScanOperator lookupOperator = new TableScanOperator(
+        materialization, logicalNode, shouldCancelOperations, scanExecutor, 2, true);
+    when(materialization.nonWindowed()).thenReturn(nonWindowedTable);
+
+    when(nonWindowedTable.get(1)).thenReturn(IteratorUtil.of(ROW1_1, ROW1_2));
+    // Partition 3 may or may not have been opened by the time the scan is cancelled:
+    lenient().when(nonWindowedTable.get(3)).thenReturn(IteratorUtil.of(ROW3_1, ROW3_2));
+
+    lookupOperator.setPartitionLocations(singleKeyPartitionLocations);
+    lookupOperator.open();
+
+    //Then:
+    assertThat(((QueryRow) lookupOperator.next()).key(), is(GKEY11));
+    when(shouldCancelOperations.isDone()).thenReturn(true);
+    assertThat(lookupOperator.next(), is(nullValue()));
+    assertThat(lookupOperator.getReturnedRowCount(), is(1L));
+    lookupOperator.close();
+  }
 }
@@ -1,6 +1,7 @@
 package io.confluent.ksql.physical.scalablepush;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.times;
@@ -9,6 +10,8 @@ import static org.mockito.Mockito.verify;
 import io.confluent.ksql.execution.streams.materialization.TableRow;
 import io.confluent.ksql.physical.common.QueryRow;
 import io.confluent.ksql.query.QueryId;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -38,7 +41,7 @@ public class ProcessingQueueTest {
     assertThat(queue.offer(row3), is(true));
 
     // Then:
-    verify(runnable, times(3)).run();
+    verify(runnable, times(1)).run();
     assertThat(queue.poll(), is(row1));
     assertThat(queue.poll(), is(row2));
     assertThat(queue.poll(), is(row3));
@@ -58,13 +61,84 @@ public class ProcessingQueueTest {
     assertThat(queue.offer(row3), is(false));
 
     // Then:
-    verify(runnable, times(2)).run();
+    verify(runnable, times(1)).run();
     assertThat(queue.poll(), is(row1));
     assertThat(queue.poll(), is(row2));
     assertThat(queue.poll(), nullValue());
     assertThat(queue.hasDroppedRows(), is(true));
   }
 
+  @Test
+  public void shouldOnlyInvokeCallbackWhenOfferingToEmptyQueue() {
+    // Given:
+    final ProcessingQueue queue = new ProcessingQueue(new QueryId("a"));
+    queue.setNewRowCallback(runnable);
+    queue.offer(row1);
+    queue.offer(row2);
+
+    // When:
+    queue.poll();
+    queue.poll();
+    queue.offer(row3);
+
+    // Then:
+    verify(runnable, times(2)).run();
+    assertThat(queue.poll(), is(row3));
+  }
+
+  @Test
+  public void shouldDrainTo() {
+    // Given:
+    final ProcessingQueue queue = new ProcessingQueue(new QueryId("a"));
+    queue.offer(row1);
+    queue.offer(row2);
+    queue.offer(row3);
+    final List<QueryRow> rows = new ArrayList<>();
+
+    // When:
+    final int drained = queue.drainTo(rows, 2);
+
+    // Then:
+    assertThat(drained, is(2));
+    assertThat(rows, contains(row1, row2));
+    assertThat(queue.poll(), is(row3));
+    assertThat(queue.drainTo(rows, 2), is(0));
+  }
+
+  @Test
+  public void shouldWrapAroundBuffer() {
+    // Given:
+    final ProcessingQueue queue = new ProcessingQueue(new QueryId("a"), 2);
+
+    // When:
+    for (int i = 0; i < 5; i++) {
+      assertThat(queue.offer(row1), is(true));
+      assertThat(queue.offer(row2), is(true));
+      assertThat(queue.isAtLimit(), is(true));
+
+      // Then:
+      assertThat(queue.poll(), is(row1));
+      assertThat(queue.poll(), is(row2));
+      assertThat(queue.poll(), nullValue());
+    }
+    assertThat(queue.hasDroppedRows(), is(false));
+  }
+
+  @Test
+  public void shouldNotReturnRowsOnceClosed() {
+    // Given:
+    final ProcessingQueue queue = new ProcessingQueue(new QueryId("a"));
+    queue.offer(row1);
+
+    // When:
+    queue.close();
+
+    // Then:
+    assertThat(queue.poll(), nullValue());
+    assertThat(queue.offer(row2), is(false));
+    assertThat(queue.hasDroppedRows(), is(false));
+  }
+
   @Test
   public void shouldDefaultToFalseForHasError() {
     // Given:
@@ -58,7 +58,7 @@ public class PeekStreamOperatorTest {
     assertThat(locator.next(), is(row1));
     assertThat(locator.next(), is(row2));
     assertThat(locator.next(), nullValue());
-    verify(newRowCallback, times(2)).run();
+    verify(newRowCallback, times(1)).run();
     locator.close();
     verify(registry, times(1)).unregister(processingQueue);
   }
@@ -21,6 +21,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableList;
@@ -196,6 +197,55 @@ public class LogicalPlannerTest {
     ));
   }
 
+  @Test
+  public void shouldPruneUnreferencedColumnsOfJoinSourcesIfEnabled() {
+    // Given:
+    givenJoinColumnPruningEnabled();
+    final String simpleQuery = "SELECT t1.col1, t2.col2 FROM test1 t1 JOIN test2 t2 ON t1.col0 = t2.col0 WHERE t1.col3 > 10 EMIT CHANGES;";
+
+    // When:
+    final PlanNode logicalPlan = buildLogicalPlan(simpleQuery);
+
+    // Then:
+    final JoinNode joinNode = (JoinNode) logicalPlan.getSources().get(0).getSources().get(0).getSources().get(0);
+    final PlanNode left = joinNode.getSources().get(0);
+    assertThat(left, instanceOf(PreJoinRepartitionNode.class));
+    assertThat(((ProjectNode) left.getSources().get(0)).getSelectExpressions(), contains(
+        selectCol("COL1", "T1_COL1"),
+        selectCol("COL3", "T1_COL3"),
+        selectCol("ROWTIME", "T1_ROWTIME"),
+        selectCol("ROWPARTITION", "T1_ROWPARTITION"),
+        selectCol("ROWOFFSET", "T1_ROWOFFSET"),
+        selectCol("COL0", "T1_COL0")
+    ));
+    final PlanNode right = joinNode.getSources().get(1);
+    assertThat(right, instanceOf(PreJoinRepartitionNode.class));
+    assertThat(((ProjectNode) right.getSources().get(0)).getSelectExpressions(), contains(
+        selectCol("COL2", "T2_COL2"),
+        selectCol("ROWTIME", "T2_ROWTIME"),
+        selectCol("ROWPARTITION", "T2_ROWPARTITION"),
+        selectCol("ROWOFFSET", "T2_ROWOFFSET"),
+        selectCol("COL0", "T2_COL0")
+    ));
+  }
+
+  @Test
+  public void shouldNotPruneColumnsOfJoinSourceSelectedWithStar() {
+    // Given:
+    givenJoinColumnPruningEnabled();
+    final String simpleQuery = "SELECT t1.*, t2.col2 FROM test1 t1 JOIN test2 t2 ON t1.col0 = t2.col0 EMIT CHANGES;";
+
+    // When:
+    final PlanNode logicalPlan = buildLogicalPlan(simpleQuery);
+
+    // Then:
+    final JoinNode joinNode = (JoinNode) logicalPlan.getSources().get(0).getSources().get(0);
+    final ProjectNode left = (ProjectNode) joinNode.getSources().get(0).getSources().get(0);
+    assertThat(left.getSelectExpressions().size(), is(9));
+    final ProjectNode right = (ProjectNode) joinNode.getSources().get(1).getSources().get(0);
+    assertThat(right.getSelectExpressions().size(), is(5));
+  }
+
   @Test
   public void shouldRewriteFinalSelectsForJoin() {
     // Given:
@@ -348,6 +398,12 @@ public class LogicalPlannerTest {
     assertThat(e.getMessage(), containsString("Suppression is currently disabled. You can enable it by setting ksql.suppress.enabled to true"));
   }
 
+  private void givenJoinColumnPruningEnabled() {
+    ksqlConfig = ksqlConfig.cloneWithPropertyOverwrite(ImmutableMap.of(
+        KsqlConfig.KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED, true
+    ));
+  }
+
   private PlanNode buildLogicalPlan(final String query) {
     return AnalysisTestUtil.buildLogicalPlan(ksqlConfig, query, metaStore);
   }
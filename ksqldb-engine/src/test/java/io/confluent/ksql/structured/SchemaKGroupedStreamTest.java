@@ -45,6 +45,7 @@ import io.confluent.ksql.serde.KeyFormat;
 import io.confluent.ksql.serde.SerdeFeature;
 import io.confluent.ksql.serde.SerdeFeatures;
 import io.confluent.ksql.serde.ValueFormat;
+import io.confluent.ksql.serde.binary.BinaryFormat;
 import io.confluent.ksql.util.KsqlConfig;
 import java.util.List;
 import java.util.Optional;
@@ -164,6 +165,41 @@ public class SchemaKGroupedStreamTest {
     );
   }
 
+  @Test
+  public void shouldBuildStepForAggregateWithBinaryStateFormatIfEnabled() {
+    // Given:
+    when(config.getBoolean(KsqlConfig.KSQL_AGGREGATE_STATE_BINARY_FORMAT_ENABLED))
+        .thenReturn(true);
+
+    // When:
+    final SchemaKTable result = schemaGroupedStream.aggregate(
+        NON_AGGREGATE_COLUMNS,
+        ImmutableList.of(AGG),
+        Optional.empty(),
+        valueFormat.getFormatInfo(),
+        queryContext
+    );
+
+    // Then:
+    assertThat(
+        result.getSourceTableStep(),
+        equalTo(
+            ExecutionStepFactory.streamAggregate(
+                queryContext,
+                schemaGroupedStream.getSourceStep(),
+                Formats.of(
+                    keyFormatInfo,
+                    FormatInfo.of(BinaryFormat.NAME),
+                    SerdeFeatures.of(),
+                    SerdeFeatures.of()
+                ),
+                NON_AGGREGATE_COLUMNS,
+                ImmutableList.of(AGG)
+            )
+        )
+    );
+  }
+
   @Test
   public void shouldBuildStepForAggregateWithKeyFormatSerdeFeaturesInherited() {
     // Given:
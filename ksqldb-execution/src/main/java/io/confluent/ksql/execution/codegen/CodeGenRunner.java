@@ -21,14 +21,19 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.Immutable;
 import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.execution.codegen.helpers.InListEvaluator;
+import io.confluent.ksql.execution.codegen.helpers.InListMatcher;
+import io.confluent.ksql.execution.codegen.helpers.LikeMatcher;
 import io.confluent.ksql.execution.expression.tree.CreateArrayExpression;
 import io.confluent.ksql.execution.expression.tree.CreateMapExpression;
 import io.confluent.ksql.execution.expression.tree.CreateStructExpression;
 import io.confluent.ksql.execution.expression.tree.DereferenceExpression;
 import io.confluent.ksql.execution.expression.tree.Expression;
 import io.confluent.ksql.execution.expression.tree.FunctionCall;
+import io.confluent.ksql.execution.expression.tree.InPredicate;
 import io.confluent.ksql.execution.expression.tree.LambdaFunctionCall;
 import io.confluent.ksql.execution.expression.tree.LikePredicate;
+import io.confluent.ksql.execution.expression.tree.StringLiteral;
 import io.confluent.ksql.execution.expression.tree.SubscriptExpression;
 import io.confluent.ksql.execution.expression.tree.TraversalExpressionVisitor;
 import io.confluent.ksql.execution.expression.tree.UnqualifiedColumnReferenceExp;
@@ -53,6 +58,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
@@ -162,8 +168,14 @@ public class CodeGenRunner {
 
       final Class<?> expressionType = SQL_TO_JAVA_TYPE_CONVERTER.toJavaType(returnType);
 
-      final IExpressionEvaluator ee =
-          cook(javaCode, expressionType, spec.argumentNames(), spec.argumentTypes());
+      final IExpressionEvaluator ee;
+      if (ksqlConfig.getBoolean(KsqlConfig.KSQL_CODEGEN_CACHE_ENABLED)) {
+        final CompiledExpressionCache cache = CompiledExpressionCache.getInstance();
+        cache.setMaxEntries(ksqlConfig.getInt(KsqlConfig.KSQL_CODEGEN_CACHE_MAX_ENTRIES));
+        ee = cache.get(javaCode, expressionType, spec.argumentNames(), spec.argumentTypes());
+      } else {
+        ee = cook(javaCode, expressionType, spec.argumentNames(), spec.argumentTypes());
+      }
 
       return new CompiledExpression(ee, spec, returnType, expression);
     } catch (KsqlException | CompileException e) {
@@ -210,7 +222,33 @@ public class CodeGenRunner {
         final Context context
     ) {
       process(node.getValue(), context);
-      process(node.getPattern(), context);
+      if (node.getPattern() instanceof StringLiteral) {
+        // Compile the pattern once, rather than for every row:
+        final String pattern = ((StringLiteral) node.getPattern()).getValue();
+        spec.addLikeMatcher(node, LikeMatcher.compile(pattern, node.getEscape()));
+      } else {
+        process(node.getPattern(), context);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitInPredicate(
+        final InPredicate node,
+        final Context context
+    ) {
+      final InPredicate preprocessed = InListEvaluator
+          .preprocess(node, expressionTypeManager, context.getLambdaSqlTypeMapping());
+
+      // Compile a list of literals into a set once, rather than comparing with each for every row:
+      final Optional<InListMatcher> matcher = InListMatcher
+          .fromLiterals(preprocessed.getValueList().getValues());
+      if (!matcher.isPresent()) {
+        return super.visitInPredicate(node, context);
+      }
+
+      process(node.getValue(), context);
+      spec.addInListMatcher(node, matcher.get());
       return null;
     }
 
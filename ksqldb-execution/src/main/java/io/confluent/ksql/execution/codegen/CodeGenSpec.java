@@ -23,8 +23,12 @@ import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.Immutable;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.execution.codegen.helpers.InListMatcher;
+import io.confluent.ksql.execution.codegen.helpers.LikeMatcher;
 import io.confluent.ksql.execution.expression.formatter.ExpressionFormatter;
 import io.confluent.ksql.execution.expression.tree.CreateStructExpression;
+import io.confluent.ksql.execution.expression.tree.InPredicate;
+import io.confluent.ksql.execution.expression.tree.LikePredicate;
 import io.confluent.ksql.function.udf.Kudf;
 import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.name.FunctionName;
@@ -33,6 +37,7 @@ import io.confluent.ksql.util.KsqlException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.kafka.connect.data.ConnectSchema;
 import org.apache.kafka.connect.data.Schema;
 
@@ -43,17 +48,23 @@ public final class CodeGenSpec {
   private final ImmutableMap<ColumnName, String> columnToCodeName;
   private final ImmutableListMultimap<FunctionName, String> functionToCodeName;
   private final ImmutableMap<CreateStructExpression, String> structToCodeName;
+  private final ImmutableMap<LikePredicate, String> likeToCodeName;
+  private final ImmutableMap<InPredicate, String> inToCodeName;
 
   private CodeGenSpec(
       final ImmutableList<ArgumentSpec> arguments,
       final ImmutableMap<ColumnName, String> columnToCodeName,
       final ImmutableListMultimap<FunctionName, String> functionToCodeName,
-      final ImmutableMap<CreateStructExpression, String> structToCodeName
+      final ImmutableMap<CreateStructExpression, String> structToCodeName,
+      final ImmutableMap<LikePredicate, String> likeToCodeName,
+      final ImmutableMap<InPredicate, String> inToCodeName
   ) {
     this.arguments = arguments;
     this.columnToCodeName = columnToCodeName;
     this.functionToCodeName = functionToCodeName;
     this.structToCodeName = structToCodeName;
+    this.likeToCodeName = likeToCodeName;
+    this.inToCodeName = inToCodeName;
   }
 
   public String[] argumentNames() {
@@ -97,6 +108,22 @@ public final class CodeGenSpec {
     return schemaName;
   }
 
+  /**
+   * @param likePredicate the LIKE predicate.
+   * @return the name of the compiled pattern of the predicate, if its pattern was compiled.
+   */
+  public Optional<String> getLikeMatcherName(final LikePredicate likePredicate) {
+    return Optional.ofNullable(likeToCodeName.get(likePredicate));
+  }
+
+  /**
+   * @param inPredicate the IN predicate.
+   * @return the name of the compiled list of the predicate, if its list was compiled.
+   */
+  public Optional<String> getInListMatcherName(final InPredicate inPredicate) {
+    return Optional.ofNullable(inToCodeName.get(inPredicate));
+  }
+
   static class Builder {
 
     private final ImmutableList.Builder<ArgumentSpec> argumentBuilder = ImmutableList.builder();
@@ -105,8 +132,12 @@ public final class CodeGenSpec {
         ImmutableListMultimap.builder();
     private final Map<CreateStructExpression, String> structToSchemaName =
             new HashMap<CreateStructExpression, String>();
+    private final Map<LikePredicate, String> likeToMatcherName = new HashMap<>();
+    private final Map<InPredicate, String> inToMatcherName = new HashMap<>();
     private int argumentCount = 0;
     private int structSchemaCount = 0;
+    private int likeMatcherCount = 0;
+    private int inListMatcherCount = 0;
 
     void addParameter(
         final ColumnName columnName,
@@ -133,12 +164,32 @@ public final class CodeGenSpec {
       argumentBuilder.add(new SchemaArgumentSpec(structSchemaName, schema));
     }
 
+    void addLikeMatcher(final LikePredicate like, final LikeMatcher matcher) {
+      if (likeToMatcherName.containsKey(like)) {
+        return;
+      }
+      final String matcherName = CodeGenUtil.likeMatcherName(likeMatcherCount++);
+      likeToMatcherName.put(like, matcherName);
+      argumentBuilder.add(new LikeMatcherArgumentSpec(matcherName, matcher));
+    }
+
+    void addInListMatcher(final InPredicate in, final InListMatcher matcher) {
+      if (inToMatcherName.containsKey(in)) {
+        return;
+      }
+      final String matcherName = CodeGenUtil.inListMatcherName(inListMatcherCount++);
+      inToMatcherName.put(in, matcherName);
+      argumentBuilder.add(new InListMatcherArgumentSpec(matcherName, matcher));
+    }
+
     CodeGenSpec build() {
       return new CodeGenSpec(
           argumentBuilder.build(),
           ImmutableMap.copyOf(columnRefToName),
           functionNameBuilder.build(),
-          ImmutableMap.copyOf(structToSchemaName)
+          ImmutableMap.copyOf(structToSchemaName),
+          ImmutableMap.copyOf(likeToMatcherName),
+          ImmutableMap.copyOf(inToMatcherName)
       );
     }
   }
@@ -268,4 +319,58 @@ public final class CodeGenSpec {
           + '}';
     }
   }
+
+  @Immutable
+  public static final class LikeMatcherArgumentSpec extends BaseArgumentSpec {
+
+    private final LikeMatcher matcher;
+
+    LikeMatcherArgumentSpec(
+        final String name,
+        final LikeMatcher matcher
+    ) {
+      super(name, LikeMatcher.class);
+      this.matcher = requireNonNull(matcher, "matcher");
+    }
+
+    @Override
+    public Object resolve(final GenericRow value) {
+      return matcher;
+    }
+
+    @Override
+    public String toString() {
+      return "LikeMatcherArgumentSpec{"
+          + "name='" + name() + '\''
+          + ", type=" + type()
+          + '}';
+    }
+  }
+
+  @Immutable
+  public static final class InListMatcherArgumentSpec extends BaseArgumentSpec {
+
+    private final InListMatcher matcher;
+
+    InListMatcherArgumentSpec(
+        final String name,
+        final InListMatcher matcher
+    ) {
+      super(name, InListMatcher.class);
+      this.matcher = requireNonNull(matcher, "matcher");
+    }
+
+    @Override
+    public Object resolve(final GenericRow value) {
+      return matcher;
+    }
+
+    @Override
+    public String toString() {
+      return "InListMatcherArgumentSpec{"
+          + "name='" + name() + '\''
+          + ", type=" + type()
+          + '}';
+    }
+  }
 }
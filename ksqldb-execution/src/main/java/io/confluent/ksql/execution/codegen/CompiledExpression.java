@@ -28,12 +28,18 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
-import org.apache.commons.lang3.ArrayUtils;
 import org.codehaus.commons.compiler.IExpressionEvaluator;
 
 @Immutable
 public class CompiledExpression implements ExpressionEvaluator {
 
+  // The parameters passed to the generated code after the spec's arguments,
+  // see CodeGenRunner#cook:
+  private static final int DEFAULT_VALUE_PARAM = 0;
+  private static final int LOGGER_PARAM = 1;
+  private static final int ROW_PARAM = 2;
+  private static final int TRAILING_PARAMS = 3;
+
   @EffectivelyImmutable
   private final IExpressionEvaluator expressionEvaluator;
   private final SqlType expressionType;
@@ -51,7 +57,8 @@ public class CompiledExpression implements ExpressionEvaluator {
     this.expressionType = Objects.requireNonNull(expressionType, "expressionType");
     this.expression = Objects.requireNonNull(expression, "expression");
     this.spec = Objects.requireNonNull(spec, "spec");
-    this.threadLocalParameters = ThreadLocal.withInitial(() -> new Object[spec.arguments().size()]);
+    this.threadLocalParameters = ThreadLocal
+        .withInitial(() -> new Object[spec.arguments().size() + TRAILING_PARAMS]);
   }
 
   public List<ArgumentSpec> arguments() {
@@ -85,8 +92,7 @@ public class CompiledExpression implements ExpressionEvaluator {
       final Supplier<String> errorMsg
   ) {
     try {
-      return expressionEvaluator.evaluate(
-          ArrayUtils.addAll(getParameters(row), defaultValue, logger, row));
+      return expressionEvaluator.evaluate(getParameters(row, defaultValue, logger));
     } catch (final Exception e) {
       final Throwable cause = e instanceof InvocationTargetException
           ? e.getCause()
@@ -97,9 +103,22 @@ public class CompiledExpression implements ExpressionEvaluator {
     }
   }
 
-  private Object[] getParameters(final GenericRow row) {
+  /**
+   * Fills in the parameters for the generated code, reusing the same array for every row evaluated
+   * on the calling thread, so that evaluation doesn't allocate.
+   */
+  private Object[] getParameters(
+      final GenericRow row,
+      final Object defaultValue,
+      final ProcessingLogger logger
+  ) {
     final Object[] parameters = threadLocalParameters.get();
     spec.resolve(row, parameters);
+
+    final int trailing = parameters.length - TRAILING_PARAMS;
+    parameters[trailing + DEFAULT_VALUE_PARAM] = defaultValue;
+    parameters[trailing + LOGGER_PARAM] = logger;
+    parameters[trailing + ROW_PARAM] = row;
     return parameters;
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.confluent.ksql.util.KsqlConfig;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import org.codehaus.commons.compiler.IExpressionEvaluator;
+
+/**
+ * Node-wide cache of cooked expression evaluators.
+ *
+ * <p>The class Janino generates for an expression depends only on the generated Java source,
+ * the expression's return type and the names and types of its arguments. Function instances,
+ * struct schemas and other per-query state are passed in as arguments at evaluation time, so a
+ * cooked evaluator can safely be shared by every query that generates the same code.
+ *
+ * <p>The cache is bounded by {@code ksql.codegen.cache.max.entries}, which is a server setting that
+ * queries can not override. Changing the bound drops the cached evaluators.
+ */
+public final class CompiledExpressionCache {
+
+  private static final CompiledExpressionCache INSTANCE = new CompiledExpressionCache(
+      KsqlConfig.KSQL_CODEGEN_CACHE_MAX_ENTRIES_DEFAULT);
+
+  private volatile long maxEntries;
+  private volatile Cache<CacheKey, IExpressionEvaluator> cache;
+
+  public static CompiledExpressionCache getInstance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  CompiledExpressionCache(final long maxEntries) {
+    this.maxEntries = maxEntries;
+    this.cache = newCache(maxEntries);
+  }
+
+  /**
+   * Bound the cache to {@code maxEntries} evaluators, dropping the cached evaluators if the bound
+   * changes.
+   *
+   * @param maxEntries the maximum number of evaluators to cache.
+   */
+  public void setMaxEntries(final long maxEntries) {
+    if (this.maxEntries == maxEntries) {
+      return;
+    }
+
+    synchronized (this) {
+      if (this.maxEntries != maxEntries) {
+        this.cache = newCache(maxEntries);
+        this.maxEntries = maxEntries;
+      }
+    }
+  }
+
+  /**
+   * Get the evaluator for the supplied code, cooking it if it is not already cached.
+   *
+   * @param javaCode the generated Java code of the expression.
+   * @param expressionType the Java type the expression evaluates to.
+   * @param argNames the names of the expression's arguments.
+   * @param argTypes the types of the expression's arguments.
+   * @return the cooked evaluator.
+   * @throws Exception if the code fails to cook.
+   */
+  public IExpressionEvaluator get(
+      final String javaCode,
+      final Class<?> expressionType,
+      final String[] argNames,
+      final Class<?>[] argTypes
+  ) throws Exception {
+    final CacheKey key = new CacheKey(javaCode, expressionType, argNames, argTypes);
+    try {
+      return cache.get(
+          key,
+          () -> CodeGenRunner.cook(javaCode, expressionType, argNames, argTypes)
+      );
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Drop all cached evaluators, e.g. because the functions they were compiled against have been
+   * reloaded.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private static Cache<CacheKey, IExpressionEvaluator> newCache(final long maxEntries) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maxEntries)
+        .recordStats()
+        .build();
+  }
+
+  private static final class CacheKey {
+
+    private final String javaCode;
+    private final Class<?> expressionType;
+    private final List<String> argNames;
+    private final List<Class<?>> argTypes;
+
+    CacheKey(
+        final String javaCode,
+        final Class<?> expressionType,
+        final String[] argNames,
+        final Class<?>[] argTypes
+    ) {
+      this.javaCode = requireNonNull(javaCode, "javaCode");
+      this.expressionType = requireNonNull(expressionType, "expressionType");
+      this.argNames = ImmutableList.copyOf(argNames);
+      this.argTypes = ImmutableList.copyOf(argTypes);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final CacheKey that = (CacheKey) o;
+      return javaCode.equals(that.javaCode)
+          && expressionType.equals(that.expressionType)
+          && argNames.equals(that.argNames)
+          && argTypes.equals(that.argTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(javaCode, expressionType, argNames, argTypes);
+    }
+  }
+}
@@ -116,6 +116,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -216,6 +217,8 @@ public class SqlToJavaVisitor {
   private final Function<FunctionName, String> funNameToCodeName;
   private final Function<ColumnName, String> colRefToCodeName;
   private final Function<CreateStructExpression, String> structToCodeName;
+  private final Function<LikePredicate, Optional<String>> likeToCodeName;
+  private final Function<InPredicate, Optional<String>> inToCodeName;
   private final KsqlConfig ksqlConfig;
 
   public static SqlToJavaVisitor of(
@@ -234,6 +237,8 @@ public class SqlToJavaVisitor {
           return spec.getUniqueNameForFunction(name, index);
         },
         spec::getStructSchemaName,
+        spec::getLikeMatcherName,
+        spec::getInListMatcherName,
         ksqlConfig);
   }
 
@@ -243,6 +248,8 @@ public class SqlToJavaVisitor {
       final Function<ColumnName, String> colRefToCodeName,
       final Function<FunctionName, String> funNameToCodeName,
       final Function<CreateStructExpression, String> structToCodeName,
+      final Function<LikePredicate, Optional<String>> likeToCodeName,
+      final Function<InPredicate, Optional<String>> inToCodeName,
       final KsqlConfig ksqlConfig
   ) {
     this.expressionTypeManager = new ExpressionTypeManager(schema, functionRegistry);
@@ -251,6 +258,8 @@ public class SqlToJavaVisitor {
     this.colRefToCodeName = Objects.requireNonNull(colRefToCodeName, "colRefToCodeName");
     this.funNameToCodeName = Objects.requireNonNull(funNameToCodeName, "funNameToCodeName");
     this.structToCodeName = Objects.requireNonNull(structToCodeName, "structToCodeName");
+    this.likeToCodeName = Objects.requireNonNull(likeToCodeName, "likeToCodeName");
+    this.inToCodeName = Objects.requireNonNull(inToCodeName, "inToCodeName");
     this.ksqlConfig = Objects.requireNonNull(ksqlConfig, "ksqlConfig");
   }
 
@@ -317,6 +326,14 @@ public class SqlToJavaVisitor {
 
       final Pair<String, SqlType> value = process(preprocessed.getValue(), context);
 
+      final Optional<String> matcherName = inToCodeName.apply(inPredicate);
+      if (matcherName.isPresent()) {
+        return new Pair<>(
+            matcherName.get() + ".matches(" + value.getLeft() + ")",
+            SqlTypes.BOOLEAN
+        );
+      }
+
       final String values = preprocessed.getValueList().getValues().stream()
           .map(v -> process(v, context))
           .map(Pair::getLeft)
@@ -1028,9 +1045,18 @@ public class SqlToJavaVisitor {
         final LikePredicate node, final Context context
     ) {
 
-      final String patternString = process(node.getPattern(), context).getLeft();
       final String valueString = process(node.getValue(), context).getLeft();
 
+      final Optional<String> matcherName = likeToCodeName.apply(node);
+      if (matcherName.isPresent()) {
+        return new Pair<>(
+            matcherName.get() + ".matches(" + valueString + ")",
+            SqlTypes.STRING
+        );
+      }
+
+      final String patternString = process(node.getPattern(), context).getLeft();
+
       if (node.getEscape().isPresent()) {
         return new Pair<>(
             "LikeEvaluator.matches("
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen.helpers;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.expression.tree.IntegerLiteral;
+import io.confluent.ksql.execution.expression.tree.Literal;
+import io.confluent.ksql.execution.expression.tree.LongLiteral;
+import io.confluent.ksql.execution.expression.tree.StringLiteral;
+import io.confluent.ksql.testing.EffectivelyImmutable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A SQL 'IN (a, b, c)' list of literals, compiled into a hash set.
+ *
+ * <p>Lists of {@code INT}, {@code BIGINT} or {@code STRING} literals are supported. Looking a
+ * value up is a single hash lookup, rather than a comparison with each item in the list as done
+ * by {@link InListEvaluator}. Values of any other type than that of the list, which coercion of
+ * the list should make impossible, are still handed to {@link InListEvaluator}, so the result is
+ * always the same as it would give.
+ *
+ * @see InListEvaluator
+ */
+@Immutable
+public final class InListMatcher {
+
+  private enum Kind {
+    INT(Integer.class),
+    LONG(Long.class),
+    STRING(String.class);
+
+    private final Class<?> type;
+
+    Kind(final Class<?> type) {
+      this.type = type;
+    }
+  }
+
+  private final Kind kind;
+  @EffectivelyImmutable
+  private final LongHashSet numbers;
+  private final ImmutableSet<String> strings;
+  @EffectivelyImmutable
+  private final Object[] values;
+
+  private InListMatcher(
+      final Kind kind,
+      final LongHashSet numbers,
+      final ImmutableSet<String> strings,
+      final Object[] values
+  ) {
+    this.kind = kind;
+    this.numbers = numbers;
+    this.strings = strings;
+    this.values = values;
+  }
+
+  /**
+   * Compiles a list of values, as returned from {@link InListEvaluator#preprocess}.
+   *
+   * @param values the values in the list.
+   * @return the compiled list, or empty if the list is not made up of supported literals.
+   */
+  public static Optional<InListMatcher> fromLiterals(final List<? extends Expression> values) {
+    if (values.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Kind kind = kindOf(values.get(0));
+    if (kind == null) {
+      return Optional.empty();
+    }
+
+    final Object[] literals = new Object[values.size()];
+    for (int i = 0; i < literals.length; i++) {
+      final Expression value = values.get(i);
+      if (kindOf(value) != kind) {
+        return Optional.empty();
+      }
+      literals[i] = ((Literal) value).getValue();
+    }
+
+    if (kind == Kind.STRING) {
+      final ImmutableSet.Builder<String> strings = ImmutableSet.builder();
+      for (final Object literal : literals) {
+        strings.add((String) literal);
+      }
+      return Optional.of(new InListMatcher(kind, null, strings.build(), literals));
+    }
+
+    final LongHashSet numbers = new LongHashSet(literals.length);
+    for (final Object literal : literals) {
+      numbers.add(((Number) literal).longValue());
+    }
+    return Optional.of(new InListMatcher(kind, numbers, null, literals));
+  }
+
+  /**
+   * @param value the value to look for
+   * @return {@code true} if {@code value} is in the list.
+   */
+  public boolean matches(final Object value) {
+    if (value == null) {
+      // SQL NULL never matches anything:
+      return false;
+    }
+
+    if (value.getClass() != kind.type) {
+      return InListEvaluator.matches(value, values);
+    }
+
+    switch (kind) {
+      case INT:
+        return numbers.contains((Integer) value);
+      case LONG:
+        return numbers.contains((Long) value);
+      default:
+        return strings.contains(value);
+    }
+  }
+
+  private static Kind kindOf(final Expression value) {
+    if (value instanceof IntegerLiteral) {
+      return Kind.INT;
+    }
+    if (value instanceof LongLiteral) {
+      return Kind.LONG;
+    }
+    if (value instanceof StringLiteral) {
+      return Kind.STRING;
+    }
+    return null;
+  }
+
+  /**
+   * An open addressing hash set of primitive longs, to avoid boxing on lookup.
+   */
+  private static final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private final long[] slots;
+    private final int shift;
+    private boolean containsEmpty;
+
+    LongHashSet(final int expectedSize) {
+      // Keep the table at most half full:
+      final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize)) << 2);
+      this.slots = new long[capacity];
+      this.shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    void add(final long value) {
+      if (value == EMPTY) {
+        containsEmpty = true;
+        return;
+      }
+
+      int slot = slot(value);
+      while (slots[slot] != EMPTY) {
+        if (slots[slot] == value) {
+          return;
+        }
+        slot = (slot + 1) & (slots.length - 1);
+      }
+      slots[slot] = value;
+    }
+
+    boolean contains(final long value) {
+      if (value == EMPTY) {
+        return containsEmpty;
+      }
+
+      int slot = slot(value);
+      while (slots[slot] != EMPTY) {
+        if (slots[slot] == value) {
+          return true;
+        }
+        slot = (slot + 1) & (slots.length - 1);
+      }
+      return false;
+    }
+
+    private int slot(final long value) {
+      return (int) ((value * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+  }
+}
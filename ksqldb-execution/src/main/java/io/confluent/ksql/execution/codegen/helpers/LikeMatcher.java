@@ -0,0 +1,229 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen.helpers;
+
+import com.google.errorprone.annotations.Immutable;
+import io.confluent.ksql.testing.EffectivelyImmutable;
+import io.confluent.ksql.util.KsqlException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled SQL 'LIKE' pattern.
+ *
+ * <p>Patterns that are a plain string, or a plain string with a '%' wildcard at its start, end
+ * or both, are matched with simple string comparisons. Any other pattern is matched with a
+ * regular expression.
+ *
+ * <p>In either case a '%' wildcard matches what '.*' matches in a regular expression, i.e. any
+ * sequence of characters other than line terminators.
+ *
+ * @see LikeEvaluator
+ */
+@Immutable
+public final class LikeMatcher {
+
+  private enum Kind {
+    EXACT,
+    PREFIX,
+    SUFFIX,
+    CONTAINS,
+    REGEX
+  }
+
+  private static final Object ANY_SEQUENCE = new Object();
+  private static final Object ANY_CHARACTER = new Object();
+
+  private final Kind kind;
+  private final String text;
+  @EffectivelyImmutable
+  private final Pattern regex;
+
+  private LikeMatcher(final Kind kind, final String text, final Pattern regex) {
+    this.kind = kind;
+    this.text = text;
+    this.regex = regex;
+  }
+
+  /**
+   * @param pattern the pattern to compile
+   * @param escape  the escape character, if any
+   *
+   * @return the compiled pattern
+   */
+  public static LikeMatcher compile(final String pattern, final Optional<Character> escape) {
+    final List<Object> tokens = tokenize(pattern, escape);
+
+    int first = 0;
+    int last = tokens.size();
+    while (first < last && tokens.get(first) == ANY_SEQUENCE) {
+      first++;
+    }
+    while (last > first && tokens.get(last - 1) == ANY_SEQUENCE) {
+      last--;
+    }
+
+    final StringBuilder text = new StringBuilder();
+    for (int i = first; i < last; i++) {
+      final Object token = tokens.get(i);
+      if (!(token instanceof String)) {
+        return new LikeMatcher(Kind.REGEX, pattern, toRegex(tokens));
+      }
+      text.append((String) token);
+    }
+
+    final boolean anyStart = first > 0;
+    final boolean anyEnd = last < tokens.size();
+    final Kind kind;
+    if (anyStart && anyEnd) {
+      kind = Kind.CONTAINS;
+    } else if (anyStart) {
+      kind = Kind.SUFFIX;
+    } else if (anyEnd) {
+      kind = Kind.PREFIX;
+    } else {
+      kind = Kind.EXACT;
+    }
+    return new LikeMatcher(kind, text.toString(), null);
+  }
+
+  /**
+   * @param val the value to match
+   *
+   * @return  whether or not {@code val} matches the pattern given the SQL
+   *          LIKE definition of matching
+   */
+  public boolean matches(final String val) {
+    switch (kind) {
+      case EXACT:
+        return val.equals(text);
+      case PREFIX:
+        return val.startsWith(text)
+            && indexOfLineTerminator(val, text.length(), val.length()) < 0;
+      case SUFFIX:
+        return val.endsWith(text)
+            && indexOfLineTerminator(val, 0, val.length() - text.length()) < 0;
+      case CONTAINS:
+        return contains(val);
+      default:
+        return regex.matcher(val).matches();
+    }
+  }
+
+  private boolean contains(final String val) {
+    final int firstTerminator = indexOfLineTerminator(val, 0, val.length());
+    if (firstTerminator < 0) {
+      return val.contains(text);
+    }
+
+    // The text must cover every line terminator, so it can start no later than the first
+    // and must end after the last:
+    final int lastTerminator = lastIndexOfLineTerminator(val);
+    final int index = val.indexOf(text, Math.max(0, lastTerminator - text.length() + 1));
+    return index >= 0 && index <= firstTerminator;
+  }
+
+  /**
+   * Splits a pattern into its wildcards and the plain text between them.
+   */
+  private static List<Object> tokenize(final String pattern, final Optional<Character> escape) {
+    final List<Object> tokens = new ArrayList<>();
+    final StringBuilder text = new StringBuilder();
+
+    boolean escaped = false;
+    for (int i = 0; i < pattern.length(); i++) {
+      final char c = pattern.charAt(i);
+
+      if (escaped) {
+        text.append(c);
+        escaped = false;
+      } else if (escape.filter(e -> e == c).isPresent()) {
+        // the escape character is treated differently in different databases
+        // the only SQL standard indicates that
+        //
+        //    "A wildcard character is treated as a literal if preceded by
+        //    the escape character."
+        //
+        // This implementation will assume that if an escape character is encountered,
+        // the next character will be treated as a literal. Furthermore, if the escape
+        // character is one of the special characters ('%' or '_') then it becomes
+        // impossible to use those characters for their special meaning
+        //
+        // To use the escape character in the pattern, have it precede itself
+        escaped = true;
+      } else if (c == '%' || c == '_') {
+        if (text.length() > 0) {
+          tokens.add(text.toString());
+          text.setLength(0);
+        }
+        tokens.add(c == '%' ? ANY_SEQUENCE : ANY_CHARACTER);
+      } else {
+        text.append(c);
+      }
+    }
+
+    if (escaped) {
+      throw new KsqlException("LIKE pattern must not end with escape character");
+    }
+
+    if (text.length() > 0) {
+      tokens.add(text.toString());
+    }
+    return tokens;
+  }
+
+  private static Pattern toRegex(final List<Object> tokens) {
+    final StringBuilder regex = new StringBuilder();
+    for (final Object token : tokens) {
+      if (token == ANY_SEQUENCE) {
+        regex.append(".*");
+      } else if (token == ANY_CHARACTER) {
+        regex.append(".");
+      } else {
+        // so that any non-special SQL characters don't translate into special regex characters
+        regex.append(Pattern.quote((String) token));
+      }
+    }
+    return Pattern.compile(regex.toString());
+  }
+
+  private static int indexOfLineTerminator(final String val, final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      if (isLineTerminator(val.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int lastIndexOfLineTerminator(final String val) {
+    for (int i = val.length() - 1; i >= 0; i--) {
+      if (isLineTerminator(val.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return whether {@code c} is a character that '.' does not match in a regular expression
+   */
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
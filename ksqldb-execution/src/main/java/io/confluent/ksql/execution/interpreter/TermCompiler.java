@@ -26,6 +26,8 @@ import com.google.errorprone.annotations.Immutable;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.confluent.ksql.execution.codegen.helpers.ArrayAccess;
 import io.confluent.ksql.execution.codegen.helpers.InListEvaluator;
+import io.confluent.ksql.execution.codegen.helpers.InListMatcher;
+import io.confluent.ksql.execution.codegen.helpers.LikeMatcher;
 import io.confluent.ksql.execution.expression.tree.ArithmeticBinaryExpression;
 import io.confluent.ksql.execution.expression.tree.ArithmeticUnaryExpression;
 import io.confluent.ksql.execution.expression.tree.BetweenPredicate;
@@ -199,6 +201,13 @@ public class TermCompiler implements ExpressionVisitor<Term, Context> {
 
     final Term value = process(preprocessed.getValue(), context);
 
+    // Compile a list of literals into a set once, rather than comparing with each for every row:
+    final Optional<InListMatcher> matcher = InListMatcher
+        .fromLiterals(preprocessed.getValueList().getValues());
+    if (matcher.isPresent()) {
+      return new InPredicateTerm(value, matcher.get());
+    }
+
     final List<Term> valueList = preprocessed.getValueList().getValues().stream()
         .map(v -> process(v, context))
         .collect(ImmutableList.toImmutableList());
@@ -537,6 +546,13 @@ public class TermCompiler implements ExpressionVisitor<Term, Context> {
 
   @Override
   public Term visitLikePredicate(final LikePredicate node, final Context context) {
+    if (node.getPattern() instanceof StringLiteral) {
+      // Compile the pattern once, rather than for every row:
+      final String pattern = ((StringLiteral) node.getPattern()).getValue();
+      final Term valueString = process(node.getValue(), context);
+      return new LikeTerm(LikeMatcher.compile(pattern, node.getEscape()), valueString);
+    }
+
     final Term patternString = process(node.getPattern(), context);
     final Term valueString = process(node.getValue(), context);
 
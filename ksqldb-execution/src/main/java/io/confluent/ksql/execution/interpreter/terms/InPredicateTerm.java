@@ -17,23 +17,40 @@ package io.confluent.ksql.execution.interpreter.terms;
 
 import com.google.common.collect.ImmutableList;
 import io.confluent.ksql.execution.codegen.helpers.InListEvaluator;
+import io.confluent.ksql.execution.codegen.helpers.InListMatcher;
 import io.confluent.ksql.execution.interpreter.TermEvaluationContext;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import java.util.List;
+import java.util.Optional;
 
 public class InPredicateTerm implements Term {
 
   private final Term value;
   private final List<Term> valueList;
+  private final Optional<InListMatcher> matcher;
 
   public InPredicateTerm(final Term value, final List<Term> valueList) {
     this.value = value;
     this.valueList = ImmutableList.copyOf(valueList);
+    this.matcher = Optional.empty();
+  }
+
+  /**
+   * Creates a term for an IN predicate whose list has already been compiled, e.g. because it is
+   * made up of literals.
+   */
+  public InPredicateTerm(final Term value, final InListMatcher matcher) {
+    this.value = value;
+    this.valueList = ImmutableList.of();
+    this.matcher = Optional.of(matcher);
   }
 
   @Override
   public Object getValue(final TermEvaluationContext context) {
+    if (matcher.isPresent()) {
+      return matcher.get().matches(value.getValue(context));
+    }
     final Object[] values = valueList.stream()
         .map(v -> v.getValue(context))
         .toArray();
@@ -16,6 +16,7 @@
 package io.confluent.ksql.execution.interpreter.terms;
 
 import io.confluent.ksql.execution.codegen.helpers.LikeEvaluator;
+import io.confluent.ksql.execution.codegen.helpers.LikeMatcher;
 import io.confluent.ksql.execution.interpreter.TermEvaluationContext;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
@@ -26,6 +27,7 @@ public class LikeTerm implements Term {
   private final Term patternString;
   private final Term valueString;
   private final Optional<Character> escapeChar;
+  private final Optional<LikeMatcher> matcher;
 
   public LikeTerm(
       final Term patternString,
@@ -35,10 +37,28 @@ public class LikeTerm implements Term {
     this.patternString = patternString;
     this.valueString = valueString;
     this.escapeChar = escapeChar;
+    this.matcher = Optional.empty();
+  }
+
+  /**
+   * Creates a term for a LIKE predicate whose pattern has already been compiled, e.g. because it
+   * is a literal.
+   */
+  public LikeTerm(
+      final LikeMatcher matcher,
+      final Term valueString
+  ) {
+    this.patternString = null;
+    this.valueString = valueString;
+    this.escapeChar = Optional.empty();
+    this.matcher = Optional.of(matcher);
   }
 
   @Override
   public Object getValue(final TermEvaluationContext context) {
+    if (matcher.isPresent()) {
+      return matcher.get().matches((String) valueString.getValue(context));
+    }
     return escapeChar.map(
         character -> LikeEvaluator.matches(
             (String) valueString.getValue(context), (String) patternString.getValue(context),
@@ -92,6 +92,7 @@ public class SelectValueMapper<K> {
 
     private final ImmutableList<SelectInfo> selects;
     private final ProcessingLogger processingLogger;
+    private final ImmutableList<Supplier<String>> errorMsgSuppliers;
 
     private SelectMapper(
         final ImmutableList<SelectInfo> selects,
@@ -99,6 +100,13 @@ public class SelectValueMapper<K> {
     ) {
       this.selects = requireNonNull(selects, "selects");
       this.processingLogger = requireNonNull(processingLogger, "processingLogger");
+
+      // Built once, rather than per row, but still only formatted if there's an error:
+      final ImmutableList.Builder<Supplier<String>> errorMsgSuppliers = ImmutableList.builder();
+      for (int i = 0; i < selects.size(); i++) {
+        errorMsgSuppliers.add(errorMsgSupplier(i, selects.get(i)));
+      }
+      this.errorMsgSuppliers = errorMsgSuppliers.build();
     }
 
     @Override
@@ -123,12 +131,15 @@ public class SelectValueMapper<K> {
     private Object processColumn(final int column, final GenericRow row) {
       final SelectInfo select = selects.get(column);
 
-      final Supplier<String> errorMsgSupplier = () ->
+      return select.evaluator
+          .evaluate(row, null, processingLogger, errorMsgSuppliers.get(column));
+    }
+
+    private static Supplier<String> errorMsgSupplier(final int column, final SelectInfo select) {
+      return () ->
           "Error computing expression " + select.evaluator.getExpression()
               + " for column " + select.fieldName.toString(FormatOptions.noEscape())
               + " with index " + column;
-
-      return select.evaluator.evaluate(row, null, processingLogger, errorMsgSupplier);
     }
   }
 }
@@ -29,6 +29,7 @@ import io.confluent.ksql.schema.ksql.LogicalSchema;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import io.confluent.ksql.util.KsqlConfig;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public final class SqlPredicate {
 
@@ -75,11 +76,12 @@ public final class SqlPredicate {
   private final class Transformer<K> implements KsqlTransformer<K, Optional<GenericRow>> {
 
     private final ProcessingLogger processingLogger;
-    private final String errorMsg;
+    private final Supplier<String> errorMsgSupplier;
 
     Transformer(final ProcessingLogger processingLogger) {
       this.processingLogger = requireNonNull(processingLogger, "processingLogger");
-      this.errorMsg = "Error evaluating predicate " + filterExpression.toString();
+      final String errorMsg = "Error evaluating predicate " + filterExpression.toString();
+      this.errorMsgSupplier = () -> errorMsg;
     }
 
     @Override
@@ -93,7 +95,7 @@ public final class SqlPredicate {
       }
 
       final boolean result = (Boolean) evaluator
-          .evaluate(value, false, processingLogger, () -> errorMsg);
+          .evaluate(value, false, processingLogger, errorMsgSupplier);
 
       return result
           ? Optional.of(value)
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+
+import io.confluent.ksql.GenericRow;
+import org.codehaus.commons.compiler.CompileException;
+import org.codehaus.commons.compiler.IExpressionEvaluator;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompiledExpressionCacheTest {
+
+  private static final String[] ARG_NAMES = new String[]{"var0"};
+  private static final Class<?>[] ARG_TYPES = new Class<?>[]{Integer.class};
+
+  private CompiledExpressionCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new CompiledExpressionCache(2);
+  }
+
+  @Test
+  public void shouldReturnCachedEvaluatorForSameCode() throws Exception {
+    // When:
+    final IExpressionEvaluator first = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+    final IExpressionEvaluator second = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // Then:
+    assertThat(second, is(sameInstance(first)));
+    assertThat(cache.stats().missCount(), is(1L));
+    assertThat(cache.stats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void shouldReturnWorkingEvaluator() throws Exception {
+    // Given:
+    final IExpressionEvaluator ee = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // When:
+    final Object result = ee.evaluate(new Object[]{41, null, null, GenericRow.genericRow()});
+
+    // Then:
+    assertThat(result, is(42));
+  }
+
+  @Test
+  public void shouldNotShareEvaluatorsForDifferentArgumentTypes() throws Exception {
+    // When:
+    final IExpressionEvaluator first = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+    final IExpressionEvaluator second = cache
+        .get("var0 + 1", Long.class, ARG_NAMES, new Class<?>[]{Long.class});
+
+    // Then:
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(cache.size(), is(2L));
+  }
+
+  @Test
+  public void shouldEvictWhenFull() throws Exception {
+    // When:
+    cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+    cache.get("var0 + 2", Integer.class, ARG_NAMES, ARG_TYPES);
+    cache.get("var0 + 3", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // Then:
+    assertThat(cache.size(), is(2L));
+    assertThat(cache.stats().evictionCount(), is(1L));
+  }
+
+  @Test
+  public void shouldApplyNewMaxEntries() throws Exception {
+    // Given:
+    cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // When:
+    cache.setMaxEntries(1);
+    cache.get("var0 + 2", Integer.class, ARG_NAMES, ARG_TYPES);
+    cache.get("var0 + 3", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // Then:
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  public void shouldKeepEntriesIfMaxEntriesUnchanged() throws Exception {
+    // Given:
+    final IExpressionEvaluator first = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // When:
+    cache.setMaxEntries(2);
+    final IExpressionEvaluator second = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // Then:
+    assertThat(second, is(sameInstance(first)));
+  }
+
+  @Test
+  public void shouldRecompileAfterInvalidation() throws Exception {
+    // Given:
+    final IExpressionEvaluator first = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // When:
+    cache.invalidateAll();
+    final IExpressionEvaluator second = cache.get("var0 + 1", Integer.class, ARG_NAMES, ARG_TYPES);
+
+    // Then:
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(cache.stats().missCount(), is(2L));
+  }
+
+  @Test
+  public void shouldThrowCompileExceptionOnInvalidCode() {
+    assertThrows(
+        CompileException.class,
+        () -> cache.get("var0 +", Integer.class, ARG_NAMES, ARG_TYPES)
+    );
+  }
+}
@@ -4,6 +4,7 @@ import static io.confluent.ksql.GenericRow.genericRow;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,6 +20,8 @@ import io.confluent.ksql.name.FunctionName;
 import io.confluent.ksql.schema.ksql.types.SqlType;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -118,6 +121,41 @@ public class CompiledExpressionTest {
     verify(expressionEvaluator).evaluate(new Object[]{udf, 123, DEFAULT_VAL, processingLogger, genericRow(123)});
   }
 
+  @Test
+  public void shouldReuseParametersBetweenEvaluationsOnSameThread() throws Exception {
+    // Given:
+    spec.addParameter(
+        ColumnName.of("foo1"),
+        Integer.class,
+        0
+    );
+    compiledExpression = new CompiledExpression(
+        expressionEvaluator,
+        spec.build(),
+        EXPRESSION_TYPE,
+        expression
+    );
+
+    final List<Object> parameters = new ArrayList<>();
+    when(expressionEvaluator.evaluate(any())).thenAnswer(invocation -> {
+      parameters.add(invocation.getRawArguments()[0]);
+      return RETURN_VALUE;
+    });
+
+    // When:
+    compiledExpression
+        .evaluate(genericRow(123), DEFAULT_VAL, processingLogger, errorMsgSupplier);
+    compiledExpression
+        .evaluate(genericRow(456), DEFAULT_VAL, processingLogger, errorMsgSupplier);
+
+    // Then:
+    assertThat(parameters.get(1), is(sameInstance(parameters.get(0))));
+    verify(expressionEvaluator)
+        .evaluate(new Object[]{123, DEFAULT_VAL, processingLogger, genericRow(123)});
+    verify(expressionEvaluator)
+        .evaluate(new Object[]{456, DEFAULT_VAL, processingLogger, genericRow(456)});
+  }
+
   @Test
   public void shouldPerformThreadSafeParameterEvaluation() throws Exception {
     // Given:
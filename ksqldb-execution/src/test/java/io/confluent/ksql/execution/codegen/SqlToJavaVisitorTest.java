@@ -63,6 +63,7 @@ import io.confluent.ksql.execution.expression.tree.IntervalUnit;
 import io.confluent.ksql.execution.expression.tree.LambdaFunctionCall;
 import io.confluent.ksql.execution.expression.tree.LambdaVariable;
 import io.confluent.ksql.execution.expression.tree.LikePredicate;
+import io.confluent.ksql.execution.expression.tree.Literal;
 import io.confluent.ksql.execution.expression.tree.QualifiedColumnReferenceExp;
 import io.confluent.ksql.execution.expression.tree.SearchedCaseExpression;
 import io.confluent.ksql.execution.expression.tree.SimpleCaseExpression;
@@ -116,6 +117,8 @@ public class SqlToJavaVisitorTest {
   public void init() {
     final AtomicInteger funCounter = new AtomicInteger();
     final AtomicInteger structCounter = new AtomicInteger();
+    final AtomicInteger likeCounter = new AtomicInteger();
+    final AtomicInteger inCounter = new AtomicInteger();
     ksqlConfig = new KsqlConfig(Collections.emptyMap());
     sqlToJavaVisitor = new SqlToJavaVisitor(
         SCHEMA,
@@ -123,6 +126,12 @@ public class SqlToJavaVisitorTest {
         ref -> ref.text().replace(".", "_"),
         name -> name.text() + "_" + funCounter.getAndIncrement(),
         struct -> "schema" + structCounter.getAndIncrement(),
+        like -> like.getPattern() instanceof StringLiteral
+            ? Optional.of("likeMatcher" + likeCounter.getAndIncrement())
+            : Optional.empty(),
+        in -> in.getValueList().getValues().stream().allMatch(Literal.class::isInstance)
+            ? Optional.of("inListMatcher" + inCounter.getAndIncrement())
+            : Optional.empty(),
         ksqlConfig
     );
   }
@@ -423,7 +432,7 @@ public class SqlToJavaVisitorTest {
     final String javaExpression = sqlToJavaVisitor.process(expression);
 
     // Then:
-    assertThat(javaExpression, equalTo("LikeEvaluator.matches(COL1, \"%foo\")"));
+    assertThat(javaExpression, equalTo("likeMatcher0.matches(COL1)"));
   }
 
   @Test
@@ -435,7 +444,7 @@ public class SqlToJavaVisitorTest {
     final String javaExpression = sqlToJavaVisitor.process(expression);
 
     // Then:
-    assertThat(javaExpression, equalTo("LikeEvaluator.matches(COL1, \"%foo\", '!')"));
+    assertThat(javaExpression, equalTo("likeMatcher0.matches(COL1)"));
   }
 
   @Test
@@ -450,6 +459,18 @@ public class SqlToJavaVisitorTest {
     assertThat(javaExpression, equalTo("LikeEvaluator.matches(COL1, COL1)"));
   }
 
+  @Test
+  public void shouldGenerateCorrectCodeForLikePatternWithColRefAndEscape() {
+    // Given:
+    final Expression expression = new LikePredicate(COL1, COL1, Optional.of('!'));
+
+    // When:
+    final String javaExpression = sqlToJavaVisitor.process(expression);
+
+    // Then:
+    assertThat(javaExpression, equalTo("LikeEvaluator.matches(COL1, COL1, '!')"));
+  }
+
   @Test
   public void shouldGenerateCorrectCodeForCaseStatement() {
     // Given:
@@ -1060,7 +1081,22 @@ public class SqlToJavaVisitorTest {
     final String java = sqlToJavaVisitor.process(expression);
 
     // Then:
-    assertThat(java, is("InListEvaluator.matches(COL0,1L,2L)"));
+    assertThat(java, is("inListMatcher0.matches(COL0)"));
+  }
+
+  @Test
+  public void shouldGenerateCorrectCodeForInPredicateWithColRef() {
+    // Given:
+    final Expression expression = new InPredicate(
+        COL0,
+        new InListExpression(ImmutableList.of(new IntegerLiteral(1), COL0))
+    );
+
+    // When:
+    final String java = sqlToJavaVisitor.process(expression);
+
+    // Then:
+    assertThat(java, is("InListEvaluator.matches(COL0,1L,COL0)"));
   }
 
   @Test
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.execution.expression.tree.DoubleLiteral;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.expression.tree.IntegerLiteral;
+import io.confluent.ksql.execution.expression.tree.LongLiteral;
+import io.confluent.ksql.execution.expression.tree.StringLiteral;
+import io.confluent.ksql.execution.expression.tree.UnqualifiedColumnReferenceExp;
+import io.confluent.ksql.name.ColumnName;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class InListMatcherTest {
+
+  @Test
+  public void shouldMatchInts() {
+    // Given:
+    final InListMatcher matcher = matcher(
+        new IntegerLiteral(0), new IntegerLiteral(-1), new IntegerLiteral(Integer.MIN_VALUE));
+
+    // Then:
+    assertThat(matcher.matches(0), is(true));
+    assertThat(matcher.matches(-1), is(true));
+    assertThat(matcher.matches(Integer.MIN_VALUE), is(true));
+    assertThat(matcher.matches(1), is(false));
+    assertThat(matcher.matches(Integer.MAX_VALUE), is(false));
+    assertThat(matcher.matches(null), is(false));
+  }
+
+  @Test
+  public void shouldMatchLongs() {
+    // Given:
+    final InListMatcher matcher = matcher(
+        new LongLiteral(1L), new LongLiteral(Long.MAX_VALUE), new LongLiteral(1L << 40));
+
+    // Then:
+    assertThat(matcher.matches(1L), is(true));
+    assertThat(matcher.matches(Long.MAX_VALUE), is(true));
+    assertThat(matcher.matches(1L << 40), is(true));
+    assertThat(matcher.matches(0L), is(false));
+    assertThat(matcher.matches((1L << 40) + 1), is(false));
+  }
+
+  @Test
+  public void shouldMatchStrings() {
+    // Given:
+    final InListMatcher matcher = matcher(new StringLiteral("a"), new StringLiteral(""));
+
+    // Then:
+    assertThat(matcher.matches("a"), is(true));
+    assertThat(matcher.matches(""), is(true));
+    assertThat(matcher.matches("A"), is(false));
+  }
+
+  @Test
+  public void shouldMatchLargeLists() {
+    // Given:
+    final InListMatcher matcher = InListMatcher.fromLiterals(
+        IntStream.range(0, 2000)
+            .mapToObj(i -> new LongLiteral(i * 7919L))
+            .collect(Collectors.toList())
+    ).get();
+
+    // Then:
+    for (long i = 0; i < 2000; i++) {
+      assertThat(matcher.matches(i * 7919L), is(true));
+      assertThat(matcher.matches(i * 7919L + 1), is(false));
+    }
+  }
+
+  @Test
+  public void shouldMatchValuesOfOtherTypesAsInListEvaluator() {
+    // Given:
+    final InListMatcher matcher = matcher(new IntegerLiteral(1), new IntegerLiteral(2));
+
+    // Then:
+    assertThat(matcher.matches(2L), is(InListEvaluator.matches(2L, 1, 2)));
+    assertThat(matcher.matches("2"), is(InListEvaluator.matches("2", 1, 2)));
+  }
+
+  @Test
+  public void shouldNotCompileListWithColumnReference() {
+    // Given:
+    final List<Expression> values = ImmutableList.of(
+        new IntegerLiteral(1), new UnqualifiedColumnReferenceExp(ColumnName.of("COL0")));
+
+    // Then:
+    assertThat(InListMatcher.fromLiterals(values).isPresent(), is(false));
+  }
+
+  @Test
+  public void shouldNotCompileListOfUnsupportedType() {
+    // Given:
+    final List<Expression> values = ImmutableList.of(new DoubleLiteral(1.0));
+
+    // Then:
+    assertThat(InListMatcher.fromLiterals(values).isPresent(), is(false));
+  }
+
+  @Test
+  public void shouldNotCompileEmptyList() {
+    assertThat(InListMatcher.fromLiterals(ImmutableList.of()).isPresent(), is(false));
+  }
+
+  private static InListMatcher matcher(final Expression... values) {
+    return InListMatcher.fromLiterals(ImmutableList.copyOf(values)).get();
+  }
+}
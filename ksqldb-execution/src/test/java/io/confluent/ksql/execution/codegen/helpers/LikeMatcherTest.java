@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"; you may not use
+ * this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.execution.codegen.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Objects;
+import java.util.Optional;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class LikeMatcherTest {
+
+  private final String name;
+  private final String val;
+  private final String pattern;
+  private final Character escape;
+  private final boolean expected;
+
+  @Parameters(name = "{0}")
+  public static Object[][] data() {
+    // name | val | pattern | escape | expected
+    return new Object[][]{
+        {"exact",                              "foo", "foo", null, true},
+        {"exact [X]",                          "fooo", "foo", null, false},
+        {"empty",                              "", "", null, true},
+        {"empty [X]",                          "a", "", null, false},
+        {"prefix",                             "foobar", "foo%", null, true},
+        {"prefix exact",                       "foo", "foo%", null, true},
+        {"prefix [X]",                         "barfoo", "foo%", null, false},
+        {"prefix with newline after [X]",      "foo\nbar", "foo%", null, false},
+        {"prefix with newline in text",        "f\no", "f\no%", null, true},
+        {"suffix",                             "barfoo", "%foo", null, true},
+        {"suffix [X]",                         "foobar", "%foo", null, false},
+        {"suffix with newline before [X]",     "bar\rfoo", "%foo", null, false},
+        {"contains",                           "a/checkout/b", "%/checkout%", null, true},
+        {"contains at start",                  "/checkout/b", "%/checkout%", null, true},
+        {"contains [X]",                       "a/basket/b", "%/checkout%", null, false},
+        {"contains with newline [X]",          "a\n/checkout", "%/checkout%", null, false},
+        {"contains covering newline",          "ab\ncd", "%b\nc%", null, true},
+        {"contains covering newlines",         "a\u2028b\u2029c", "%\u2028b\u2029%", null, true},
+        {"contains not covering newlines [X]", "a\u2028b\u2029c", "%\u2028b%", null, false},
+        {"contains later match",               "xy x\nyz", "%x\nyz%", null, true},
+        {"contains match before newline [X]",  "x\nyz x\ny", "%x\nyz%", null, false},
+        {"any",                                "anything", "%", null, true},
+        {"any empty",                          "", "%%", null, true},
+        {"any with newline [X]",               "\u0085", "%", null, false},
+        {"regex",                              "barfoo", "b%r%o", null, true},
+        {"regex [X]",                          "barbarbar", "b%r%o", null, false},
+        {"underscore at end",                  "foo", "fo_", null, true},
+        {"underscore with percent",            "xfoo", "%fo_", null, true},
+        {"regex chars",                        ".^$\\*", "%^$\\%", null, true},
+        {"escaped percent is text",            "f%o", "f!%o", '!', true},
+        {"escaped percent is text [X]",        "foo", "f!%o", '!', false},
+        {"escaped trailing percent",           "foo%", "%o!%", '!', true},
+        {"escaped trailing percent [X]",       "foo%x", "%o!%", '!', false},
+        {"escaped underscore prefix",          "f_ox", "f!_%", '!', true},
+        {"escaped underscore prefix [X]",      "fxox", "f!_%", '!', false},
+    };
+  }
+
+  public LikeMatcherTest(
+      final String name,
+      final String val,
+      final String pattern,
+      final Character escape,
+      final boolean expected
+  ) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.val = Objects.requireNonNull(val, "val");
+    this.pattern = Objects.requireNonNull(pattern, "pattern");
+    this.escape = escape;
+    this.expected = expected;
+  }
+
+  @Test
+  public void shouldMatch() {
+    // When:
+    final LikeMatcher matcher = LikeMatcher.compile(pattern, Optional.ofNullable(escape));
+
+    // Then:
+    assertThat(matcher.matches(val), is(expected));
+  }
+}
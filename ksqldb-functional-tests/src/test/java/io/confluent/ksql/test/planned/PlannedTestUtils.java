@@ -24,6 +24,7 @@ import io.confluent.ksql.test.model.KsqlVersion;
 import io.confluent.ksql.test.tools.TestCase;
 import io.confluent.ksql.test.tools.TestCaseBuilder;
 import io.confluent.ksql.test.tools.TopologyAndConfigs;
+import io.confluent.ksql.util.KsqlConfig;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -47,7 +48,9 @@ public final class PlannedTestUtils {
 
   public static boolean isNotExcluded(final TestCase testCase) {
     // Place temporary logic here to exclude test cases based on feature flags, etc.
-    return true;
+    // Pruning the columns of join sources is off by default, so its plans are not yet saved:
+    return !Boolean.parseBoolean(String.valueOf(
+        testCase.properties().get(KsqlConfig.KSQL_QUERY_JOIN_PRUNE_COLUMNS_ENABLED)));
   }
 
   public static boolean isSamePlan(
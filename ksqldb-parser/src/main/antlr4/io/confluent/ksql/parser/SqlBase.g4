@@ -80,7 +80,7 @@ statement
     | CREATE (SINK | SOURCE) CONNECTOR (IF NOT EXISTS)? identifier
              WITH tableProperties                                           #createConnector
     | INSERT INTO sourceName (WITH tableProperties)? query                  #insertInto
-    | INSERT INTO sourceName (columns)? VALUES values                       #insertValues
+    | INSERT INTO sourceName (columns)? VALUES values (',' values)*         #insertValues
     | DROP STREAM (IF EXISTS)? sourceName (DELETE TOPIC)?                   #dropStream
     | DROP TABLE (IF EXISTS)? sourceName (DELETE TOPIC)?                    #dropTable
     | DROP CONNECTOR (IF EXISTS)? identifier                                #dropConnector
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.execution.expression.tree.BooleanLiteral;
+import io.confluent.ksql.execution.expression.tree.DecimalLiteral;
+import io.confluent.ksql.execution.expression.tree.DoubleLiteral;
+import io.confluent.ksql.execution.expression.tree.IntegerLiteral;
+import io.confluent.ksql.execution.expression.tree.Literal;
+import io.confluent.ksql.execution.expression.tree.LongLiteral;
+import io.confluent.ksql.execution.expression.tree.NullLiteral;
+import io.confluent.ksql.execution.expression.tree.StringLiteral;
+import io.confluent.ksql.parser.KsqlParser.ParsedStatement;
+import io.confluent.ksql.parser.exception.ParseFailedException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binds values to the parameters of a statement.
+ *
+ * <p>A parameter is a {@code ${name}} placeholder where the grammar expects a literal, e.g.
+ * {@code SELECT * FROM T WHERE ID = ${id};}. Unlike a session variable, whose value is
+ * substituted into the statement as text, a parameter's value is bound as a literal of the
+ * value's type: strings are always quoted, so a value can not change the statement's structure.
+ *
+ * <p>The placeholders are located when the binder is created, so a statement can be bound to
+ * any number of sets of values without being parsed again.
+ */
+public final class ParameterBinder {
+
+  private final String statementText;
+  private final ImmutableList<Placeholder> placeholders;
+
+  /**
+   * @param statement the parsed statement, containing the parameter placeholders.
+   * @return the binder for the statement.
+   */
+  public static ParameterBinder of(final ParsedStatement statement) {
+    final String statementText = statement.getStatementText();
+    final int offset = statement.getStatement().getStart().getStartIndex();
+    final List<Placeholder> placeholders = new ArrayList<>();
+
+    new SqlBaseBaseVisitor<Void>() {
+      @Override
+      public Void visitVariableLiteral(final SqlBaseParser.VariableLiteralContext context) {
+        final String text = context.getText();
+        placeholders.add(new Placeholder(
+            text.substring(
+                VariableSubstitutor.PREFIX.length(),
+                text.length() - VariableSubstitutor.SUFFIX.length()),
+            // The char stream indexes code points, not chars:
+            statementText.offsetByCodePoints(0, context.getStart().getStartIndex() - offset),
+            statementText.offsetByCodePoints(0, context.getStop().getStopIndex() + 1 - offset)
+        ));
+        return null;
+      }
+    }.visit(statement.getStatement());
+
+    return new ParameterBinder(statementText, placeholders);
+  }
+
+  private ParameterBinder(final String statementText, final List<Placeholder> placeholders) {
+    this.statementText = requireNonNull(statementText, "statementText");
+    this.placeholders = ImmutableList.copyOf(placeholders);
+  }
+
+  /**
+   * Binds the supplied values to the statement's parameters.
+   *
+   * <p>Supported value types are {@code String}, {@code Boolean}, {@code Integer},
+   * {@code Long}, {@code Double} and {@code BigDecimal}. A {@code null} value binds {@code NULL}.
+   *
+   * @param parameters the values of the parameters, by parameter name.
+   * @return the bound statement.
+   * @throws ParseFailedException if a parameter has no value or a value of an unsupported type.
+   */
+  public BoundStatement bind(final Map<String, ?> parameters) {
+    final TextBuilder text = new TextBuilder(statementText.length());
+    final ImmutableList.Builder<Literal> literals = ImmutableList.builder();
+
+    int from = 0;
+    for (final Placeholder placeholder : placeholders) {
+      if (!parameters.containsKey(placeholder.name)) {
+        throw new ParseFailedException(
+            "No value supplied for parameter '" + placeholder.name + "'", statementText);
+      }
+
+      text.append(statementText.substring(from, placeholder.start));
+
+      final Object value = parameters.get(placeholder.name);
+      final String sql = toSql(placeholder.name, value);
+      if (sql.startsWith("-") && text.endsWith('-')) {
+        // Do not turn a preceding minus into a comment:
+        text.append(" ");
+      }
+
+      literals.add(toLiteral(text.location(), value));
+      text.append(sql);
+      from = placeholder.end;
+    }
+    text.append(statementText.substring(from));
+
+    return new BoundStatement(text.toString(), literals.build());
+  }
+
+  private String toSql(final String name, final Object value) {
+    if (value == null) {
+      return "NULL";
+    }
+    if (value instanceof String) {
+      return "'" + ((String) value).replace("'", "''") + "'";
+    }
+    if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+      return value.toString();
+    }
+    if (value instanceof Double) {
+      final double d = (Double) value;
+      if (Double.isNaN(d) || Double.isInfinite(d)) {
+        throw new ParseFailedException(
+            "Value of parameter '" + name + "' is not a finite number: " + value, statementText);
+      }
+      // Always use an exponent, otherwise the value would be parsed as a DECIMAL:
+      final String text = Double.toString(d);
+      return text.contains("E") ? text : text + "E0";
+    }
+    if (value instanceof BigDecimal) {
+      // Always use a decimal point, otherwise the value would be parsed as an INT or BIGINT:
+      final String text = ((BigDecimal) value).toPlainString();
+      return text.contains(".") ? text : text + ".";
+    }
+    throw new ParseFailedException(
+        "Value of parameter '" + name + "' has unsupported type: "
+            + value.getClass().getSimpleName(),
+        statementText);
+  }
+
+  private static Literal toLiteral(final NodeLocation location, final Object value) {
+    final Optional<NodeLocation> loc = Optional.of(location);
+    if (value == null) {
+      return new NullLiteral(loc);
+    }
+    if (value instanceof String) {
+      return new StringLiteral(loc, (String) value);
+    }
+    if (value instanceof Boolean) {
+      return new BooleanLiteral(loc, value.toString());
+    }
+    if (value instanceof Integer || value instanceof Long) {
+      // Match the type the parser gives the literal:
+      final long l = ((Number) value).longValue();
+      return l <= Integer.MAX_VALUE && l >= Integer.MIN_VALUE
+          ? new IntegerLiteral(loc, (int) l)
+          : new LongLiteral(loc, l);
+    }
+    if (value instanceof Double) {
+      return new DoubleLiteral(loc, (Double) value);
+    }
+    return new DecimalLiteral(loc, new BigDecimal(((BigDecimal) value).toPlainString()));
+  }
+
+  /**
+   * A statement with values bound to its parameters.
+   */
+  public static final class BoundStatement {
+
+    private final String statementText;
+    private final ImmutableList<Literal> literals;
+
+    private BoundStatement(final String statementText, final ImmutableList<Literal> literals) {
+      this.statementText = requireNonNull(statementText, "statementText");
+      this.literals = requireNonNull(literals, "literals");
+    }
+
+    /**
+     * @return the text of the statement, with the values in place of the placeholders.
+     */
+    public String getStatementText() {
+      return statementText;
+    }
+
+    /**
+     * The literals of the bound values, in the order their placeholders appear in the statement.
+     * The location of each literal is its location in the text of the bound statement, i.e. the
+     * location the parser gives it when parsing {@link #getStatementText()}.
+     *
+     * @return the literals of the bound values.
+     */
+    public List<Literal> getLiterals() {
+      return literals;
+    }
+  }
+
+  private static final class Placeholder {
+
+    private final String name;
+    private final int start;
+    private final int end;
+
+    Placeholder(final String name, final int start, final int end) {
+      this.name = requireNonNull(name, "name");
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  /**
+   * Builds the text of a statement, tracking the location the parser would give its end.
+   */
+  private static final class TextBuilder {
+
+    private final StringBuilder text;
+    private int line = 1;
+    private int charPositionInLine = 0;
+
+    TextBuilder(final int capacity) {
+      this.text = new StringBuilder(capacity);
+    }
+
+    void append(final String value) {
+      for (int i = 0; i < value.length(); i++) {
+        if (value.charAt(i) == '\n') {
+          line++;
+          charPositionInLine = 0;
+        } else if (!Character.isLowSurrogate(value.charAt(i))) {
+          charPositionInLine++;
+        }
+      }
+      text.append(value);
+    }
+
+    boolean endsWith(final char c) {
+      return text.length() != 0 && text.charAt(text.length() - 1) == c;
+    }
+
+    NodeLocation location() {
+      return new NodeLocation(line, charPositionInLine);
+    }
+
+    @Override
+    public String toString() {
+      return text.toString();
+    }
+  }
+}
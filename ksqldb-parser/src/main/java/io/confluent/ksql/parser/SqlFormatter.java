@@ -354,7 +354,14 @@ public final class SqlFormatter {
 
       builder.append("VALUES ");
 
-      visitExpressionList(node.getValues());
+      boolean first = true;
+      for (final List<Expression> values : node.getRows()) {
+        if (!first) {
+          builder.append(", ");
+        }
+        visitExpressionList(values);
+        first = false;
+      }
 
       return null;
     }
@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.confluent.ksql.parser.exception.ParseFailedException;
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -72,8 +73,30 @@ public final class VariableSubstitutor {
       final KsqlParser.ParsedStatement parsedStatement,
       final Map<String, String> valueMap
   ) {
+    return substitute(parsedStatement, valueMap, Collections.emptySet());
+  }
+
+  /**
+   * Substitutes the variables into the statement, leaving the placeholders of the named query
+   * parameters in place to be bound later, see {@link ParameterBinder}. A parameter takes
+   * precedence over a variable of the same name.
+   *
+   * @param parsedStatement the statement.
+   * @param valueMap the values of the variables, by name.
+   * @param parameterNames the names of the statement's parameters.
+   * @return the statement text with the variables substituted.
+   */
+  public static String substitute(
+      final KsqlParser.ParsedStatement parsedStatement,
+      final Map<String, String> valueMap,
+      final Set<String> parameterNames
+  ) {
+    final Map<String, String> variables = new HashMap<>(valueMap);
+    variables.keySet().removeAll(parameterNames);
+
     final String statementText = parsedStatement.getStatementText();
-    final SqlSubstitutorVisitor visitor = new SqlSubstitutorVisitor(statementText, valueMap);
+    final SqlSubstitutorVisitor visitor =
+        new SqlSubstitutorVisitor(statementText, variables, parameterNames);
     return visitor.replace(parsedStatement.getStatement());
   }
 
@@ -83,13 +106,19 @@ public final class VariableSubstitutor {
 
     private final String statementText;
     private final Map<String, String> valueMap;
+    private final Set<String> parameterNames;
 
     // Contains sanitized values for variable substitution
     private Map<String, String> sanitizedValueMap;
 
-    SqlSubstitutorVisitor(final String statementText, final Map<String, String> valueMap) {
+    SqlSubstitutorVisitor(
+        final String statementText,
+        final Map<String, String> valueMap,
+        final Set<String> parameterNames
+    ) {
       this.statementText = requireNonNull(statementText, "statementText");
       this.valueMap = requireNonNull(valueMap, "valueMap");
+      this.parameterNames = requireNonNull(parameterNames, "parameterNames");
       this.sanitizedValueMap = new HashMap<>(valueMap.size());
     }
 
@@ -121,6 +150,11 @@ public final class VariableSubstitutor {
     public Void visitVariableLiteral(final SqlBaseParser.VariableLiteralContext context) {
       final String variableRef = context.getText();
       final String variableName = unwrap(variableRef);
+      if (parameterNames.contains(variableName)) {
+        // Bound later as a query parameter:
+        return null;
+      }
+
       final String variableValue = valueMap.getOrDefault(variableName, variableRef);
 
       throwIfInvalidLiteral(variableValue, getLocation(context));
@@ -65,6 +65,9 @@ public final class CreateSourceAsProperties {
     this.props = new PropertiesConfig(CreateAsConfigs.CONFIG_METADATA, originals);
 
     CommonCreateConfigs.validateKeyValueFormats(props.originals());
+    props.validateNotInternalFormat(CommonCreateConfigs.FORMAT_PROPERTY);
+    props.validateNotInternalFormat(CommonCreateConfigs.KEY_FORMAT_PROPERTY);
+    props.validateNotInternalFormat(CommonCreateConfigs.VALUE_FORMAT_PROPERTY);
     props.validateDateTimeFormat(CommonCreateConfigs.TIMESTAMP_FORMAT_PROPERTY);
   }
 
@@ -77,6 +77,9 @@ public final class CreateSourceProperties {
     this.durationParser = Objects.requireNonNull(durationParser, "durationParser");
 
     CommonCreateConfigs.validateKeyValueFormats(props.originals());
+    props.validateNotInternalFormat(CommonCreateConfigs.FORMAT_PROPERTY);
+    props.validateNotInternalFormat(CommonCreateConfigs.KEY_FORMAT_PROPERTY);
+    props.validateNotInternalFormat(CommonCreateConfigs.VALUE_FORMAT_PROPERTY);
     props.validateDateTimeFormat(CommonCreateConfigs.TIMESTAMP_FORMAT_PROPERTY);
     validateWindowInfo();
   }
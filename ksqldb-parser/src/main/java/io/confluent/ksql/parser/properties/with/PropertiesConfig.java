@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 import com.google.common.collect.Sets.SetView;
 import io.confluent.ksql.execution.expression.tree.Literal;
 import io.confluent.ksql.properties.with.ConfigMetaData;
+import io.confluent.ksql.serde.binary.BinaryFormat;
 import io.confluent.ksql.testing.EffectivelyImmutable;
 import io.confluent.ksql.util.KsqlException;
 import java.time.format.DateTimeFormatter;
@@ -86,6 +87,18 @@ final class PropertiesConfig extends AbstractConfig {
     }
   }
 
+  void validateNotInternalFormat(final String configName) {
+    final Object value = originals().get(configName);
+    if (value == null) {
+      return;
+    }
+
+    if (value.toString().equalsIgnoreCase(BinaryFormat.NAME)) {
+      throw new KsqlException("The '" + BinaryFormat.NAME + "' format is only used by ksqlDB for"
+          + " its internal topics and can not be set in the '" + configName + "' property.");
+    }
+  }
+
   private static Map<String, Object> toValues(
       final Set<String> shortConfigProperties,
       final Map<String, Literal> literals
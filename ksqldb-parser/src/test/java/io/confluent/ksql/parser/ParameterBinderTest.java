@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.execution.expression.tree.ComparisonExpression;
+import io.confluent.ksql.execution.expression.tree.DecimalLiteral;
+import io.confluent.ksql.execution.expression.tree.DoubleLiteral;
+import io.confluent.ksql.execution.expression.tree.Expression;
+import io.confluent.ksql.execution.expression.tree.IntegerLiteral;
+import io.confluent.ksql.execution.expression.tree.LogicalBinaryExpression;
+import io.confluent.ksql.execution.expression.tree.LongLiteral;
+import io.confluent.ksql.execution.expression.tree.NullLiteral;
+import io.confluent.ksql.execution.expression.tree.StringLiteral;
+import io.confluent.ksql.function.InternalFunctionRegistry;
+import io.confluent.ksql.metastore.MetaStore;
+import io.confluent.ksql.parser.ParameterBinder.BoundStatement;
+import io.confluent.ksql.parser.exception.ParseFailedException;
+import io.confluent.ksql.parser.tree.Query;
+import io.confluent.ksql.util.MetaStoreFixture;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ParameterBinderTest {
+
+  private static final MetaStore META_STORE = MetaStoreFixture
+      .getNewMetaStore(new InternalFunctionRegistry());
+
+  @Test
+  public void shouldBindStringAsQuotedLiteral() {
+    // When:
+    final BoundStatement bound = bind(
+        "SELECT * FROM TEST1 WHERE COL1 = ${name};",
+        ImmutableMap.of("name", "it's ' OR 1=1 --"));
+
+    // Then:
+    assertThat(bound.getStatementText(),
+        is("SELECT * FROM TEST1 WHERE COL1 = 'it''s '' OR 1=1 --';"));
+    assertThat(bound.getLiterals(), contains(new StringLiteral("it's ' OR 1=1 --")));
+  }
+
+  @Test
+  public void shouldBindNumbersWithTheTypesTheParserGivesThem() {
+    // When:
+    final BoundStatement bound = bind(
+        "SELECT * FROM TEST1 WHERE COL0 IN (${a}, ${b}, ${c}, ${d}, ${e});",
+        ImmutableMap.of(
+            "a", 10L,
+            "b", 10_000_000_000L,
+            "c", 1.5,
+            "d", new BigDecimal("1.50"),
+            "e", new BigDecimal("2")
+        ));
+
+    // Then:
+    assertThat(bound.getStatementText(),
+        is("SELECT * FROM TEST1 WHERE COL0 IN (10, 10000000000, 1.5E0, 1.50, 2.);"));
+    assertThat(bound.getLiterals(), contains(
+        new IntegerLiteral(10),
+        new LongLiteral(10_000_000_000L),
+        new DoubleLiteral(1.5),
+        new DecimalLiteral(new BigDecimal("1.50")),
+        new DecimalLiteral(new BigDecimal("2"))
+    ));
+  }
+
+  @Test
+  public void shouldBindNull() {
+    // Given:
+    final Map<String, Object> parameters = new HashMap<>();
+    parameters.put("id", null);
+
+    // When:
+    final BoundStatement bound = bind("SELECT * FROM TEST1 WHERE COL0 = ${id};", parameters);
+
+    // Then:
+    assertThat(bound.getStatementText(), is("SELECT * FROM TEST1 WHERE COL0 = NULL;"));
+    assertThat(bound.getLiterals(), contains(new NullLiteral()));
+  }
+
+  @Test
+  public void shouldBindSameParameterMoreThanOnce() {
+    // When:
+    final BoundStatement bound = bind(
+        "SELECT * FROM TEST1 WHERE COL0 = ${id} OR COL3 = ${id};",
+        ImmutableMap.of("id", 1));
+
+    // Then:
+    assertThat(bound.getStatementText(),
+        is("SELECT * FROM TEST1 WHERE COL0 = 1 OR COL3 = 1;"));
+    assertThat(bound.getLiterals(), contains(new IntegerLiteral(1), new IntegerLiteral(1)));
+  }
+
+  @Test
+  public void shouldNotTurnPrecedingMinusIntoComment() {
+    // When:
+    final BoundStatement bound = bind(
+        "SELECT * FROM TEST1 WHERE COL0 = -${id};",
+        ImmutableMap.of("id", -1));
+
+    // Then:
+    assertThat(bound.getStatementText(), is("SELECT * FROM TEST1 WHERE COL0 = - -1;"));
+  }
+
+  @Test
+  public void shouldGiveLiteralsTheLocationsTheParserGivesThem() {
+    // Given:
+    final String sql = "SELECT * FROM TEST1\n"
+        + "  WHERE COL1 = ${a} AND '\u00fc\ud83d\ude00' = ${b};";
+
+    // When:
+    final BoundStatement bound = bind(sql, ImmutableMap.of("a", "x\ud83d\ude00\ny", "b", "z"));
+
+    // Then:
+    final Query query = KsqlParserTestUtil
+        .<Query>buildSingleAst(bound.getStatementText(), META_STORE)
+        .getStatement();
+    final LogicalBinaryExpression where = (LogicalBinaryExpression) query.getWhere().get();
+    final Expression first = ((ComparisonExpression) where.getLeft()).getRight();
+    final Expression second = ((ComparisonExpression) where.getRight()).getRight();
+
+    assertThat(first, is(new StringLiteral("x\ud83d\ude00\ny")));
+    assertThat(first.getLocation(), is(bound.getLiterals().get(0).getLocation()));
+    assertThat(second, is(new StringLiteral("z")));
+    assertThat(second.getLocation(), is(bound.getLiterals().get(1).getLocation()));
+  }
+
+  @Test
+  public void shouldThrowOnMissingParameter() {
+    // When:
+    final Exception e = assertThrows(
+        ParseFailedException.class,
+        () -> bind("SELECT * FROM TEST1 WHERE COL0 = ${id};", Collections.emptyMap())
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("No value supplied for parameter 'id'"));
+  }
+
+  @Test
+  public void shouldThrowOnUnsupportedType() {
+    // When:
+    final Exception e = assertThrows(
+        ParseFailedException.class,
+        () -> bind("SELECT * FROM TEST1 WHERE COL0 = ${id};",
+            ImmutableMap.of("id", new Object()))
+    );
+
+    // Then:
+    assertThat(e.getMessage(),
+        containsString("Value of parameter 'id' has unsupported type: Object"));
+  }
+
+  @Test
+  public void shouldThrowOnNonFiniteDouble() {
+    // When:
+    final Exception e = assertThrows(
+        ParseFailedException.class,
+        () -> bind("SELECT * FROM TEST1 WHERE COL3 = ${d};",
+            ImmutableMap.of("d", Double.NaN))
+    );
+
+    // Then:
+    assertThat(e.getMessage(),
+        containsString("Value of parameter 'd' is not a finite number: NaN"));
+  }
+
+  private static BoundStatement bind(final String sql, final Map<String, ?> parameters) {
+    return ParameterBinder.of(KsqlParserTestUtil.parse(sql).get(0)).bind(parameters);
+  }
+}
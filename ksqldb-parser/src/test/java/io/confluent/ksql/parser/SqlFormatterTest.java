@@ -959,6 +959,16 @@ public class SqlFormatterTest {
     assertThat(result, is("INSERT INTO ADDRESS VALUES (2)"));
   }
 
+  @Test
+  public void shouldFormatMultiRowInsertValues() {
+    final String statementString = "INSERT INTO ADDRESS (NUMBER, STREET) VALUES (2, 'high'), (3, 'low');";
+    final Statement statement = parseSingle(statementString);
+
+    final String result = SqlFormatter.formatSql(statement);
+
+    assertThat(result, is("INSERT INTO ADDRESS (NUMBER, STREET) VALUES (2, 'high'), (3, 'low')"));
+  }
+
   @Test
   public void shouldParseArbitraryExpressions() {
     // Given:
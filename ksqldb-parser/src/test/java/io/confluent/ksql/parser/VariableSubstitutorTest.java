@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.confluent.ksql.util.Pair;
 import java.util.Arrays;
 import java.util.List;
@@ -254,6 +255,25 @@ public class VariableSubstitutorTest {
     assertThat(substituted, equalTo("Happy birthday to you!"));
   }
 
+  @Test
+  public void shouldLeaveParametersToBeBound() {
+    // Given
+    final Map<String, String> variablesMap = new ImmutableMap.Builder<String, String>() {{
+      put("source", "s1");
+      put("id", "5");
+    }}.build();
+    final KsqlParser.ParsedStatement sqlStatement = KSQL_PARSER
+        .parse("SELECT * FROM ${source} WHERE id = ${id} AND name = ${name};").get(0);
+
+    // When
+    final String substituted = VariableSubstitutor.substitute(
+        sqlStatement, variablesMap, ImmutableSet.of("id", "name"));
+
+    // Then
+    assertThat(substituted,
+        equalTo("SELECT * FROM s1 WHERE id = ${id} AND name = ${name};"));
+  }
+
   private void assertReplacedStatements(
       final List<Pair<String, String>> statements,
       final Map<String, String> variablesMap
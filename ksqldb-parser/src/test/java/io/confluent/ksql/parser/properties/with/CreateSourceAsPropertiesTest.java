@@ -287,6 +287,37 @@ public class CreateSourceAsPropertiesTest {
     assertThat(props.getValueFormat(), is(Optional.of("AVRO")));
   }
 
+  @Test
+  public void shouldThrowIfValueFormatIsInternal() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlException.class,
+        () -> CreateSourceAsProperties.from(
+            ImmutableMap.<String, Literal>builder()
+                .put(VALUE_FORMAT_PROPERTY, new StringLiteral("binary"))
+                .build())
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("The 'BINARY' format is only used by ksqlDB for its "
+        + "internal topics and can not be set in the 'VALUE_FORMAT' property."));
+  }
+
+  @Test
+  public void shouldThrowIfFormatIsInternal() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlException.class,
+        () -> CreateSourceAsProperties.from(
+            ImmutableMap.<String, Literal>builder()
+                .put(FORMAT_PROPERTY, new StringLiteral("BINARY"))
+                .build())
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("can not be set in the 'FORMAT' property."));
+  }
+
   @Test
   public void shouldThrowIfKeyFormatAndFormatProvided() {
     // When:
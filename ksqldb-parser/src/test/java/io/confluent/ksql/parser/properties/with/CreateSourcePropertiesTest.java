@@ -534,6 +534,39 @@ public class CreateSourcePropertiesTest {
         hasEntry(AvroFormat.FULL_SCHEMA_NAME, "io.confluent.ksql.avro_schemas.FooKey"));
   }
 
+  @Test
+  public void shouldThrowIfValueFormatIsInternal() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlException.class,
+        () -> CreateSourceProperties.from(
+            ImmutableMap.<String, Literal>builder()
+                .putAll(MINIMUM_VALID_PROPS)
+                .put(VALUE_FORMAT_PROPERTY, new StringLiteral("binary"))
+                .build())
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("The 'BINARY' format is only used by ksqlDB for its "
+        + "internal topics and can not be set in the 'VALUE_FORMAT' property."));
+  }
+
+  @Test
+  public void shouldThrowIfFormatIsInternal() {
+    // When:
+    final Exception e = assertThrows(
+        KsqlException.class,
+        () -> CreateSourceProperties.from(
+            ImmutableMap.<String, Literal>builder()
+                .putAll(MINIMUM_VALID_PROPS)
+                .put(FORMAT_PROPERTY, new StringLiteral("BINARY"))
+                .build())
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("can not be set in the 'FORMAT' property."));
+  }
+
   @Test
   public void shouldThrowIfKeyFormatAndFormatProvided() {
     // When:
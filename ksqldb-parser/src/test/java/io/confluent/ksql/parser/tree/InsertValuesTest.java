@@ -22,9 +22,11 @@ import io.confluent.ksql.execution.expression.tree.StringLiteral;
 import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.name.SourceName;
 import io.confluent.ksql.util.KsqlException;
+import java.util.Optional;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertThrows;
 
@@ -81,4 +83,42 @@ public class InsertValuesTest {
     ));
   }
 
+  @Test
+  public void shouldThrowIfAnyRowDoesNotMatchColumns() {
+    // When:
+    final KsqlException e = assertThrows(
+        KsqlException.class,
+        () ->  InsertValues.ofRows(
+            Optional.empty(),
+            SOME_NAME,
+            ImmutableList.of(ColumnName.of("col1")),
+            ImmutableList.of(
+                ImmutableList.of(new StringLiteral("val1")),
+                ImmutableList.of(new StringLiteral("val1"), new StringLiteral("val2"))))
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString(
+        "Expected number columns and values to match"
+    ));
+  }
+
+  @Test
+  public void shouldReturnRows() {
+    // Given:
+    final InsertValues insertValues = InsertValues.ofRows(
+        Optional.empty(),
+        SOME_NAME,
+        ImmutableList.of(),
+        ImmutableList.of(
+            ImmutableList.of(new StringLiteral("a")),
+            ImmutableList.of(new StringLiteral("b"))));
+
+    // Then:
+    assertThat(insertValues.getRows(), contains(
+        ImmutableList.of(new StringLiteral("a")),
+        ImmutableList.of(new StringLiteral("b"))));
+    assertThrows(IllegalStateException.class, insertValues::getValues);
+  }
+
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import io.confluent.ksql.api.server.QueryHandle;
 import io.confluent.ksql.api.server.SlidingWindowRateLimiter;
 import io.confluent.ksql.api.spi.QueryPublisher;
 import io.confluent.ksql.config.SessionConfig;
+import io.confluent.ksql.engine.BoundQuery;
 import io.confluent.ksql.engine.KsqlEngine;
 import io.confluent.ksql.engine.PullQueryExecutionUtil;
 import io.confluent.ksql.execution.streams.RoutingFilter.RoutingFilterFactory;
@@ -133,6 +134,7 @@ public class QueryEndpoint {
       final Map<String, Object> properties,
       final Map<String, Object> sessionVariables,
       final Map<String, Object> requestProperties,
+      final Map<String, Object> parameters,
       final Context context,
       final WorkerExecutor workerExecutor,
       final ServiceContext serviceContext,
@@ -140,13 +142,23 @@ public class QueryEndpoint {
     // Must be run on worker as all this stuff is slow
     VertxUtils.checkIsWorker();
 
-    final ConfiguredStatement<Query> statement = createStatement(
-        sql, properties, sessionVariables);
+    final ConfiguredStatement<Query> statement;
+    final Optional<ImmutableAnalysis> preparedAnalysis;
+    if (parameters.isEmpty()) {
+      statement = createStatement(sql, properties, sessionVariables);
+      preparedAnalysis = Optional.empty();
+    } else {
+      final BoundQuery query = ksqlEngine.prepareWithParameters(
+          sql, parameters, toStrings(sessionVariables), properties);
+      statement = ConfiguredStatement.of(
+          query.getStatement(), SessionConfig.of(ksqlConfig, properties));
+      preparedAnalysis = query.getAnalysis();
+    }
 
     if (statement.getStatement().isPullQuery()) {
-      final ImmutableAnalysis analysis = ksqlEngine
+      final ImmutableAnalysis analysis = preparedAnalysis.orElseGet(() -> ksqlEngine
           .analyzeQueryWithNoOutputTopic(
-              statement.getStatement(), statement.getStatementText(), properties);
+              statement.getStatement(), statement.getStatementText(), properties));
       final DataSource dataSource = analysis.getFrom().getDataSource();
       final DataSource.DataSourceType dataSourceType = dataSource.getDataSourceType();
       Optional<ConsistencyOffsetVector> consistencyOffsetVector = Optional.empty();
@@ -393,9 +405,7 @@ public class QueryEndpoint {
     }
     final PreparedStatement<?> ps = ksqlEngine.prepare(
         statements.get(0),
-        sessionVariables.entrySet()
-            .stream()
-            .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue().toString()))
+        toStrings(sessionVariables)
     );
     final Statement statement = ps.getStatement();
     if (!(statement instanceof Query)) {
@@ -406,6 +416,12 @@ public class QueryEndpoint {
     return ConfiguredStatement.of(psq, SessionConfig.of(ksqlConfig, properties));
   }
 
+  private static Map<String, String> toStrings(final Map<String, Object> sessionVariables) {
+    return sessionVariables.entrySet()
+        .stream()
+        .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue().toString()));
+  }
+
   private static List<String> colTypesFromSchema(final List<Column> columns) {
     return columns.stream()
         .map(Column::type)
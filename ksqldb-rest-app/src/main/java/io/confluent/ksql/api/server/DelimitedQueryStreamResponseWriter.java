@@ -15,14 +15,12 @@
 
 package io.confluent.ksql.api.server;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.rest.entity.ConsistencyToken;
 import io.confluent.ksql.rest.entity.KsqlErrorMessage;
 import io.confluent.ksql.rest.entity.PushContinuationToken;
 import io.confluent.ksql.rest.entity.QueryResponseMetadata;
 import io.vertx.core.http.HttpServerResponse;
-import java.util.Objects;
 
 /**
  * Writes the query response stream in delimited format.
@@ -43,47 +41,59 @@ import java.util.Objects;
  */
 public class DelimitedQueryStreamResponseWriter implements QueryStreamResponseWriter {
 
-  private final HttpServerResponse response;
+  private final ResponseWriteBatch batch;
 
-  @SuppressFBWarnings(value = "EI_EXPOSE_REP2")
   public DelimitedQueryStreamResponseWriter(final HttpServerResponse response) {
-    this.response = Objects.requireNonNull(response);
+    this.batch = new ResponseWriteBatch(response);
   }
 
   @Override
   public QueryStreamResponseWriter writeMetadata(final QueryResponseMetadata metaData) {
-    response.write(ServerUtils.serializeObject(metaData).appendString("\n"));
+    ServerUtils.serializeObject(metaData, batch.buffer());
+    batch.buffer().appendString("\n");
+    // Send the metadata straight away, as there may not be any rows for a while
+    batch.flush();
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeRow(final GenericRow row) {
-    response.write(ServerUtils.serializeObject(row.values()).appendString("\n"));
+    writeElement(row.values());
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeContinuationToken(
       final PushContinuationToken pushContinuationToken) {
-    response.write(ServerUtils.serializeObject(pushContinuationToken).appendString("\n"));
+    writeElement(pushContinuationToken);
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeError(final KsqlErrorMessage error) {
-    response.write(ServerUtils.serializeObject(error).appendString("\n"));
+    writeElement(error);
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeConsistencyToken(final ConsistencyToken consistencyToken) {
-    response.write(ServerUtils.serializeObject(consistencyToken).appendString("\n"));
+    writeElement(consistencyToken);
     return this;
   }
 
+  private void writeElement(final Object element) {
+    ServerUtils.serializeObject(element, batch.buffer());
+    batch.buffer().appendString("\n");
+    batch.elementWritten();
+  }
+
+  @Override
+  public void flush() {
+    batch.flush();
+  }
 
   @Override
   public void end() {
-    response.end();
+    batch.end();
   }
 }
@@ -15,7 +15,6 @@
 
 package io.confluent.ksql.api.server;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.rest.entity.ConsistencyToken;
 import io.confluent.ksql.rest.entity.KsqlErrorMessage;
@@ -23,7 +22,6 @@ import io.confluent.ksql.rest.entity.PushContinuationToken;
 import io.confluent.ksql.rest.entity.QueryResponseMetadata;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
-import java.util.Objects;
 
 /**
  * Writes the query response stream in JSON format.
@@ -45,55 +43,60 @@ import java.util.Objects;
  */
 public class JsonQueryStreamResponseWriter implements QueryStreamResponseWriter {
 
-  private final HttpServerResponse response;
+  private final ResponseWriteBatch batch;
 
-  @SuppressFBWarnings(value = "EI_EXPOSE_REP2")
   public JsonQueryStreamResponseWriter(final HttpServerResponse response) {
-    this.response = Objects.requireNonNull(response);
+    this.batch = new ResponseWriteBatch(response);
   }
 
   @Override
   public QueryStreamResponseWriter writeMetadata(final QueryResponseMetadata metaData) {
-    final Buffer buff = Buffer.buffer().appendByte((byte) '[');
-    buff.appendBuffer(ServerUtils.serializeObject(metaData));
-    response.write(buff);
+    final Buffer buff = batch.buffer().appendByte((byte) '[');
+    ServerUtils.serializeObject(metaData, buff);
+    // Send the metadata straight away, as there may not be any rows for a while
+    batch.flush();
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeRow(final GenericRow row) {
-    writeBuffer(ServerUtils.serializeObject(row.values()));
+    writeElement(row.values());
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeContinuationToken(
       final PushContinuationToken pushContinuationToken) {
-    writeBuffer(ServerUtils.serializeObject(pushContinuationToken));
+    writeElement(pushContinuationToken);
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeError(final KsqlErrorMessage error) {
-    writeBuffer(ServerUtils.serializeObject(error));
+    writeElement(error);
     return this;
   }
 
   @Override
   public QueryStreamResponseWriter writeConsistencyToken(final ConsistencyToken consistencyToken) {
-    writeBuffer(ServerUtils.serializeObject(consistencyToken));
+    writeElement(consistencyToken);
     return this;
   }
 
+  private void writeElement(final Object element) {
+    final Buffer buff = batch.buffer().appendByte((byte) ',');
+    ServerUtils.serializeObject(element, buff);
+    batch.elementWritten();
+  }
 
-  private void writeBuffer(final Buffer buffer) {
-    final Buffer buff = Buffer.buffer().appendByte((byte) ',');
-    buff.appendBuffer(buffer);
-    response.write(buff);
+  @Override
+  public void flush() {
+    batch.flush();
   }
 
   @Override
   public void end() {
-    response.write("]").end();
+    batch.buffer().appendByte((byte) ']');
+    batch.end();
   }
 }
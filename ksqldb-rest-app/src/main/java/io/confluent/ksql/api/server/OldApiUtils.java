@@ -91,6 +91,7 @@ public final class OldApiUtils {
   ) {
     final HttpServerResponse response = routingContext.response();
     response.putHeader(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+    endpointResponse.getHeaders().forEach(response::putHeader);
 
     response.setStatusCode(endpointResponse.getStatus());
 
@@ -83,7 +83,7 @@ public class QueryStreamHandler implements Handler<RoutingContext> {
     final long startTimeNanos = Time.SYSTEM.nanoseconds();
     endpoints.createQueryPublisher(queryStreamArgs.get().sql, queryStreamArgs.get().properties,
         queryStreamArgs.get().sessionVariables, queryStreamArgs.get().requestProperties,
-        context, server.getWorkerExecutor(),
+        queryStreamArgs.get().parameters, context, server.getWorkerExecutor(),
         DefaultApiSecurityContext.create(routingContext), metricsCallbackHolder)
         .thenAccept(queryPublisher -> {
 
@@ -36,6 +36,11 @@ public interface QueryStreamResponseWriter {
 
   QueryStreamResponseWriter writeConsistencyToken(ConsistencyToken consistencyToken);
 
+  /**
+   * Write out anything the writer has buffered to the response.
+   */
+  void flush();
+
   void end();
 
 }
@@ -44,6 +44,8 @@ public class QuerySubscriber extends BaseSubscriber<KeyValueMetadata<List<?>, Ge
   private final HttpServerResponse response;
   private final QueryStreamResponseWriter queryStreamResponseWriter;
   private int tokens;
+  private boolean flushScheduled;
+  private boolean ended;
 
   @SuppressFBWarnings(value = "EI_EXPOSE_REP2")
   public QuerySubscriber(final Context context, final HttpServerResponse response,
@@ -73,6 +75,34 @@ public class QuerySubscriber extends BaseSubscriber<KeyValueMetadata<List<?>, Ge
       queryStreamResponseWriter.writeRow(row.getKeyValue().value());
     }
     tokens--;
+    if (tokens == 0) {
+      // Write out the rows we have before asking for more
+      flush();
+    } else {
+      scheduleFlush();
+    }
+  }
+
+  /**
+   * The publisher sends rows in batches, each on a single run of the context. Flushing on the
+   * next run means the rows of a batch are written to the response together, while rows that
+   * trickle in, e.g. for a push query, are still written as soon as they arrive.
+   */
+  private void scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true;
+      context.runOnContext(v -> {
+        flushScheduled = false;
+        flush();
+      });
+    }
+  }
+
+  private void flush() {
+    if (ended) {
+      return;
+    }
+    queryStreamResponseWriter.flush();
     if (response.writeQueueFull()) {
       response.drainHandler(v -> checkMakeRequest());
     } else {
@@ -92,11 +122,13 @@ public class QuerySubscriber extends BaseSubscriber<KeyValueMetadata<List<?>, Ge
     log.error("Error in processing query", t);
     final KsqlErrorMessage errorResponse = new KsqlErrorMessage(ERROR_CODE_SERVER_ERROR,
         "Error in processing query. Check server logs for details.");
+    ended = true;
     queryStreamResponseWriter.writeError(errorResponse).end();
   }
 
   @Override
   public void handleComplete() {
+    ended = true;
     queryStreamResponseWriter.end();
   }
 
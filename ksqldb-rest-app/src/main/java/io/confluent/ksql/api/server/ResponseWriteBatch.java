@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.api.server;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import java.util.Objects;
+
+/**
+ * Coalesces the elements of a query response, so that the response is written once per batch of
+ * elements rather than once per element.
+ *
+ * <p>Elements are serialized straight into the buffer of the batch. The batch is written when it
+ * reaches {@link #MAX_BATCH_BYTES} or {@link #MAX_BATCH_ELEMENTS}, or when it is flushed.
+ *
+ * <p>Not thread safe: as with the response, it must only be used on the Vert.x context of the
+ * response.
+ */
+final class ResponseWriteBatch {
+
+  static final int MAX_BATCH_BYTES = 64 * 1024;
+  // The most rows a query publisher sends in one go,
+  // see io.confluent.ksql.api.impl.BlockingQueryPublisher
+  static final int MAX_BATCH_ELEMENTS = 200;
+
+  private static final int INITIAL_BATCH_BYTES = 4 * 1024;
+
+  private final HttpServerResponse response;
+  private Buffer buffer;
+  private int elements;
+
+  @SuppressFBWarnings(value = "EI_EXPOSE_REP2")
+  ResponseWriteBatch(final HttpServerResponse response) {
+    this.response = Objects.requireNonNull(response);
+  }
+
+  /**
+   * @return the buffer to serialize the next element into.
+   */
+  Buffer buffer() {
+    if (buffer == null) {
+      buffer = Buffer.buffer(INITIAL_BATCH_BYTES);
+    }
+    return buffer;
+  }
+
+  /**
+   * Called once an element has been serialized into the {@link #buffer()}, to write the batch
+   * if it is full.
+   */
+  void elementWritten() {
+    elements++;
+    if (elements >= MAX_BATCH_ELEMENTS || buffer.length() >= MAX_BATCH_BYTES) {
+      flush();
+    }
+  }
+
+  /**
+   * Write any elements in the batch to the response.
+   */
+  void flush() {
+    if (buffer != null && buffer.length() > 0) {
+      response.write(buffer);
+    }
+    buffer = null;
+    elements = 0;
+  }
+
+  /**
+   * Write any elements in the batch to the response and end it.
+   */
+  void end() {
+    if (buffer != null && buffer.length() > 0) {
+      response.end(buffer);
+    } else {
+      response.end();
+    }
+    buffer = null;
+    elements = 0;
+  }
+}
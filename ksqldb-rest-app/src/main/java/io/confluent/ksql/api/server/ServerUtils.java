@@ -32,6 +32,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.RoutingContext;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
@@ -74,6 +75,23 @@ public final class ServerUtils {
     }
   }
 
+  /**
+   * Serialize an object as JSON, appending it to the end of a buffer.
+   *
+   * <p>Unlike {@link #serializeObject(Object)}, this does not allocate an intermediate array
+   * for the JSON.
+   *
+   * @param t the object to serialize.
+   * @param buffer the buffer to append to.
+   */
+  public static <T> void serializeObject(final T t, final Buffer buffer) {
+    try {
+      OBJECT_MAPPER.writeValue(new BufferOutputStream(buffer), t);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to serialize buffer", e);
+    }
+  }
+
 
   /*
   Converts a list of patterns that can include asterisk (E.g. "/ws/*,/foo,/bar/wibble")
@@ -131,4 +149,23 @@ public final class ServerUtils {
         ERROR_CODE_SERVER_ERROR));
     return null;
   }
+
+  private static final class BufferOutputStream extends OutputStream {
+
+    private final Buffer buffer;
+
+    BufferOutputStream(final Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(final int b) {
+      buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      buffer.appendBytes(bytes, offset, length);
+    }
+  }
 }
@@ -48,6 +48,7 @@ public interface Endpoints {
    *
    * @param sql            The sql of the query
    * @param properties     Optional properties for the query
+   * @param parameters     The values of the query's parameters, by name
    * @param context        The Vert.x context
    * @param workerExecutor The worker executor to use for blocking operations
    * @return A CompletableFuture representing the future result of the operation
@@ -55,7 +56,7 @@ public interface Endpoints {
   CompletableFuture<QueryPublisher> createQueryPublisher(String sql,
       Map<String, Object> properties,
       Map<String, Object> sessionVariables, Map<String, Object> requestProperties,
-      Context context, WorkerExecutor workerExecutor,
+      Map<String, Object> parameters, Context context, WorkerExecutor workerExecutor,
       ApiSecurityContext apiSecurityContext, MetricsCallbackHolder metricsCallbackHolder);
 
   /**
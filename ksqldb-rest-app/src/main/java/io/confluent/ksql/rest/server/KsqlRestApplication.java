@@ -72,6 +72,7 @@ import io.confluent.ksql.rest.server.computation.CommandRunner;
 import io.confluent.ksql.rest.server.computation.CommandStore;
 import io.confluent.ksql.rest.server.computation.InteractiveStatementExecutor;
 import io.confluent.ksql.rest.server.computation.InternalTopicSerdes;
+import io.confluent.ksql.rest.server.execution.CustomExecutors;
 import io.confluent.ksql.rest.server.resources.ClusterStatusResource;
 import io.confluent.ksql.rest.server.resources.HealthCheckResource;
 import io.confluent.ksql.rest.server.resources.HeartbeatResource;
@@ -562,6 +563,12 @@ public final class KsqlRestApplication implements Executable {
       log.error("Exception while waiting for Ksql Engine to close", e);
     }
 
+    try {
+      processingLogContext.close();
+    } catch (final Exception e) {
+      log.error("Exception while closing processing log", e);
+    }
+
     try {
       commandRunner.close();
     } catch (final Exception e) {
@@ -585,6 +592,12 @@ public final class KsqlRestApplication implements Executable {
       apiServer = null;
     }
 
+    try {
+      CustomExecutors.closeProducers();
+    } catch (final Exception e) {
+      log.error("Exception while closing insert values producers", e);
+    }
+
     if (vertx != null) {
       vertx.close();
     }
@@ -161,6 +161,7 @@ public class KsqlServerEndpoints implements Endpoints {
       final Map<String, Object> properties,
       final Map<String, Object> sessionVariables,
       final Map<String, Object> requestProperties,
+      final Map<String, Object> parameters,
       final Context context,
       final WorkerExecutor workerExecutor,
       final ApiSecurityContext apiSecurityContext,
@@ -178,6 +179,7 @@ public class KsqlServerEndpoints implements Endpoints {
                 properties,
                 sessionVariables,
                 requestProperties,
+                parameters,
                 context,
                 workerExecutor,
                 ksqlSecurityContext.getServiceContext(),
@@ -25,6 +25,7 @@ import io.confluent.ksql.config.SessionConfig;
 import io.confluent.ksql.engine.KsqlEngine;
 import io.confluent.ksql.function.UserFunctionLoader;
 import io.confluent.ksql.logging.processing.ProcessingLogConfig;
+import io.confluent.ksql.logging.processing.ProcessingLogContext;
 import io.confluent.ksql.logging.processing.ProcessingLogServerUtils;
 import io.confluent.ksql.metrics.MetricCollectors;
 import io.confluent.ksql.parser.KsqlParser.ParsedStatement;
@@ -76,6 +77,7 @@ public class StandaloneExecutor implements Executable {
 
   private final ServiceContext serviceContext;
   private final ProcessingLogConfig processingLogConfig;
+  private final ProcessingLogContext processingLogContext;
   private final KsqlConfig ksqlConfig;
   private final KsqlEngine ksqlEngine;
   private final String queriesFile;
@@ -88,6 +90,7 @@ public class StandaloneExecutor implements Executable {
   StandaloneExecutor(
       final ServiceContext serviceContext,
       final ProcessingLogConfig processingLogConfig,
+      final ProcessingLogContext processingLogContext,
       final KsqlConfig ksqlConfig,
       final KsqlEngine ksqlEngine,
       final String queriesFile,
@@ -98,6 +101,7 @@ public class StandaloneExecutor implements Executable {
   ) {
     this.serviceContext = requireNonNull(serviceContext, "serviceContext");
     this.processingLogConfig = requireNonNull(processingLogConfig, "processingLogConfig");
+    this.processingLogContext = requireNonNull(processingLogContext, "processingLogContext");
     this.ksqlConfig = requireNonNull(ksqlConfig, "ksqlConfig");
     this.ksqlEngine = requireNonNull(ksqlEngine, "ksqlEngine");
     this.queriesFile = requireNonNull(queriesFile, "queriesFile");
@@ -146,6 +150,11 @@ public class StandaloneExecutor implements Executable {
     } catch (final Exception e) {
       log.warn("Failed to cleanly shutdown the KSQL Engine", e);
     }
+    try {
+      processingLogContext.close();
+    } catch (final Exception e) {
+      log.warn("Failed to cleanly shutdown the processing log", e);
+    }
     try {
       serviceContext.close();
     } catch (final Exception e) {
@@ -84,6 +84,7 @@ public final class StandaloneExecutorFactory {
     StandaloneExecutor create(
         ServiceContext serviceContext,
         ProcessingLogConfig processingLogConfig,
+        ProcessingLogContext processingLogContext,
         KsqlConfig ksqlConfig,
         KsqlEngine ksqlEngine,
         String queriesFile,
@@ -142,6 +143,7 @@ public final class StandaloneExecutorFactory {
     return constructor.create(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         ksqlConfig,
         ksqlEngine,
         queriesFile,
@@ -129,8 +129,17 @@ public enum CustomExecutors {
         );
   }
 
+  /**
+   * Closes the producers that {@code INSERT INTO ... VALUES} statements reuse. Statements run
+   * after this create new producers as needed.
+   */
+  public static void closeProducers() {
+    InsertValuesProducers.POOL.close();
+  }
+
   private static StatementExecutor insertValuesExecutor() {
-    final InsertValuesExecutor executor = new InsertValuesExecutor();
+    final InsertValuesExecutor executor =
+        new InsertValuesExecutor(true, InsertValuesProducers.POOL);
 
     return (
         statement,
@@ -147,4 +156,9 @@ public enum CustomExecutors {
       return StatementExecutorResponse.handled(Optional.empty());
     };
   }
+
+  // A holder, as the enum constants are initialized before any static field of the enum:
+  private static final class InsertValuesProducers {
+    private static final ProducerPool POOL = new ProducerPool();
+  }
 }
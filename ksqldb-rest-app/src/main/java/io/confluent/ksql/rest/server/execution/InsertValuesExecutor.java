@@ -16,14 +16,18 @@
 package io.confluent.ksql.rest.server.execution;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.confluent.ksql.GenericKey;
 import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.KsqlExecutionContext;
 import io.confluent.ksql.engine.generic.GenericRecordFactory;
 import io.confluent.ksql.engine.generic.KsqlGenericRecord;
+import io.confluent.ksql.execution.expression.tree.Expression;
 import io.confluent.ksql.exception.KsqlSchemaAuthorizationException;
 import io.confluent.ksql.exception.KsqlTopicAuthorizationException;
 import io.confluent.ksql.logging.processing.NoopProcessingLogContext;
@@ -36,6 +40,7 @@ import io.confluent.ksql.schema.ksql.PhysicalSchema;
 import io.confluent.ksql.schema.registry.SchemaRegistryUtil;
 import io.confluent.ksql.serde.Format;
 import io.confluent.ksql.serde.FormatFactory;
+import io.confluent.ksql.serde.FormatInfo;
 import io.confluent.ksql.serde.GenericKeySerDe;
 import io.confluent.ksql.serde.GenericRowSerDe;
 import io.confluent.ksql.serde.KeyFormat;
@@ -50,12 +55,15 @@ import io.confluent.ksql.util.KsqlException;
 import io.confluent.ksql.util.KsqlStatementException;
 import io.confluent.ksql.util.ReservedInternalTopics;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.hc.core5.http.HttpStatus;
@@ -74,12 +82,19 @@ public class InsertValuesExecutor {
 
   private static final Logger LOG = LoggerFactory.getLogger(InsertValuesExecutor.class);
   private static final Duration MAX_SEND_TIMEOUT = Duration.ofSeconds(5);
+  private static final int MAX_CACHED_SERDES = 100;
 
   private final LongSupplier clock;
   private final boolean canBeDisabledByConfig;
   private final RecordProducer producer;
   private final ValueSerdeFactory valueSerdeFactory;
   private final KeySerdeFactory keySerdeFactory;
+  private final Cache<SerdeKey, Serde<GenericKey>> keySerdes = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_SERDES)
+      .build();
+  private final Cache<SerdeKey, Serde<GenericRow>> valueSerdes = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_SERDES)
+      .build();
 
   public InsertValuesExecutor() {
     this(true, InsertValuesExecutor::sendRecord);
@@ -92,9 +107,21 @@ public class InsertValuesExecutor {
         ServiceContext serviceContext,
         Map<String, Object> producerProps
     );
+
+    /**
+     * Sends the records of a statement, in order, waiting until all have been written.
+     */
+    default void sendRecords(
+        final List<ProducerRecord<byte[], byte[]>> records,
+        final ServiceContext serviceContext,
+        final Map<String, Object> producerProps
+    ) {
+      for (final ProducerRecord<byte[], byte[]> record : records) {
+        sendRecord(record, serviceContext, producerProps);
+      }
+    }
   }
 
-  @VisibleForTesting
   public InsertValuesExecutor(
       final boolean canBeDisabledByConfig,
       final RecordProducer producer
@@ -144,11 +171,11 @@ public class InsertValuesExecutor {
 
     final DataSource dataSource = getDataSource(config, metaStore, insertValues);
 
-    final ProducerRecord<byte[], byte[]> record =
-        buildRecord(statement, metaStore, dataSource, serviceContext);
+    final List<ProducerRecord<byte[], byte[]>> records =
+        buildRecords(statement, metaStore, dataSource, serviceContext);
 
     try {
-      producer.sendRecord(record, serviceContext, config.getProducerClientConfigProps());
+      producer.sendRecords(records, serviceContext, config.getProducerClientConfigProps());
     } catch (final TopicAuthorizationException e) {
       // TopicAuthorizationException does not give much detailed information about why it failed,
       // except which topics are denied. Here we just add the ACL to make the error message
@@ -193,7 +220,7 @@ public class InsertValuesExecutor {
     return dataSource;
   }
 
-  private ProducerRecord<byte[], byte[]> buildRecord(
+  private List<ProducerRecord<byte[], byte[]>> buildRecords(
       final ConfiguredStatement<InsertValues> statement,
       final MetaStore metaStore,
       final DataSource dataSource,
@@ -205,25 +232,48 @@ public class InsertValuesExecutor {
     final KsqlConfig config = statement.getSessionConfig().getConfig(true);
 
     try {
-      final KsqlGenericRecord row = new GenericRecordFactory(config, metaStore, clock).build(
-          insertValues.getColumns(),
-          insertValues.getValues(),
+      final GenericRecordFactory recordFactory =
+          new GenericRecordFactory(config, metaStore, clock);
+
+      final List<KsqlGenericRecord> rows = new ArrayList<>(insertValues.getRows().size());
+      for (final List<Expression> values : insertValues.getRows()) {
+        rows.add(recordFactory.build(
+            insertValues.getColumns(),
+            values,
+            dataSource.getSchema(),
+            dataSource.getDataSourceType()
+        ));
+      }
+
+      final PhysicalSchema physicalSchema = PhysicalSchema.from(
           dataSource.getSchema(),
-          dataSource.getDataSourceType()
+          dataSource.getKsqlTopic().getKeyFormat().getFeatures(),
+          dataSource.getKsqlTopic().getValueFormat().getFeatures()
       );
 
-      final byte[] key = serializeKey(row.key, dataSource, config, serviceContext);
-      final byte[] value = serializeValue(row.value, dataSource, config, serviceContext);
+      ensureKeySchemasMatch(physicalSchema.keySchema(), dataSource, serviceContext);
+
+      final Serde<GenericKey> keySerde =
+          keySerde(physicalSchema, dataSource, config, serviceContext);
+      final Serde<GenericRow> valueSerde =
+          valueSerde(physicalSchema, dataSource, config, serviceContext);
 
       final String topicName = dataSource.getKafkaTopicName();
 
-      return new ProducerRecord<>(
-          topicName,
-          null,
-          row.ts,
-          key,
-          value
-      );
+      final List<ProducerRecord<byte[], byte[]>> records = new ArrayList<>(rows.size());
+      for (final KsqlGenericRecord row : rows) {
+        final byte[] key = serializeKey(row.key, keySerde, dataSource);
+        final byte[] value = serializeValue(row.value, valueSerde, dataSource);
+
+        records.add(new ProducerRecord<>(
+            topicName,
+            null,
+            row.ts,
+            key,
+            value
+        ));
+      }
+      return records;
     } catch (final Exception e) {
       throw new KsqlStatementException(
           createInsertFailedExceptionMessage(insertValues) + " " + e.getMessage(),
@@ -246,30 +296,40 @@ public class InsertValuesExecutor {
     }
   }
 
-  private byte[] serializeKey(
-      final GenericKey keyValue,
+  private Serde<GenericKey> keySerde(
+      final PhysicalSchema physicalSchema,
       final DataSource dataSource,
       final KsqlConfig config,
       final ServiceContext serviceContext
   ) {
-    final PhysicalSchema physicalSchema = PhysicalSchema.from(
-        dataSource.getSchema(),
-        dataSource.getKsqlTopic().getKeyFormat().getFeatures(),
-        dataSource.getKsqlTopic().getValueFormat().getFeatures()
-    );
-
-    ensureKeySchemasMatch(physicalSchema.keySchema(), dataSource, serviceContext);
-
-    final Serde<GenericKey> keySerde = keySerdeFactory.create(
+    final SerdeKey serdeKey = new SerdeKey(
         dataSource.getKsqlTopic().getKeyFormat().getFormatInfo(),
         physicalSchema.keySchema(),
         config,
-        serviceContext.getSchemaRegistryClientFactory(),
-        "",
-        NoopProcessingLogContext.INSTANCE,
-        Optional.empty()
+        serviceContext.getSchemaRegistryClientFactory()
     );
 
+    Serde<GenericKey> keySerde = keySerdes.getIfPresent(serdeKey);
+    if (keySerde == null) {
+      keySerde = keySerdeFactory.create(
+          serdeKey.formatInfo,
+          serdeKey.schema,
+          serdeKey.config,
+          serdeKey.srClientFactory,
+          "",
+          NoopProcessingLogContext.INSTANCE,
+          Optional.empty()
+      );
+      keySerdes.put(serdeKey, keySerde);
+    }
+    return keySerde;
+  }
+
+  private static byte[] serializeKey(
+      final GenericKey keyValue,
+      final Serde<GenericKey> keySerde,
+      final DataSource dataSource
+  ) {
     final String topicName = dataSource.getKafkaTopicName();
     try {
       return keySerde
@@ -331,28 +391,40 @@ public class InsertValuesExecutor {
     }
   }
 
-  private byte[] serializeValue(
-      final GenericRow row,
+  private Serde<GenericRow> valueSerde(
+      final PhysicalSchema physicalSchema,
       final DataSource dataSource,
       final KsqlConfig config,
       final ServiceContext serviceContext
   ) {
-    final PhysicalSchema physicalSchema = PhysicalSchema.from(
-        dataSource.getSchema(),
-        dataSource.getKsqlTopic().getKeyFormat().getFeatures(),
-        dataSource.getKsqlTopic().getValueFormat().getFeatures()
-    );
-
-    final Serde<GenericRow> valueSerde = valueSerdeFactory.create(
+    final SerdeKey serdeKey = new SerdeKey(
         dataSource.getKsqlTopic().getValueFormat().getFormatInfo(),
         physicalSchema.valueSchema(),
         config,
-        serviceContext.getSchemaRegistryClientFactory(),
-        "",
-        NoopProcessingLogContext.INSTANCE,
-        Optional.empty()
+        serviceContext.getSchemaRegistryClientFactory()
     );
 
+    Serde<GenericRow> valueSerde = valueSerdes.getIfPresent(serdeKey);
+    if (valueSerde == null) {
+      valueSerde = valueSerdeFactory.create(
+          serdeKey.formatInfo,
+          serdeKey.schema,
+          serdeKey.config,
+          serdeKey.srClientFactory,
+          "",
+          NoopProcessingLogContext.INSTANCE,
+          Optional.empty()
+      );
+      valueSerdes.put(serdeKey, valueSerde);
+    }
+    return valueSerde;
+  }
+
+  private static byte[] serializeValue(
+      final GenericRow row,
+      final Serde<GenericRow> valueSerde,
+      final DataSource dataSource
+  ) {
     final String topicName = dataSource.getKafkaTopicName();
 
     try {
@@ -411,6 +483,10 @@ public class InsertValuesExecutor {
       producer.close(MAX_SEND_TIMEOUT);
     }
 
+    awaitSend(producerCallResult);
+  }
+
+  static void awaitSend(final Future<RecordMetadata> producerCallResult) {
     try {
       // Check if the producer failed to write to the topic. This can happen if the
       // ServiceContext does not have write permissions.
@@ -426,4 +502,49 @@ public class InsertValuesExecutor {
     }
   }
 
+  /**
+   * The inputs a serde is built from. The source's formats and schema are part of the key, so
+   * serdes built for a source that has since been replaced are never reused.
+   */
+  private static final class SerdeKey {
+
+    private final FormatInfo formatInfo;
+    private final PersistenceSchema schema;
+    private final KsqlConfig config;
+    private final Supplier<SchemaRegistryClient> srClientFactory;
+
+    SerdeKey(
+        final FormatInfo formatInfo,
+        final PersistenceSchema schema,
+        final KsqlConfig config,
+        final Supplier<SchemaRegistryClient> srClientFactory
+    ) {
+      this.formatInfo = Objects.requireNonNull(formatInfo, "formatInfo");
+      this.schema = Objects.requireNonNull(schema, "schema");
+      this.config = Objects.requireNonNull(config, "config");
+      this.srClientFactory = Objects.requireNonNull(srClientFactory, "srClientFactory");
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final SerdeKey that = (SerdeKey) o;
+      // The schema registry client factory may carry user credentials, so is compared by
+      // identity:
+      return srClientFactory == that.srClientFactory
+          && formatInfo.equals(that.formatInfo)
+          && schema.equals(that.schema)
+          && config.equals(that.config);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(formatInfo, schema, config, System.identityHashCode(srClientFactory));
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.rest.server.execution;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.rest.server.execution.InsertValuesExecutor.RecordProducer;
+import io.confluent.ksql.services.ServiceContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.streams.KafkaClientSupplier;
+
+/**
+ * A {@link RecordProducer} that reuses producers across {@code INSERT INTO ... VALUES}
+ * statements, rather than creating a new one for each.
+ *
+ * <p>Producers are shared by all statements with the same {@link KafkaClientSupplier}, which
+ * carries the credentials of the user, and the same producer properties. At most
+ * {@code maxProducers} are kept: the least recently used is closed to make room for a new one,
+ * as is any producer that has not been used for {@code idleTimeout}, or that failed to send a
+ * record. A producer is only closed once no statement is using it.
+ *
+ * <p>Idle producers are only evicted when a statement acquires a producer, so while no inserts
+ * arrive an idle producer stays open beyond {@code idleTimeout}, until {@link #close()}.
+ */
+final class ProducerPool implements RecordProducer {
+
+  static final int DEFAULT_MAX_PRODUCERS = 16;
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final Duration MAX_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final int maxProducers;
+  private final long idleTimeoutMs;
+  private final LongSupplier clock;
+  // In access order, so the least recently used producer is first:
+  private final Map<Key, Entry> producers = new LinkedHashMap<>(16, 0.75f, true);
+
+  ProducerPool() {
+    this(DEFAULT_MAX_PRODUCERS, DEFAULT_IDLE_TIMEOUT, System::currentTimeMillis);
+  }
+
+  ProducerPool(final int maxProducers, final Duration idleTimeout, final LongSupplier clock) {
+    if (maxProducers < 1) {
+      throw new IllegalArgumentException("maxProducers must be positive: " + maxProducers);
+    }
+    this.maxProducers = maxProducers;
+    this.idleTimeoutMs = Objects.requireNonNull(idleTimeout, "idleTimeout").toMillis();
+    this.clock = Objects.requireNonNull(clock, "clock");
+  }
+
+  @Override
+  public void sendRecord(
+      final ProducerRecord<byte[], byte[]> record,
+      final ServiceContext serviceContext,
+      final Map<String, Object> producerProps
+  ) {
+    sendRecords(ImmutableList.of(record), serviceContext, producerProps);
+  }
+
+  @Override
+  public void sendRecords(
+      final List<ProducerRecord<byte[], byte[]>> records,
+      final ServiceContext serviceContext,
+      final Map<String, Object> producerProps
+  ) {
+    final Entry entry = acquire(serviceContext.getKafkaClientSupplier(), producerProps);
+
+    boolean failed = true;
+    try {
+      // Send all records before waiting on any, so they are batched by the producer:
+      final List<Future<RecordMetadata>> results = new ArrayList<>(records.size());
+      for (final ProducerRecord<byte[], byte[]> record : records) {
+        results.add(entry.producer.send(record));
+      }
+
+      for (final Future<RecordMetadata> result : results) {
+        InsertValuesExecutor.awaitSend(result);
+      }
+      failed = false;
+    } finally {
+      release(entry, failed);
+    }
+  }
+
+  /**
+   * Closes all producers, each once no statement is using it. The pool remains usable: later
+   * statements create new producers.
+   */
+  void close() {
+    final List<Producer<byte[], byte[]>> toClose = new ArrayList<>();
+    synchronized (this) {
+      producers.values().forEach(entry -> discard(entry, toClose));
+      producers.clear();
+    }
+    closeAll(toClose);
+  }
+
+  synchronized int size() {
+    return producers.size();
+  }
+
+  private Entry acquire(
+      final KafkaClientSupplier clientSupplier,
+      final Map<String, Object> producerProps
+  ) {
+    final Key key = new Key(clientSupplier, producerProps);
+    final List<Producer<byte[], byte[]>> toClose = new ArrayList<>();
+
+    final Entry entry;
+    synchronized (this) {
+      evictIdle(toClose);
+
+      Entry existing = producers.get(key);
+      if (existing == null) {
+        existing = new Entry(clientSupplier.getProducer(key.producerProps));
+        producers.put(key, existing);
+        evictEldest(toClose);
+      }
+
+      existing.users++;
+      entry = existing;
+    }
+
+    closeAll(toClose);
+    return entry;
+  }
+
+  private void release(final Entry entry, final boolean failed) {
+    final List<Producer<byte[], byte[]>> toClose = new ArrayList<>();
+    synchronized (this) {
+      entry.users--;
+      entry.lastUsedMs = clock.getAsLong();
+
+      if (failed) {
+        // The producer may be in a bad state, e.g. fenced or failed to authenticate:
+        producers.values().remove(entry);
+        discard(entry, toClose);
+      } else if (entry.discarded) {
+        discard(entry, toClose);
+      }
+    }
+    closeAll(toClose);
+  }
+
+  private void evictIdle(final List<Producer<byte[], byte[]>> toClose) {
+    final long now = clock.getAsLong();
+    final Iterator<Entry> it = producers.values().iterator();
+    while (it.hasNext()) {
+      final Entry entry = it.next();
+      if (entry.users == 0 && now - entry.lastUsedMs >= idleTimeoutMs) {
+        it.remove();
+        discard(entry, toClose);
+      }
+    }
+  }
+
+  private void evictEldest(final List<Producer<byte[], byte[]>> toClose) {
+    final Iterator<Entry> it = producers.values().iterator();
+    while (producers.size() > maxProducers) {
+      final Entry eldest = it.next();
+      it.remove();
+      discard(eldest, toClose);
+    }
+  }
+
+  private static void discard(final Entry entry, final List<Producer<byte[], byte[]>> toClose) {
+    entry.discarded = true;
+    if (entry.users == 0 && !entry.closed) {
+      entry.closed = true;
+      toClose.add(entry.producer);
+    }
+  }
+
+  private static void closeAll(final List<Producer<byte[], byte[]>> toClose) {
+    // Outside of the lock, as closing waits for any in-flight requests:
+    for (final Producer<byte[], byte[]> producer : toClose) {
+      producer.close(MAX_CLOSE_TIMEOUT);
+    }
+  }
+
+  private static final class Entry {
+
+    private final Producer<byte[], byte[]> producer;
+    private int users;
+    private long lastUsedMs;
+    private boolean discarded;
+    private boolean closed;
+
+    Entry(final Producer<byte[], byte[]> producer) {
+      this.producer = Objects.requireNonNull(producer, "producer");
+    }
+  }
+
+  private static final class Key {
+
+    private final KafkaClientSupplier clientSupplier;
+    private final Map<String, Object> producerProps;
+
+    Key(final KafkaClientSupplier clientSupplier, final Map<String, Object> producerProps) {
+      this.clientSupplier = Objects.requireNonNull(clientSupplier, "clientSupplier");
+      this.producerProps = Collections.unmodifiableMap(new HashMap<>(producerProps));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final Key key = (Key) o;
+      // Client suppliers carry user credentials, so are only shared by the same instance:
+      return clientSupplier == key.clientSupplier
+          && producerProps.equals(key.producerProps);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(clientSupplier), producerProps);
+    }
+  }
+}
@@ -58,4 +58,20 @@ public class PullQueryConfigPlannerOptions implements QueryPlannerOptions {
     }
     return ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_PULL_RANGE_SCAN_ENABLED);
   }
+
+  @Override
+  public int getTableScanParallelism() {
+    if (configOverrides.containsKey(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM)) {
+      return (Integer) configOverrides.get(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM);
+    }
+    return ksqlConfig.getInt(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_PARALLELISM);
+  }
+
+  @Override
+  public boolean getTableScanOrdered() {
+    if (configOverrides.containsKey(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_ORDERED)) {
+      return (Boolean) configOverrides.get(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_ORDERED);
+    }
+    return ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_PULL_TABLE_SCAN_ORDERED);
+  }
 }
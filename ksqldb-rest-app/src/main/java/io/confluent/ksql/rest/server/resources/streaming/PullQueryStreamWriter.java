@@ -24,14 +24,17 @@ import io.confluent.ksql.physical.pull.PullQueryResult;
 import io.confluent.ksql.physical.pull.PullQueryRow;
 import io.confluent.ksql.query.PullQueryQueue;
 import io.confluent.ksql.rest.Errors;
+import io.confluent.ksql.rest.RowBatchCodec;
 import io.confluent.ksql.rest.entity.ConsistencyToken;
 import io.confluent.ksql.rest.entity.KsqlHostInfoEntity;
 import io.confluent.ksql.rest.entity.StreamedRow;
 import io.confluent.ksql.util.KsqlException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,11 +57,11 @@ public class PullQueryStreamWriter implements StreamingOutput {
   private final Clock clock;
   private final PullQueryResult result;
   private final ObjectMapper objectMapper;
+  private final boolean binaryRows;
   private AtomicBoolean completed = new AtomicBoolean(false);
   private AtomicBoolean connectionClosed = new AtomicBoolean(false);
   private AtomicReference<Throwable> pullQueryException = new AtomicReference<>(null);
   private AtomicBoolean closed = new AtomicBoolean(false);
-  private boolean sentAtLeastOneRow = false;
 
   PullQueryStreamWriter(
       final PullQueryResult result,
@@ -66,10 +69,12 @@ public class PullQueryStreamWriter implements StreamingOutput {
       final ObjectMapper objectMapper,
       final PullQueryQueue pullQueryQueue,
       final Clock clock,
-      final CompletableFuture<Void> connectionClosedFuture
+      final CompletableFuture<Void> connectionClosedFuture,
+      final boolean binaryRows
   ) {
     this.result = Objects.requireNonNull(result, "result");
     this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    this.binaryRows = binaryRows;
     this.disconnectCheckInterval = disconnectCheckInterval;
     this.pullQueryQueue = Objects.requireNonNull(pullQueryQueue, "pullQueryQueue");
     this.clock = Objects.requireNonNull(clock, "clock");
@@ -89,13 +94,14 @@ public class PullQueryStreamWriter implements StreamingOutput {
 
   @Override
   public void write(final OutputStream output) {
+    final WriterState writerState = binaryRows
+        ? new BinaryWriterState(clock, new RowBatchCodec(objectMapper))
+        : new JsonWriterState(clock, objectMapper);
     try {
-      final WriterState writerState = new WriterState(clock);
       final QueueWrapper queueWrapper = new QueueWrapper(pullQueryQueue, disconnectCheckInterval);
 
       // First write the header with the schema
-      final StreamedRow header = StreamedRow.header(result.getQueryId(), result.getSchema());
-      writerState.append("[").append(writeValueAsString(header));
+      writerState.writeHeader(StreamedRow.header(result.getQueryId(), result.getSchema()));
 
       // While the query is still running, and the client hasn't closed the connection, continue to
       // poll new rows.
@@ -112,9 +118,9 @@ public class PullQueryStreamWriter implements StreamingOutput {
 
       // If no error was thrown above, drain the queue
       drainAndWrite(writerState, queueWrapper);
-      writerState.append("]");
+      writerState.writeEnd();
       if (writerState.length() > 0) {
-        output.write(writerState.getStringToFlush().getBytes(StandardCharsets.UTF_8));
+        output.write(writerState.getBytesToFlush());
         output.flush();
       }
     } catch (InterruptedException e) {
@@ -123,7 +129,7 @@ public class PullQueryStreamWriter implements StreamingOutput {
       LOG.warn("Interrupted while writing to connection stream");
     } catch (Throwable e) {
       LOG.error("Exception occurred while writing to connection stream: ", e);
-      outputException(output, e);
+      outputException(output, writerState, e);
     } finally {
       close();
     }
@@ -154,7 +160,7 @@ public class PullQueryStreamWriter implements StreamingOutput {
       if (writerState.length() >= FLUSH_SIZE_BYTES
           || (clock.millis() - writerState.getLastFlushMs()) >= MAX_FLUSH_MS
       ) {
-        output.write(writerState.getStringToFlush().getBytes(StandardCharsets.UTF_8));
+        output.write(writerState.getBytesToFlush());
         output.flush();
       }
     }
@@ -168,16 +174,11 @@ public class PullQueryStreamWriter implements StreamingOutput {
    * @param hasAnotherRow if there's another row after this one.  This is used for determining how
    *                      to write proper JSON, e.g. whether to add a comma.
    */
-  private void writeRow(
+  private static void writeRow(
       final PullQueryRow row,
       final WriterState writerState,
       final boolean hasAnotherRow
   ) {
-    // Send for a comma after the header
-    if (!sentAtLeastOneRow) {
-      writerState.append(",").append(System.lineSeparator());
-      sentAtLeastOneRow = true;
-    }
     StreamedRow streamedRow = null;
     if (row.getConsistencyOffsetVector().isPresent()) {
       streamedRow = StreamedRow.consistencyToken(new ConsistencyToken(
@@ -185,10 +186,7 @@ public class PullQueryStreamWriter implements StreamingOutput {
     } else {
       streamedRow = StreamedRow.pullRow(row.getGenericRow(), toKsqlHostInfo(row.getSourceNode()));
     }
-    writerState.append(writeValueAsString(streamedRow));
-    if (hasAnotherRow) {
-      writerState.append(",").append(System.lineSeparator());
-    }
+    writerState.writeRow(streamedRow, hasAnotherRow);
   }
 
   /**
@@ -204,7 +202,7 @@ public class PullQueryStreamWriter implements StreamingOutput {
   ) throws Throwable {
     if (pullQueryException.get() != null) {
       drainAndWrite(writerState, queueWrapper);
-      output.write(writerState.getStringToFlush().getBytes(StandardCharsets.UTF_8));
+      output.write(writerState.getBytesToFlush());
       output.flush();
       throw pullQueryException.get();
     }
@@ -215,7 +213,10 @@ public class PullQueryStreamWriter implements StreamingOutput {
    * @param writerState writer state
    * @param queueWrapper the queue wrapper
    */
-  private void drainAndWrite(final WriterState writerState, final QueueWrapper queueWrapper) {
+  private static void drainAndWrite(
+      final WriterState writerState,
+      final QueueWrapper queueWrapper
+  ) {
     final List<PullQueryRow> rows = queueWrapper.drain();
     int i = 0;
     for (final PullQueryRow row : rows) {
@@ -227,22 +228,25 @@ public class PullQueryStreamWriter implements StreamingOutput {
   /**
    * Outputs the given exception to the output stream.
    * @param out The output stream
+   * @param writerState writer state
    * @param exception The exception to write
    */
-  private void outputException(final OutputStream out, final Throwable exception) {
+  private void outputException(
+      final OutputStream out,
+      final WriterState writerState,
+      final Throwable exception
+  ) {
     if (connectionClosed.get()) {
       return;
     }
     try {
-      out.write(",\n".getBytes(StandardCharsets.UTF_8));
       if (exception.getCause() instanceof KsqlException) {
-        objectMapper.writeValue(out, StreamedRow
-            .error(exception.getCause(), Errors.ERROR_CODE_SERVER_ERROR));
+        out.write(writerState.getErrorBytes(StreamedRow
+            .error(exception.getCause(), Errors.ERROR_CODE_SERVER_ERROR)));
       } else {
-        objectMapper.writeValue(out, StreamedRow
-            .error(exception, Errors.ERROR_CODE_SERVER_ERROR));
+        out.write(writerState.getErrorBytes(StreamedRow
+            .error(exception, Errors.ERROR_CODE_SERVER_ERROR)));
       }
-      out.write("]\n".getBytes(StandardCharsets.UTF_8));
       out.flush();
     } catch (final IOException e) {
       LOG.debug("Client disconnected while attempting to write an error message");
@@ -273,12 +277,21 @@ public class PullQueryStreamWriter implements StreamingOutput {
     pullQueryQueue.putSentinelRow(QueueWrapper.END_ROW);
   }
 
+  /**
+   * Converts the KsqlNode to KsqlHostInfoEntity
+   */
+  private static Optional<KsqlHostInfoEntity> toKsqlHostInfo(final Optional<KsqlNode> ksqlNode) {
+    return ksqlNode.map(
+        node -> new KsqlHostInfoEntity(node.location().getHost(), node.location().getPort()));
+  }
+
   /**
    * Converts the object to json and returns the string.
+   * @param objectMapper The mapper to use
    * @param object The object to convert
    * @return The serialized JSON
    */
-  private String writeValueAsString(final Object object) {
+  private static String writeValueAsString(final ObjectMapper objectMapper, final Object object) {
     try {
       return objectMapper.writeValueAsString(object);
     } catch (final JsonProcessingException e) {
@@ -286,21 +299,11 @@ public class PullQueryStreamWriter implements StreamingOutput {
     }
   }
 
-  /**
-   * Converts the KsqlNode to KsqlHostInfoEntity
-   */
-  private static Optional<KsqlHostInfoEntity> toKsqlHostInfo(final Optional<KsqlNode> ksqlNode) {
-    return ksqlNode.map(
-        node -> new KsqlHostInfoEntity(node.location().getHost(), node.location().getPort()));
-  }
-
   /**
    * State that's kept for the buffered response and the last flush time.
    */
-  private static class WriterState {
+  private abstract static class WriterState {
     private final Clock clock;
-    // The buffer of JSON that we're always flushing as we hit either time or size thresholds.
-    private StringBuilder sb = new StringBuilder();
     // Last flush timestamp in millis
     private long lastFlushMs;
 
@@ -308,24 +311,165 @@ public class PullQueryStreamWriter implements StreamingOutput {
       this.clock = clock;
     }
 
-    public WriterState append(final String str) {
-      sb.append(str);
-      return this;
-    }
+    abstract void writeHeader(StreamedRow header);
 
-    public int length() {
-      return sb.length();
-    }
+    abstract void writeRow(StreamedRow row, boolean hasAnotherRow);
+
+    abstract void writeEnd();
+
+    /**
+     * @return the number of bytes buffered, or an estimate of it.
+     */
+    abstract int length();
+
+    abstract byte[] drain();
+
+    /**
+     * @param error the error row.
+     * @return the bytes to write to end the response with the error.
+     */
+    abstract byte[] getErrorBytes(StreamedRow error);
 
     public long getLastFlushMs() {
       return lastFlushMs;
     }
 
-    public String getStringToFlush() {
+    public byte[] getBytesToFlush() {
+      final byte[] bytes = drain();
+      lastFlushMs = clock.millis();
+      return bytes;
+    }
+  }
+
+  /**
+   * Writes the response as a JSON array of rows.
+   */
+  private static final class JsonWriterState extends WriterState {
+    private final ObjectMapper objectMapper;
+    // The buffer of JSON that we're always flushing as we hit either time or size thresholds.
+    private StringBuilder sb = new StringBuilder();
+    private boolean sentAtLeastOneRow = false;
+
+    JsonWriterState(final Clock clock, final ObjectMapper objectMapper) {
+      super(clock);
+      this.objectMapper = objectMapper;
+    }
+
+    @Override
+    void writeHeader(final StreamedRow header) {
+      sb.append("[").append(writeValueAsString(objectMapper, header));
+    }
+
+    @Override
+    void writeRow(final StreamedRow row, final boolean hasAnotherRow) {
+      // Send for a comma after the header
+      if (!sentAtLeastOneRow) {
+        sb.append(",").append(System.lineSeparator());
+        sentAtLeastOneRow = true;
+      }
+      sb.append(writeValueAsString(objectMapper, row));
+      if (hasAnotherRow) {
+        sb.append(",").append(System.lineSeparator());
+      }
+    }
+
+    @Override
+    void writeEnd() {
+      sb.append("]");
+    }
+
+    @Override
+    int length() {
+      return sb.length();
+    }
+
+    @Override
+    byte[] drain() {
       final String str = sb.toString();
       sb = new StringBuilder();
-      lastFlushMs = clock.millis();
-      return str;
+      return str.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    byte[] getErrorBytes(final StreamedRow error) {
+      return (",\n" + writeValueAsString(objectMapper, error) + "]\n")
+          .getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Writes the response in the binary row batch format of {@link RowBatchCodec}, which servers
+   * use to return the rows of forwarded pull queries. Consecutive rows are batched into a single
+   * frame, up to {@link #MAX_BATCH_ROWS} rows.
+   */
+  private static final class BinaryWriterState extends WriterState {
+    private static final int MAX_BATCH_ROWS = 1000;
+
+    private final RowBatchCodec codec;
+    private final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+    private final List<List<?>> batch = new ArrayList<>();
+
+    BinaryWriterState(final Clock clock, final RowBatchCodec codec) {
+      super(clock);
+      this.codec = codec;
+    }
+
+    @Override
+    void writeHeader(final StreamedRow header) {
+      writeFrame(codec.encodeRow(header));
+    }
+
+    @Override
+    void writeRow(final StreamedRow row, final boolean hasAnotherRow) {
+      if (!row.getRow().isPresent() || row.getSourceHost().isPresent()) {
+        // Only plain rows are batched, anything else is sent as is:
+        writeBatch();
+        writeFrame(codec.encodeRow(row));
+        return;
+      }
+
+      final List<?> columns = row.getRow().get().getColumns();
+      if (!batch.isEmpty() && batch.get(0).size() != columns.size()) {
+        writeBatch();
+      }
+      batch.add(columns);
+      if (batch.size() >= MAX_BATCH_ROWS) {
+        writeBatch();
+      }
+    }
+
+    @Override
+    void writeEnd() {
+      writeBatch();
+    }
+
+    @Override
+    int length() {
+      return frames.size();
+    }
+
+    @Override
+    byte[] drain() {
+      writeBatch();
+      final byte[] bytes = frames.toByteArray();
+      frames.reset();
+      return bytes;
+    }
+
+    @Override
+    byte[] getErrorBytes(final StreamedRow error) {
+      return codec.encodeRow(error);
+    }
+
+    private void writeBatch() {
+      if (!batch.isEmpty()) {
+        writeFrame(codec.encodeRows(batch));
+        batch.clear();
+      }
+    }
+
+    private void writeFrame(final byte[] frame) {
+      frames.write(frame, 0, frame.length);
     }
   }
 
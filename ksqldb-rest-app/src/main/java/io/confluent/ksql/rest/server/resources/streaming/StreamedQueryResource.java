@@ -43,6 +43,7 @@ import io.confluent.ksql.properties.DenyListPropertyValidator;
 import io.confluent.ksql.rest.ApiJsonMapper;
 import io.confluent.ksql.rest.EndpointResponse;
 import io.confluent.ksql.rest.Errors;
+import io.confluent.ksql.rest.RowBatchCodec;
 import io.confluent.ksql.rest.entity.KsqlMediaType;
 import io.confluent.ksql.rest.entity.KsqlRequest;
 import io.confluent.ksql.rest.server.KsqlRestConfig;
@@ -71,6 +72,7 @@ import io.confluent.ksql.util.ScalablePushQueryMetadata;
 import io.confluent.ksql.util.StreamPullQueryMetadata;
 import io.confluent.ksql.util.TransientQueryMetadata;
 import io.confluent.ksql.version.metrics.ActivenessRegistrar;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Context;
 import java.time.Clock;
 import java.time.Duration;
@@ -519,14 +521,26 @@ public class StreamedQueryResource implements KsqlConfigurable {
           (v, t) -> optionalDecrementer.ifPresent(Decrementer::decrementAtMostOnce)
       );
 
+      // Only forwarded requests can ask for rows in the binary format:
+      final boolean binaryRows = isAlreadyForwarded && Boolean.TRUE.equals(
+          requestProperties.get(KsqlRequestConfig.KSQL_REQUEST_QUERY_PULL_BINARY_ROWS));
+
       final PullQueryStreamWriter pullQueryStreamWriter = new PullQueryStreamWriter(
           result,
           disconnectCheckInterval.toMillis(),
           OBJECT_MAPPER,
           result.getPullQueryQueue(),
           Clock.systemUTC(),
-          connectionClosedFuture);
-
+          connectionClosedFuture,
+          binaryRows);
+
+      if (binaryRows) {
+        return EndpointResponse.create()
+            .status(HttpResponseStatus.OK.code())
+            .type(RowBatchCodec.CONTENT_TYPE)
+            .entity(pullQueryStreamWriter)
+            .build();
+      }
       return EndpointResponse.ok(pullQueryStreamWriter);
     } catch (final Throwable t) {
       if (decrementer != null) {
@@ -28,6 +28,10 @@ import org.apache.kafka.streams.processor.internals.DefaultKafkaClientSupplier;
 
 public final class RestServiceContextFactory {
 
+  // Stateless, so can be shared. Sharing it allows clients created with it to be reused:
+  private static final KafkaClientSupplier DEFAULT_KAFKA_CLIENT_SUPPLIER =
+      new DefaultKafkaClientSupplier();
+
   private RestServiceContextFactory() {
   }
 
@@ -61,7 +65,7 @@ public final class RestServiceContextFactory {
     return create(
         ksqlConfig,
         authHeader,
-        new DefaultKafkaClientSupplier(),
+        DEFAULT_KAFKA_CLIENT_SUPPLIER,
         schemaRegistryClientFactory,
         sharedClient
     );
@@ -60,6 +60,7 @@ public class TestEndpoints implements Endpoints {
   private String lastSql;
   private JsonObject lastProperties;
   private JsonObject lastSessionVariables;
+  private JsonObject lastParameters;
   private String lastTarget;
   private final Set<TestQueryPublisher> queryPublishers = new HashSet<>();
   private int acksBeforePublisherError = -1;
@@ -75,6 +76,7 @@ public class TestEndpoints implements Endpoints {
       final Map<String, Object> properties,
       final Map<String, Object> sessionVariables,
       final Map<String, Object> requestProperties,
+      final Map<String, Object> parameters,
       final Context context,
       final WorkerExecutor workerExecutor,
       final ApiSecurityContext apiSecurityContext,
@@ -87,6 +89,7 @@ public class TestEndpoints implements Endpoints {
       this.lastSql = sql;
       this.lastProperties = new JsonObject(properties);
       this.lastSessionVariables = new JsonObject(sessionVariables);
+      this.lastParameters = new JsonObject(parameters);
       this.lastApiSecurityContext = apiSecurityContext;
       final boolean push = sql.toLowerCase().contains("emit changes");
       final int limit = extractLimit(sql);
@@ -257,6 +260,10 @@ public class TestEndpoints implements Endpoints {
     return lastSessionVariables.copy();
   }
 
+  public synchronized JsonObject getLastParameters() {
+    return lastParameters.copy();
+  }
+
   public synchronized Set<TestQueryPublisher> getQueryPublishers() {
     return Collections.unmodifiableSet(queryPublishers);
   }
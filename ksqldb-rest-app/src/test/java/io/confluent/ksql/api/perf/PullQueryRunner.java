@@ -124,6 +124,7 @@ public class PullQueryRunner extends BasePerfRunner {
         final Map<String, Object> properties,
         final Map<String, Object> sessionVariables,
         final Map<String, Object> requestProperties,
+        final Map<String, Object> parameters,
         final Context context,
         final WorkerExecutor workerExecutor,
         final ApiSecurityContext apiSecurityContext,
@@ -103,6 +103,7 @@ public class QueryStreamRunner extends BasePerfRunner {
         final Map<String, Object> properties,
         final Map<String, Object> sessionVariables,
         final Map<String, Object> requestProperties,
+        final Map<String, Object> parameters,
         final Context context,
         final WorkerExecutor workerExecutor,
         final ApiSecurityContext apiSecurityContext,
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.api.server;
+
+import static io.confluent.ksql.GenericRow.genericRow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.rest.entity.PushContinuationToken;
+import io.confluent.ksql.rest.entity.QueryResponseMetadata;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DelimitedQueryStreamResponseWriterTest {
+
+  private static final QueryResponseMetadata METADATA = new QueryResponseMetadata(
+      "queryId", ImmutableList.of("A"), ImmutableList.of("INTEGER"));
+
+  @Mock
+  private HttpServerResponse response;
+  @Captor
+  private ArgumentCaptor<Buffer> bufferCaptor;
+
+  private DelimitedQueryStreamResponseWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new DelimitedQueryStreamResponseWriter(response);
+  }
+
+  @Test
+  public void shouldWriteMetadataStraightAway() {
+    // When:
+    writer.writeMetadata(METADATA);
+
+    // Then:
+    verify(response).write(bufferCaptor.capture());
+    assertThat(bufferCaptor.getValue().toString(), startsWith("{"));
+    assertThat(bufferCaptor.getValue().toString(), endsWith("}\n"));
+  }
+
+  @Test
+  public void shouldCoalesceRowsUntilFlushed() {
+    // When:
+    writer.writeRow(genericRow(1, "a"));
+    writer.writeContinuationToken(new PushContinuationToken("token"));
+    writer.writeRow(genericRow(2, "b"));
+
+    // Then:
+    verify(response, never()).write(any(Buffer.class));
+
+    // When:
+    writer.flush();
+
+    // Then:
+    verify(response).write(bufferCaptor.capture());
+    assertThat(bufferCaptor.getValue().toString(),
+        is("[1,\"a\"]\n{\"continuationToken\":\"token\"}\n[2,\"b\"]\n"));
+  }
+
+  @Test
+  public void shouldWriteBatchOnceFull() {
+    // When:
+    for (int i = 0; i < 2 * ResponseWriteBatch.MAX_BATCH_ELEMENTS; i++) {
+      writer.writeRow(genericRow(i));
+    }
+
+    // Then:
+    verify(response, times(2)).write(any(Buffer.class));
+  }
+
+  @Test
+  public void shouldEndWithRemainingRows() {
+    // Given:
+    writer.writeRow(genericRow(1));
+
+    // When:
+    writer.end();
+
+    // Then:
+    verify(response, never()).write(any(Buffer.class));
+    verify(response).end(bufferCaptor.capture());
+    assertThat(bufferCaptor.getValue().toString(), is("[1]\n"));
+  }
+
+  @Test
+  public void shouldEndEmptyResponse() {
+    // When:
+    writer.end();
+
+    // Then:
+    verify(response).end();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.api.server;
+
+import static io.confluent.ksql.GenericRow.genericRow;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.ksql.rest.entity.KsqlErrorMessage;
+import io.confluent.ksql.rest.entity.QueryResponseMetadata;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JsonQueryStreamResponseWriterTest {
+
+  private static final QueryResponseMetadata METADATA = new QueryResponseMetadata(
+      "queryId", ImmutableList.of("A"), ImmutableList.of("INTEGER"));
+
+  @Mock
+  private HttpServerResponse response;
+  @Captor
+  private ArgumentCaptor<Buffer> bufferCaptor;
+
+  private JsonQueryStreamResponseWriter writer;
+
+  @Before
+  public void setUp() {
+    writer = new JsonQueryStreamResponseWriter(response);
+  }
+
+  @Test
+  public void shouldWriteMetadataStraightAway() {
+    // When:
+    writer.writeMetadata(METADATA);
+
+    // Then:
+    verify(response).write(bufferCaptor.capture());
+    final String written = bufferCaptor.getValue().toString();
+    assertThat(written, startsWith("[{"));
+    assertThat(written, containsString("\"queryId\":\"queryId\""));
+    assertThat(written, endsWith("}"));
+  }
+
+  @Test
+  public void shouldCoalesceRowsUntilFlushed() {
+    // Given:
+    writer.writeMetadata(METADATA);
+
+    // When:
+    writer.writeRow(genericRow(1));
+    writer.writeRow(genericRow(2));
+
+    // Then:
+    verify(response, times(1)).write(any(Buffer.class));
+
+    // When:
+    writer.flush();
+
+    // Then:
+    verify(response, times(2)).write(bufferCaptor.capture());
+    assertThat(bufferCaptor.getValue().toString(), is(",[1],[2]"));
+  }
+
+  @Test
+  public void shouldWriteBatchOnceFull() {
+    // When:
+    for (int i = 0; i < ResponseWriteBatch.MAX_BATCH_ELEMENTS; i++) {
+      writer.writeRow(genericRow(i));
+    }
+
+    // Then:
+    verify(response).write(any(Buffer.class));
+  }
+
+  @Test
+  public void shouldEndWithRemainingRows() {
+    // Given:
+    writer.writeMetadata(METADATA);
+    writer.writeRow(genericRow(1));
+    writer.writeError(new KsqlErrorMessage(50000, "Boom"));
+
+    // When:
+    writer.end();
+
+    // Then:
+    verify(response).end(bufferCaptor.capture());
+    final String written = bufferCaptor.getValue().toString();
+    assertThat(written, startsWith(",[1],{"));
+    assertThat(written, containsString("\"message\":\"Boom\""));
+    assertThat(written, endsWith("}]"));
+  }
+
+  @Test
+  public void shouldEndEmptyResponse() {
+    // When:
+    writer.flush();
+    writer.end();
+
+    // Then:
+    verify(response, never()).write(any(Buffer.class));
+    verify(response).end(bufferCaptor.capture());
+    assertThat(bufferCaptor.getValue().toString(), is("]"));
+  }
+}
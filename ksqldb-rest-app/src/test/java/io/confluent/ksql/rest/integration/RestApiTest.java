@@ -620,7 +620,7 @@ public class RestApiTest {
         "SELECT USERID, PAGEID, VIEWTIME from " + PAGE_VIEW_CSAS + " EMIT CHANGES LIMIT "
             + LIMIT + ";",
         ImmutableMap.of("auto.offset.reset", "latest"),
-        Collections.emptyMap(), Collections.emptyMap());
+        Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
 
     List<String> messages = new ArrayList<>();
     Semaphore start = new Semaphore(0);
@@ -892,7 +892,8 @@ public class RestApiTest {
   public void shouldExecutePullQueryOverHttp2QueryStream() {
       QueryStreamArgs queryStreamArgs = new QueryStreamArgs(
           "SELECT COUNT, USERID from " + AGG_TABLE + " WHERE USERID='" + AN_AGG_KEY + "';",
-          Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+          Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(),
+          Collections.emptyMap());
 
       QueryResponse[] queryResponse = new QueryResponse[1];
       assertThatEventually(() -> {
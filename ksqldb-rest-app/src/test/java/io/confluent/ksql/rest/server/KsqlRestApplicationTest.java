@@ -228,6 +228,15 @@ public class KsqlRestApplicationTest {
     verify(serviceContext).close();
   }
 
+  @Test
+  public void shouldCloseProcessingLogContextOnClose() {
+    // When:
+    app.shutdown();
+
+    // Then:
+    verify(processingLogContext).close();
+  }
+
   @Test
   public void shouldCloseSecurityExtensionOnClose() {
     // When:
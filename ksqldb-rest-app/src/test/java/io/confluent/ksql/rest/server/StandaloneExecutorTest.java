@@ -46,6 +46,7 @@ import io.confluent.ksql.execution.expression.tree.StringLiteral;
 import io.confluent.ksql.execution.expression.tree.Type;
 import io.confluent.ksql.function.UserFunctionLoader;
 import io.confluent.ksql.logging.processing.ProcessingLogConfig;
+import io.confluent.ksql.logging.processing.ProcessingLogContext;
 import io.confluent.ksql.metrics.MetricCollectors;
 import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.name.SourceName;
@@ -230,6 +231,8 @@ public class StandaloneExecutorTest {
   @Mock
   private KsqlEngine ksqlEngine;
   @Mock
+  private ProcessingLogContext processingLogContext;
+  @Mock
   private KsqlExecutionContext sandBox;
   @Mock
   private UserFunctionLoader udfLoader;
@@ -302,6 +305,7 @@ public class StandaloneExecutorTest {
     standaloneExecutor = new StandaloneExecutor(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         ksqlConfig,
         ksqlEngine,
         queriesFile.toString(),
@@ -336,6 +340,7 @@ public class StandaloneExecutorTest {
     standaloneExecutor = new StandaloneExecutor(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         mockKsqlConfig,
         ksqlEngine,
         queriesFile.toString(),
@@ -357,6 +362,7 @@ public class StandaloneExecutorTest {
     final StandaloneExecutor standaloneExecutor = new StandaloneExecutor(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         new KsqlConfig(ImmutableMap.of("confluent.support.metrics.enable", false)),
         ksqlEngine,
         queriesFile.toString(),
@@ -392,6 +398,7 @@ public class StandaloneExecutorTest {
     standaloneExecutor = new StandaloneExecutor(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         new KsqlConfig(Collections.singletonMap("test", null)),
         ksqlEngine,
         queriesFile.toString(),
@@ -447,6 +454,7 @@ public class StandaloneExecutorTest {
             ProcessingLogConfig.TOPIC_AUTO_CREATE, false,
             ProcessingLogConfig.TOPIC_NAME, PROCESSING_LOG_TOPIC_NAME
         )),
+        processingLogContext,
         ksqlConfig,
         ksqlEngine,
         queriesFile.toString(),
@@ -739,6 +747,15 @@ public class StandaloneExecutorTest {
     verify(serviceContext).close();
   }
 
+  @Test
+  public void shouldCloseProcessingLogContextOnClose() {
+    // When:
+    standaloneExecutor.shutdown();
+
+    // Then:
+    verify(processingLogContext).close();
+  }
+
   @Test
   public void shouldStartQueries() {
     // Given:
@@ -841,6 +858,7 @@ public class StandaloneExecutorTest {
     standaloneExecutor = new StandaloneExecutor(
         serviceContext,
         processingLogConfig,
+        processingLogContext,
         ksqlConfig,
         ksqlEngine,
         queriesFile.toString(),
@@ -25,6 +25,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -794,6 +796,59 @@ public class InsertValuesExecutorTest {
     assertThat(e.getCause(), (hasMessage(containsString("Expected type INTEGER for field"))));
   }
 
+  @Test
+  public void shouldInsertMultipleRows() {
+    // Given:
+    final ConfiguredStatement<InsertValues> statement = givenMultiRowInsertValues(
+        ImmutableList.of(K0, COL0, COL1),
+        ImmutableList.of(
+            ImmutableList.of(
+                new StringLiteral("key"),
+                new StringLiteral("str"),
+                new LongLiteral(2L)),
+            ImmutableList.of(
+                new StringLiteral("other"),
+                new StringLiteral("str2"),
+                new LongLiteral(3L)))
+    );
+
+    // When:
+    executor.execute(statement, mock(SessionProperties.class), engine, serviceContext);
+
+    // Then:
+    verify(keySerializer).serialize(TOPIC_NAME, genericKey("key"));
+    verify(keySerializer).serialize(TOPIC_NAME, genericKey("other"));
+    verify(valueSerializer).serialize(TOPIC_NAME, genericRow("str", 2L));
+    verify(valueSerializer).serialize(TOPIC_NAME, genericRow("str2", 3L));
+    verify(producer, times(2)).send(new ProducerRecord<>(TOPIC_NAME, null, 1L, KEY, VALUE));
+  }
+
+  @Test
+  public void shouldNotInsertAnyRowIfOneRowIsInvalid() {
+    // Given:
+    final ConfiguredStatement<InsertValues> statement = givenMultiRowInsertValues(
+        ImmutableList.of(K0, COL0, COL1),
+        ImmutableList.of(
+            ImmutableList.of(
+                new StringLiteral("key"),
+                new StringLiteral("str"),
+                new LongLiteral(2L)),
+            ImmutableList.of(
+                new StringLiteral("other"),
+                new StringLiteral("str2"),
+                new StringLiteral("not a number")))
+    );
+
+    // When:
+    assertThrows(
+        KsqlException.class,
+        () -> executor.execute(statement, mock(SessionProperties.class), engine, serviceContext)
+    );
+
+    // Then:
+    verify(producer, never()).send(any());
+  }
+
   @Test
   public void shouldHandleStreamsWithNoKeyField() {
     // Given:
@@ -1005,6 +1060,74 @@ public class InsertValuesExecutorTest {
     );
   }
 
+  @Test
+  public void shouldReuseSerdesAcrossStatements() {
+    // Given:
+    final ConfiguredStatement<InsertValues> statement = givenInsertValues(
+        valueColumnNames(SCHEMA),
+        ImmutableList.of(
+            new StringLiteral("str"),
+            new LongLiteral(2L)
+        )
+    );
+
+    // When:
+    executor.execute(statement, mock(SessionProperties.class), engine, serviceContext);
+    executor.execute(statement, mock(SessionProperties.class), engine, serviceContext);
+
+    // Then:
+    verify(keySerdeFactory, times(1)).create(any(), any(), any(), any(), any(), any(), any());
+    verify(valueSerdeFactory, times(1)).create(any(), any(), any(), any(), any(), any(), any());
+    verify(producer, times(2)).send(new ProducerRecord<>(TOPIC_NAME, null, 1L, KEY, VALUE));
+  }
+
+  @Test
+  public void shouldNotReuseSerdesIfSourceChanges() {
+    // Given:
+    final ConfiguredStatement<InsertValues> statement = givenInsertValues(
+        valueColumnNames(SCHEMA),
+        ImmutableList.of(
+            new StringLiteral("str"),
+            new LongLiteral(2L)
+        )
+    );
+    executor.execute(statement, mock(SessionProperties.class), engine, serviceContext);
+
+    givenDataSourceWithSchema(
+        TOPIC_NAME,
+        SCHEMA,
+        SerdeFeatures.of(),
+        SerdeFeatures.of(),
+        FormatInfo.of(FormatFactory.KAFKA.name()),
+        FormatInfo.of(FormatFactory.DELIMITED.name()),
+        false,
+        false
+    );
+
+    // When:
+    executor.execute(statement, mock(SessionProperties.class), engine, serviceContext);
+
+    // Then:
+    verify(valueSerdeFactory).create(
+        FormatInfo.of(FormatFactory.JSON.name()),
+        PersistenceSchema.from(SCHEMA.value(), SerdeFeatures.of()),
+        new KsqlConfig(ImmutableMap.of()),
+        srClientFactory,
+        "",
+        NoopProcessingLogContext.INSTANCE,
+        Optional.empty()
+    );
+    verify(valueSerdeFactory).create(
+        FormatInfo.of(FormatFactory.DELIMITED.name()),
+        PersistenceSchema.from(SCHEMA.value(), SerdeFeatures.of()),
+        new KsqlConfig(ImmutableMap.of()),
+        srClientFactory,
+        "",
+        NoopProcessingLogContext.INSTANCE,
+        Optional.empty()
+    );
+  }
+
   @Test
   public void shouldThrowWhenNotAuthorizedToReadKeySchemaToSR() throws Exception {
     // Given:
@@ -1126,6 +1249,16 @@ public class InsertValuesExecutorTest {
         new KsqlConfig(ImmutableMap.of()), ImmutableMap.of()));
   }
 
+  private static ConfiguredStatement<InsertValues> givenMultiRowInsertValues(
+      final List<ColumnName> columns,
+      final List<? extends List<Expression>> rows
+  ) {
+    return ConfiguredStatement.of(PreparedStatement.of(
+            "",
+            InsertValues.ofRows(Optional.empty(), SourceName.of("TOPIC"), columns, rows)),
+        SessionConfig.of(new KsqlConfig(ImmutableMap.of()), ImmutableMap.of()));
+  }
+
   private void givenSourceStreamWithSchema(
       final LogicalSchema schema,
       final SerdeFeatures keyFeatures,
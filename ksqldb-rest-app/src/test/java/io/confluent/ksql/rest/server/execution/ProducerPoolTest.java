@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.rest.server.execution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.services.ServiceContext;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.streams.KafkaClientSupplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProducerPoolTest {
+
+  private static final ProducerRecord<byte[], byte[]> RECORD =
+      new ProducerRecord<>("topic", new byte[]{1}, new byte[]{2});
+  private static final Map<String, Object> PROPS = ImmutableMap.of("acks", "all");
+  private static final Map<String, Object> OTHER_PROPS = ImmutableMap.of("acks", "1");
+  private static final Duration IDLE_TIMEOUT = Duration.ofMillis(100);
+
+  @Mock
+  private ServiceContext serviceContext;
+  @Mock
+  private KafkaClientSupplier clientSupplier;
+  @Mock
+  private Producer<byte[], byte[]> producer;
+  @Mock
+  private Producer<byte[], byte[]> otherProducer;
+  @Mock
+  private Future<?> sendResult;
+  @Mock
+  private LongSupplier clock;
+
+  private ProducerPool pool;
+
+  @Before
+  public void setUp() {
+    when(serviceContext.getKafkaClientSupplier()).thenReturn(clientSupplier);
+    when(clientSupplier.getProducer(any())).thenReturn(producer, otherProducer);
+    doReturn(sendResult).when(producer).send(any());
+
+    pool = new ProducerPool(1, IDLE_TIMEOUT, clock);
+  }
+
+  @Test
+  public void shouldReuseProducer() {
+    // When:
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // Then:
+    verify(clientSupplier, times(1)).getProducer(PROPS);
+    verify(producer, times(2)).send(RECORD);
+    verify(producer, never()).close(any());
+  }
+
+  @Test
+  public void shouldNotShareProducerBetweenClientSuppliers() {
+    // Given:
+    final ServiceContext otherServiceContext = mock(ServiceContext.class);
+    final KafkaClientSupplier otherClientSupplier = mock(KafkaClientSupplier.class);
+    when(otherServiceContext.getKafkaClientSupplier()).thenReturn(otherClientSupplier);
+    when(otherClientSupplier.getProducer(any())).thenReturn(otherProducer);
+    doReturn(sendResult).when(otherProducer).send(any());
+
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // When:
+    pool.sendRecord(RECORD, otherServiceContext, PROPS);
+
+    // Then:
+    verify(otherClientSupplier).getProducer(PROPS);
+    verify(otherProducer).send(RECORD);
+  }
+
+  @Test
+  public void shouldCloseLeastRecentlyUsedProducerWhenFull() {
+    // Given:
+    doReturn(sendResult).when(otherProducer).send(any());
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // When:
+    pool.sendRecord(RECORD, serviceContext, OTHER_PROPS);
+
+    // Then:
+    verify(producer).close(any());
+    verify(otherProducer, never()).close(any());
+    assertThat(pool.size(), is(1));
+  }
+
+  @Test
+  public void shouldCloseIdleProducer() {
+    // Given:
+    when(clock.getAsLong()).thenReturn(0L, 0L, IDLE_TIMEOUT.toMillis());
+    doReturn(sendResult).when(otherProducer).send(any());
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // When:
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // Then:
+    verify(producer).close(any());
+    verify(otherProducer).send(RECORD);
+  }
+
+  @Test
+  public void shouldCloseProducersOnClose() {
+    // Given:
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // When:
+    pool.close();
+
+    // Then:
+    verify(producer).close(any());
+    assertThat(pool.size(), is(0));
+  }
+
+  @Test
+  public void shouldCloseProducerInUseOnceReleasedAfterClose() throws Exception {
+    // Given:
+    when(sendResult.get()).thenAnswer(inv -> {
+      pool.close();
+      verify(producer, never()).close(any());
+      return null;
+    });
+
+    // When:
+    pool.sendRecord(RECORD, serviceContext, PROPS);
+
+    // Then:
+    verify(producer).close(any());
+  }
+
+  @Test
+  public void shouldCloseProducerThatFailedToSend() throws Exception {
+    // Given:
+    when(sendResult.get()).thenThrow(new ExecutionException(
+        new TopicAuthorizationException("denied")));
+
+    // When:
+    assertThrows(
+        TopicAuthorizationException.class,
+        () -> pool.sendRecord(RECORD, serviceContext, PROPS)
+    );
+
+    // Then:
+    verify(producer).close(any());
+    assertThat(pool.size(), is(0));
+  }
+}
@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
@@ -20,6 +21,7 @@ import io.confluent.ksql.physical.pull.PullQueryRow;
 import io.confluent.ksql.query.PullQueryQueue;
 import io.confluent.ksql.query.QueryId;
 import io.confluent.ksql.rest.ApiJsonMapper;
+import io.confluent.ksql.rest.RowBatchCodec;
 import io.confluent.ksql.rest.entity.StreamedRow;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
@@ -28,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -86,7 +89,7 @@ public class PullQueryStreamWriterTest {
     when(pullQueryResult.getSchema()).thenReturn(SCHEMA);
     doNothing().when(pullQueryResult).onCompletion(completeCapture.capture());
     writer = new PullQueryStreamWriter(pullQueryResult, 1000, ApiJsonMapper.INSTANCE.get(),
-        pullQueryQueue, clock, new CompletableFuture<>());
+        pullQueryQueue, clock, new CompletableFuture<>(), false);
 
     executorService = Executors.newSingleThreadScheduledExecutor();
 
@@ -287,6 +290,57 @@ public class PullQueryStreamWriterTest {
     assertThat(row.getRow().get().getColumns().get(0), is("foo\nbar"));
   }
 
+  @Test
+  public void shouldWriteRowsInBinaryFormat() throws IOException {
+    // Given:
+    givenBinaryWriter();
+    completeCapture.getValue().accept(null);
+    doAnswer(streamRows("Row1", "Row2", "Row3"))
+        .when(pullQueryQueue).drainRowsTo(any());
+
+    // When:
+    writer.write(out);
+
+    // Then:
+    assertThat(writer.isClosed(), is (true));
+    final List<StreamedRow> rows = getBinaryOutput(out);
+    assertThat(rows.size(), is(4));
+    assertThat(rows.get(0).getHeader().isPresent(), is(true));
+    assertThat(rows.get(1).getRow().get().getColumns(), contains("Row1"));
+    assertThat(rows.get(2).getRow().get().getColumns(), contains("Row2"));
+    assertThat(rows.get(3).getRow().get().getColumns(), contains("Row3"));
+  }
+
+  @Test
+  public void shouldWriteAnyPendingRowsBeforeReportingExceptionInBinaryFormat()
+      throws IOException {
+    // Given:
+    givenBinaryWriter();
+    doAnswer(streamRows("Row1", "Row2"))
+        .when(pullQueryQueue).drainRowsTo(any());
+
+    givenUncaughtException(new KsqlException("Server went Boom"));
+
+    // When:
+    writer.write(out);
+
+    // Then:
+    assertThat(writer.isClosed(), is (true));
+    final List<StreamedRow> rows = getBinaryOutput(out);
+    assertThat(rows.size(), is(4));
+    assertThat(rows.get(0).getHeader().isPresent(), is(true));
+    assertThat(rows.get(1).getRow().get().getColumns(), contains("Row1"));
+    assertThat(rows.get(2).getRow().get().getColumns(), contains("Row2"));
+    assertThat(rows.get(3).getErrorMessage().get().getMessage(),
+        containsString("Server went Boom"));
+  }
+
+  private void givenBinaryWriter() {
+    clearInvocations(pullQueryResult);
+    writer = new PullQueryStreamWriter(pullQueryResult, 1000, ApiJsonMapper.INSTANCE.get(),
+        pullQueryQueue, clock, new CompletableFuture<>(), true);
+  }
+
   private void givenUncaughtException(final KsqlException e) {
     verify(pullQueryResult).onException(throwableConsumerCapture.capture());
     throwableConsumerCapture.getValue().accept(e);
@@ -308,6 +362,22 @@ public class PullQueryStreamWriterTest {
     return new PullQueryRow(ImmutableList.of(row), SCHEMA, Optional.empty(), Optional.empty());
   }
 
+  private static List<StreamedRow> getBinaryOutput(final ByteArrayOutputStream out) {
+    final RowBatchCodec codec = new RowBatchCodec(ApiJsonMapper.INSTANCE.get());
+    final byte[] bytes = out.toByteArray();
+    final List<StreamedRow> rows = new ArrayList<>();
+    int offset = 0;
+    while (offset < bytes.length) {
+      final byte[] header = Arrays.copyOfRange(
+          bytes, offset, offset + RowBatchCodec.FRAME_HEADER_LENGTH);
+      final int frameLength = RowBatchCodec.FRAME_HEADER_LENGTH
+          + RowBatchCodec.payloadLength(header);
+      rows.addAll(codec.decode(Arrays.copyOfRange(bytes, offset, offset + frameLength)));
+      offset += frameLength;
+    }
+    return rows;
+  }
+
   private static List<String> getOutput(final ByteArrayOutputStream out) throws IOException {
     // Make sure it's parsable as valid JSON
     ApiJsonMapper.INSTANCE.get().readTree(out.toByteArray());
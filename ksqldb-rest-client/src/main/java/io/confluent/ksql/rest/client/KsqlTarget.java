@@ -20,6 +20,8 @@ import static io.confluent.ksql.rest.client.KsqlClientUtil.serialize;
 import static java.util.Objects.requireNonNull;
 
 import io.confluent.ksql.properties.LocalProperties;
+import io.confluent.ksql.rest.ApiJsonMapper;
+import io.confluent.ksql.rest.RowBatchCodec;
 import io.confluent.ksql.rest.entity.ClusterStatusResponse;
 import io.confluent.ksql.rest.entity.CommandStatus;
 import io.confluent.ksql.rest.entity.CommandStatuses;
@@ -43,6 +45,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.parsetools.RecordParser;
@@ -78,6 +81,9 @@ public final class KsqlTarget {
   private static final String SERVER_METADATA_ID_PATH = "/v1/metadata/id";
   private static final String IS_VALID_PATH = "/is_valid_property/";
 
+  private static final RowBatchCodec ROW_BATCH_CODEC =
+      new RowBatchCodec(ApiJsonMapper.INSTANCE.get());
+
   private final HttpClient httpClient;
   private final SocketAddress socketAddress;
   private final LocalProperties localProperties;
@@ -202,6 +208,12 @@ public final class KsqlTarget {
           return streamedRows;
         },
         "\n", // delimiter
+        frame -> {
+          // Only sent if requested, e.g. for forwarded pull queries:
+          final List<StreamedRow> streamedRows = ROW_BATCH_CODEC.decode(frame.getBytes());
+          rowCount.addAndGet(streamedRows.size());
+          return streamedRows;
+        },
         rowConsumer,
         shouldCloseConnection);
   }
@@ -274,11 +286,12 @@ public final class KsqlTarget {
       final Supplier<R> responseSupplier,
       final Function<Buffer, T> mapper,
       final String delimiter,
+      final Function<Buffer, T> frameMapper,
       final Consumer<T> chunkHandler,
       final CompletableFuture<Void> shouldCloseConnection
   ) {
     return executeRequestSync(HttpMethod.POST, path, jsonEntity, responseSupplier, mapper,
-        delimiter, chunkHandler, shouldCloseConnection);
+        delimiter, frameMapper, chunkHandler, shouldCloseConnection);
   }
 
   private <T> CompletableFuture<RestResponse<T>> executeRequestAsync(
@@ -310,18 +323,26 @@ public final class KsqlTarget {
       final Supplier<R> responseSupplier,
       final Function<Buffer, T> chunkMapper,
       final String delimiter,
+      final Function<Buffer, T> frameMapper,
       final Consumer<T> chunkHandler,
       final CompletableFuture<Void> shouldCloseConnection
   ) {
     return executeSync(httpMethod, path, Optional.empty(), requestBody,
         resp -> responseSupplier.get(),
         (resp, vcf) -> {
-        final RecordParser recordParser = RecordParser.newDelimited(delimiter, resp);
+        final boolean rowBatches =
+            RowBatchCodec.CONTENT_TYPE.equals(resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        final RecordParser recordParser = rowBatches
+            ? RecordParser.newFixed(RowBatchCodec.FRAME_HEADER_LENGTH, resp)
+            : RecordParser.newDelimited(delimiter, resp);
+        final Function<Buffer, Optional<T>> parser = rowBatches
+            ? frameParser(recordParser, frameMapper)
+            : buff -> Optional.of(chunkMapper.apply(buff));
         final AtomicBoolean end = new AtomicBoolean(false);
         recordParser.exceptionHandler(vcf::completeExceptionally);
         recordParser.handler(buff -> {
           try {
-            chunkHandler.accept(chunkMapper.apply(buff));
+            parser.apply(buff).ifPresent(chunkHandler);
           } catch (Throwable t) {
             log.error("Error while handling chunk", t);
             vcf.completeExceptionally(t);
@@ -357,6 +378,28 @@ public final class KsqlTarget {
       });
   }
 
+  /**
+   * Parses the frames of a response in the row batch format. The record parser alternates between
+   * reading the fixed size header of a frame and reading the payload whose length it gives.
+   */
+  private static <T> Function<Buffer, Optional<T>> frameParser(
+      final RecordParser recordParser,
+      final Function<Buffer, T> frameMapper
+  ) {
+    final AtomicReference<Buffer> frameHeader = new AtomicReference<>();
+    return buff -> {
+      if (frameHeader.get() == null) {
+        frameHeader.set(buff.copy());
+        recordParser.fixedSizeMode(RowBatchCodec.payloadLength(buff.getBytes()));
+        return Optional.empty();
+      }
+
+      final Buffer frame = frameHeader.getAndSet(null).appendBuffer(buff);
+      recordParser.fixedSizeMode(RowBatchCodec.FRAME_HEADER_LENGTH);
+      return Optional.of(frameMapper.apply(frame));
+    };
+  }
+
   private <T> RestResponse<StreamPublisher<T>> executeQueryRequestWithStreamResponse(
       final String ksql,
       final Map<String, ?> requestProperties,
@@ -387,7 +430,7 @@ public final class KsqlTarget {
     final Map<String, Object> requestPropertiesObject = requestProperties.entrySet().stream()
         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     final QueryStreamArgs queryStreamArgs = new QueryStreamArgs(ksql, localProperties.toMap(),
-        Collections.emptyMap(), requestPropertiesObject);
+        Collections.emptyMap(), requestPropertiesObject, Collections.emptyMap());
     final AtomicReference<StreamPublisher<T>> pubRef = new AtomicReference<>();
     return executeAsync(HttpMethod.POST, QUERY_STREAM_PATH,
         Optional.of("application/vnd.ksqlapi.delimited.v1"), queryStreamArgs,
@@ -429,7 +429,7 @@ public class KsqlClientTest {
     assertThat(server.getPath(), is("/query-stream"));
     assertThat(server.getHeaders().get("Accept"), is("application/vnd.ksqlapi.delimited.v1"));
     assertThat(getQueryStreamArgs(), is(new QueryStreamArgs(sql, properties,
-        Collections.emptyMap(), Collections.emptyMap())));
+        Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())));
 
     List<StreamedRow> rows = getElementsFromPublisher(numRows + 1, response.getResponse());
     int i = 0;
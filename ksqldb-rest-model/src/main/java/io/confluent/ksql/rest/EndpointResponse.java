@@ -16,6 +16,7 @@
 package io.confluent.ksql.rest;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,6 +41,10 @@ public final class EndpointResponse {
     return entity;
   }
 
+  public Map<String, String> getHeaders() {
+    return headers == null ? Collections.emptyMap() : Collections.unmodifiableMap(headers);
+  }
+
   public static Builder create() {
     return new Builder();
   }
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.rest;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.rest.entity.StreamedRow;
+import io.confluent.ksql.util.KsqlException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Codec for the binary format servers use to return the rows of forwarded pull queries.
+ *
+ * <p>A response is a sequence of frames. Each frame starts with a one byte frame type and the
+ * four byte length of its payload. A rows frame holds a batch of rows in columnar form: each
+ * column has a type, a bitmap of its non-null values and then the values themselves. Values
+ * of primitive SQL types are written in binary, while those of other types, e.g. {@code ARRAY},
+ * {@code MAP} and {@code STRUCT}, are written as JSON. Any other row, e.g. the header or an
+ * error, is written as a JSON frame holding the JSON of the row.
+ */
+public final class RowBatchCodec {
+
+  /**
+   * The content type of a response in the row batch format.
+   */
+  public static final String CONTENT_TYPE = "application/vnd.ksql.internal.rowbatch.v1";
+
+  /**
+   * The length of the header at the start of each frame.
+   */
+  public static final int FRAME_HEADER_LENGTH = 5;
+
+  private static final byte JSON_FRAME = 1;
+  private static final byte ROWS_FRAME = 2;
+
+  private static final byte NULL_COLUMN = 0;
+  private static final byte BOOLEAN_COLUMN = 1;
+  private static final byte INT_COLUMN = 2;
+  private static final byte BIGINT_COLUMN = 3;
+  private static final byte DOUBLE_COLUMN = 4;
+  private static final byte STRING_COLUMN = 5;
+  private static final byte DECIMAL_COLUMN = 6;
+  private static final byte BYTES_COLUMN = 7;
+  private static final byte TIMESTAMP_COLUMN = 8;
+  private static final byte TIME_COLUMN = 9;
+  private static final byte DATE_COLUMN = 10;
+  private static final byte JSON_COLUMN = 11;
+
+  private final ObjectMapper objectMapper;
+
+  public RowBatchCodec(final ObjectMapper objectMapper) {
+    this.objectMapper = requireNonNull(objectMapper, "objectMapper");
+  }
+
+  /**
+   * Get the length of the payload of a frame.
+   *
+   * @param frameHeader the header of the frame, i.e. its first {@link #FRAME_HEADER_LENGTH}
+   *                    bytes.
+   * @return the length of the payload that follows the header.
+   */
+  public static int payloadLength(final byte[] frameHeader) {
+    return ByteBuffer.wrap(frameHeader, 1, 4).getInt();
+  }
+
+  /**
+   * Encode a row as a JSON frame.
+   *
+   * @param row the row to encode.
+   * @return the frame.
+   */
+  public byte[] encodeRow(final StreamedRow row) {
+    final FrameBuffer frame = new FrameBuffer(JSON_FRAME);
+    try {
+      objectMapper.writeValue(frame, row);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return frame.toFrame();
+  }
+
+  /**
+   * Encode a batch of rows as a rows frame. All rows must have the same number of columns.
+   *
+   * @param rows the rows to encode.
+   * @return the frame.
+   */
+  public byte[] encodeRows(final List<? extends List<?>> rows) {
+    final int columnCount = rows.isEmpty() ? 0 : rows.get(0).size();
+    final FrameBuffer frame = new FrameBuffer(ROWS_FRAME);
+    final DataOutputStream out = new DataOutputStream(frame);
+    try {
+      out.writeInt(rows.size());
+      out.writeInt(columnCount);
+      for (int column = 0; column < columnCount; column++) {
+        writeColumn(out, rows, column);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return frame.toFrame();
+  }
+
+  /**
+   * Decode a frame.
+   *
+   * @param frame the frame, including its header.
+   * @return the rows in the frame.
+   */
+  public List<StreamedRow> decode(final byte[] frame) {
+    final ByteBuffer buffer = ByteBuffer.wrap(frame);
+    final byte frameType = buffer.get();
+    final int length = buffer.getInt();
+    if (length != buffer.remaining()) {
+      throw new KsqlException("Invalid row batch frame: expected " + length
+          + " bytes of payload, got " + buffer.remaining());
+    }
+
+    try {
+      switch (frameType) {
+        case JSON_FRAME:
+          return Collections.singletonList(objectMapper.readValue(
+              frame, FRAME_HEADER_LENGTH, length, StreamedRow.class));
+        case ROWS_FRAME:
+          return readRows(buffer);
+        default:
+          throw new KsqlException("Invalid row batch frame type: " + frameType);
+      }
+    } catch (final IOException e) {
+      throw new KsqlException("Invalid row batch frame: " + e.getMessage(), e);
+    }
+  }
+
+  private void writeColumn(
+      final DataOutputStream out,
+      final List<? extends List<?>> rows,
+      final int column
+  ) throws IOException {
+    final byte type = columnType(rows, column);
+    out.writeByte(type);
+    if (type == NULL_COLUMN) {
+      return;
+    }
+
+    final byte[] nonNull = new byte[(rows.size() + 7) / 8];
+    for (int row = 0; row < rows.size(); row++) {
+      if (rows.get(row).get(column) != null) {
+        nonNull[row / 8] |= 1 << (row % 8);
+      }
+    }
+    out.write(nonNull);
+
+    for (final List<?> row : rows) {
+      final Object value = row.get(column);
+      if (value != null) {
+        writeValue(out, type, value);
+      }
+    }
+  }
+
+  private void writeValue(
+      final DataOutputStream out,
+      final byte type,
+      final Object value
+  ) throws IOException {
+    switch (type) {
+      case BOOLEAN_COLUMN:
+        out.writeBoolean((Boolean) value);
+        break;
+      case INT_COLUMN:
+        out.writeInt((Integer) value);
+        break;
+      case BIGINT_COLUMN:
+        out.writeLong((Long) value);
+        break;
+      case DOUBLE_COLUMN:
+        out.writeDouble((Double) value);
+        break;
+      case STRING_COLUMN:
+        writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        break;
+      case DECIMAL_COLUMN:
+        out.writeInt(((BigDecimal) value).scale());
+        writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        break;
+      case BYTES_COLUMN:
+        writeBytes(out, toByteArray((ByteBuffer) value));
+        break;
+      case TIMESTAMP_COLUMN:
+        out.writeLong(((Timestamp) value).getTime());
+        break;
+      case TIME_COLUMN:
+        out.writeLong(((Time) value).getTime());
+        break;
+      case DATE_COLUMN:
+        out.writeLong(((Date) value).getTime());
+        break;
+      default:
+        writeBytes(out, objectMapper.writeValueAsBytes(value));
+        break;
+    }
+  }
+
+  private List<StreamedRow> readRows(final ByteBuffer buffer) throws IOException {
+    final int rowCount = buffer.getInt();
+    final int columnCount = buffer.getInt();
+
+    final List<List<Object>> rows = new ArrayList<>(rowCount);
+    for (int row = 0; row < rowCount; row++) {
+      rows.add(new ArrayList<>(columnCount));
+    }
+
+    final byte[] nonNull = new byte[(rowCount + 7) / 8];
+    for (int column = 0; column < columnCount; column++) {
+      final byte type = buffer.get();
+      if (type == NULL_COLUMN) {
+        for (final List<Object> row : rows) {
+          row.add(null);
+        }
+        continue;
+      }
+
+      buffer.get(nonNull);
+      for (int row = 0; row < rowCount; row++) {
+        final boolean isNull = (nonNull[row / 8] & (1 << (row % 8))) == 0;
+        rows.get(row).add(isNull ? null : readValue(buffer, type));
+      }
+    }
+
+    final List<StreamedRow> result = new ArrayList<>(rowCount);
+    for (final List<Object> row : rows) {
+      result.add(StreamedRow.pullRow(GenericRow.fromList(row), Optional.empty()));
+    }
+    return result;
+  }
+
+  private Object readValue(final ByteBuffer buffer, final byte type) throws IOException {
+    switch (type) {
+      case BOOLEAN_COLUMN:
+        return buffer.get() != 0;
+      case INT_COLUMN:
+        return buffer.getInt();
+      case BIGINT_COLUMN:
+        return buffer.getLong();
+      case DOUBLE_COLUMN:
+        return buffer.getDouble();
+      case STRING_COLUMN:
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+      case DECIMAL_COLUMN:
+        return readDecimal(buffer);
+      case BYTES_COLUMN:
+        return ByteBuffer.wrap(readBytes(buffer));
+      case TIMESTAMP_COLUMN:
+        return new Timestamp(buffer.getLong());
+      case TIME_COLUMN:
+        return new Time(buffer.getLong());
+      case DATE_COLUMN:
+        return new Date(buffer.getLong());
+      case JSON_COLUMN:
+        return objectMapper.readValue(readBytes(buffer), Object.class);
+      default:
+        throw new KsqlException("Invalid row batch column type: " + type);
+    }
+  }
+
+  private static BigDecimal readDecimal(final ByteBuffer buffer) {
+    final int scale = buffer.getInt();
+    return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+  }
+
+  private static byte columnType(final List<? extends List<?>> rows, final int column) {
+    Class<?> valueClass = null;
+    for (final List<?> row : rows) {
+      final Object value = row.get(column);
+      if (value == null) {
+        continue;
+      }
+      if (valueClass == null) {
+        valueClass = value.getClass();
+      } else if (valueClass != value.getClass()) {
+        return JSON_COLUMN;
+      }
+    }
+
+    if (valueClass == null) {
+      return NULL_COLUMN;
+    }
+    if (valueClass == Boolean.class) {
+      return BOOLEAN_COLUMN;
+    }
+    if (valueClass == Integer.class) {
+      return INT_COLUMN;
+    }
+    if (valueClass == Long.class) {
+      return BIGINT_COLUMN;
+    }
+    if (valueClass == Double.class) {
+      return DOUBLE_COLUMN;
+    }
+    if (valueClass == String.class) {
+      return STRING_COLUMN;
+    }
+    if (valueClass == BigDecimal.class) {
+      return DECIMAL_COLUMN;
+    }
+    if (ByteBuffer.class.isAssignableFrom(valueClass)) {
+      return BYTES_COLUMN;
+    }
+    if (valueClass == Timestamp.class) {
+      return TIMESTAMP_COLUMN;
+    }
+    if (valueClass == Time.class) {
+      return TIME_COLUMN;
+    }
+    if (valueClass == Date.class) {
+      return DATE_COLUMN;
+    }
+    return JSON_COLUMN;
+  }
+
+  private static void writeBytes(final DataOutputStream out, final byte[] bytes)
+      throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] toByteArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static byte[] readBytes(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Buffer for a frame, which fills in the frame header once the payload has been written.
+   */
+  private static final class FrameBuffer extends ByteArrayOutputStream {
+
+    FrameBuffer(final byte frameType) {
+      write(frameType);
+      write(0);
+      write(0);
+      write(0);
+      write(0);
+    }
+
+    byte[] toFrame() {
+      ByteBuffer.wrap(buf, 1, 4).putInt(count - FRAME_HEADER_LENGTH);
+      return Arrays.copyOf(buf, count);
+    }
+  }
+}
@@ -31,6 +31,7 @@ public class QueryStreamArgs {
   public final Map<String, Object> properties;
   public final Map<String, Object> sessionVariables;
   public final Map<String, Object> requestProperties;
+  public final Map<String, Object> parameters;
 
   public QueryStreamArgs(final @JsonProperty(value = "sql", required = true) String sql,
       final @JsonProperty(value = "properties")
@@ -38,7 +39,9 @@ public class QueryStreamArgs {
       final @JsonProperty(value = "sessionVariables")
           Map<String, Object> sessionVariables,
       final @JsonProperty(value = "requestProperties")
-          Map<String, Object> requestProperties) {
+          Map<String, Object> requestProperties,
+      final @JsonProperty(value = "parameters")
+          Map<String, Object> parameters) {
     this.sql = Objects.requireNonNull(sql);
     this.properties = properties == null ? Collections.emptyMap() : properties;
     this.sessionVariables = sessionVariables == null
@@ -47,6 +50,9 @@ public class QueryStreamArgs {
     this.requestProperties = requestProperties == null
         ? Collections.emptyMap()
         : requestProperties;
+    this.parameters = parameters == null
+        ? Collections.emptyMap()
+        : parameters;
   }
 
   @Override
@@ -63,13 +69,14 @@ public class QueryStreamArgs {
     return Objects.equals(sql, that.sql)
         && Objects.equals(properties, that.properties)
         && Objects.equals(requestProperties, that.requestProperties)
-        && Objects.equals(sessionVariables, that.sessionVariables);
+        && Objects.equals(sessionVariables, that.sessionVariables)
+        && Objects.equals(parameters, that.parameters);
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(sql, properties, requestProperties,
-        sessionVariables);
+        sessionVariables, parameters);
   }
 
   @Override
@@ -79,6 +86,7 @@ public class QueryStreamArgs {
         + ", properties=" + properties
         + ", sessionVariables=" + sessionVariables
         + ", requestProperties=" + requestProperties
+        + ", parameters=" + parameters
         + '}';
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.rest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.GenericRow;
+import io.confluent.ksql.name.ColumnName;
+import io.confluent.ksql.query.QueryId;
+import io.confluent.ksql.rest.entity.StreamedRow;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.schema.ksql.types.SqlTypes;
+import io.confluent.ksql.util.KsqlException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+
+public class RowBatchCodecTest {
+
+  private static final RowBatchCodec CODEC = new RowBatchCodec(ApiJsonMapper.INSTANCE.get());
+
+  @Test
+  public void shouldRoundTripPrimitiveColumns() {
+    // Given:
+    final List<?> row1 = Arrays.asList(
+        true, 1, 2L, 3.5, "four", new BigDecimal("5.50"), ByteBuffer.wrap(new byte[]{6, 7}),
+        new Timestamp(8L), new Time(9L), new Date(10L));
+    final List<?> row2 = Arrays.asList(
+        false, -1, Long.MIN_VALUE, -0.25, "\u00fc", new BigDecimal("-1E+3"),
+        ByteBuffer.wrap(new byte[0]), new Timestamp(-8L), new Time(0L), new Date(86400000L));
+
+    // When:
+    final List<StreamedRow> rows = roundTrip(ImmutableList.of(row1, row2));
+
+    // Then:
+    assertThat(rows, is(ImmutableList.of(pullRow(row1), pullRow(row2))));
+  }
+
+  @Test
+  public void shouldRoundTripNulls() {
+    // Given:
+    final List<?> row1 = Arrays.asList(null, 1, null);
+    final List<?> row2 = Arrays.asList(null, null, "x");
+
+    // When:
+    final List<StreamedRow> rows = roundTrip(ImmutableList.of(row1, row2));
+
+    // Then:
+    assertThat(rows, is(ImmutableList.of(pullRow(row1), pullRow(row2))));
+  }
+
+  @Test
+  public void shouldRoundTripNestedAndMixedColumnsAsJson() {
+    // Given:
+    final List<?> row1 = Arrays.asList(ImmutableList.of("a", "b"), 1);
+    final List<?> row2 = Arrays.asList(ImmutableMap.of("k", 2), 10_000_000_000L);
+
+    // When:
+    final List<StreamedRow> rows = roundTrip(ImmutableList.of(row1, row2));
+
+    // Then:
+    assertThat(rows, is(ImmutableList.of(pullRow(row1), pullRow(row2))));
+  }
+
+  @Test
+  public void shouldRoundTripMoreRowsThanFitInOneBitmapByte() {
+    // Given:
+    final ImmutableList.Builder<List<?>> builder = ImmutableList.builder();
+    final ImmutableList.Builder<StreamedRow> expected = ImmutableList.builder();
+    for (int i = 0; i < 19; i++) {
+      final List<?> row = Arrays.asList(i % 3 == 0 ? null : (long) i);
+      builder.add(row);
+      expected.add(pullRow(row));
+    }
+
+    // When:
+    final List<StreamedRow> rows = roundTrip(builder.build());
+
+    // Then:
+    assertThat(rows, is(expected.build()));
+  }
+
+  @Test
+  public void shouldRoundTripHeaderAsJsonFrame() {
+    // Given:
+    final StreamedRow header = StreamedRow.header(
+        new QueryId("query"),
+        LogicalSchema.builder()
+            .keyColumn(ColumnName.of("K"), SqlTypes.STRING)
+            .valueColumn(ColumnName.of("V"), SqlTypes.BIGINT)
+            .build());
+
+    // When:
+    final List<StreamedRow> rows = CODEC.decode(CODEC.encodeRow(header));
+
+    // Then:
+    assertThat(rows, is(ImmutableList.of(header)));
+  }
+
+  @Test
+  public void shouldRoundTripErrorAsJsonFrame() {
+    // Given:
+    final StreamedRow error = StreamedRow.error(new RuntimeException("Boom"), 500);
+
+    // When:
+    final List<StreamedRow> rows = CODEC.decode(CODEC.encodeRow(error));
+
+    // Then:
+    assertThat(rows.size(), is(1));
+    assertThat(rows.get(0).getErrorMessage().get().getMessage(), is("Boom"));
+  }
+
+  @Test
+  public void shouldGetPayloadLengthFromFrameHeader() {
+    // Given:
+    final byte[] frame = CODEC.encodeRows(ImmutableList.of(ImmutableList.of(1L)));
+
+    // When:
+    final int length = RowBatchCodec.payloadLength(
+        Arrays.copyOf(frame, RowBatchCodec.FRAME_HEADER_LENGTH));
+
+    // Then:
+    assertThat(length, is(frame.length - RowBatchCodec.FRAME_HEADER_LENGTH));
+  }
+
+  @Test
+  public void shouldThrowOnTruncatedFrame() {
+    // Given:
+    final byte[] frame = CODEC.encodeRows(ImmutableList.of(ImmutableList.of(1L)));
+
+    // When:
+    final Exception e = assertThrows(
+        KsqlException.class,
+        () -> CODEC.decode(Arrays.copyOf(frame, frame.length - 1))
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("Invalid row batch frame"));
+  }
+
+  private static List<StreamedRow> roundTrip(final List<? extends List<?>> rows) {
+    return CODEC.decode(CODEC.encodeRows(rows));
+  }
+
+  private static StreamedRow pullRow(final List<?> columns) {
+    return StreamedRow.pullRow(GenericRow.fromList(columns), Optional.empty());
+  }
+}
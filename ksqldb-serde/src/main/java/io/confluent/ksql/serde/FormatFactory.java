@@ -16,6 +16,7 @@
 package io.confluent.ksql.serde;
 
 import io.confluent.ksql.serde.avro.AvroFormat;
+import io.confluent.ksql.serde.binary.BinaryFormat;
 import io.confluent.ksql.serde.delimited.DelimitedFormat;
 import io.confluent.ksql.serde.json.JsonFormat;
 import io.confluent.ksql.serde.json.JsonSchemaFormat;
@@ -36,6 +37,7 @@ public final class FormatFactory {
   public static final Format KAFKA      = new KafkaFormat();
   public static final Format DELIMITED  = new DelimitedFormat();
   public static final Format NONE       = new NoneFormat();
+  public static final Format BINARY     = new BinaryFormat();
 
   private FormatFactory() {
   }
@@ -60,6 +62,7 @@ public final class FormatFactory {
       case KafkaFormat.NAME:      return KAFKA;
       case DelimitedFormat.NAME:  return DELIMITED;
       case NoneFormat.NAME:       return NONE;
+      case BinaryFormat.NAME:     return BINARY;
       default:
         throw new KsqlException("Unknown format: " + name);
     }
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.serde.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.confluent.ksql.schema.ksql.PersistenceSchema;
+import io.confluent.ksql.schema.ksql.SchemaConverters;
+import io.confluent.ksql.schema.ksql.SimpleColumn;
+import io.confluent.ksql.schema.ksql.types.SqlArray;
+import io.confluent.ksql.schema.ksql.types.SqlBaseType;
+import io.confluent.ksql.schema.ksql.types.SqlMap;
+import io.confluent.ksql.schema.ksql.types.SqlStruct;
+import io.confluent.ksql.schema.ksql.types.SqlType;
+import io.confluent.ksql.serde.SerdeUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.ByteUtils;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+/**
+ * Serde for the {@link BinaryFormat}.
+ *
+ * <p>A row is written as a version byte followed by each of its values in column order. Each
+ * value is a byte flagging whether it is null, followed, if not null, by:
+ * <ul>
+ *   <li>{@code INT}, {@code BIGINT}, {@code TIMESTAMP}, {@code TIME} and {@code DATE}: the
+ *   number, or number of milliseconds, as a zig-zag encoded variable length integer</li>
+ *   <li>{@code BOOLEAN}: a single byte</li>
+ *   <li>{@code DOUBLE}: eight bytes</li>
+ *   <li>{@code STRING} and {@code BYTES}: the length, then the UTF-8 or raw bytes</li>
+ *   <li>{@code DECIMAL}: the scale, then the length and bytes of the unscaled value</li>
+ *   <li>{@code ARRAY} and {@code MAP}: the number of elements, then each element, or each key
+ *   followed by its value</li>
+ *   <li>{@code STRUCT}: each field, in the order of the schema</li>
+ * </ul>
+ */
+public final class BinarySerdeFactory {
+
+  private static final byte VERSION = 0;
+  private static final byte NULL = 0;
+  private static final byte NOT_NULL = 1;
+
+  private BinarySerdeFactory() {
+  }
+
+  static Serde<List<?>> createSerde(final PersistenceSchema schema) {
+    final List<SimpleColumn> columns = schema.columns();
+
+    final Codec[] codecs = new Codec[columns.size()];
+    for (int i = 0; i < codecs.length; i++) {
+      codecs[i] = new Codec(columns.get(i).type());
+    }
+
+    return Serdes.serdeFrom(new RowSerializer(codecs), new RowDeserializer(codecs));
+  }
+
+  private static final class RowSerializer implements Serializer<List<?>> {
+
+    private final Codec[] codecs;
+
+    RowSerializer(final Codec[] codecs) {
+      this.codecs = Objects.requireNonNull(codecs, "codecs");
+    }
+
+    @Override
+    public byte[] serialize(final String topic, final List<?> values) {
+      if (values == null) {
+        return null;
+      }
+
+      SerdeUtils.throwOnColumnCountMismatch(codecs.length, values.size(), true, topic);
+
+      try {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(VERSION);
+        for (int i = 0; i < codecs.length; i++) {
+          codecs[i].write(out, values.get(i));
+        }
+        out.flush();
+        return bytes.toByteArray();
+      } catch (final Exception e) {
+        throw new SerializationException(
+            "Error serializing " + BinaryFormat.NAME + " message to topic: " + topic, e);
+      }
+    }
+  }
+
+  private static final class RowDeserializer implements Deserializer<List<?>> {
+
+    private final Codec[] codecs;
+
+    RowDeserializer(final Codec[] codecs) {
+      this.codecs = Objects.requireNonNull(codecs, "codecs");
+    }
+
+    @Override
+    public List<?> deserialize(final String topic, final byte[] bytes) {
+      if (bytes == null) {
+        return null;
+      }
+
+      try {
+        final ByteBuffer in = ByteBuffer.wrap(bytes);
+        final byte version = in.get();
+        if (version != VERSION) {
+          throw new SerializationException("Unsupported version: " + version);
+        }
+
+        final List<Object> values = new ArrayList<>(codecs.length);
+        for (final Codec codec : codecs) {
+          values.add(codec.read(in));
+        }
+
+        if (in.hasRemaining()) {
+          throw new SerializationException(
+              "Unexpected data after last column: " + in.remaining() + " byte(s)");
+        }
+        return values;
+      } catch (final Exception e) {
+        throw new SerializationException(
+            "Error deserializing " + BinaryFormat.NAME + " message from topic: " + topic, e);
+      }
+    }
+  }
+
+  /**
+   * Writes and reads the values of a single type, resolving everything that depends only on the
+   * type, e.g. the Connect schema of a struct, up front.
+   */
+  private static final class Codec {
+
+    private final SqlType type;
+    private final Codec[] children;
+    private final String[] fieldNames;
+    private final Schema structSchema;
+
+    Codec(final SqlType type) {
+      this.type = Objects.requireNonNull(type, "type");
+
+      switch (type.baseType()) {
+        case ARRAY:
+          this.children = new Codec[]{new Codec(((SqlArray) type).getItemType())};
+          this.fieldNames = null;
+          this.structSchema = null;
+          break;
+        case MAP:
+          final SqlMap map = (SqlMap) type;
+          this.children = new Codec[]{new Codec(map.getKeyType()), new Codec(map.getValueType())};
+          this.fieldNames = null;
+          this.structSchema = null;
+          break;
+        case STRUCT:
+          final List<SqlStruct.Field> fields = ((SqlStruct) type).fields();
+          this.children = new Codec[fields.size()];
+          this.fieldNames = new String[fields.size()];
+          for (int i = 0; i < fields.size(); i++) {
+            children[i] = new Codec(fields.get(i).type());
+            fieldNames[i] = fields.get(i).name();
+          }
+          this.structSchema = SchemaConverters.sqlToConnectConverter().toConnectSchema(type);
+          break;
+        default:
+          this.children = null;
+          this.fieldNames = null;
+          this.structSchema = null;
+          break;
+      }
+    }
+
+    void write(final DataOutput out, final Object value) throws IOException {
+      if (value == null) {
+        out.writeByte(NULL);
+        return;
+      }
+
+      out.writeByte(NOT_NULL);
+
+      final SqlBaseType baseType = type.baseType();
+      switch (baseType) {
+        case BOOLEAN:
+          out.writeBoolean(SerdeUtils.safeCast(value, Boolean.class));
+          break;
+        case INTEGER:
+          ByteUtils.writeVarint(SerdeUtils.safeCast(value, Integer.class), out);
+          break;
+        case BIGINT:
+          ByteUtils.writeVarlong(SerdeUtils.safeCast(value, Long.class), out);
+          break;
+        case DOUBLE:
+          out.writeDouble(SerdeUtils.safeCast(value, Double.class));
+          break;
+        case DECIMAL:
+          final BigDecimal decimal = SerdeUtils.safeCast(value, BigDecimal.class);
+          ByteUtils.writeVarint(decimal.scale(), out);
+          writeBytes(out, decimal.unscaledValue().toByteArray());
+          break;
+        case STRING:
+          writeBytes(out, SerdeUtils.safeCast(value, String.class).getBytes(UTF_8));
+          break;
+        case BYTES:
+          final ByteBuffer buffer = SerdeUtils.safeCast(value, ByteBuffer.class).duplicate();
+          final byte[] bytes = new byte[buffer.remaining()];
+          buffer.get(bytes);
+          writeBytes(out, bytes);
+          break;
+        case TIMESTAMP:
+          ByteUtils.writeVarlong(SerdeUtils.safeCast(value, Timestamp.class).getTime(), out);
+          break;
+        case TIME:
+          ByteUtils.writeVarlong(SerdeUtils.safeCast(value, Time.class).getTime(), out);
+          break;
+        case DATE:
+          ByteUtils.writeVarlong(SerdeUtils.safeCast(value, Date.class).getTime(), out);
+          break;
+        case ARRAY:
+          final List<?> list = SerdeUtils.safeCast(value, List.class);
+          ByteUtils.writeVarint(list.size(), out);
+          for (final Object item : list) {
+            children[0].write(out, item);
+          }
+          break;
+        case MAP:
+          final Map<?, ?> map = SerdeUtils.safeCast(value, Map.class);
+          ByteUtils.writeVarint(map.size(), out);
+          for (final Map.Entry<?, ?> e : map.entrySet()) {
+            children[0].write(out, e.getKey());
+            children[1].write(out, e.getValue());
+          }
+          break;
+        case STRUCT:
+          final Struct struct = SerdeUtils.safeCast(value, Struct.class);
+          for (int i = 0; i < children.length; i++) {
+            children[i].write(out, struct.get(fieldNames[i]));
+          }
+          break;
+        default:
+          throw new SerializationException("Unsupported type: " + baseType);
+      }
+    }
+
+    Object read(final ByteBuffer in) {
+      if (in.get() == NULL) {
+        return null;
+      }
+
+      final SqlBaseType baseType = type.baseType();
+      switch (baseType) {
+        case BOOLEAN:
+          return in.get() != 0;
+        case INTEGER:
+          return ByteUtils.readVarint(in);
+        case BIGINT:
+          return ByteUtils.readVarlong(in);
+        case DOUBLE:
+          return in.getDouble();
+        case DECIMAL:
+          final int scale = ByteUtils.readVarint(in);
+          return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        case STRING:
+          return new String(readBytes(in), UTF_8);
+        case BYTES:
+          return ByteBuffer.wrap(readBytes(in));
+        case TIMESTAMP:
+          return new Timestamp(ByteUtils.readVarlong(in));
+        case TIME:
+          return new Time(ByteUtils.readVarlong(in));
+        case DATE:
+          return new Date(ByteUtils.readVarlong(in));
+        case ARRAY:
+          final int size = readSize(in);
+          final List<Object> list = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            list.add(children[0].read(in));
+          }
+          return list;
+        case MAP:
+          final int entries = readSize(in);
+          final Map<Object, Object> map = new LinkedHashMap<>();
+          for (int i = 0; i < entries; i++) {
+            final Object key = children[0].read(in);
+            map.put(key, children[1].read(in));
+          }
+          return map;
+        case STRUCT:
+          final Struct struct = new Struct(structSchema);
+          for (int i = 0; i < children.length; i++) {
+            struct.put(fieldNames[i], children[i].read(in));
+          }
+          return struct;
+        default:
+          throw new SerializationException("Unsupported type: " + baseType);
+      }
+    }
+
+    private static void writeBytes(final DataOutput out, final byte[] bytes) throws IOException {
+      ByteUtils.writeVarint(bytes.length, out);
+      out.write(bytes);
+    }
+
+    private static byte[] readBytes(final ByteBuffer in) {
+      final byte[] bytes = new byte[readSize(in)];
+      in.get(bytes);
+      return bytes;
+    }
+
+    private static int readSize(final ByteBuffer in) {
+      final int size = ByteUtils.readVarint(in);
+      if (size < 0 || size > in.remaining()) {
+        // Every element takes at least one byte, so a larger size means corrupt data:
+        throw new SerializationException("Invalid size: " + size);
+      }
+      return size;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package io.confluent.ksql.serde.json;
 import static io.confluent.ksql.serde.SerdeUtils.getDateFromEpochDays;
 import static io.confluent.ksql.serde.SerdeUtils.returnTimeOrThrow;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.BooleanNode;
@@ -57,13 +58,7 @@ public final class JsonSerdeUtils {
       final ObjectMapper mapper,
       final Class<? extends T> clazz
   ) throws IOException {
-    if (!hasMagicByte(jsonWithMagic)) {
-      // don't log contents of jsonWithMagic to avoid leaking data into the logs
-      throw new KsqlException(
-          "Got unexpected JSON serialization format that did not start with the magic byte. If "
-              + "this stream was not serialized using the JsonSchemaConverter, then make sure "
-              + "the stream is declared with JSON format (not JSON_SR).");
-    }
+    checkMagicByte(jsonWithMagic);
 
     return mapper.readValue(
         jsonWithMagic,
@@ -73,6 +68,39 @@ public final class JsonSerdeUtils {
     );
   }
 
+  /**
+   * Creates a parser over the standard JSON encoding within {@code jsonWithMagic}.
+   *
+   * @param jsonWithMagic the serialized JSON
+   * @param mapper the mapper whose factory should create the parser
+   * @return the parser
+   * @throws io.confluent.ksql.util.KsqlException If the input is not encoded
+   *         using the schema registry format (first byte magic byte, then
+   *         four bytes for the schemaID).
+   */
+  static JsonParser createJsonSRParser(
+      @Nonnull final byte[] jsonWithMagic,
+      final ObjectMapper mapper
+  ) throws IOException {
+    checkMagicByte(jsonWithMagic);
+
+    return mapper.getFactory().createParser(
+        jsonWithMagic,
+        SIZE_OF_SR_PREFIX,
+        jsonWithMagic.length - SIZE_OF_SR_PREFIX
+    );
+  }
+
+  private static void checkMagicByte(final byte[] jsonWithMagic) {
+    if (!hasMagicByte(jsonWithMagic)) {
+      // don't log contents of jsonWithMagic to avoid leaking data into the logs
+      throw new KsqlException(
+          "Got unexpected JSON serialization format that did not start with the magic byte. If "
+              + "this stream was not serialized using the JsonSchemaConverter, then make sure "
+              + "the stream is declared with JSON format (not JSON_SR).");
+    }
+  }
+
   /**
    * @param json the serialized JSON
    * @return whether or not this JSON contains the magic schema registry byte
@@ -0,0 +1,508 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.serde.json;
+
+import static io.confluent.ksql.serde.SerdeUtils.getDateFromEpochDays;
+import static io.confluent.ksql.serde.SerdeUtils.returnTimeOrThrow;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.confluent.ksql.serde.json.KsqlJsonDeserializer.CoercionException;
+import io.confluent.ksql.util.DecimalUtil;
+import io.confluent.ksql.util.KsqlException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+
+/**
+ * Schema driven decoder that coerces JSON straight from the parser's token stream.
+ *
+ * <p>The decoders for a schema are built once, up front. Each handles the token types that
+ * commonly occur for its schema type directly, e.g. a number for a {@code BIGINT} column, and
+ * skips the values of fields that are not in the schema without building them. Anything else
+ * is read into a {@link JsonNode} and handed to the tree based coercion in
+ * {@link KsqlJsonDeserializer}, so unusual inputs are coerced, and fail, exactly as before.
+ *
+ * <p>Each decoder is called with the parser on the first token of a value and leaves it on the
+ * last token of that value.
+ */
+final class JsonStreamDecoder {
+
+  private final Decoder root;
+
+  JsonStreamDecoder(final Schema schema) {
+    this.root = decoderFor(schema);
+  }
+
+  /**
+   * @param parser the parser, positioned on the first token of the value.
+   * @return the coerced value.
+   */
+  Object decode(final JsonParser parser) throws IOException {
+    try {
+      return decodeValue(parser, root);
+    } catch (final RuntimeException e) {
+      throw withPath("$", e);
+    }
+  }
+
+  private static Object decodeValue(
+      final JsonParser parser,
+      final Decoder decoder
+  ) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return decoder.decode(parser);
+  }
+
+  private static CoercionException withPath(final String pathPart, final RuntimeException e) {
+    if (e instanceof CoercionException) {
+      final CoercionException ce = (CoercionException) e;
+      return new CoercionException(ce.getRawMessage(), pathPart + ce.getPath(), ce);
+    }
+    return new CoercionException(e.getMessage(), pathPart, e);
+  }
+
+  private static Decoder decoderFor(final Schema schema) {
+    switch (schema.type()) {
+      case BOOLEAN:
+        return new BooleanDecoder(schema);
+      case INT32:
+        return new IntDecoder(schema);
+      case INT64:
+        return new LongDecoder(schema);
+      case FLOAT64:
+        return new DoubleDecoder(schema);
+      case STRING:
+        return new StringDecoder(schema);
+      case BYTES:
+        return DecimalUtil.isDecimal(schema)
+            ? new DecimalDecoder(schema)
+            : new BytesDecoder(schema);
+      case ARRAY:
+        return new ArrayDecoder(schema);
+      case MAP:
+        return new MapDecoder(schema);
+      case STRUCT:
+        return new StructDecoder(schema);
+      default:
+        return new TreeDecoder(schema);
+    }
+  }
+
+  private abstract static class Decoder {
+
+    final Schema schema;
+
+    Decoder(final Schema schema) {
+      this.schema = Objects.requireNonNull(schema, "schema");
+    }
+
+    /**
+     * @param parser the parser, positioned on the first, non-null, token of the value.
+     * @return the coerced value.
+     */
+    abstract Object decode(JsonParser parser) throws IOException;
+
+    /**
+     * Coerce the current value via a {@link JsonNode}, for inputs with no fast path.
+     */
+    final Object fromTree(final JsonParser parser) throws IOException {
+      final JsonNode node = parser.readValueAsTree();
+      return KsqlJsonDeserializer.coerce(node, schema);
+    }
+  }
+
+  private static final class TreeDecoder extends Decoder {
+
+    TreeDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      return fromTree(parser);
+    }
+  }
+
+  private static final class BooleanDecoder extends Decoder {
+
+    BooleanDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      switch (parser.currentToken()) {
+        case VALUE_TRUE:
+          return true;
+        case VALUE_FALSE:
+          return false;
+        default:
+          return fromTree(parser);
+      }
+    }
+  }
+
+  private static final class IntDecoder extends Decoder {
+
+    private final boolean isTime;
+    private final boolean isDate;
+
+    IntDecoder(final Schema schema) {
+      super(schema);
+      this.isTime = Time.LOGICAL_NAME.equals(schema.name());
+      this.isDate = Date.LOGICAL_NAME.equals(schema.name());
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (!isIntegral(parser)) {
+        return fromTree(parser);
+      }
+
+      final long value = parser.getLongValue();
+      if (isTime) {
+        return returnTimeOrThrow(value);
+      }
+      if (isDate) {
+        return getDateFromEpochDays(value);
+      }
+      return (int) value;
+    }
+  }
+
+  private static final class LongDecoder extends Decoder {
+
+    private final boolean isTimestamp;
+
+    LongDecoder(final Schema schema) {
+      super(schema);
+      this.isTimestamp = org.apache.kafka.connect.data.Timestamp.LOGICAL_NAME
+          .equals(schema.name());
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (!isIntegral(parser)) {
+        return fromTree(parser);
+      }
+
+      final long value = parser.getLongValue();
+      return isTimestamp ? new Timestamp(value) : value;
+    }
+  }
+
+  private static final class DoubleDecoder extends Decoder {
+
+    DoubleDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (isIntegral(parser)) {
+        return (double) parser.getLongValue();
+      }
+      if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+        // Parsing directly as a double gives the same, correctly rounded, result as
+        // converting the exact decimal, without creating the intermediate BigDecimal:
+        return parser.getDoubleValue();
+      }
+      return fromTree(parser);
+    }
+  }
+
+  private static final class StringDecoder extends Decoder {
+
+    StringDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      switch (parser.currentToken()) {
+        case VALUE_STRING:
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          return parser.getText();
+        default:
+          // Numbers are formatted as their exact decimal, and objects and arrays are written
+          // back out as JSON, which need the tree:
+          return fromTree(parser);
+      }
+    }
+  }
+
+  private static final class DecimalDecoder extends Decoder {
+
+    DecimalDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      switch (parser.currentToken()) {
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+          return DecimalUtil.ensureFit(parser.getDecimalValue(), schema);
+        case VALUE_STRING:
+          return DecimalUtil.ensureFit(new BigDecimal(parser.getText()), schema);
+        default:
+          return fromTree(parser);
+      }
+    }
+  }
+
+  private static final class BytesDecoder extends Decoder {
+
+    BytesDecoder(final Schema schema) {
+      super(schema);
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (parser.currentToken() != JsonToken.VALUE_STRING) {
+        return fromTree(parser);
+      }
+
+      // Decode from the text, as the parser's own base64 decoding consumes the text:
+      final String text = parser.getText();
+      try {
+        return ByteBuffer.wrap(Base64Variants.getDefaultVariant().decode(text));
+      } catch (final IllegalArgumentException e) {
+        throw new IllegalArgumentException("Value is not a valid Base64 encoded string: "
+            + text);
+      }
+    }
+  }
+
+  private static final class ArrayDecoder extends Decoder {
+
+    private final Decoder elementDecoder;
+
+    ArrayDecoder(final Schema schema) {
+      super(schema);
+      this.elementDecoder = decoderFor(schema.valueSchema());
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (parser.currentToken() != JsonToken.START_ARRAY) {
+        return fromTree(parser);
+      }
+
+      final List<Object> array = new ArrayList<>();
+      int idx = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        try {
+          array.add(decodeValue(parser, elementDecoder));
+        } catch (final RuntimeException e) {
+          throw withPath("[" + idx + "]", e);
+        }
+        idx++;
+      }
+      return array;
+    }
+  }
+
+  private static final class MapDecoder extends Decoder {
+
+    private final Decoder valueDecoder;
+
+    MapDecoder(final Schema schema) {
+      super(schema);
+      this.valueDecoder = decoderFor(schema.valueSchema());
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        return fromTree(parser);
+      }
+
+      final Map<String, Object> map = new HashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String key = parser.getCurrentName();
+        parser.nextToken();
+        try {
+          map.put(key, decodeValue(parser, valueDecoder));
+        } catch (final RuntimeException e) {
+          throw withPath("." + key + ".value", e);
+        }
+      }
+      return map;
+    }
+  }
+
+  private static final class StructDecoder extends Decoder {
+
+    private final Field[] fields;
+    private final Decoder[] fieldDecoders;
+    private final Map<String, Integer> fieldIndexes;
+
+    StructDecoder(final Schema schema) {
+      super(schema);
+      final List<Field> schemaFields = schema.fields();
+      this.fields = schemaFields.toArray(new Field[0]);
+      this.fieldDecoders = new Decoder[fields.length];
+      this.fieldIndexes = new HashMap<>();
+      for (int i = 0; i < fields.length; i++) {
+        fieldDecoders[i] = decoderFor(fields[i].schema());
+        fieldIndexes.put(fields[i].name(), i);
+      }
+    }
+
+    @Override
+    Object decode(final JsonParser parser) throws IOException {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        return fromTree(parser);
+      }
+
+      // As in KsqlJsonDeserializer, a JSON field whose name matches a KSQL field exactly takes
+      // precedence over one that only matches once upper-cased. Errors coercing the latter are
+      // deferred until it is known that no exact match exists:
+      final Object[] values = new Object[fields.length];
+      final boolean[] exact = new boolean[fields.length];
+      RuntimeException[] deferred = null;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String name = parser.getCurrentName();
+        final Integer exactIdx = fieldIndexes.get(name);
+        final String upperName = name.toUpperCase();
+        final Integer upperIdx = upperName.equals(name)
+            ? exactIdx
+            : fieldIndexes.get(upperName);
+
+        final JsonStreamContext context = parser.getParsingContext();
+        parser.nextToken();
+
+        if (exactIdx == null && upperIdx == null) {
+          parser.skipChildren();
+        } else if (upperIdx == null || upperIdx.equals(exactIdx)) {
+          values[exactIdx] = decodeField(parser, exactIdx);
+          exact[exactIdx] = true;
+        } else if (exactIdx == null) {
+          if (exact[upperIdx]) {
+            parser.skipChildren();
+            continue;
+          }
+
+          try {
+            values[upperIdx] = decodeField(parser, upperIdx);
+            if (deferred != null) {
+              deferred[upperIdx] = null;
+            }
+          } catch (final CoercionException e) {
+            if (deferred == null) {
+              deferred = new RuntimeException[fields.length];
+            }
+            deferred[upperIdx] = e;
+            values[upperIdx] = null;
+            skipRestOfValue(parser, context);
+          }
+        } else {
+          // The name matches one field exactly and another once upper-cased, e.g. a quoted
+          // lower-case field alongside its unquoted namesake, so the value is needed twice:
+          final JsonNode node = parser.readValueAsTree();
+          values[exactIdx] = fieldFromTree(node, exactIdx);
+          exact[exactIdx] = true;
+
+          if (!exact[upperIdx]) {
+            try {
+              values[upperIdx] = fieldFromTree(node, upperIdx);
+              if (deferred != null) {
+                deferred[upperIdx] = null;
+              }
+            } catch (final CoercionException e) {
+              if (deferred == null) {
+                deferred = new RuntimeException[fields.length];
+              }
+              deferred[upperIdx] = e;
+              values[upperIdx] = null;
+            }
+          }
+        }
+      }
+
+      final Struct struct = new Struct(schema);
+      for (int i = 0; i < fields.length; i++) {
+        if (deferred != null && !exact[i] && deferred[i] != null) {
+          throw deferred[i];
+        }
+        struct.put(fields[i], values[i]);
+      }
+      return struct;
+    }
+
+    private Object decodeField(final JsonParser parser, final int idx) throws IOException {
+      try {
+        return decodeValue(parser, fieldDecoders[idx]);
+      } catch (final RuntimeException e) {
+        throw withPath("." + fields[idx].name(), e);
+      }
+    }
+
+    private Object fieldFromTree(final JsonNode node, final int idx) {
+      return KsqlJsonDeserializer.enforceFieldType(
+          "." + fields[idx].name(),
+          node,
+          fields[idx].schema()
+      );
+    }
+
+    /**
+     * Move the parser to the last token of a value whose decoding failed part way through.
+     *
+     * @param parser the parser.
+     * @param context the context of the object containing the value.
+     */
+    private static void skipRestOfValue(
+        final JsonParser parser,
+        final JsonStreamContext context
+    ) throws IOException {
+      while (parser.getParsingContext() != context) {
+        if (parser.nextToken() == null) {
+          throw new KsqlException("Unexpected end of JSON input");
+        }
+      }
+    }
+  }
+
+  private static boolean isIntegral(final JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+      return false;
+    }
+    final NumberType type = parser.getNumberType();
+    return type == NumberType.INT || type == NumberType.LONG;
+  }
+}
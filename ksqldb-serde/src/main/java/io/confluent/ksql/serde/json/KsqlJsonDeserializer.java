@@ -16,6 +16,7 @@
 package io.confluent.ksql.serde.json;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -90,6 +91,7 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
       .build();
 
   private final ConnectSchema schema;
+  private final JsonStreamDecoder decoder;
   private final boolean isJsonSchema;
   private final Class<T> targetType;
   private String target = "?";
@@ -100,6 +102,7 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
       final Class<T> targetType
   ) {
     this.schema = validateSchema(Objects.requireNonNull(schema, "schema"));
+    this.decoder = new JsonStreamDecoder(this.schema);
     this.isJsonSchema = isJsonSchema;
     this.targetType = Objects.requireNonNull(targetType, "targetType");
 
@@ -118,17 +121,7 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
         return null;
       }
 
-      // don't use the JsonSchemaConverter to read this data because
-      // we require that the MAPPER enables USE_BIG_DECIMAL_FOR_FLOATS,
-      // which is not currently available in the standard converters
-      final JsonNode value = isJsonSchema
-          ? JsonSerdeUtils.readJsonSR(bytes, MAPPER, JsonNode.class)
-          : MAPPER.readTree(bytes);
-
-      final Object coerced = enforceFieldType(
-          "$",
-          new JsonValueContext(value, schema)
-      );
+      final Object coerced = decode(bytes);
 
       if (LOG.isTraceEnabled()) {
         LOG.trace("Deserialized {}. topic:{}, row:{}", target, topic, coerced);
@@ -150,6 +143,47 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
     return MAPPER.reader();
   }
 
+  private Object decode(final byte[] bytes) throws IOException {
+    // don't use the JsonSchemaConverter to read this data because
+    // we require that the MAPPER enables USE_BIG_DECIMAL_FOR_FLOATS,
+    // which is not currently available in the standard converters
+    try (JsonParser parser = isJsonSchema
+        ? JsonSerdeUtils.createJsonSRParser(bytes, MAPPER)
+        : MAPPER.getFactory().createParser(bytes)) {
+
+      if (parser.nextToken() != null) {
+        return decoder.decode(parser);
+      }
+    }
+
+    // No content, which only the tree knows how to coerce:
+    final JsonNode value = isJsonSchema
+        ? JsonSerdeUtils.readJsonSR(bytes, MAPPER, JsonNode.class)
+        : MAPPER.readTree(bytes);
+
+    return enforceFieldType("$", value, schema);
+  }
+
+  static Object enforceFieldType(
+      final String pathPart,
+      final JsonNode val,
+      final Schema schema
+  ) {
+    return enforceFieldType(pathPart, new JsonValueContext(val, schema));
+  }
+
+  /**
+   * Coerce a non-null value to the supplied schema.
+   */
+  static Object coerce(final JsonNode val, final Schema schema) {
+    final Function<JsonValueContext, Object> handler = HANDLERS.getOrDefault(
+        schema.type(),
+        type -> {
+          throw new KsqlException("Type is not supported: " + type);
+        });
+    return handler.apply(new JsonValueContext(val, schema));
+  }
+
   private static Object enforceFieldType(
       final String pathPart,
       final JsonValueContext context
@@ -159,12 +193,7 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
     }
 
     try {
-      final Function<JsonValueContext, Object> handler = HANDLERS.getOrDefault(
-          context.schema.type(),
-          type -> {
-            throw new KsqlException("Type is not supported: " + type);
-          });
-      return handler.apply(context);
+      return coerce(context.val, context.schema);
     } catch (final CoercionException e) {
       throw new CoercionException(e.getRawMessage(), pathPart + e.getPath(), e);
     } catch (final Exception e) {
@@ -339,7 +368,7 @@ public class KsqlJsonDeserializer<T> implements Deserializer<T> {
     }
   }
 
-  private static final class CoercionException extends RuntimeException {
+  static final class CoercionException extends RuntimeException {
 
     private final String path;
     private final String message;
@@ -33,6 +33,7 @@ public class FormatFactoryTest {
     assertThat(FormatFactory.of(FormatInfo.of("JsoN")), is(FormatFactory.JSON));
     assertThat(FormatFactory.of(FormatInfo.of("AvRo")), is(FormatFactory.AVRO));
     assertThat(FormatFactory.of(FormatInfo.of("Delimited")), is(FormatFactory.DELIMITED));
+    assertThat(FormatFactory.of(FormatInfo.of("Binary")), is(FormatFactory.BINARY));
   }
 
   @Test
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.ksql.serde.binary;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.name.ColumnName;
+import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.schema.ksql.PersistenceSchema;
+import io.confluent.ksql.schema.ksql.PhysicalSchema;
+import io.confluent.ksql.schema.ksql.SchemaConverters;
+import io.confluent.ksql.schema.ksql.SystemColumns;
+import io.confluent.ksql.schema.ksql.types.SqlStruct;
+import io.confluent.ksql.schema.ksql.types.SqlType;
+import io.confluent.ksql.schema.ksql.types.SqlTypes;
+import io.confluent.ksql.serde.SerdeFeatures;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+public class BinarySerdeFactoryTest {
+
+  private static final SqlStruct AVG_STRUCT = SqlTypes.struct()
+      .field("SUM", SqlTypes.BIGINT)
+      .field("COUNT", SqlTypes.BIGINT)
+      .build();
+
+  @Test
+  public void shouldRoundTripPrimitives() {
+    shouldRoundTrip(SqlTypes.BOOLEAN, true);
+    shouldRoundTrip(SqlTypes.INTEGER, Integer.MIN_VALUE);
+    shouldRoundTrip(SqlTypes.INTEGER, -1);
+    shouldRoundTrip(SqlTypes.BIGINT, Long.MAX_VALUE);
+    shouldRoundTrip(SqlTypes.BIGINT, 0L);
+    shouldRoundTrip(SqlTypes.DOUBLE, -1.5);
+    shouldRoundTrip(SqlTypes.STRING, "");
+    shouldRoundTrip(SqlTypes.STRING, "\u00e9t\u00e9");
+    shouldRoundTrip(SqlTypes.BYTES, ByteBuffer.wrap(new byte[]{1, 0, -1}));
+    shouldRoundTrip(SqlTypes.decimal(4, 2), new BigDecimal("-12.34"));
+    shouldRoundTrip(SqlTypes.TIMESTAMP, new Timestamp(1_600_000_000_123L));
+    shouldRoundTrip(SqlTypes.TIME, new Time(1_000L));
+    shouldRoundTrip(SqlTypes.DATE, new Date(86_400_000L));
+  }
+
+  @Test
+  public void shouldRoundTripNestedTypes() {
+    shouldRoundTrip(SqlTypes.array(SqlTypes.STRING), Arrays.asList("a", null, "c"));
+    shouldRoundTrip(
+        SqlTypes.map(SqlTypes.STRING, SqlTypes.BIGINT),
+        ImmutableMap.of("a", 1L, "b", 2L)
+    );
+    shouldRoundTrip(AVG_STRUCT, avg(10L, 3L));
+    shouldRoundTrip(SqlTypes.array(AVG_STRUCT), ImmutableList.of(avg(1L, 1L), avg(2L, 2L)));
+  }
+
+  @Test
+  public void shouldRoundTripNulls() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT, AVG_STRUCT);
+    final List<?> values = Arrays.asList(null, null);
+
+    // When:
+    final byte[] bytes = serde.serializer().serialize("topic", values);
+
+    // Then:
+    assertThat(serde.deserializer().deserialize("topic", bytes), is(values));
+  }
+
+  @Test
+  public void shouldHandleNullRow() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT);
+
+    // Then:
+    assertThat(serde.serializer().serialize("topic", null), is(nullValue()));
+    assertThat(serde.deserializer().deserialize("topic", null), is(nullValue()));
+  }
+
+  @Test
+  public void shouldSerializeCompactly() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(
+        SqlTypes.STRING, SqlTypes.BIGINT, SqlTypes.INTEGER, AVG_STRUCT);
+
+    // When:
+    final byte[] bytes = serde.serializer().serialize(
+        "topic", ImmutableList.of("key", 100L, 2, avg(1_000L, 10L)));
+
+    // Then: small numbers take one or two bytes each:
+    assertThat(bytes.length, lessThan(20));
+  }
+
+  @Test
+  public void shouldThrowOnColumnCountMismatch() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT);
+
+    // When:
+    final Exception e = assertThrows(
+        SerializationException.class,
+        () -> serde.serializer().serialize("topic", ImmutableList.of(1L, 2L))
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("Column count mismatch on serialization"));
+  }
+
+  @Test
+  public void shouldThrowOnWrongType() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT);
+
+    // When:
+    final Exception e = assertThrows(
+        SerializationException.class,
+        () -> serde.serializer().serialize("topic", ImmutableList.of("not a long"))
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString("Error serializing BINARY message to topic: topic"));
+  }
+
+  @Test
+  public void shouldThrowOnUnknownVersion() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT);
+
+    // When:
+    final Exception e = assertThrows(
+        SerializationException.class,
+        () -> serde.deserializer().deserialize("topic", new byte[]{1, 1, 2})
+    );
+
+    // Then:
+    assertThat(e.getCause().getMessage(), is("Unsupported version: 1"));
+  }
+
+  @Test
+  public void shouldThrowOnTrailingData() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.BIGINT);
+
+    // When:
+    final Exception e = assertThrows(
+        SerializationException.class,
+        () -> serde.deserializer().deserialize("topic", new byte[]{0, 1, 2, 3})
+    );
+
+    // Then:
+    assertThat(e.getCause().getMessage(),
+        is("Unexpected data after last column: 1 byte(s)"));
+  }
+
+  @Test
+  public void shouldThrowOnTruncatedData() {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(SqlTypes.STRING);
+
+    // When:
+    final Exception e = assertThrows(
+        SerializationException.class,
+        () -> serde.deserializer().deserialize("topic", new byte[]{0, 1, 10, 'a'})
+    );
+
+    // Then:
+    assertThat(e.getMessage(),
+        containsString("Error deserializing BINARY message from topic: topic"));
+  }
+
+  private static void shouldRoundTrip(final SqlType type, final Object value) {
+    // Given:
+    final Serde<List<?>> serde = serdeFor(type);
+    final List<?> values = ImmutableList.of(value);
+
+    // When:
+    final byte[] bytes = serde.serializer().serialize("topic", values);
+    final List<?> result = serde.deserializer().deserialize("topic", bytes);
+
+    // Then:
+    assertThat(result, is(values));
+  }
+
+  private static Struct avg(final long sum, final long count) {
+    return new Struct(SchemaConverters.sqlToConnectConverter().toConnectSchema(AVG_STRUCT))
+        .put("SUM", sum)
+        .put("COUNT", count);
+  }
+
+  private static Serde<List<?>> serdeFor(final SqlType... types) {
+    final LogicalSchema.Builder builder = LogicalSchema.builder()
+        .keyColumn(SystemColumns.ROWKEY_NAME, SqlTypes.STRING);
+
+    for (int i = 0; i < types.length; i++) {
+      builder.valueColumn(ColumnName.of("f" + i), types[i]);
+    }
+
+    final PersistenceSchema schema = PhysicalSchema
+        .from(builder.build(), SerdeFeatures.of(), SerdeFeatures.of())
+        .valueSchema();
+
+    return BinarySerdeFactory.createSerde(schema);
+  }
+}
@@ -52,6 +52,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
@@ -256,6 +257,58 @@ public class KsqlJsonDeserializerTest {
     assertThat(result, is(expectedOrder));
   }
 
+  @Test
+  public void shouldDeserializeJsonObjectWithNestedRedundantFields() {
+    // Given:
+    final Map<String, Object> orderRow = new LinkedHashMap<>();
+    orderRow.put("extraObject", ImmutableMap.of("a", ImmutableList.of(1, 2), "b", "c"));
+    orderRow.putAll(AN_ORDER);
+    orderRow.put("extraArray", ImmutableList.of(ImmutableMap.of("d", 1.5), true));
+
+    final byte[] bytes = serializeJson(orderRow);
+
+    // When:
+    final Struct result = deserializer.deserialize(SOME_TOPIC, bytes);
+
+    // Then:
+    assertThat(result, is(expectedOrder));
+  }
+
+  @Test
+  public void shouldPreferExactFieldNameMatchOverCaseInsensitiveMatch() {
+    // Given:
+    final Map<String, Object> before = new LinkedHashMap<>();
+    before.put("ordertime", true);
+    before.put("ORDERTIME", 10L);
+
+    final Map<String, Object> after = new LinkedHashMap<>();
+    after.put("ORDERTIME", 10L);
+    after.put("ordertime", true);
+
+    // When:
+    final Struct resultBefore = deserializer.deserialize(SOME_TOPIC, serializeJson(before));
+    final Struct resultAfter = deserializer.deserialize(SOME_TOPIC, serializeJson(after));
+
+    // Then:
+    assertThat(resultBefore.get(ORDERTIME), is(10L));
+    assertThat(resultAfter.get(ORDERTIME), is(10L));
+  }
+
+  @Test
+  public void shouldDeserializeNumbersAsStrings() {
+    // Given:
+    final Map<String, Object> orderRow = new HashMap<>(AN_ORDER);
+    orderRow.put("itemid", new BigDecimal("1.50"));
+
+    final byte[] bytes = serializeJson(orderRow);
+
+    // When:
+    final Struct result = deserializer.deserialize(SOME_TOPIC, bytes);
+
+    // Then:
+    assertThat(result.get(ITEMID), is("1.50"));
+  }
+
   @Test
   public void shouldDeserializeJsonObjectWithMissingFields() {
     // Given:
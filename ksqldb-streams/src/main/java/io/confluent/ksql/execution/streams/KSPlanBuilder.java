@@ -52,6 +52,7 @@ import io.confluent.ksql.execution.plan.WindowedStreamSource;
 import io.confluent.ksql.execution.plan.WindowedTableSource;
 import io.confluent.ksql.execution.runtime.RuntimeBuildContext;
 import io.confluent.ksql.execution.transform.sqlpredicate.SqlPredicate;
+import io.confluent.ksql.util.KsqlConfig;
 import java.util.Objects;
 import org.apache.kafka.streams.kstream.Windowed;
 
@@ -158,6 +159,14 @@ public final class KSPlanBuilder implements PlanBuilder {
   public <K> KStreamHolder<K> visitStreamSelect(
       final StreamSelect<K> streamSelect,
       final PlanInfo planInfo) {
+    if (streamSelect.getSource() instanceof StreamFilter && buildContext.getKsqlConfig()
+        .getBoolean(KsqlConfig.KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED)) {
+      final StreamFilter<K> streamFilter = (StreamFilter<K>) streamSelect.getSource();
+      final KStreamHolder<K> source = streamFilter.getSource().build(this, planInfo);
+      return StreamSelectBuilder
+          .build(source, streamFilter, streamSelect, buildContext, sqlPredicateFactory);
+    }
+
     final KStreamHolder<K> source = streamSelect.getSource().build(this, planInfo);
     return StreamSelectBuilder.build(source, streamSelect, buildContext);
   }
@@ -69,7 +69,7 @@ public final class StreamFilterBuilder {
     );
   }
 
-  private static <K> ValueTransformerWithKey<
+  static <K> ValueTransformerWithKey<
       K,
       GenericRow,
       Iterable<GenericRow>
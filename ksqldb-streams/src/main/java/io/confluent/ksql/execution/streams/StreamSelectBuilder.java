@@ -15,15 +15,21 @@
 
 package io.confluent.ksql.execution.streams;
 
+import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.execution.context.QueryContext;
 import io.confluent.ksql.execution.plan.KStreamHolder;
+import io.confluent.ksql.execution.plan.StreamFilter;
 import io.confluent.ksql.execution.plan.StreamSelect;
 import io.confluent.ksql.execution.runtime.RuntimeBuildContext;
 import io.confluent.ksql.execution.streams.transform.KsTransformer;
+import io.confluent.ksql.execution.transform.KsqlTransformer;
 import io.confluent.ksql.execution.transform.select.SelectValueMapper;
 import io.confluent.ksql.execution.transform.select.Selection;
+import io.confluent.ksql.execution.transform.sqlpredicate.SqlPredicate;
 import io.confluent.ksql.logging.processing.ProcessingLogger;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
+import java.util.Optional;
+import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.Named;
 
 public final class StreamSelectBuilder {
@@ -62,4 +68,68 @@ public final class StreamSelectBuilder {
         selection.getSchema()
     );
   }
+
+  /**
+   * Builds a filter and the projection that follows it as a single Kafka Streams processor, so
+   * that each record passes through one fewer processor node.
+   *
+   * <p>The filter's predicate and the projection are compiled and log processing errors exactly
+   * as they do when built separately; only the shape of the topology differs.
+   */
+  static <K> KStreamHolder<K> build(
+      final KStreamHolder<K> stream,
+      final StreamFilter<K> filterStep,
+      final StreamSelect<K> selectStep,
+      final RuntimeBuildContext buildContext,
+      final SqlPredicateFactory predicateFactory
+  ) {
+    final SqlPredicate predicate = predicateFactory.create(
+        filterStep.getFilterExpression(),
+        stream.getSchema(),
+        buildContext.getKsqlConfig(),
+        buildContext.getFunctionRegistry()
+    );
+
+    final Selection<K> selection = Selection.of(
+        stream.getSchema(),
+        selectStep.getKeyColumnNames(),
+        selectStep.getSelectExpressions(),
+        buildContext.getKsqlConfig(),
+        buildContext.getFunctionRegistry()
+    );
+
+    final SelectValueMapper<K> selectMapper = selection.getMapper();
+
+    final ProcessingLogger filterLogger = buildContext
+        .getProcessingLogger(filterStep.getProperties().getQueryContext());
+
+    final QueryContext queryContext = selectStep.getProperties().getQueryContext();
+
+    final ProcessingLogger selectLogger = buildContext.getProcessingLogger(queryContext);
+
+    final Named selectName =
+        Named.as(StreamsUtil.buildOpName(queryContext));
+
+    final KStream<K, GenericRow> selected = stream.getStream()
+        .flatTransformValues(
+            () -> StreamFilterBuilder.toFlatMapTransformer(filterThenSelect(
+                predicate.getTransformer(filterLogger),
+                selectMapper.getTransformer(selectLogger)
+            )),
+            selectName
+        );
+
+    return stream.withStream(
+        selected,
+        selection.getSchema()
+    );
+  }
+
+  private static <K> KsqlTransformer<K, Optional<GenericRow>> filterThenSelect(
+      final KsqlTransformer<K, Optional<GenericRow>> filter,
+      final KsqlTransformer<K, GenericRow> select
+  ) {
+    return (readOnlyKey, value, ctx) -> filter.transform(readOnlyKey, value, ctx)
+        .map(row -> select.transform(readOnlyKey, row, ctx));
+  }
 }
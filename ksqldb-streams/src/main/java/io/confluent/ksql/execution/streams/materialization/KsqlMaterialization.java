@@ -26,6 +26,8 @@ import io.confluent.ksql.GenericRow;
 import io.confluent.ksql.execution.transform.KsqlProcessingContext;
 import io.confluent.ksql.model.WindowType;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
+import io.confluent.ksql.util.CloseableIterator;
+import io.confluent.ksql.util.IteratorUtil;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
@@ -147,18 +149,35 @@ class KsqlMaterialization implements Materialization {
           );
     }
 
+    @Override
+    public List<Row> getAll(final List<GenericKey> keys, final int partition) {
+      if (transforms.isEmpty()) {
+        return table.getAll(keys, partition);
+      }
+
+      final Builder<Row> builder = ImmutableList.builder();
+
+      for (final Row row : table.getAll(keys, partition)) {
+        filterAndTransform(row.key(), getIntermediateRow(row), row.rowTime())
+            .ifPresent(v -> builder.add(row.withValue(v, schema())));
+      }
+
+      return builder.build();
+    }
+
     @Override
     public Iterator<Row> get(final int partition) {
       if (transforms.isEmpty()) {
         return table.get(partition);
       }
 
-      return Streams.stream(table.get(partition))
+      final CloseableIterator<Row> rows = IteratorUtil.closeable(table.get(partition));
+      return IteratorUtil.onClose(Streams.stream(rows)
           .map(row -> filterAndTransform(row.key(), getIntermediateRow(row), row.rowTime())
               .map(v -> row.withValue(v, schema())))
           .filter(Optional::isPresent)
           .map(Optional::get)
-          .iterator();
+          .iterator(), rows::close);
     }
 
     @Override
@@ -167,12 +186,13 @@ class KsqlMaterialization implements Materialization {
         return table.get(partition, from, to);
       }
 
-      return Streams.stream(table.get(partition, from, to))
+      final CloseableIterator<Row> rows = IteratorUtil.closeable(table.get(partition, from, to));
+      return IteratorUtil.onClose(Streams.stream(rows)
         .map(row -> filterAndTransform(row.key(), getIntermediateRow(row), row.rowTime())
           .map(v -> row.withValue(v, schema())))
         .filter(Optional::isPresent)
         .map(Optional::get)
-        .iterator();
+        .iterator(), rows::close);
     }
 
   }
@@ -208,6 +228,27 @@ class KsqlMaterialization implements Materialization {
       return builder.build();
     }
 
+    @Override
+    public List<WindowedRow> getAll(
+        final List<GenericKey> keys,
+        final int partition,
+        final Range<Instant> windowStart,
+        final Range<Instant> windowEnd
+    ) {
+      if (transforms.isEmpty()) {
+        return table.getAll(keys, partition, windowStart, windowEnd);
+      }
+
+      final Builder<WindowedRow> builder = ImmutableList.builder();
+
+      for (final WindowedRow row : table.getAll(keys, partition, windowStart, windowEnd)) {
+        filterAndTransform(row.windowedKey(), getIntermediateRow(row), row.rowTime())
+            .ifPresent(v -> builder.add(row.withValue(v, schema())));
+      }
+
+      return builder.build();
+    }
+
     @Override
     public Iterator<WindowedRow> get(final int partition, final Range<Instant> windowStartBounds,
         final Range<Instant> windowEndBounds) {
@@ -215,15 +256,16 @@ class KsqlMaterialization implements Materialization {
         return table.get(partition, windowStartBounds, windowEndBounds);
       }
 
-      final Iterator<WindowedRow> result = table.get(partition, windowStartBounds, windowEndBounds);
-      return Streams.stream(result)
+      final CloseableIterator<WindowedRow> result = IteratorUtil.closeable(
+          table.get(partition, windowStartBounds, windowEndBounds));
+      return IteratorUtil.onClose(Streams.stream(result)
           .map(row ->  {
             return filterAndTransform(row.windowedKey(), getIntermediateRow(row), row.rowTime())
                 .map(v -> row.withValue(v, schema()));
           })
           .filter(Optional::isPresent)
           .map(Optional::get)
-          .iterator();
+          .iterator(), result::close);
     }
   }
 
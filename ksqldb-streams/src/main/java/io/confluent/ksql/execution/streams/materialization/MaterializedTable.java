@@ -17,6 +17,7 @@ package io.confluent.ksql.execution.streams.materialization;
 
 import io.confluent.ksql.GenericKey;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,6 +34,18 @@ public interface MaterializedTable {
    */
   Optional<Row> get(GenericKey key, int partition);
 
+  /**
+   * Get the values, if they exist, of all the supplied {@code keys}.
+   *
+   * <p>All keys must belong to the same {@code partition}, allowing the underlying store to be
+   * resolved once for the whole batch.
+   *
+   * @param keys the keys to look up.
+   * @param partition partition to limit the get to
+   * @return the rows for the keys that exist, in the order of the supplied keys.
+   */
+  List<Row> getAll(List<GenericKey> keys, int partition);
+
   /**
    * Scan the table for rows
    *
@@ -39,6 +39,22 @@ public interface MaterializedWindowedTable {
   List<WindowedRow> get(GenericKey key, int partition, Range<Instant> windowStart,
       Range<Instant> windowEnd);
 
+  /**
+   * Get the values in table of all the supplied {@code keys}, where the window bounds are within
+   * the supplied {@code windowStart} and {@code windowEnd} bounds.
+   *
+   * <p>All keys must belong to the same {@code partition}, allowing the underlying store to be
+   * resolved once for the whole batch.
+   *
+   * @param keys the keys to look up.
+   * @param partition partition to limit the get to
+   * @param windowStart the bounds on the window's start time.
+   * @param windowEnd the bounds on the window's end time.
+   * @return the rows for the keys that exist within the range, in the order of the supplied keys.
+   */
+  List<WindowedRow> getAll(List<GenericKey> keys, int partition, Range<Instant> windowStart,
+      Range<Instant> windowEnd);
+
   /**
    * Get the values in table where the window start time is within the
    * supplied {@code lower} and {@code upper} bounds.
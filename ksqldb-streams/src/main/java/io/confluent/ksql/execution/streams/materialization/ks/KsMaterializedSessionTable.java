@@ -71,6 +71,29 @@ class KsMaterializedSessionTable implements MaterializedWindowedTable {
     }
   }
 
+  @Override
+  public List<WindowedRow> getAll(
+      final List<GenericKey> keys,
+      final int partition,
+      final Range<Instant> windowStart,
+      final Range<Instant> windowEnd
+  ) {
+    try {
+      final ReadOnlySessionStore<GenericKey, GenericRow> store = stateStore
+          .store(QueryableStoreTypes.sessionStore(), partition);
+
+      final Builder<WindowedRow> builder = ImmutableList.builder();
+
+      for (final GenericKey key : keys) {
+        builder.addAll(findSession(store, key, windowStart, windowEnd));
+      }
+
+      return builder.build();
+    } catch (final Exception e) {
+      throw new MaterializationException("Failed to get values from materialized table", e);
+    }
+  }
+
   @Override
   public Iterator<WindowedRow> get(final int partition, final Range<Instant> windowStartBounds,
       final Range<Instant> windowEndBounds) {
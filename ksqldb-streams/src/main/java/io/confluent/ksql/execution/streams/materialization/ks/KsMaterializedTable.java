@@ -15,6 +15,8 @@
 
 package io.confluent.ksql.execution.streams.materialization.ks;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.Streams;
 import io.confluent.ksql.GenericKey;
 import io.confluent.ksql.GenericRow;
@@ -23,6 +25,7 @@ import io.confluent.ksql.execution.streams.materialization.MaterializedTable;
 import io.confluent.ksql.execution.streams.materialization.Row;
 import io.confluent.ksql.util.IteratorUtil;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.apache.kafka.streams.state.KeyValueIterator;
@@ -57,6 +60,30 @@ class KsMaterializedTable implements MaterializedTable {
     }
   }
 
+  @Override
+  public List<Row> getAll(
+      final List<GenericKey> keys,
+      final int partition
+  ) {
+    try {
+      final ReadOnlyKeyValueStore<GenericKey, ValueAndTimestamp<GenericRow>> store = stateStore
+          .store(QueryableStoreTypes.timestampedKeyValueStore(), partition);
+
+      final Builder<Row> builder = ImmutableList.builder();
+
+      for (final GenericKey key : keys) {
+        final ValueAndTimestamp<GenericRow> v = store.get(key);
+        if (v != null) {
+          builder.add(Row.of(stateStore.schema(), key, v.value(), v.timestamp()));
+        }
+      }
+
+      return builder.build();
+    } catch (final Exception e) {
+      throw new MaterializationException("Failed to get values from materialized table", e);
+    }
+  }
+
   @Override
   public Iterator<Row> get(final int partition) {
     try {
@@ -64,10 +91,10 @@ class KsMaterializedTable implements MaterializedTable {
           .store(QueryableStoreTypes.timestampedKeyValueStore(), partition);
 
       final KeyValueIterator<GenericKey, ValueAndTimestamp<GenericRow>> iterator = store.all();
-      return Streams.stream(IteratorUtil.onComplete(iterator, iterator::close))
+      return IteratorUtil.onClose(Streams.stream(iterator)
           .map(keyValue -> Row.of(stateStore.schema(), keyValue.key, keyValue.value.value(),
               keyValue.value.timestamp()))
-          .iterator();
+          .iterator(), iterator::close);
     } catch (final Exception e) {
       throw new MaterializationException("Failed to scan materialized table", e);
     }
@@ -81,10 +108,10 @@ class KsMaterializedTable implements MaterializedTable {
 
       final KeyValueIterator<GenericKey, ValueAndTimestamp<GenericRow>> iterator =
           store.range(from, to);
-      return Streams.stream(IteratorUtil.onComplete(iterator, iterator::close))
+      return IteratorUtil.onClose(Streams.stream(iterator)
         .map(keyValue -> Row.of(stateStore.schema(), keyValue.key, keyValue.value.value(),
           keyValue.value.timestamp()))
-        .iterator();
+        .iterator(), iterator::close);
     } catch (final Exception e) {
       throw new MaterializationException("Failed to range scan materialized table", e);
     }
@@ -81,41 +81,76 @@ class KsMaterializedWindowTable implements MaterializedWindowedTable {
 
       final Instant upper = calculateUpperBound(windowStartBounds, windowEndBounds);
 
-      try (WindowStoreIterator<ValueAndTimestamp<GenericRow>> it
-          = cacheBypassFetcher.fetch(store, key, lower, upper)) {
+      final Builder<WindowedRow> builder = ImmutableList.builder();
+      fetchWindows(store, key, lower, upper, windowStartBounds, windowEndBounds, builder);
+      return builder.build();
+    } catch (final Exception e) {
+      throw new MaterializationException("Failed to get value from materialized table", e);
+    }
+  }
+
+  @Override
+  public List<WindowedRow> getAll(
+      final List<GenericKey> keys,
+      final int partition,
+      final Range<Instant> windowStartBounds,
+      final Range<Instant> windowEndBounds
+  ) {
+    try {
+      final ReadOnlyWindowStore<GenericKey, ValueAndTimestamp<GenericRow>> store = stateStore
+          .store(QueryableStoreTypes.timestampedWindowStore(), partition);
 
-        final Builder<WindowedRow> builder = ImmutableList.builder();
+      final Instant lower = calculateLowerBound(windowStartBounds, windowEndBounds);
 
-        while (it.hasNext()) {
-          final KeyValue<Long, ValueAndTimestamp<GenericRow>> next = it.next();
+      final Instant upper = calculateUpperBound(windowStartBounds, windowEndBounds);
 
-          final Instant windowStart = Instant.ofEpochMilli(next.key);
-          if (!windowStartBounds.contains(windowStart)) {
-            continue;
-          }
+      final Builder<WindowedRow> builder = ImmutableList.builder();
+      for (final GenericKey key : keys) {
+        fetchWindows(store, key, lower, upper, windowStartBounds, windowEndBounds, builder);
+      }
+      return builder.build();
+    } catch (final Exception e) {
+      throw new MaterializationException("Failed to get values from materialized table", e);
+    }
+  }
 
-          final Instant windowEnd = windowStart.plus(windowSize);
-          if (!windowEndBounds.contains(windowEnd)) {
-            continue;
-          }
+  private void fetchWindows(
+      final ReadOnlyWindowStore<GenericKey, ValueAndTimestamp<GenericRow>> store,
+      final GenericKey key,
+      final Instant lower,
+      final Instant upper,
+      final Range<Instant> windowStartBounds,
+      final Range<Instant> windowEndBounds,
+      final Builder<WindowedRow> builder
+  ) {
+    try (WindowStoreIterator<ValueAndTimestamp<GenericRow>> it
+        = cacheBypassFetcher.fetch(store, key, lower, upper)) {
 
-          final TimeWindow window =
-              new TimeWindow(windowStart.toEpochMilli(), windowEnd.toEpochMilli());
+      while (it.hasNext()) {
+        final KeyValue<Long, ValueAndTimestamp<GenericRow>> next = it.next();
 
-          final WindowedRow row = WindowedRow.of(
-              stateStore.schema(),
-              new Windowed<>(key, window),
-              next.value.value(),
-              next.value.timestamp()
-          );
+        final Instant windowStart = Instant.ofEpochMilli(next.key);
+        if (!windowStartBounds.contains(windowStart)) {
+          continue;
+        }
 
-          builder.add(row);
+        final Instant windowEnd = windowStart.plus(windowSize);
+        if (!windowEndBounds.contains(windowEnd)) {
+          continue;
         }
 
-        return builder.build();
+        final TimeWindow window =
+            new TimeWindow(windowStart.toEpochMilli(), windowEnd.toEpochMilli());
+
+        final WindowedRow row = WindowedRow.of(
+            stateStore.schema(),
+            new Windowed<>(key, window),
+            next.value.value(),
+            next.value.timestamp()
+        );
+
+        builder.add(row);
       }
-    } catch (final Exception e) {
-      throw new MaterializationException("Failed to get value from materialized table", e);
     }
   }
 
@@ -133,7 +168,7 @@ class KsMaterializedWindowTable implements MaterializedWindowedTable {
 
       final KeyValueIterator<Windowed<GenericKey>, ValueAndTimestamp<GenericRow>> iterator
           = cacheBypassFetcherAll.fetchAll(store, lower, upper);
-      return Streams.stream(IteratorUtil.onComplete(iterator, iterator::close)).map(next -> {
+      return IteratorUtil.onClose(Streams.stream(iterator).map(next -> {
         final Instant windowStart = next.key.window().startTime();
         if (!windowStartBounds.contains(windowStart)) {
           return null;
@@ -155,7 +190,7 @@ class KsMaterializedWindowTable implements MaterializedWindowedTable {
         );
 
         return row;
-      }).filter(Objects::nonNull).iterator();
+      }).filter(Objects::nonNull).iterator(), iterator::close);
     } catch (final Exception e) {
       throw new MaterializationException("Failed to scan materialized table", e);
     }
@@ -41,7 +41,7 @@ public class StringTimestampExtractor implements KsqlTimestampExtractor {
       return timestampParser.parse(colValue);
     } catch (final KsqlException e) {
       throw new KsqlException("Unable to parse string timestamp."
-          + " timestamp=" + value
+          + " timestamp=" + colValue
           + " timestamp_format=" + format,
           e);
     }
@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,7 +38,10 @@ import io.confluent.ksql.execution.plan.KStreamHolder;
 import io.confluent.ksql.execution.plan.ExecutionKeyFactory;
 import io.confluent.ksql.execution.plan.PlanBuilder;
 import io.confluent.ksql.execution.plan.SelectExpression;
+import io.confluent.ksql.execution.plan.StreamFilter;
 import io.confluent.ksql.execution.plan.StreamSelect;
+import io.confluent.ksql.execution.transform.KsqlTransformer;
+import io.confluent.ksql.execution.transform.sqlpredicate.SqlPredicate;
 import io.confluent.ksql.function.FunctionRegistry;
 import io.confluent.ksql.logging.processing.ProcessingLogger;
 import io.confluent.ksql.name.ColumnName;
@@ -46,6 +50,7 @@ import io.confluent.ksql.schema.ksql.SystemColumns;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
 import io.confluent.ksql.util.KsqlConfig;
 import java.util.List;
+import java.util.Optional;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.Named;
@@ -98,6 +103,16 @@ public class StreamSelectBuilderTest {
   private ProcessingLogger processingLogger;
   @Mock
   private PlanInfo planInfo;
+  @Mock
+  private FunctionRegistry functionRegistry;
+  @Mock
+  private SqlPredicateFactory predicateFactory;
+  @Mock
+  private SqlPredicate sqlPredicate;
+  @Mock
+  private KsqlTransformer<Struct, Optional<GenericRow>> predicate;
+  @Mock
+  private Expression filterExpression;
   @Captor
   private ArgumentCaptor<Named> nameCaptor;
 
@@ -106,19 +121,27 @@ public class StreamSelectBuilderTest {
 
   private final QueryContext context =
       new QueryContext.Stacker().push("foo").push("bar").getQueryContext();
+  private final QueryContext filterContext =
+      new QueryContext.Stacker().push("foo").push("filter").getQueryContext();
 
   private PlanBuilder planBuilder;
   private StreamSelect<Struct> step;
 
   @Before
+  @SuppressWarnings("rawtypes")
   public void setup() {
     when(properties.getQueryContext()).thenReturn(context);
-    when(buildContext.getFunctionRegistry()).thenReturn(mock(FunctionRegistry.class));
+    when(buildContext.getFunctionRegistry()).thenReturn(functionRegistry);
     when(buildContext.getProcessingLogger(any())).thenReturn(processingLogger);
     when(buildContext.getKsqlConfig()).thenReturn(ksqlConfig);
     when(sourceKStream
         .transformValues(any(ValueTransformerWithKeySupplier.class), any(Named.class)))
         .thenReturn(resultKStream);
+    when(sourceKStream
+        .flatTransformValues(any(ValueTransformerWithKeySupplier.class), any(Named.class)))
+        .thenReturn(resultKStream);
+    when(predicateFactory.create(any(), any(), any(), any())).thenReturn(sqlPredicate);
+    when(sqlPredicate.getTransformer(any())).thenReturn((KsqlTransformer) predicate);
     final KStreamHolder<Struct> sourceStream
         = new KStreamHolder<>(sourceKStream, SCHEMA, executionKeyFactory);
     when(sourceStep.build(any(), eq(planInfo))).thenReturn(sourceStream);
@@ -130,7 +153,7 @@ public class StreamSelectBuilderTest {
     );
     planBuilder = new KSPlanBuilder(
         buildContext,
-        mock(SqlPredicateFactory.class),
+        predicateFactory,
         mock(AggregateParamsFactory.class),
         mock(StreamsFactories.class)
     );
@@ -208,4 +231,89 @@ public class StreamSelectBuilderTest {
     // Then:
     verify(buildContext).getProcessingLogger(context);
   }
+
+  @Test
+  public void shouldNotFuseWithFilterIfDisabled() {
+    // Given:
+    when(resultKStream
+        .transformValues(any(ValueTransformerWithKeySupplier.class), any(Named.class)))
+        .thenReturn(resultKStream);
+    step = selectAfterFilter();
+
+    // When:
+    step.build(planBuilder, planInfo);
+
+    // Then:
+    verify(sourceKStream).flatTransformValues(
+        any(ValueTransformerWithKeySupplier.class),
+        nameCaptor.capture()
+    );
+    assertThat(NamedTestAccessor.getName(nameCaptor.getValue()), is("foo-filter"));
+    verify(resultKStream)
+        .transformValues(any(ValueTransformerWithKeySupplier.class), any(Named.class));
+  }
+
+  @Test
+  public void shouldFuseWithFilterIfEnabled() {
+    // Given:
+    when(ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED))
+        .thenReturn(true);
+    step = selectAfterFilter();
+
+    // When:
+    final KStreamHolder<Struct> result = step.build(planBuilder, planInfo);
+
+    // Then:
+    verify(sourceKStream).flatTransformValues(
+        any(ValueTransformerWithKeySupplier.class),
+        nameCaptor.capture()
+    );
+    assertThat(NamedTestAccessor.getName(nameCaptor.getValue()), is(SELECT_STEP_NAME));
+    verify(sourceKStream, never())
+        .transformValues(any(ValueTransformerWithKeySupplier.class), any(Named.class));
+    assertThat(result.getStream(), is(resultKStream));
+    assertThat(
+        result.getSchema(),
+        is(LogicalSchema.builder()
+            .keyColumn(SystemColumns.ROWKEY_NAME, SqlTypes.STRING)
+            .valueColumn(ColumnName.of("expr1"), SqlTypes.STRING)
+            .valueColumn(ColumnName.of("expr2"), SqlTypes.INTEGER)
+            .build())
+    );
+  }
+
+  @Test
+  public void shouldBuildFusedFilterPredicateAndLoggersCorrectly() {
+    // Given:
+    when(ksqlConfig.getBoolean(KsqlConfig.KSQL_QUERY_STREAM_FUSE_FILTER_SELECT_ENABLED))
+        .thenReturn(true);
+    step = selectAfterFilter();
+
+    // When:
+    step.build(planBuilder, planInfo);
+
+    // Then:
+    verify(predicateFactory).create(
+        filterExpression,
+        SCHEMA,
+        ksqlConfig,
+        functionRegistry
+    );
+    verify(buildContext).getProcessingLogger(filterContext);
+    verify(buildContext).getProcessingLogger(context);
+  }
+
+  private StreamSelect<Struct> selectAfterFilter() {
+    final StreamFilter<Struct> filter = new StreamFilter<>(
+        new ExecutionStepPropertiesV1(filterContext),
+        sourceStep,
+        filterExpression
+    );
+    return new StreamSelect<>(
+        properties,
+        filter,
+        ImmutableList.of(),
+        SELECT_EXPRESSIONS
+    );
+  }
 }
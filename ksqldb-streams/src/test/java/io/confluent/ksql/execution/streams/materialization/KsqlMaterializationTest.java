@@ -40,6 +40,7 @@ import org.apache.kafka.streams.kstream.Windowed;
 import org.apache.kafka.streams.kstream.internals.SessionWindow;
 import org.apache.kafka.streams.kstream.internals.TimeWindow;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
@@ -51,6 +52,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import static org.mockito.Mockito.inOrder;
@@ -333,6 +335,45 @@ public class KsqlMaterializationTest {
     assertThat(result, is(Optional.empty()));
   }
 
+  @Test
+  public void shouldFilterNonWindowed_getAll() {
+    // Given:
+    final MaterializedTable table = materialization.nonWindowed();
+    givenNoopProject();
+    when(innerNonWindowed.getAll(any(), anyInt())).thenReturn(ImmutableList.of(row, row2));
+    when(filter.apply(eq(aKey), any(), any())).thenReturn(Optional.empty());
+    when(filter.apply(eq(aKey2), any(), any())).thenReturn(Optional.of(transformed));
+
+    // When:
+    final List<Row> result = table.getAll(ImmutableList.of(aKey, aKey2), partition);
+
+    // Then:
+    verify(innerNonWindowed).getAll(ImmutableList.of(aKey, aKey2), partition);
+    assertThat(result, contains(row2.withValue(transformed, schema)));
+  }
+
+  @Test
+  public void shouldFilterWindowed_getAll() {
+    // Given:
+    final MaterializedWindowedTable table = materialization.windowed();
+    givenNoopProject();
+    when(innerWindowed.getAll(any(), anyInt(), any(), any()))
+        .thenReturn(ImmutableList.of(windowedRow, windowedRow2));
+    when(filter.apply(eq(new Windowed<>(aKey, streamWindow)), any(), any()))
+        .thenReturn(Optional.of(transformed));
+    when(filter.apply(eq(new Windowed<>(aKey2, streamWindow)), any(), any()))
+        .thenReturn(Optional.empty());
+
+    // When:
+    final List<WindowedRow> result = table.getAll(
+        ImmutableList.of(aKey, aKey2), partition, windowStartBounds, windowEndBounds);
+
+    // Then:
+    verify(innerWindowed).getAll(
+        ImmutableList.of(aKey, aKey2), partition, windowStartBounds, windowEndBounds);
+    assertThat(result, contains(windowedRow.withValue(transformed, schema)));
+  }
+
   @Test
   public void shouldFilterWindowed() {
     // Given:
@@ -16,15 +16,18 @@
 package io.confluent.ksql.execution.streams.materialization.ks;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
 import com.google.common.testing.NullPointerTester;
 import com.google.common.testing.NullPointerTester.Visibility;
@@ -36,7 +39,9 @@ import io.confluent.ksql.execution.streams.materialization.Row;
 import io.confluent.ksql.name.ColumnName;
 import io.confluent.ksql.schema.ksql.LogicalSchema;
 import io.confluent.ksql.schema.ksql.types.SqlTypes;
+import io.confluent.ksql.util.IteratorUtil;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.kafka.streams.KeyValue;
@@ -193,6 +198,51 @@ public class KsMaterializedTableTest {
     assertThat(result, is(Optional.of(Row.of(SCHEMA, A_KEY, value, rowTime))));
   }
 
+  @Test
+  public void shouldGetStoreOnceForAllKeys() {
+    // When:
+    table.getAll(ImmutableList.of(A_KEY, A_KEY2), PARTITION);
+
+    // Then:
+    verify(stateStore).store(any(), eq(PARTITION));
+    verify(tableStore).get(A_KEY);
+    verify(tableStore).get(A_KEY2);
+  }
+
+  @Test
+  public void shouldReturnValuesForPresentKeysInKeyOrder() {
+    // Given:
+    final GenericKey missingKey = GenericKey.genericKey("z");
+    when(tableStore.get(A_KEY)).thenReturn(VALUE_AND_TIMESTAMP1);
+    when(tableStore.get(A_KEY2)).thenReturn(VALUE_AND_TIMESTAMP2);
+
+    // When:
+    final List<Row> result = table.getAll(ImmutableList.of(A_KEY2, missingKey, A_KEY), PARTITION);
+
+    // Then:
+    assertThat(result, contains(
+        Row.of(SCHEMA, A_KEY2, ROW2, TIME2),
+        Row.of(SCHEMA, A_KEY, ROW1, TIME1)
+    ));
+  }
+
+  @Test
+  public void shouldThrowIfStoreGetAllFails() {
+    // Given:
+    when(tableStore.get(any())).thenThrow(new MaterializationTimeOutException("Boom"));
+
+    // When:
+    final Exception e = assertThrows(
+        MaterializationException.class,
+        () -> table.getAll(ImmutableList.of(A_KEY), PARTITION)
+    );
+
+    // Then:
+    assertThat(e.getMessage(), containsString(
+        "Failed to get values from materialized table"));
+    assertThat(e.getCause(), (instanceOf(MaterializationTimeOutException.class)));
+  }
+
   @Test
   public void shouldReturnValuesFullTableScan() {
     // Given:
@@ -227,4 +277,20 @@ public class KsMaterializedTableTest {
     // Then:
     verify(keyValueIterator).close();
   }
+
+  @Test
+  public void shouldCloseIteratorIfClosedBeforeEnd_fullTableScan() {
+    // Given:
+    when(tableStore.all()).thenReturn(keyValueIterator);
+    when(keyValueIterator.hasNext()).thenReturn(true);
+    when(keyValueIterator.next()).thenReturn(KEY_VALUE1);
+    final Iterator<Row> rows = table.get(PARTITION);
+    rows.next();
+
+    // When:
+    IteratorUtil.closeable(rows).close();
+
+    // Then:
+    verify(keyValueIterator).close();
+  }
 }
\ No newline at end of file
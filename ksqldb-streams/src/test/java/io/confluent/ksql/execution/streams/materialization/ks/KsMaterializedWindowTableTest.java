@@ -25,9 +25,11 @@ import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Range;
 import com.google.common.collect.Streams;
 import com.google.common.testing.NullPointerTester;
@@ -238,6 +240,57 @@ public class KsMaterializedWindowTableTest {
     verify(cacheBypassFetcher).fetch(eq(tableStore), eq(A_KEY), any(), any());
   }
 
+  @Test
+  public void shouldGetStoreOnceForAllKeys() {
+    // When:
+    table.getAll(ImmutableList.of(A_KEY, A_KEY2), PARTITION, WINDOW_START_BOUNDS,
+        WINDOW_END_BOUNDS);
+
+    // Then:
+    verify(stateStore).store(any(), eq(PARTITION));
+    verify(cacheBypassFetcher).fetch(eq(tableStore), eq(A_KEY), any(), any());
+    verify(cacheBypassFetcher).fetch(eq(tableStore), eq(A_KEY2), any(), any());
+    verify(fetchIterator, times(2)).close();
+  }
+
+  @Test
+  public void shouldReturnValuesForAllKeysInKeyOrder() {
+    // Given:
+    final Instant start = WINDOW_START_BOUNDS.lowerEndpoint();
+    when(fetchIterator.hasNext())
+        .thenReturn(true)
+        .thenReturn(false)
+        .thenReturn(true)
+        .thenReturn(false);
+
+    when(fetchIterator.next())
+        .thenReturn(new KeyValue<>(start.toEpochMilli(), VALUE_1))
+        .thenReturn(new KeyValue<>(start.toEpochMilli(), VALUE_2))
+        .thenThrow(new AssertionError());
+
+    // When:
+    final List<WindowedRow> result = table.getAll(
+        ImmutableList.of(A_KEY, A_KEY2), PARTITION, Range.all(), Range.all());
+
+    // Then:
+    assertThat(result, contains(
+        WindowedRow.of(
+            SCHEMA,
+            new Windowed<>(A_KEY, new TimeWindow(
+                start.toEpochMilli(), start.plus(WINDOW_SIZE).toEpochMilli())),
+            VALUE_1.value(),
+            VALUE_1.timestamp()
+        ),
+        WindowedRow.of(
+            SCHEMA,
+            new Windowed<>(A_KEY2, new TimeWindow(
+                start.toEpochMilli(), start.plus(WINDOW_SIZE).toEpochMilli())),
+            VALUE_2.value(),
+            VALUE_2.timestamp()
+        )
+    ));
+  }
+
   @Test
   public void shouldFetchWithNoBounds() {
     // When:
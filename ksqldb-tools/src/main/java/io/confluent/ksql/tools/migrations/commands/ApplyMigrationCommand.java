@@ -28,6 +28,8 @@ import com.github.rvesse.airline.annotations.restrictions.ranges.IntegerRange;
 import com.google.common.annotations.VisibleForTesting;
 import io.confluent.ksql.api.client.Client;
 import io.confluent.ksql.api.client.FieldInfo;
+import io.confluent.ksql.api.client.InsertAck;
+import io.confluent.ksql.api.client.InsertsPublisher;
 import io.confluent.ksql.api.client.KsqlObject;
 import io.confluent.ksql.execution.expression.tree.Expression;
 import io.confluent.ksql.parser.VariableParser;
@@ -50,14 +52,18 @@ import io.confluent.ksql.tools.migrations.util.MigrationsUtil;
 import io.confluent.ksql.util.KsqlException;
 import io.confluent.ksql.util.RetryUtil;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -414,12 +420,12 @@ public class ApplyMigrationCommand extends BaseCommand {
     } else if (command instanceof SqlInsertValues) {
       final List<FieldInfo> fields =
           ksqlClient.describeSource(((SqlInsertValues) command).getSourceName()).get().fields();
-      ksqlClient.insertInto(
-          ((SqlInsertValues) command).getSourceName(),
-          getRow(
-              fields,
-              ((SqlInsertValues) command).getColumns(),
-              ((SqlInsertValues) command).getValues())).get();
+      // Convert all rows before inserting any, so an invalid row inserts nothing:
+      final List<KsqlObject> rows = new ArrayList<>();
+      for (final List<Expression> values : ((SqlInsertValues) command).getRows()) {
+        rows.add(getRow(fields, ((SqlInsertValues) command).getColumns(), values));
+      }
+      insertRows(ksqlClient, ((SqlInsertValues) command).getSourceName(), rows);
     } else if (command instanceof SqlCreateConnectorStatement) {
       ksqlClient.createConnector(
           ((SqlCreateConnectorStatement) command).getName(),
@@ -441,6 +447,29 @@ public class ApplyMigrationCommand extends BaseCommand {
     }
   }
 
+  /**
+   * Inserts the rows of an {@code INSERT INTO ... VALUES} statement with a single request, and
+   * waits for all of them to be acknowledged.
+   */
+  private static void insertRows(
+      final Client ksqlClient,
+      final String sourceName,
+      final List<KsqlObject> rows
+  ) throws ExecutionException, InterruptedException {
+    if (rows.size() == 1) {
+      ksqlClient.insertInto(sourceName, rows.get(0)).get();
+      return;
+    }
+
+    final InsertsPublisher insertsPublisher = new InsertsPublisher();
+    rows.forEach(insertsPublisher::accept);
+    insertsPublisher.complete();
+
+    final AcksSubscriber acks = new AcksSubscriber(rows.size());
+    ksqlClient.streamInserts(sourceName, insertsPublisher).get().subscribe(acks);
+    acks.done.get();
+  }
+
   private static KsqlObject getRow(
       final List<FieldInfo> sourceFields,
       final List<String> insertColumns,
@@ -569,4 +598,44 @@ public class ApplyMigrationCommand extends BaseCommand {
     LOGGER.info("Validating current migration state before applying new migrations");
     return ValidateMigrationsCommand.validate(config, migrationsDir, ksqlClient);
   }
+
+  /**
+   * Completes {@code done} once the server has acknowledged all inserted rows, or fails it if the
+   * server rejects any of them.
+   */
+  private static final class AcksSubscriber implements Subscriber<InsertAck> {
+
+    private final int expectedAcks;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private int acks = 0;
+
+    AcksSubscriber(final int expectedAcks) {
+      this.expectedAcks = expectedAcks;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(final InsertAck ack) {
+      acks++;
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      done.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+      if (acks == expectedAcks) {
+        done.complete(null);
+      } else {
+        done.completeExceptionally(new MigrationException(String.format(
+            "Only %d of %d inserted rows were acknowledged", acks, expectedAcks)));
+      }
+    }
+  }
 }
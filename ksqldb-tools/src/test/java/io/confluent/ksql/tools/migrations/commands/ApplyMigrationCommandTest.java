@@ -16,22 +16,27 @@
 package io.confluent.ksql.tools.migrations.commands;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import com.github.rvesse.airline.SingleCommand;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import io.confluent.ksql.api.client.AcksPublisher;
 import io.confluent.ksql.api.client.BatchedQueryResult;
 import io.confluent.ksql.api.client.Client;
 import io.confluent.ksql.api.client.ExecuteStatementResult;
 import io.confluent.ksql.api.client.FieldInfo;
+import io.confluent.ksql.api.client.InsertAck;
 import io.confluent.ksql.api.client.KsqlArray;
 import io.confluent.ksql.api.client.KsqlObject;
 import io.confluent.ksql.api.client.Row;
@@ -49,6 +54,7 @@ import java.nio.charset.Charset;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +73,9 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 @RunWith(MockitoJUnitRunner.class)
 
@@ -128,8 +137,16 @@ public class ApplyMigrationCommandTest {
   private CompletableFuture<SourceDescription> sourceDescriptionCf;
   @Mock
   private CompletableFuture<Void> voidCf;
+  @Mock
+  private AcksPublisher acksPublisher;
+  @Mock
+  private InsertAck insertAck;
+  @Mock
+  private Subscription subscription;
   @Captor
   private ArgumentCaptor<HashMap<String, Object>> propCaptor;
+  @Captor
+  private ArgumentCaptor<Publisher<KsqlObject>> insertsCaptor;
 
   private String migrationsDir;
   private ApplyMigrationCommand command;
@@ -598,6 +615,43 @@ public class ApplyMigrationCommandTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldInsertAllRowsOfMultiRowInsertWithSingleRequest() throws Exception {
+    // Given:
+    command = PARSER.parse("-v", "3");
+    createMigrationFile(1, NAME, migrationsDir, COMMAND);
+    createMigrationFile(3, NAME, migrationsDir,
+        "INSERT INTO FOO VALUES ('abcd'), ('efgh'), ('ijkl');");
+    givenCurrentMigrationVersion("1");
+    givenAppliedMigration(1, NAME, MigrationState.MIGRATED);
+    when(ksqlClient.streamInserts(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(acksPublisher));
+    doAnswer(inv -> {
+      final Subscriber<InsertAck> subscriber = inv.getArgument(0);
+      subscriber.onSubscribe(subscription);
+      for (int i = 0; i < 3; i++) {
+        subscriber.onNext(insertAck);
+      }
+      subscriber.onComplete();
+      return null;
+    }).when(acksPublisher).subscribe(any());
+
+    // When:
+    final int result = command.command(config, cfg -> ksqlClient, migrationsDir, Clock.fixed(
+        Instant.ofEpochMilli(1000), ZoneId.systemDefault()));
+
+    // Then:
+    assertThat(result, is(0));
+    Mockito.verify(ksqlClient).streamInserts(eq("`FOO`"), insertsCaptor.capture());
+    Mockito.verify(ksqlClient, never()).insertInto(eq("`FOO`"), any());
+    assertThat(drain(insertsCaptor.getValue()), contains(
+        new KsqlObject(ImmutableMap.of("`A`", "abcd")),
+        new KsqlObject(ImmutableMap.of("`A`", "efgh")),
+        new KsqlObject(ImmutableMap.of("`A`", "ijkl"))
+    ));
+  }
+
   @Test
   public void shouldApplyCreateConnectorStatement() throws Exception {
     // Given:
@@ -710,6 +764,30 @@ public class ApplyMigrationCommandTest {
     return KsqlObject.fromArray(KEYS, new KsqlArray(values));
   }
 
+  private static List<KsqlObject> drain(final Publisher<KsqlObject> publisher) {
+    final List<KsqlObject> rows = new ArrayList<>();
+    publisher.subscribe(new Subscriber<KsqlObject>() {
+      @Override
+      public void onSubscribe(final Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final KsqlObject row) {
+        rows.add(row);
+      }
+
+      @Override
+      public void onError(final Throwable t) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    });
+    return rows;
+  }
+
   private void givenCurrentMigrationVersion(final String version) throws Exception {
     final Row row = mock(Row.class);
     when(row.getString("VERSION")).thenReturn(version);
@@ -93,6 +93,23 @@ public class CommandParserTest {
     assertThat(toFieldType(insertValues.getValues().get(1)), is("40"));
   }
 
+  @Test
+  public void shouldParseMultiRowInsertValuesStatement() {
+    // When:
+    List<SqlCommand> commands = parse("INSERT INTO `foo` (col1, col2) VALUES (55, '40'), (56, '41');");
+
+    // Then:
+    assertThat(commands.size(), is(1));
+    assertThat(commands.get(0), instanceOf(SqlInsertValues.class));
+    final SqlInsertValues insertValues = (SqlInsertValues) commands.get(0);
+
+    assertThat(insertValues.getColumns(), is(ImmutableList.of("COL1", "COL2")));
+    assertThat(insertValues.getRows().size(), is(2));
+    assertThat(toFieldType(insertValues.getRows().get(0).get(0)), is(55));
+    assertThat(toFieldType(insertValues.getRows().get(1).get(0)), is(56));
+    assertThat(toFieldType(insertValues.getRows().get(1).get(1)), is("41"));
+  }
+
   @Test
   public void shouldParseInsertValuesStatementWithExplicitQuoting() {
     // When: